@@ -1,6 +1,8 @@
 import benchmarksprintf;
 import benchmarktypes;
 import benchmarkio;
+import benchmarkfunctions;
+import benchmarkstreams;
 import ballerina/io;
 
 map<function()> functions;
@@ -17,6 +19,8 @@ function addFunctions() {
     addSprintfFunctions();
     addIoFunctions();
     addStringFunctions();
+    addFunctionCallFunctions();
+    addStreamsFunctions();
 }
 
 function addJSONFunctions() {
@@ -140,3 +144,19 @@ function addStringFunctions() {
     functions["benchmarkStringSplit"] = benchmarktypes:benchmarkStringSplit;
     functions["benchmarkStringUnescape"] = benchmarktypes:benchmarkStringUnescape;
 }
+
+function addFunctionCallFunctions() {
+    functions["benchmarkFunctionCall"] = benchmarkfunctions:benchmarkFunctionCall;
+    functions["benchmarkFunctionCallWithManyLocals"] = benchmarkfunctions:benchmarkFunctionCallWithManyLocals;
+    functions["benchmarkRecursiveFunctionCall"] = benchmarkfunctions:benchmarkRecursiveFunctionCall;
+    functions["benchmarkFunctionCallInLoop"] = benchmarkfunctions:benchmarkFunctionCallInLoop;
+}
+
+function addStreamsFunctions() {
+    functions["benchmarkLengthWindow"] = benchmarkstreams:benchmarkLengthWindow;
+    functions["benchmarkLengthBatchWindow"] = benchmarkstreams:benchmarkLengthBatchWindow;
+    functions["benchmarkTimeBatchWindow"] = benchmarkstreams:benchmarkTimeBatchWindow;
+    functions["benchmarkGroupBy"] = benchmarkstreams:benchmarkGroupBy;
+    functions["benchmarkAggregators"] = benchmarkstreams:benchmarkAggregators;
+    functions["benchmarkLengthWindowAggregation"] = benchmarkstreams:benchmarkLengthWindowAggregation;
+}
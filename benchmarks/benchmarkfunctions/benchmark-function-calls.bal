@@ -0,0 +1,42 @@
+type Point record {
+    int x;
+    int y;
+};
+
+public function benchmarkFunctionCall() {
+    int a = add(5, 6);
+}
+
+public function benchmarkFunctionCallWithManyLocals() {
+    string s = describe("point", 5, 6.5, true);
+}
+
+public function benchmarkRecursiveFunctionCall() {
+    int f = fibonacci(10);
+}
+
+public function benchmarkFunctionCallInLoop() {
+    int sum = 0;
+    int i = 0;
+    while (i < 100) {
+        sum = add(sum, i);
+        i = i + 1;
+    }
+}
+
+function add(int a, int b) returns (int) {
+    return a + b;
+}
+
+function describe(string name, int x, float scale, boolean visible) returns (string) {
+    Point p = { x: x, y: x * 2 };
+    string state = visible ? "visible" : "hidden";
+    return name + ":" + p.x + ":" + p.y + ":" + scale + ":" + state;
+}
+
+function fibonacci(int n) returns (int) {
+    if (n < 2) {
+        return n;
+    }
+    return fibonacci(n - 1) + fibonacci(n - 2);
+}
@@ -0,0 +1,61 @@
+import ballerina/streams;
+
+type Reading record {
+    string sensor;
+    int value;
+    float temperature;
+};
+
+Reading reading = { sensor: "S1", value: 10, temperature: 25.5 };
+int outputEventCount = 0;
+
+streams:LengthWindow lengthWindow = streams:lengthWindow(countOutputEvents, 100);
+streams:LengthBatchWindow lengthBatchWindow = streams:lengthBatchWindow(countOutputEvents, 100);
+streams:TimeBatchWindow timeBatchWindow = streams:timeBatchWindow(countOutputEvents, 1000);
+streams:GroupBy groupBy = streams:createGroupBy(countOutputEvents, ["sensor"]);
+streams:LengthWindow aggregatedLengthWindow = streams:lengthWindow(aggregate, 100);
+
+streams:Sum iSumAggregator = new();
+streams:Sum fSumAggregator = new();
+streams:Average avgAggregator = new();
+streams:Count countAggregator = new();
+streams:DistinctCount distinctCountAggregator = new();
+
+public function benchmarkLengthWindow() {
+    lengthWindow.process(streams:buildStreamEvent(reading));
+}
+
+public function benchmarkLengthBatchWindow() {
+    lengthBatchWindow.process(streams:buildStreamEvent(reading));
+}
+
+public function benchmarkTimeBatchWindow() {
+    timeBatchWindow.process(streams:buildStreamEvent(reading));
+}
+
+public function benchmarkGroupBy() {
+    groupBy.performGrouping(streams:buildStreamEvent(reading));
+}
+
+public function benchmarkAggregators() {
+    aggregate(streams:buildStreamEvent(reading));
+}
+
+public function benchmarkLengthWindowAggregation() {
+    aggregatedLengthWindow.process(streams:buildStreamEvent(reading));
+}
+
+function countOutputEvents(streams:StreamEvent[] events) {
+    outputEventCount = outputEventCount + lengthof events;
+}
+
+function aggregate(streams:StreamEvent[] events) {
+    foreach event in events {
+        Reading r = check <Reading>event.eventObject;
+        _ = iSumAggregator.process(r.value, event.eventType);
+        _ = fSumAggregator.process(r.temperature, event.eventType);
+        _ = avgAggregator.process(r.temperature, event.eventType);
+        _ = countAggregator.process((), event.eventType);
+        _ = distinctCountAggregator.process(r.sensor, event.eventType);
+    }
+}
@@ -42,6 +42,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.LongAdder;
 
@@ -129,8 +130,7 @@ public class BLangScheduler {
         if (runInCaller) {
             return ctx;
         } else {
-            ExecutorService executor = ThreadPoolFactory.getInstance().getWorkerExecutor();
-            executor.submit(new WorkerExecutor(ctx));
+            ThreadPoolFactory.getInstance().submitWorkerTask(new WorkerExecutor(ctx));
             return null;
         }
     }
@@ -147,7 +147,7 @@ public class BLangScheduler {
         if (runInCaller) {
             return ctx;
         } else {
-            ThreadPoolFactory.getInstance().getWorkerExecutor().submit(new WorkerExecutor(ctx));
+            ThreadPoolFactory.getInstance().submitWorkerTask(new WorkerExecutor(ctx));
             return null;
         }
     }
@@ -236,10 +236,24 @@ public class BLangScheduler {
         AsyncInvocableWorkerResponseContext respCtx = new AsyncInvocableWorkerResponseContext(callableUnitInfo);
         checkAndObserveNativeAsync(nativeCtx, respCtx, callableUnitInfo, flags);
         NativeCallExecutor exec = new NativeCallExecutor(nativeCallable, nativeCtx, respCtx);
-        ThreadPoolFactory.getInstance().getWorkerExecutor().submit(exec);
+        ThreadPoolFactory.getInstance().submitBlockingTask(exec);
         return respCtx;
     }
     
+    /**
+     * Executes a blocking native call on the given executor, and notifies the given callback when the call
+     * completes. The worker which made the call waits for the response without holding a worker thread.
+     *
+     * @param executor       the executor to run the blocking call
+     * @param nativeCallable the blocking native callable unit
+     * @param nativeCtx      the context of the native call
+     * @param callback       the callback to be notified of the result of the call
+     */
+    public static void executeBlockingNative(ExecutorService executor, NativeCallableUnit nativeCallable,
+            Context nativeCtx, CallableUnitCallback callback) {
+        executor.submit(new BlockingNativeCallExecutor(nativeCallable, nativeCtx, callback));
+    }
+
     public static AsyncInvocableWorkerResponseContext executeNonBlockingNativeAsync(NativeCallableUnit nativeCallable,
             Context nativeCtx, int flags) {
         CallableUnitInfo callableUnitInfo = nativeCtx.getCallableUnitInfo();
@@ -329,11 +343,53 @@ public class BLangScheduler {
             } finally {
                 workerCountDown();
             }
-            executeNow(runInCaller);
+            if (ThreadPoolFactory.getInstance().getBlockingExecutor() != null) {
+                /* the blocking pool only runs native calls, the worker goes back to the worker pool */
+                resume(runInCaller);
+            } else {
+                executeNow(runInCaller);
+            }
         }
         
     }
     
+    /**
+     * This represents the thread used to run a blocking native call, whose caller waits for the response.
+     */
+    private static class BlockingNativeCallExecutor implements Runnable {
+
+        private NativeCallableUnit nativeCallable;
+
+        private Context nativeCtx;
+
+        private CallableUnitCallback callback;
+
+        public BlockingNativeCallExecutor(NativeCallableUnit nativeCallable, Context nativeCtx,
+                CallableUnitCallback callback) {
+            this.nativeCallable = nativeCallable;
+            this.nativeCtx = nativeCtx;
+            this.callback = callback;
+        }
+
+        @Override
+        public void run() {
+            BMap<String, BValue> error = null;
+            try {
+                this.nativeCallable.execute(this.nativeCtx, null);
+            } catch (BLangNullReferenceException e) {
+                error = BLangVMErrors.createNullRefException(this.nativeCtx);
+            } catch (Throwable e) {
+                error = BLangVMErrors.createError(this.nativeCtx, e.getMessage());
+            }
+            if (error == null) {
+                this.callback.notifySuccess();
+            } else {
+                this.callback.notifyFailure(error);
+            }
+        }
+
+    }
+
     /**
      * This class represents the callback functionality for async non-blocking native calls.
      */
@@ -411,6 +467,26 @@ public class BLangScheduler {
         public long getWaitingForLockWorkerCount() {
             return this.stateCounts[5].longValue();
         }
+
+        public long getBlockingActiveThreadCount() {
+            ThreadPoolExecutor executor = ThreadPoolFactory.getInstance().getBlockingExecutor();
+            return executor == null ? 0 : executor.getActiveCount();
+        }
+
+        public long getBlockingPoolThreadCount() {
+            ThreadPoolExecutor executor = ThreadPoolFactory.getInstance().getBlockingExecutor();
+            return executor == null ? 0 : executor.getPoolSize();
+        }
+
+        public long getBlockingQueuedTaskCount() {
+            ThreadPoolExecutor executor = ThreadPoolFactory.getInstance().getBlockingExecutor();
+            return executor == null ? 0 : executor.getQueue().size();
+        }
+
+        public long getBlockingCompletedTaskCount() {
+            ThreadPoolExecutor executor = ThreadPoolFactory.getInstance().getBlockingExecutor();
+            return executor == null ? 0 : executor.getCompletedTaskCount();
+        }
         
         public void stateTransition(WorkerExecutionContext currentCtx, WorkerState newState) {
             if (!schedulerStatsEnabled || currentCtx.isRootContext()) {
@@ -437,6 +513,13 @@ public class BLangScheduler {
             builder.append("\tWAITING FOR RESPONSE: " + this.getWaitingForResponseWorkerCount() + "\n");
             builder.append("\tPAUSED: " + this.getPausedWorkerCount() + "\n");
             builder.append("\tWAITING FOR LOCK: " + this.getWaitingForLockWorkerCount() + "\n");
+            if (ThreadPoolFactory.getInstance().getBlockingExecutor() != null) {
+                builder.append("Blocking Call Pool Status:- \n");
+                builder.append("\tACTIVE: " + this.getBlockingActiveThreadCount() + "\n");
+                builder.append("\tTHREADS: " + this.getBlockingPoolThreadCount() + "\n");
+                builder.append("\tQUEUED: " + this.getBlockingQueuedTaskCount() + "\n");
+                builder.append("\tCOMPLETED: " + this.getBlockingCompletedTaskCount() + "\n");
+            }
             return builder.toString();
         }
         
@@ -88,18 +88,18 @@ public class BLangVMStructs {
         switch (type.getTag()) {
             case TypeTags.INT_TAG:
                 if (value instanceof Integer) {
-                    return new BInteger(((Integer) value).longValue());
+                    return BInteger.valueOf(((Integer) value).longValue());
                 } else if (value instanceof Long) {
-                    return new BInteger(((Long) value).longValue());
+                    return BInteger.valueOf(((Long) value).longValue());
                 } else if (value instanceof BInteger) {
                     return (BInteger) value;
                 }
                 break;
             case TypeTags.BYTE_TAG:
                 if (value instanceof Byte) {
-                    return new BByte(((Byte) value));
+                    return BByte.valueOf(((Byte) value));
                 } else if (value instanceof Integer) {
-                    return new BByte(((Integer) value).byteValue());
+                    return BByte.valueOf(((Integer) value).byteValue());
                 } else if (value instanceof BByte) {
                     return (BByte) value;
                 }
@@ -127,7 +127,7 @@ public class BLangVMStructs {
             case TypeTags.BOOLEAN_TAG:
                 if (value != null) {
                     if (value instanceof Boolean) {
-                        return new BBoolean((Boolean) value);
+                        return BBoolean.valueOf((Boolean) value);
                     } else if (value instanceof BBoolean) {
                         return (BBoolean) value;
                     }
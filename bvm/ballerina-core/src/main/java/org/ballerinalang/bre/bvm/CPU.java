@@ -53,10 +53,12 @@ import org.ballerinalang.model.values.BFunctionPointer;
 import org.ballerinalang.model.values.BFuture;
 import org.ballerinalang.model.values.BIntArray;
 import org.ballerinalang.model.values.BIntRange;
+import org.ballerinalang.model.values.BIntRange.BIntRangeIterator;
 import org.ballerinalang.model.values.BInteger;
 import org.ballerinalang.model.values.BIterator;
 import org.ballerinalang.model.values.BMap;
 import org.ballerinalang.model.values.BNewArray;
+import org.ballerinalang.model.values.BNewArray.BArrayIterator;
 import org.ballerinalang.model.values.BRefType;
 import org.ballerinalang.model.values.BRefValueArray;
 import org.ballerinalang.model.values.BStream;
@@ -81,6 +83,8 @@ import org.ballerinalang.util.codegen.Instruction.InstructionCALL;
 import org.ballerinalang.util.codegen.Instruction.InstructionCHNReceive;
 import org.ballerinalang.util.codegen.Instruction.InstructionCHNSend;
 import org.ballerinalang.util.codegen.Instruction.InstructionFORKJOIN;
+import org.ballerinalang.util.codegen.Instruction.InstructionICMPBR;
+import org.ballerinalang.util.codegen.Instruction.InstructionIImm;
 import org.ballerinalang.util.codegen.Instruction.InstructionIteratorNext;
 import org.ballerinalang.util.codegen.Instruction.InstructionLock;
 import org.ballerinalang.util.codegen.Instruction.InstructionVCALL;
@@ -396,6 +400,13 @@ public class CPU {
                     case InstructionCodes.INT_RANGE:
                         execIntegerRangeOpcodes(sf, operands);
                         break;
+                    case InstructionCodes.ICMP_BR:
+                        execIntegerCmpAndBranch(ctx, sf, (InstructionICMPBR) instruction);
+                        break;
+                    case InstructionCodes.IADD_IMM:
+                    case InstructionCodes.ISUB_IMM:
+                        execIntegerImmediateOpcodes(ctx, sf, opcode, (InstructionIImm) instruction);
+                        break;
                     case InstructionCodes.TR_RETRY:
                         i = operands[0];
                         j = operands[1];
@@ -1031,13 +1042,13 @@ public class CPU {
             int index = operands[++operandIndex];
             switch (type) {
                 case TypeTags.INT_TAG: {
-                    fp.addClosureVar(new BClosure(new BInteger(ctx.workerLocal.longRegs[index]), BTypes.typeInt),
+                    fp.addClosureVar(new BClosure(BInteger.valueOf(ctx.workerLocal.longRegs[index]), BTypes.typeInt),
                             TypeTags.INT_TAG);
                     break;
                 }
                 case TypeTags.BYTE_TAG: {
-                    fp.addClosureVar(new BClosure(new BByte((byte) ctx.workerLocal.intRegs[index]), BTypes.typeByte),
-                            TypeTags.BYTE_TAG);
+                    fp.addClosureVar(new BClosure(BByte.valueOf((byte) ctx.workerLocal.intRegs[index]),
+                            BTypes.typeByte), TypeTags.BYTE_TAG);
                     break;
                 }
                 case TypeTags.FLOAT_TAG: {
@@ -1046,7 +1057,7 @@ public class CPU {
                     break;
                 }
                 case TypeTags.BOOLEAN_TAG: {
-                    fp.addClosureVar(new BClosure(new BBoolean(ctx.workerLocal.intRegs[index] == 1),
+                    fp.addClosureVar(new BClosure(BBoolean.valueOf(ctx.workerLocal.intRegs[index] == 1),
                                     BTypes.typeBoolean), TypeTags.BOOLEAN_TAG);
                     break;
                 }
@@ -1179,6 +1190,55 @@ public class CPU {
         }
     }
 
+    private static void execIntegerCmpAndBranch(WorkerExecutionContext ctx, WorkerData sf,
+                                                InstructionICMPBR instruction) {
+        long lhs = sf.longRegs[instruction.lhsReg];
+        long rhs = sf.longRegs[instruction.rhsReg];
+        boolean result;
+        switch (instruction.cmpOpcode) {
+            case InstructionCodes.IEQ:
+                result = lhs == rhs;
+                break;
+            case InstructionCodes.INE:
+                result = lhs != rhs;
+                break;
+            case InstructionCodes.IGT:
+                result = lhs > rhs;
+                break;
+            case InstructionCodes.IGE:
+                result = lhs >= rhs;
+                break;
+            case InstructionCodes.ILT:
+                result = lhs < rhs;
+                break;
+            case InstructionCodes.ILE:
+                result = lhs <= rhs;
+                break;
+            default:
+                throw new BallerinaException("unexpected opcode " + instruction.cmpOpcode
+                        + " in an integer compare and branch instruction");
+        }
+        sf.intRegs[instruction.resultReg] = result ? 1 : 0;
+        if (result == instruction.branchIfTrue) {
+            ctx.ip = instruction.jumpAddr;
+        } else {
+            // skip the branch instruction covered by this superinstruction
+            ctx.ip++;
+        }
+    }
+
+    private static void execIntegerImmediateOpcodes(WorkerExecutionContext ctx, WorkerData sf, int opcode,
+                                                    InstructionIImm instruction) {
+        sf.longRegs[instruction.constReg] = instruction.value;
+        if (opcode == InstructionCodes.IADD_IMM) {
+            sf.longRegs[instruction.resultReg] = sf.longRegs[instruction.lhsReg] + instruction.value;
+        } else {
+            sf.longRegs[instruction.resultReg] = sf.longRegs[instruction.lhsReg] - instruction.value;
+        }
+        // skip the arithmetic instruction covered by this superinstruction
+        ctx.ip++;
+    }
+
     private static void execIntegerRangeOpcodes(WorkerData sf, int[] operands) {
         int i = operands[0];
         int j = operands[1];
@@ -1935,12 +1995,12 @@ public class CPU {
             case InstructionCodes.I2ANY:
                 i = operands[0];
                 j = operands[1];
-                sf.refRegs[j] = new BInteger(sf.longRegs[i]);
+                sf.refRegs[j] = BInteger.valueOf(sf.longRegs[i]);
                 break;
             case InstructionCodes.BI2ANY:
                 i = operands[0];
                 j = operands[1];
-                sf.refRegs[j] = new BByte((byte) sf.intRegs[i]);
+                sf.refRegs[j] = BByte.valueOf((byte) sf.intRegs[i]);
                 break;
             case InstructionCodes.F2ANY:
                 i = operands[0];
@@ -1955,7 +2015,7 @@ public class CPU {
             case InstructionCodes.B2ANY:
                 i = operands[0];
                 j = operands[1];
-                sf.refRegs[j] = new BBoolean(sf.intRegs[i] == 1);
+                sf.refRegs[j] = BBoolean.valueOf(sf.intRegs[i] == 1);
                 break;
             case InstructionCodes.ANY2I:
                 i = operands[0];
@@ -2077,7 +2137,7 @@ public class CPU {
                 i = operands[0];
                 j = operands[1];
                 if (isByteLiteral(sf.longRegs[i])) {
-                    sf.refRegs[j] = new BByte((byte) sf.longRegs[i]);
+                    sf.refRegs[j] = BByte.valueOf((byte) sf.longRegs[i]);
                 } else {
                     handleTypeConversionError(ctx, sf, j, TypeConstants.INT_TNAME, TypeConstants.BYTE_TNAME);
                 }
@@ -2108,7 +2168,7 @@ public class CPU {
 
                 str = sf.stringRegs[i];
                 try {
-                    sf.refRegs[j] = new BInteger(Long.parseLong(str));
+                    sf.refRegs[j] = BInteger.valueOf(Long.parseLong(str));
                 } catch (NumberFormatException e) {
                     handleTypeConversionError(ctx, sf, j, TypeConstants.STRING_TNAME, TypeConstants.INT_TNAME);
                 }
@@ -2267,35 +2327,114 @@ public class CPU {
             case InstructionCodes.ITR_NEXT:
                 nextInstruction = (InstructionIteratorNext) instruction;
                 iterator = (BIterator) sf.refRegs[nextInstruction.iteratorIndex];
+                // Arrays and integer ranges are copied to the registries without boxing the elements
+                if (iterator instanceof BArrayIterator) {
+                    copyArrayElementToRegistries(nextInstruction, (BArrayIterator) iterator, sf);
+                    break;
+                }
+                if (iterator instanceof BIntRangeIterator) {
+                    copyIntRangeValueToRegistries(nextInstruction, (BIntRangeIterator) iterator, sf);
+                    break;
+                }
                 BValue[] values = Optional.of(iterator).get().getNext(nextInstruction.arity);
                 copyValuesToRegistries(nextInstruction.typeTags, nextInstruction.retRegs, values, sf);
                 break;
         }
     }
 
+    private static void copyArrayElementToRegistries(InstructionIteratorNext nextInstruction,
+                                                     BArrayIterator iterator, WorkerData sf) {
+        BNewArray array = iterator.getArray();
+        long index = iterator.nextIndex();
+        int[] typeTags = nextInstruction.typeTags;
+        int[] retRegs = nextInstruction.retRegs;
+        int valueIndex = typeTags.length - 1;
+        if (valueIndex > 0) {
+            copyIndexToRegistry(typeTags[0], retRegs[0], index, sf);
+        }
+        int target = retRegs[valueIndex];
+        switch (typeTags[valueIndex]) {
+            case TypeTags.INT_TAG:
+                if (array instanceof BIntArray) {
+                    sf.longRegs[target] = ((BIntArray) array).get(index);
+                    return;
+                }
+                break;
+            case TypeTags.FLOAT_TAG:
+                if (array instanceof BFloatArray) {
+                    sf.doubleRegs[target] = ((BFloatArray) array).get(index);
+                    return;
+                }
+                break;
+            case TypeTags.STRING_TAG:
+                if (array instanceof BStringArray) {
+                    sf.stringRegs[target] = ((BStringArray) array).get(index);
+                    return;
+                }
+                break;
+            case TypeTags.BOOLEAN_TAG:
+                if (array instanceof BBooleanArray) {
+                    sf.intRegs[target] = ((BBooleanArray) array).get(index);
+                    return;
+                }
+                break;
+            case TypeTags.BYTE_TAG:
+                if (array instanceof BByteArray) {
+                    sf.intRegs[target] = ((BByteArray) array).get(index);
+                    return;
+                }
+                break;
+            default:
+                break;
+        }
+        copyValueToRegistry(typeTags[valueIndex], target, array.getBValue(index), sf);
+    }
+
+    private static void copyIntRangeValueToRegistries(InstructionIteratorNext nextInstruction,
+                                                      BIntRangeIterator iterator, WorkerData sf) {
+        long index = iterator.nextIndex();
+        int[] typeTags = nextInstruction.typeTags;
+        int[] retRegs = nextInstruction.retRegs;
+        int valueIndex = typeTags.length - 1;
+        if (valueIndex > 0) {
+            copyIndexToRegistry(typeTags[0], retRegs[0], index, sf);
+        }
+        copyIndexToRegistry(typeTags[valueIndex], retRegs[valueIndex], iterator.valueAt(index), sf);
+    }
+
+    private static void copyIndexToRegistry(int typeTag, int target, long value, WorkerData sf) {
+        if (typeTag == TypeTags.INT_TAG) {
+            sf.longRegs[target] = value;
+        } else {
+            copyValueToRegistry(typeTag, target, BInteger.valueOf(value), sf);
+        }
+    }
+
     private static void copyValuesToRegistries(int[] typeTags, int[] targetReg, BValue[] values, WorkerData sf) {
         for (int i = 0; i < typeTags.length; i++) {
-            BValue source = values[i];
-            int target = targetReg[i];
-            switch (typeTags[i]) {
-                case TypeTags.INT_TAG:
-                    sf.longRegs[target] = ((BInteger) source).intValue();
-                    break;
-                case TypeTags.BYTE_TAG:
-                    sf.intRegs[target] = ((BByte) source).byteValue();
-                    break;
-                case TypeTags.FLOAT_TAG:
-                    sf.doubleRegs[target] = ((BFloat) source).floatValue();
-                    break;
-                case TypeTags.STRING_TAG:
-                    sf.stringRegs[target] = source.stringValue();
-                    break;
-                case TypeTags.BOOLEAN_TAG:
-                    sf.intRegs[target] = ((BBoolean) source).booleanValue() ? 1 : 0;
-                    break;
-                default:
-                    sf.refRegs[target] = (BRefType) source;
-            }
+            copyValueToRegistry(typeTags[i], targetReg[i], values[i], sf);
+        }
+    }
+
+    private static void copyValueToRegistry(int typeTag, int target, BValue source, WorkerData sf) {
+        switch (typeTag) {
+            case TypeTags.INT_TAG:
+                sf.longRegs[target] = ((BInteger) source).intValue();
+                break;
+            case TypeTags.BYTE_TAG:
+                sf.intRegs[target] = ((BByte) source).byteValue();
+                break;
+            case TypeTags.FLOAT_TAG:
+                sf.doubleRegs[target] = ((BFloat) source).floatValue();
+                break;
+            case TypeTags.STRING_TAG:
+                sf.stringRegs[target] = source.stringValue();
+                break;
+            case TypeTags.BOOLEAN_TAG:
+                sf.intRegs[target] = ((BBoolean) source).booleanValue() ? 1 : 0;
+                break;
+            default:
+                sf.refRegs[target] = (BRefType) source;
         }
     }
 
@@ -2707,10 +2846,10 @@ public class CPU {
         BRefType result;
         switch (type.getTag()) {
             case TypeTags.INT_TAG:
-                result = new BInteger(data.longRegs[reg]);
+                result = BInteger.valueOf(data.longRegs[reg]);
                 break;
             case TypeTags.BYTE_TAG:
-                result = new BByte((byte) data.intRegs[reg]);
+                result = BByte.valueOf((byte) data.intRegs[reg]);
                 break;
             case TypeTags.FLOAT_TAG:
                 result = new BFloat(data.doubleRegs[reg]);
@@ -2719,7 +2858,7 @@ public class CPU {
                 result = new BString(data.stringRegs[reg]);
                 break;
             case TypeTags.BOOLEAN_TAG:
-                result = new BBoolean(data.intRegs[reg] > 0);
+                result = BBoolean.valueOf(data.intRegs[reg] > 0);
                 break;
             default:
                 result = data.refRegs[reg];
@@ -2771,7 +2910,14 @@ public class CPU {
 
     private static WorkerExecutionContext handleReturn(WorkerExecutionContext ctx) {
         BLangScheduler.workerDone(ctx);
-        return ctx.respCtx.signal(new WorkerSignal(ctx, SignalType.RETURN, ctx.workerResult));
+        WorkerExecutionContext nextCtx = ctx.respCtx.signal(new WorkerSignal(ctx, SignalType.RETURN,
+                ctx.workerResult));
+        if (ctx.framePool != null) {
+            // The return values are already in the result frame, so the local frame is not referred anymore
+            ctx.framePool.release(ctx.workerLocal);
+            ctx.workerLocal = null;
+        }
+        return nextCtx;
     }
 
     private static boolean checkFiniteTypeAssignable(BValue bRefTypeValue, BType lhsType) {
@@ -3323,8 +3469,8 @@ public class CPU {
 
         // TODO: do validation for type?
         BMap newMap = new BMap(BTypes.typeMap);
-        ((BMap) sf.refRegs[i]).getMap().forEach((key, value)
-                -> newMap.put(key, value == null ? null : ((BValue) value).copy()));
+        ((BMap<String, BValue>) sf.refRegs[i]).forEach((key, value)
+                -> newMap.put(key, value == null ? null : value.copy()));
         sf.refRegs[j] = newMap;
     }
 
@@ -3456,14 +3602,14 @@ public class CPU {
                         if (containsField) {
                             bStruct.put(key, mapVal);
                         } else if (defaultValAttrInfo != null) {
-                            bStruct.put(key, new BInteger(defaultValAttrInfo.getDefaultValue().getIntValue()));
+                            bStruct.put(key, BInteger.valueOf(defaultValAttrInfo.getDefaultValue().getIntValue()));
                         }
                         break;
                     case TypeTags.BYTE_TAG:
                         if (containsField) {
                             bStruct.put(key, mapVal);
                         } else if (defaultValAttrInfo != null) {
-                            bStruct.put(key, new BByte(defaultValAttrInfo.getDefaultValue().getByteValue()));
+                            bStruct.put(key, BByte.valueOf(defaultValAttrInfo.getDefaultValue().getByteValue()));
                         }
                         break;
                     case TypeTags.FLOAT_TAG:
@@ -3484,7 +3630,7 @@ public class CPU {
                         if (containsField) {
                             bStruct.put(key, mapVal);
                         } else if (defaultValAttrInfo != null) {
-                            bStruct.put(key, new BBoolean(defaultValAttrInfo.getDefaultValue().getBooleanValue()));
+                            bStruct.put(key, BBoolean.valueOf(defaultValAttrInfo.getDefaultValue().getBooleanValue()));
                         }
                         break;
                     default:
@@ -23,24 +23,31 @@ import org.ballerinalang.model.values.LockableStructureType;
 import org.ballerinalang.util.BLangConstants;
 
 import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
  * The {@code GlobalMemoryBlock} represents the global memory block in Ballerina VM.
+ * <p>
+ * Package level variables are read and written as plain array elements. Mutual exclusion for {@code lock} blocks
+ * is provided by the {@link VarLock} of each slot, which is installed with a compare-and-set on first use, so that
+ * no monitor is shared by the variables of a package.
  *
  * @since 1.0.0
  */
 
 public final class GlobalMemoryBlock implements BRefType, LockableStructureType {
-    private long[] longFields;
-    private VarLock[] longLocks;
-    private double[] doubleFields;
-    private VarLock[] doubleLocks;
-    private String[] stringFields;
-    private VarLock[] stringLocks;
-    private int[] intFields;
-    private VarLock[] intLocks;
-    private BRefType[] refFields;
-    private VarLock[] refLocks;
+    private final long[] longFields;
+    private final double[] doubleFields;
+    private final String[] stringFields;
+    private final int[] intFields;
+    private final BRefType[] refFields;
+
+    // The locks of all the slots, the slots of each type following the slots of the previous type
+    private volatile AtomicReferenceArray<VarLock> varLocks;
+    private final int doubleLockOffset;
+    private final int stringLockOffset;
+    private final int intLockOffset;
+    private final int refLockOffset;
 
     private BStructureType structType;
 
@@ -60,6 +67,11 @@ public final class GlobalMemoryBlock implements BRefType, LockableStructureType
         refFields = new BRefType[fieldCount[4]];
 
         Arrays.fill(stringFields, BLangConstants.STRING_EMPTY_VALUE);
+
+        doubleLockOffset = fieldCount[0];
+        stringLockOffset = doubleLockOffset + fieldCount[1];
+        intLockOffset = stringLockOffset + fieldCount[2];
+        refLockOffset = intLockOffset + fieldCount[3];
     }
 
     /**
@@ -135,164 +147,82 @@ public final class GlobalMemoryBlock implements BRefType, LockableStructureType
 
     @Override
     public boolean lockIntField(WorkerExecutionContext ctx, int index) {
-        /*
-        TODO below synchronization is done on non final variable(which is getting changed in copy method)
-        This is ok for the time being as below synchronizations are only valid for global memory block which is
-        not getting copied, even in that case there shouldn't be a problem as synchronization always happens after
-        copying, but look into that when implementing locking support for struct fields and connector variables.
-         */
-        if (longLocks == null) {
-            synchronized (longFields) {
-                if (longLocks == null) {
-                    longLocks = new VarLock[longFields.length];
-                }
-            }
-        }
-        if (longLocks[index] == null) {
-            //locking the whole field array
-            synchronized (longFields) {
-                if (longLocks[index] == null) {
-                    longLocks[index] = new VarLock();
-                }
-            }
-        }
-        return longLocks[index].lock(ctx);
+        return getVarLock(index).lock(ctx);
     }
 
     @Override
     public void unlockIntField(int index) {
-        longLocks[index].unlock();
+        varLocks.get(index).unlock();
     }
 
     @Override
     public boolean lockFloatField(WorkerExecutionContext ctx, int index) {
-        /*
-        TODO below synchronization is done on non final variable(which is getting changed in copy method)
-        This is ok for the time being as below synchronizations are only valid for global memory block which is
-        not getting copied, even in that case there shouldn't be a problem as synchronization always happens after
-        copying, but look into that when implementing locking support for struct fields and connector variables.
-         */
-        if (doubleLocks == null) {
-            synchronized (doubleFields) {
-                if (doubleLocks == null) {
-                    doubleLocks = new VarLock[doubleFields.length];
-                }
-            }
-        }
-        if (doubleLocks[index] == null) {
-            //locking the whole field array
-            synchronized (doubleFields) {
-                if (doubleLocks[index] == null) {
-                    doubleLocks[index] = new VarLock();
-                }
-            }
-        }
-        return doubleLocks[index].lock(ctx);
+        return getVarLock(doubleLockOffset + index).lock(ctx);
     }
 
     @Override
     public void unlockFloatField(int index) {
-        doubleLocks[index].unlock();
+        varLocks.get(doubleLockOffset + index).unlock();
     }
 
     @Override
     public boolean lockStringField(WorkerExecutionContext ctx, int index) {
-        /*
-        TODO below synchronization is done on non final variable(which is getting changed in copy method)
-        This is ok for the time being as below synchronizations are only valid for global memory block which is
-        not getting copied, even in that case there shouldn't be a problem as synchronization always happens after
-        copying, but look into that when implementing locking support for struct fields and connector variables.
-         */
-        if (stringLocks == null) {
-            synchronized (stringFields) {
-                if (stringLocks == null) {
-                    stringLocks = new VarLock[stringFields.length];
-                }
-            }
-        }
-        if (stringLocks[index] == null) {
-            synchronized (stringFields) {
-                if (stringLocks[index] == null) {
-                    stringLocks[index] = new VarLock();
-                }
-            }
-        }
-        return stringLocks[index].lock(ctx);
+        return getVarLock(stringLockOffset + index).lock(ctx);
     }
 
     @Override
     public void unlockStringField(int index) {
-        stringLocks[index].unlock();
+        varLocks.get(stringLockOffset + index).unlock();
     }
 
     @Override
     public boolean lockBooleanField(WorkerExecutionContext ctx, int index) {
-        /*
-        TODO below synchronization is done on non final variable(which is getting changed in copy method)
-        This is ok for the time being as below synchronizations are only valid for global memory block which is
-        not getting copied, even in that case there shouldn't be a problem as synchronization always happens after
-        copying, but look into that when implementing locking support for struct fields and connector variables.
-         */
-        if (intLocks == null) {
-            synchronized (intFields) {
-                if (intLocks == null) {
-                    intLocks = new VarLock[intFields.length];
-                }
-            }
-        }
-        if (intLocks[index] == null) {
-            synchronized (intFields) {
-                if (intLocks[index] == null) {
-                    intLocks[index] = new VarLock();
-                }
-            }
-        }
-        return intLocks[index].lock(ctx);
+        return getVarLock(intLockOffset + index).lock(ctx);
     }
 
     @Override
     public void unlockBooleanField(int index) {
-        intLocks[index].unlock();
+        varLocks.get(intLockOffset + index).unlock();
     }
 
     @Override
     public boolean lockRefField(WorkerExecutionContext ctx, int index) {
-        /*
-        TODO below synchronization is done on non final variable(which is getting changed in copy method)
-        This is ok for the time being as below synchronizations are only valid for global memory block which is
-        not getting copied, even in that case there shouldn't be a problem as synchronization always happens after
-        copying, but look into that when implementing locking support for struct fields and connector variables.
-         */
-        if (refLocks == null) {
-            synchronized (refFields) {
-                if (refLocks == null) {
-                    refLocks = new VarLock[refFields.length];
-                }
-            }
-        }
-        if (refLocks[index] == null) {
-            synchronized (refFields) {
-                if (refLocks[index] == null) {
-                    refLocks[index] = new VarLock();
-                }
-            }
-        }
-        return refLocks[index].lock(ctx);
+        return getVarLock(refLockOffset + index).lock(ctx);
     }
 
     @Override
     public void unlockRefField(int index) {
-        refLocks[index].unlock();
+        varLocks.get(refLockOffset + index).unlock();
+    }
+
+    private VarLock getVarLock(int index) {
+        AtomicReferenceArray<VarLock> locks = varLocks;
+        if (locks == null) {
+            // the lock array is only needed by packages which use lock blocks
+            synchronized (this) {
+                if (varLocks == null) {
+                    varLocks = new AtomicReferenceArray<>(refLockOffset + refFields.length);
+                }
+                locks = varLocks;
+            }
+        }
+        VarLock lock = locks.get(index);
+        if (lock == null) {
+            // if another worker created the lock concurrently, the CAS fails and its lock is used
+            locks.compareAndSet(index, null, new VarLock());
+            lock = locks.get(index);
+        }
+        return lock;
     }
 
     @Override
     public BValue copy() {
         GlobalMemoryBlock bStruct = new GlobalMemoryBlock(structType);
-        bStruct.longFields = Arrays.copyOf(longFields, longFields.length);
-        bStruct.doubleFields = Arrays.copyOf(doubleFields, doubleFields.length);
-        bStruct.stringFields = Arrays.copyOf(stringFields, stringFields.length);
-        bStruct.intFields = Arrays.copyOf(intFields, intFields.length);
-        bStruct.refFields = Arrays.copyOf(refFields, refFields.length);
+        System.arraycopy(longFields, 0, bStruct.longFields, 0, longFields.length);
+        System.arraycopy(doubleFields, 0, bStruct.doubleFields, 0, doubleFields.length);
+        System.arraycopy(stringFields, 0, bStruct.stringFields, 0, stringFields.length);
+        System.arraycopy(intFields, 0, bStruct.intFields, 0, intFields.length);
+        System.arraycopy(refFields, 0, bStruct.refFields, 0, refFields.length);
         return bStruct;
     }
     
@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ballerinalang.bre.bvm;
+
+import org.ballerinalang.model.values.BValue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@code StreamDispatcher} delivers the events published to a stream to the subscribers of the stream within the
+ * process, without going through the message broker.
+ * <p>
+ * Events are queued by the publishers and delivered in batches by a single task at a time, so the subscribers of a
+ * stream see the events in the order they were published, without the publisher waiting for the subscribers. An
+ * event is delivered only to the subscribers which were subscribed when it was published.
+ *
+ * @since 0.981.2
+ */
+public class StreamDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(StreamDispatcher.class);
+
+    private static final int MAX_BATCH_SIZE = 256;
+
+    private static final Subscriber[] NO_SUBSCRIBERS = new Subscriber[0];
+
+    private final String streamId;
+
+    private final Queue<PublishedEvent> events = new ConcurrentLinkedQueue<>();
+
+    private final AtomicBoolean dispatching = new AtomicBoolean();
+
+    private volatile Subscriber[] subscribers = NO_SUBSCRIBERS;
+
+    public StreamDispatcher(String streamId) {
+        this.streamId = streamId;
+    }
+
+    /**
+     * Publish an event to the current subscribers of the stream.
+     *
+     * @param data the event
+     */
+    public void publish(BValue data) {
+        Subscriber[] currentSubscribers = subscribers;
+        if (currentSubscribers.length == 0) {
+            return;
+        }
+        events.add(new PublishedEvent(data, System.currentTimeMillis(), currentSubscribers));
+        if (dispatching.compareAndSet(false, true)) {
+            ExecutorHolder.EXECUTOR.execute(this::dispatch);
+        }
+    }
+
+    /**
+     * Add a subscriber for the events published from now on.
+     *
+     * @param subscriber the subscriber
+     */
+    public synchronized void subscribe(Subscriber subscriber) {
+        Subscriber[] newSubscribers = Arrays.copyOf(subscribers, subscribers.length + 1);
+        newSubscribers[subscribers.length] = subscriber;
+        subscribers = newSubscribers;
+    }
+
+    private void dispatch() {
+        try {
+            dispatchBatch();
+        } finally {
+            dispatching.set(false);
+            // Events published after the batch was taken, but before the flag was cleared, need another dispatch
+            if (!events.isEmpty() && dispatching.compareAndSet(false, true)) {
+                ExecutorHolder.EXECUTOR.execute(this::dispatch);
+            }
+        }
+    }
+
+    private void dispatchBatch() {
+        List<PublishedEvent> batch = new ArrayList<>();
+        Subscriber[] batchSubscribers = null;
+        PublishedEvent event;
+        while (batch.size() < MAX_BATCH_SIZE && (event = events.peek()) != null) {
+            if (batchSubscribers != null && event.subscribers != batchSubscribers) {
+                // Events published before and after a subscription are delivered in separate batches
+                break;
+            }
+            events.poll();
+            batchSubscribers = event.subscribers;
+            batch.add(event);
+        }
+        if (batchSubscribers == null) {
+            return;
+        }
+        for (Subscriber subscriber : batchSubscribers) {
+            try {
+                subscriber.deliver(batch);
+            } catch (RuntimeException e) {
+                log.error("Error delivering events of stream " + streamId + " to subscriber: ", e);
+            }
+        }
+    }
+
+    /**
+     * A subscriber of a stream.
+     */
+    public interface Subscriber {
+
+        /**
+         * Deliver a batch of events in the order they were published.
+         *
+         * @param events the events
+         */
+        void deliver(List<PublishedEvent> events);
+    }
+
+    /**
+     * An event published to a stream.
+     */
+    public static class PublishedEvent {
+
+        private final BValue data;
+        private final long timestamp;
+        private final Subscriber[] subscribers;
+
+        PublishedEvent(BValue data, long timestamp, Subscriber[] subscribers) {
+            this.data = data;
+            this.timestamp = timestamp;
+            this.subscribers = subscribers;
+        }
+
+        public BValue getData() {
+            return data;
+        }
+
+        public long getTimestamp() {
+            return timestamp;
+        }
+    }
+
+    /**
+     * Creates the threads delivering stream events on first use. A thread is needed only while a stream has events
+     * to deliver, and it does not keep the program running.
+     */
+    private static class ExecutorHolder {
+
+        private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+
+        private static final ExecutorService EXECUTOR = new ThreadPoolExecutor(0, Integer.MAX_VALUE, 60,
+                TimeUnit.SECONDS, new SynchronousQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "stream-dispatcher-" + THREAD_COUNT.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
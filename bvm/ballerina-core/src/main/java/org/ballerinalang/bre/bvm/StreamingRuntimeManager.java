@@ -18,41 +18,104 @@
 
 package org.ballerinalang.bre.bvm;
 
+import org.ballerinalang.config.ConfigRegistry;
 import org.ballerinalang.model.types.BArrayType;
 import org.ballerinalang.model.types.BField;
 import org.ballerinalang.model.types.BStructureType;
 import org.ballerinalang.model.types.BType;
+import org.ballerinalang.model.types.TypeTags;
 import org.ballerinalang.model.values.BBoolean;
 import org.ballerinalang.model.values.BClosure;
 import org.ballerinalang.model.values.BFloat;
 import org.ballerinalang.model.values.BFunctionPointer;
 import org.ballerinalang.model.values.BInteger;
 import org.ballerinalang.model.values.BMap;
+import org.ballerinalang.model.values.BRefType;
+import org.ballerinalang.model.values.BStream;
 import org.ballerinalang.model.values.BString;
 import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.persistence.store.StreamSnapshotStore;
+import org.ballerinalang.persistence.store.impl.FileStorageProvider;
 import org.ballerinalang.siddhi.core.SiddhiAppRuntime;
 import org.ballerinalang.siddhi.core.SiddhiManager;
 import org.ballerinalang.siddhi.core.event.Event;
+import org.ballerinalang.siddhi.core.exception.CannotRestoreSiddhiAppStateException;
+import org.ballerinalang.siddhi.core.stream.StreamJunction;
 import org.ballerinalang.siddhi.core.stream.output.StreamCallback;
 import org.ballerinalang.util.exceptions.BallerinaException;
+import org.ballerinalang.util.metrics.DefaultMetricRegistry;
+import org.ballerinalang.util.metrics.MetricRegistry;
+import org.ballerinalang.util.metrics.PolledGauge;
 import org.ballerinalang.util.program.BLangFunctions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 
 /**
  * This class responsible on holding Siddhi App runtimes and related stream objects.
+ * <p>
+ * Input streams of streaming queries are synchronous unless {@code b7a.streams.async.enabled} is set, in which case
+ * a slow query does not block the worker which published the event. The ring buffer of an asynchronous stream is
+ * configured with {@code b7a.streams.async.buffer.size} and {@code b7a.streams.async.workers}, and the same settings
+ * under {@code b7a.streams.async.<stream>} override them for a single stream.
+ * <p>
+ * When {@code b7a.streams.snapshot.enabled} is set, the state of each runtime is snapshotted every
+ * {@code b7a.streams.snapshot.interval} milliseconds into {@code b7a.streams.snapshot.directory}, and restored when
+ * the same streaming query is started again.
  *
  * @since 0.965.0
  */
 public class StreamingRuntimeManager {
 
+    private static final String ASYNC_CONFIG_PREFIX = "b7a.streams.async.";
+    private static final String ASYNC_ENABLED = "enabled";
+    private static final String ASYNC_BUFFER_SIZE = "buffer.size";
+    private static final String ASYNC_WORKERS = "workers";
+    private static final int DEFAULT_ASYNC_BUFFER_SIZE = 1024;
+    private static final String METRIC_PREFIX = "ballerina_streams_junction_";
+    private static final String TAG_KEY_APP = "app";
+    private static final String TAG_KEY_STREAM = "stream";
+    private static final String SNAPSHOT_ENABLED = "b7a.streams.snapshot.enabled";
+    private static final String SNAPSHOT_INTERVAL = "b7a.streams.snapshot.interval";
+    private static final String SNAPSHOT_DIRECTORY = "b7a.streams.snapshot.directory";
+    private static final long DEFAULT_SNAPSHOT_INTERVAL = 60000;
+    private static final String DEFAULT_SNAPSHOT_DIRECTORY = "ballerina-stream-states";
+
+    private static final Logger log = LoggerFactory.getLogger(StreamingRuntimeManager.class);
+
     private static StreamingRuntimeManager streamingRuntimeManager;
     private SiddhiManager siddhiManager = new SiddhiManager();
-    private List<SiddhiAppRuntime> siddhiAppRuntimeList = new ArrayList<>();
+    private List<SiddhiAppRuntime> siddhiAppRuntimeList = new CopyOnWriteArrayList<>();
+    private Map<String, RecordMapper> recordMappers = new ConcurrentHashMap<>();
+    private Map<String, Integer> siddhiAppCounts = new HashMap<>();
+    private StreamSnapshotStore snapshotStore;
 
     private StreamingRuntimeManager() {
-
+        ConfigRegistry configRegistry = ConfigRegistry.getInstance();
+        if (!configRegistry.getAsBoolean(SNAPSHOT_ENABLED)) {
+            return;
+        }
+        String directory = configRegistry.contains(SNAPSHOT_DIRECTORY) ?
+                configRegistry.getAsString(SNAPSHOT_DIRECTORY) : DEFAULT_SNAPSHOT_DIRECTORY;
+        long interval = configRegistry.contains(SNAPSHOT_INTERVAL) ?
+                configRegistry.getAsInt(SNAPSHOT_INTERVAL) : DEFAULT_SNAPSHOT_INTERVAL;
+        snapshotStore = new StreamSnapshotStore(new FileStorageProvider(directory));
+        ScheduledExecutorService snapshotExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "streams-snapshot");
+            thread.setDaemon(true);
+            return thread;
+        });
+        snapshotExecutor.scheduleWithFixedDelay(this::persistSnapshots, interval, interval, TimeUnit.MILLISECONDS);
     }
 
     public static StreamingRuntimeManager getInstance() {
@@ -68,12 +131,105 @@ public class StreamingRuntimeManager {
     }
 
     public SiddhiAppRuntime createSiddhiAppRuntime(String siddhiApp) {
+        if (snapshotStore != null) {
+            // Snapshots are matched with runtimes by name, so the name has to be the same across restarts
+            siddhiApp = "@app:name('" + getSiddhiAppName(siddhiApp) + "') " + siddhiApp;
+        }
         SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(siddhiApp);
-        siddhiAppRuntimeList.add(siddhiAppRuntime);
         siddhiAppRuntime.start();
+        if (snapshotStore != null) {
+            restoreSnapshot(siddhiAppRuntime);
+        }
+        siddhiAppRuntimeList.add(siddhiAppRuntime);
+        registerJunctionMetrics(siddhiAppRuntime);
         return siddhiAppRuntime;
     }
 
+    private synchronized String getSiddhiAppName(String siddhiApp) {
+        String hash = Integer.toHexString(siddhiApp.hashCode());
+        int count = siddhiAppCounts.merge(hash, 1, Integer::sum);
+        return "streams-" + hash + "-" + count;
+    }
+
+    private void restoreSnapshot(SiddhiAppRuntime siddhiAppRuntime) {
+        Map<String, byte[]> snapshot = snapshotStore.recover(siddhiAppRuntime.getName());
+        if (snapshot == null) {
+            return;
+        }
+        try {
+            siddhiAppRuntime.restoreElements(snapshot);
+        } catch (CannotRestoreSiddhiAppStateException e) {
+            log.warn("Starting streaming query {} without its earlier state", siddhiAppRuntime.getName(), e);
+        }
+    }
+
+    private void persistSnapshots() {
+        for (SiddhiAppRuntime siddhiAppRuntime : siddhiAppRuntimeList) {
+            try {
+                snapshotStore.persist(siddhiAppRuntime.getName(), siddhiAppRuntime.snapshotElements());
+            } catch (RuntimeException e) {
+                // An exception would cancel the periodic snapshots of all the runtimes
+                log.error("Error while taking a snapshot of streaming query {}", siddhiAppRuntime.getName(), e);
+            }
+        }
+    }
+
+    /**
+     * Returns the Siddhi annotation to be attached to the definition of an input stream, which makes the junction of
+     * the stream asynchronous as configured.
+     *
+     * @param streamId the id of the input stream
+     * @return the {@code @Async} annotation, or an empty string if the stream is synchronous
+     */
+    public String getStreamAnnotation(String streamId) {
+        ConfigRegistry configRegistry = ConfigRegistry.getInstance();
+        String enabledKey = getAsyncConfigKey(streamId, ASYNC_ENABLED);
+        if (enabledKey == null || !configRegistry.getAsBoolean(enabledKey)) {
+            return "";
+        }
+        String bufferSizeKey = getAsyncConfigKey(streamId, ASYNC_BUFFER_SIZE);
+        int bufferSize = bufferSizeKey != null ? (int) configRegistry.getAsInt(bufferSizeKey)
+                : DEFAULT_ASYNC_BUFFER_SIZE;
+        String workersKey = getAsyncConfigKey(streamId, ASYNC_WORKERS);
+        int workers = workersKey != null ? (int) configRegistry.getAsInt(workersKey) : 1;
+        // The ring buffer of the junction needs a power of two as its size
+        bufferSize = Integer.highestOneBit(Math.max(bufferSize - 1, 1)) << 1;
+        return "@Async(buffer.size='" + bufferSize + "', workers='" + Math.max(workers, 1) + "') ";
+    }
+
+    private String getAsyncConfigKey(String streamId, String key) {
+        ConfigRegistry configRegistry = ConfigRegistry.getInstance();
+        String streamKey = ASYNC_CONFIG_PREFIX + streamId + "." + key;
+        if (configRegistry.contains(streamKey)) {
+            return streamKey;
+        }
+        String globalKey = ASYNC_CONFIG_PREFIX + key;
+        return configRegistry.contains(globalKey) ? globalKey : null;
+    }
+
+    private void registerJunctionMetrics(SiddhiAppRuntime siddhiAppRuntime) {
+        MetricRegistry registry = DefaultMetricRegistry.getInstance();
+        if (registry == null) {
+            return;
+        }
+        String appName = siddhiAppRuntime.getName();
+        for (StreamJunction junction : siddhiAppRuntime.getStreamJunctions()) {
+            if (!junction.isAsync()) {
+                continue;
+            }
+            PolledGauge.builder(METRIC_PREFIX + "buffered_events", junction, StreamJunction::getBufferedEvents)
+                    .description("Number of events waiting in the ring buffer of a stream junction")
+                    .tag(TAG_KEY_APP, appName).tag(TAG_KEY_STREAM, junction.getStreamId()).register(registry);
+            PolledGauge.builder(METRIC_PREFIX + "remaining_capacity", junction,
+                    j -> j.getBufferSize() - j.getBufferedEvents())
+                    .description("Number of free slots in the ring buffer of a stream junction")
+                    .tag(TAG_KEY_APP, appName).tag(TAG_KEY_STREAM, junction.getStreamId()).register(registry);
+            PolledGauge.builder(METRIC_PREFIX + "blocked_publishes", junction, StreamJunction::getBlockedPublishes)
+                    .description("Number of publishes which waited for a full ring buffer of a stream junction")
+                    .tag(TAG_KEY_APP, appName).tag(TAG_KEY_STREAM, junction.getStreamId()).register(registry);
+        }
+    }
+
 
     public void addCallback(String streamId, BFunctionPointer functionPointer, SiddhiAppRuntime siddhiAppRuntime) {
 
@@ -85,40 +241,100 @@ public class StreamingRuntimeManager {
             closureArgs.add(closure.value());
         }
 
-        BStructureType structType = (BStructureType) ((BArrayType) parameters[parameters.length - 1]).getElementType();
         if (!(parameters[parameters.length - 1] instanceof BArrayType)) {
             throw new BallerinaException("incompatible function: inline function needs to be a function accepting"
                     + " an object array");
         }
+        BArrayType arrayType = (BArrayType) parameters[parameters.length - 1];
+        RecordMapper recordMapper = getRecordMapper(streamId, (BStructureType) arrayType.getElementType());
 
         siddhiAppRuntime.addCallback(streamId, new StreamCallback() {
             @Override
             public void receive(Event[] events) {
-                for (Event event : events) {
-                    // Here it is assumed that an event data will contain all the fields
-                    // of the record. Otherwise, some fields will be missing from the record value.
-                    BMap<String, BValue> output = new BMap<String, BValue>(structType);
-                    BField[] fields = structType.getFields();
-                    int i = 0;
-                    for (Object field : event.getData()) {
-                        if (field instanceof Long || field instanceof Integer) {
-                            output.put(fields[i].fieldName, new BInteger(((Number) field).longValue()));
-                        } else if (field instanceof Double || field instanceof Float) {
-                            output.put(fields[i].fieldName, new BFloat(((Number) field).doubleValue()));
-                        } else if (field instanceof Boolean) {
-                            output.put(fields[i].fieldName, new BBoolean(((Boolean) field)));
-                        } else if (field instanceof String) {
-                            output.put(fields[i].fieldName, new BString((String) field));
-                        }
-                        i++;
-                    }
-                    List<BValue> argsList = new ArrayList<>();
-                    argsList.addAll(closureArgs);
-                    argsList.add(output);
-                    BLangFunctions.invokeCallable(functionPointer.value(),
-                            argsList.toArray(new BValue[argsList.size()]));
+                // The whole batch of events is handed over to the function in a single invocation
+                BRefType<?>[] records = new BRefType<?>[events.length];
+                for (int i = 0; i < events.length; i++) {
+                    records[i] = recordMapper.map(events[i].getData());
                 }
+                BValue[] args = closureArgs.toArray(new BValue[closureArgs.size() + 1]);
+                args[closureArgs.size()] = new BStream.EventBatch(records, arrayType);
+                BLangFunctions.invokeCallable(functionPointer.value(), args);
             }
         });
     }
+
+    private RecordMapper getRecordMapper(String streamId, BStructureType structType) {
+        return recordMappers.computeIfAbsent(streamId + ":" + structType.getPackagePath() + ":" + structType.getName(),
+                key -> new RecordMapper(structType));
+    }
+
+    /**
+     * Converts the data of Siddhi events into records of a given type. The conversion of each field is decided once,
+     * from the type of the field, instead of inspecting every value of every event.
+     */
+    static class RecordMapper {
+
+        private final BStructureType structType;
+
+        private final String[] fieldNames;
+
+        private final Function<Object, BValue>[] fieldConverters;
+
+        @SuppressWarnings("unchecked")
+        RecordMapper(BStructureType structType) {
+            this.structType = structType;
+            BField[] fields = structType.getFields();
+            this.fieldNames = new String[fields.length];
+            this.fieldConverters = new Function[fields.length];
+            for (int i = 0; i < fields.length; i++) {
+                fieldNames[i] = fields[i].fieldName;
+                fieldConverters[i] = getConverter(fields[i].fieldType.getTag());
+            }
+        }
+
+        private static Function<Object, BValue> getConverter(int typeTag) {
+            switch (typeTag) {
+                case TypeTags.INT_TAG:
+                    return value -> BInteger.valueOf(((Number) value).longValue());
+                case TypeTags.FLOAT_TAG:
+                    return value -> new BFloat(((Number) value).doubleValue());
+                case TypeTags.BOOLEAN_TAG:
+                    return value -> BBoolean.valueOf((Boolean) value);
+                case TypeTags.STRING_TAG:
+                    return value -> new BString((String) value);
+                default:
+                    return RecordMapper::convert;
+            }
+        }
+
+        private static BValue convert(Object value) {
+            if (value instanceof Long || value instanceof Integer) {
+                return BInteger.valueOf(((Number) value).longValue());
+            } else if (value instanceof Double || value instanceof Float) {
+                return new BFloat(((Number) value).doubleValue());
+            } else if (value instanceof Boolean) {
+                return BBoolean.valueOf(((Boolean) value));
+            } else if (value instanceof String) {
+                return new BString((String) value);
+            }
+            return null;
+        }
+
+        BMap<String, BValue> map(Object[] data) {
+            // Here it is assumed that an event data will contain all the fields
+            // of the record. Otherwise, some fields will be missing from the record value.
+            BMap<String, BValue> record = new BMap<>(structType);
+            int length = Math.min(data.length, fieldNames.length);
+            for (int i = 0; i < length; i++) {
+                if (data[i] == null) {
+                    continue;
+                }
+                BValue value = fieldConverters[i].apply(data[i]);
+                if (value != null) {
+                    record.put(fieldNames[i], value);
+                }
+            }
+            return record;
+        }
+    }
 }
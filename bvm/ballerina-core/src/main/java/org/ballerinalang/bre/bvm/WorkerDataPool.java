@@ -0,0 +1,110 @@
+/*
+ *  Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.bre.bvm;
+
+import org.ballerinalang.config.ConfigRegistry;
+import org.ballerinalang.util.codegen.attributes.CodeAttributeInfo;
+
+import java.util.Arrays;
+
+/**
+ * {@code WorkerDataPool} keeps the local register frames of a worker for reuse, so that calling the same function
+ * repeatedly does not allocate a new set of register arrays for each call. Each frame is sized exactly by the
+ * register counts in the {@link CodeAttributeInfo} of the worker.
+ * <p>
+ * Frames are pooled per thread, hence acquiring and releasing a frame does not need any synchronization. A frame
+ * released on a thread other than the one it was acquired on simply moves to the pool of the releasing thread.
+ *
+ * @since 0.981.2
+ */
+public class WorkerDataPool {
+
+    private static final String FRAME_POOL_CONFIG_PROP = "b7a.runtime.vm.framepool";
+
+    private static final int MAX_POOLED_FRAMES = 8;
+
+    private final CodeAttributeInfo codeAttributeInfo;
+
+    private final ThreadLocal<FrameStack> frames = ThreadLocal.withInitial(FrameStack::new);
+
+    public WorkerDataPool(CodeAttributeInfo codeAttributeInfo) {
+        this.codeAttributeInfo = codeAttributeInfo;
+    }
+
+    public static boolean isEnabled() {
+        return ConfigRegistry.getInstance().getAsBoolean(FRAME_POOL_CONFIG_PROP);
+    }
+
+    /**
+     * Returns a cleared frame from the pool of the current thread, or a new frame if the pool is empty.
+     *
+     * @return the worker data frame
+     */
+    public WorkerData acquire() {
+        FrameStack stack = frames.get();
+        if (stack.size == 0) {
+            return new WorkerData(codeAttributeInfo);
+        }
+        WorkerData frame = stack.items[--stack.size];
+        stack.items[stack.size] = null;
+        return frame;
+    }
+
+    /**
+     * Clears the given frame and returns it to the pool of the current thread. The frame is dropped if the pool is
+     * already full.
+     *
+     * @param frame the worker data frame which is no longer referred by any worker
+     */
+    public void release(WorkerData frame) {
+        FrameStack stack = frames.get();
+        if (stack.size == MAX_POOLED_FRAMES) {
+            return;
+        }
+        clear(frame);
+        stack.items[stack.size++] = frame;
+    }
+
+    private static void clear(WorkerData frame) {
+        if (frame.longRegs != null) {
+            Arrays.fill(frame.longRegs, 0);
+        }
+        if (frame.doubleRegs != null) {
+            Arrays.fill(frame.doubleRegs, 0);
+        }
+        if (frame.stringRegs != null) {
+            Arrays.fill(frame.stringRegs, null);
+        }
+        if (frame.intRegs != null) {
+            Arrays.fill(frame.intRegs, 0);
+        }
+        if (frame.refRegs != null) {
+            Arrays.fill(frame.refRegs, null);
+        }
+    }
+
+    /**
+     * Frames pooled on a single thread.
+     */
+    private static class FrameStack {
+
+        private final WorkerData[] items = new WorkerData[MAX_POOLED_FRAMES];
+
+        private int size;
+    }
+}
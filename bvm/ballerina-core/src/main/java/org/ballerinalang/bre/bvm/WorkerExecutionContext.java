@@ -84,6 +84,8 @@ public class WorkerExecutionContext {
 
     public boolean markAsCheckPointed;
 
+    public WorkerDataPool framePool;
+
     public WorkerExecutionContext(ProgramFile programFile) {
         this.programFile = programFile;
         this.globalProps = new HashMap<>();
@@ -105,7 +107,7 @@ public class WorkerExecutionContext {
         this.workerInfo = workerInfo;
         this.programFile = callableUnitInfo.getPackageInfo().getProgramFile();
         this.constPool = callableUnitInfo.getPackageInfo().getConstPoolEntries();
-        this.code = callableUnitInfo.getPackageInfo().getInstructions();
+        this.code = getCode(callableUnitInfo);
         this.workerLocal = workerLocal;
         this.workerResult = workerResult;
         this.retRegIndexes = retRegIndexes;
@@ -125,7 +127,7 @@ public class WorkerExecutionContext {
         this.workerInfo = workerInfo;
         this.programFile = callableUnitInfo.getPackageInfo().getProgramFile();
         this.constPool = callableUnitInfo.getPackageInfo().getConstPoolEntries();
-        this.code = callableUnitInfo.getPackageInfo().getInstructions();
+        this.code = getCode(callableUnitInfo);
         this.workerLocal = workerLocal;
         this.globalProps = parent.globalProps;
         this.interruptible = parent.interruptible;
@@ -134,6 +136,14 @@ public class WorkerExecutionContext {
         initDebugger();
     }
 
+    private Instruction[] getCode(CallableUnitInfo callableUnitInfo) {
+        // The debugger steps through the instructions as in the bytecode, superinstructions would skip some
+        if (this.programFile.getDebugger().isDebugEnabled()) {
+            return callableUnitInfo.getPackageInfo().getInstructions();
+        }
+        return callableUnitInfo.getPackageInfo().getExecutableInstructions();
+    }
+
     private void initDebugger() {
         if (!programFile.getDebugger().isDebugEnabled()) {
             return;
@@ -36,6 +36,9 @@ public class ChannelConstants {
     public static final String CONF_PORT = "port";
     public static final String CONF_DB_NAME = "dbName";
     public static final String CONF_DB_OPTIONS = "dbOptions";
+    public static final String CONF_STORE = "b7a.channel.store";
+    public static final String STORE_MEMORY = "memory";
+    public static final String STORE_DATABASE = "database";
 
     /**
      * DB queries.
@@ -18,11 +18,16 @@ package org.ballerinalang.channels;
 
 import org.ballerinalang.bre.bvm.BLangScheduler;
 import org.ballerinalang.bre.bvm.WorkerExecutionContext;
+import org.ballerinalang.config.ConfigRegistry;
 import org.ballerinalang.model.types.BType;
 import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.util.exceptions.BallerinaException;
 
+import java.util.HashMap;
 import java.util.LinkedList;
+import java.util.Locale;
 import java.util.Map;
+import java.util.ServiceLoader;
 
 /**
  * Manages the access to channels.
@@ -31,6 +36,11 @@ import java.util.Map;
  */
 public class ChannelManager {
 
+    private static final ChannelStore IN_MEMORY_STORE = new InMemoryChannelStore();
+    private static final ChannelStore DATABASE_STORE = new DatabaseChannelStore();
+
+    private static volatile ChannelStore channelStore;
+
     public static BValue channelReceiverAction(String channelName, BValue key, BType keyType,
                                                             WorkerExecutionContext ctx, int regIndex,
                                                             BType receiverType) {
@@ -39,7 +49,7 @@ public class ChannelManager {
                 ChannelRegistry.getInstance().addChannel(channelName);
 
         synchronized (channel) {
-            BValue msg = DatabaseUtils.getMessage(channelName, key, keyType, receiverType);
+            BValue msg = getChannelStore().getMessage(channelName, key, keyType, receiverType);
             if (msg != null) {
                 return msg;
             } else {
@@ -61,8 +71,61 @@ public class ChannelManager {
             if (ctx != null) {
                 return ctx;
             }
-            DatabaseUtils.addEntry(channelName, key, value, keyType, valType);
+            getChannelStore().addMessage(channelName, key, keyType, value, valType);
             return null;
         }
     }
+
+    /**
+     * Returns the store configured for channel messages. Messages are kept in memory unless a store is configured,
+     * or a channel database is configured. The store is resolved from the configuration on first use.
+     *
+     * @return the channel store
+     */
+    static ChannelStore getChannelStore() {
+        ChannelStore store = channelStore;
+        if (store != null) {
+            return store;
+        }
+        synchronized (ChannelManager.class) {
+            if (channelStore == null) {
+                channelStore = resolveChannelStore();
+            }
+            return channelStore;
+        }
+    }
+
+    private static ChannelStore resolveChannelStore() {
+        ConfigRegistry registry = ConfigRegistry.getInstance();
+        String storeName = registry.getAsString(ChannelConstants.CONF_STORE);
+        if (storeName == null) {
+            return registry.contains(ChannelConstants.CONF_NAMESPACE + ChannelConstants.CONF_DB_TYPE) ?
+                    DATABASE_STORE : IN_MEMORY_STORE;
+        }
+        if (ChannelConstants.STORE_MEMORY.equalsIgnoreCase(storeName)) {
+            return IN_MEMORY_STORE;
+        }
+        if (ChannelConstants.STORE_DATABASE.equalsIgnoreCase(storeName)) {
+            return DATABASE_STORE;
+        }
+        ChannelStore store = CustomStoreHolder.STORES.get(storeName.toLowerCase(Locale.ENGLISH));
+        if (store == null) {
+            throw new BallerinaException("unknown channel store: " + storeName);
+        }
+        return store;
+    }
+
+    /**
+     * Loads the channel stores plugged in through {@link ServiceLoader} on first use.
+     */
+    private static class CustomStoreHolder {
+
+        private static final Map<String, ChannelStore> STORES = new HashMap<>();
+
+        static {
+            for (ChannelStore store : ServiceLoader.load(ChannelStore.class)) {
+                STORES.put(store.getName().toLowerCase(Locale.ENGLISH), store);
+            }
+        }
+    }
 }
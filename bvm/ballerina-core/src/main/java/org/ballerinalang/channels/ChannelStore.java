@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ballerinalang.channels;
+
+import org.ballerinalang.model.types.BType;
+import org.ballerinalang.model.values.BValue;
+
+/**
+ * {@code ChannelStore} keeps the channel messages which are sent before a worker is waiting to receive them.
+ * Messages of the same channel and key are received in the order they were sent.
+ * <p>
+ * Custom stores are loaded with {@link java.util.ServiceLoader} and selected by name with the
+ * {@code b7a.channel.store} configuration. {@link ChannelManager} serializes the calls made for the same channel.
+ *
+ * @since 0.981.2
+ */
+public interface ChannelStore {
+
+    /**
+     * Returns the name of this store, which is used to select it in the configuration.
+     *
+     * @return name of the store
+     */
+    String getName();
+
+    /**
+     * Stores a message sent to a channel.
+     *
+     * @param channelName name of the channel
+     * @param key         key of the message, or null if the message has no key
+     * @param keyType     type of the key, or null if the message has no key
+     * @param value       the message
+     * @param valueType   type of the message
+     */
+    void addMessage(String channelName, BValue key, BType keyType, BValue value, BType valueType);
+
+    /**
+     * Removes and returns the oldest message of a channel with the given key.
+     *
+     * @param channelName  name of the channel
+     * @param key          key of the message, or null if the message has no key
+     * @param keyType      type of the key, or null if the message has no key
+     * @param receiverType type expected by the receiver
+     * @return the message, or null if there is no message for the given key
+     */
+    BValue getMessage(String channelName, BValue key, BType keyType, BType receiverType);
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ballerinalang.channels;
+
+import org.ballerinalang.model.types.BType;
+import org.ballerinalang.model.values.BValue;
+
+/**
+ * {@code DatabaseChannelStore} is a {@link ChannelStore} which keeps the messages in the database configured under
+ * {@code b7a.channel.db}, so that they are kept across restarts.
+ *
+ * @since 0.981.2
+ */
+public class DatabaseChannelStore implements ChannelStore {
+
+    @Override
+    public String getName() {
+        return ChannelConstants.STORE_DATABASE;
+    }
+
+    @Override
+    public void addMessage(String channelName, BValue key, BType keyType, BValue value, BType valueType) {
+        DatabaseUtils.addEntry(channelName, key, value, keyType, valueType);
+    }
+
+    @Override
+    public BValue getMessage(String channelName, BValue key, BType keyType, BType receiverType) {
+        return DatabaseUtils.getMessage(channelName, key, keyType, receiverType);
+    }
+}
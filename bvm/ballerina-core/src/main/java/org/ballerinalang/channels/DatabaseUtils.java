@@ -267,15 +267,15 @@ public class DatabaseUtils {
 
         switch (type) {
             case TypeTags.INT_TAG:
-                return new BInteger(resultSet.getLong(2));
+                return BInteger.valueOf(resultSet.getLong(2));
             case TypeTags.STRING_TAG:
                 return new BString(resultSet.getString(2));
             case TypeTags.BYTE_TAG:
-                return new BByte(resultSet.getByte(2));
+                return BByte.valueOf(resultSet.getByte(2));
             case TypeTags.FLOAT_TAG:
                 return new BFloat(resultSet.getDouble(2));
             case TypeTags.BOOLEAN_TAG:
-                return new BBoolean(resultSet.getBoolean(2));
+                return BBoolean.valueOf(resultSet.getBoolean(2));
             case TypeTags.XML_TAG:
                 return XMLUtils.parse(resultSet.getString(2));
             case TypeTags.JSON_TAG:
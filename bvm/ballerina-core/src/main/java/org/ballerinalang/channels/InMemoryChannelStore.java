@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ballerinalang.channels;
+
+import org.ballerinalang.model.types.BType;
+import org.ballerinalang.model.types.TypeTags;
+import org.ballerinalang.model.values.BValue;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * {@code InMemoryChannelStore} is the default {@link ChannelStore}, which keeps the messages of each channel and key
+ * in a queue in memory. Messages are not kept across restarts.
+ *
+ * @since 0.981.2
+ */
+public class InMemoryChannelStore implements ChannelStore {
+
+    private final Map<MessageKey, Queue<BValue>> messages = new ConcurrentHashMap<>();
+
+    @Override
+    public String getName() {
+        return ChannelConstants.STORE_MEMORY;
+    }
+
+    @Override
+    public void addMessage(String channelName, BValue key, BType keyType, BValue value, BType valueType) {
+        MessageKey msgKey = new MessageKey(channelName, key);
+        messages.computeIfAbsent(msgKey, k -> new ConcurrentLinkedQueue<>()).add(copyValue(value, valueType));
+    }
+
+    @Override
+    public BValue getMessage(String channelName, BValue key, BType keyType, BType receiverType) {
+        MessageKey msgKey = new MessageKey(channelName, key);
+        Queue<BValue> queue = messages.get(msgKey);
+        if (queue == null) {
+            return null;
+        }
+        BValue value = queue.poll();
+        if (queue.isEmpty()) {
+            messages.remove(msgKey, queue);
+        }
+        return value;
+    }
+
+    /**
+     * Copies mutable messages, so that changes done by the sender after sending are not seen by the receiver.
+     */
+    private static BValue copyValue(BValue value, BType valueType) {
+        switch (valueType.getTag()) {
+            case TypeTags.INT_TAG:
+            case TypeTags.BYTE_TAG:
+            case TypeTags.FLOAT_TAG:
+            case TypeTags.STRING_TAG:
+            case TypeTags.BOOLEAN_TAG:
+                return value;
+            default:
+                return value == null ? null : value.copy();
+        }
+    }
+
+    /**
+     * Identifies the queue of a channel and key. Keys are matched by their string value.
+     */
+    private static class MessageKey {
+
+        private final String channelName;
+
+        private final String key;
+
+        MessageKey(String channelName, BValue key) {
+            this.channelName = channelName;
+            this.key = key != null ? key.stringValue() : null;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * channelName.hashCode() + Objects.hashCode(key);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof MessageKey)) {
+                return false;
+            }
+            MessageKey other = (MessageKey) obj;
+            return channelName.equals(other.channelName) && Objects.equals(key, other.key);
+        }
+    }
+}
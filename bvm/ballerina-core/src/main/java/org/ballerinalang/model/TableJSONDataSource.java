@@ -66,11 +66,19 @@ public class TableJSONDataSource implements JSONDataSource {
         this.isInTransaction = isInTransaction;
     }
 
+    /**
+     * Writes the rows of the table as a JSON array. Each row is handed to the {@link JSONObjectGenerator} as it is
+     * read from the table.
+     *
+     * @param gen the generator to write to
+     * @throws IOException if writing fails
+     */
     @Override
     public void serialize(JsonGenerator gen) throws IOException {
         gen.writeStartArray();
         while (this.hasNext()) {
-            gen.serialize(this.next());
+            this.df.moveToNext();
+            this.objGen.serialize(this.df, gen);
         }
         gen.writeEndArray();
     }
@@ -128,42 +136,94 @@ public class TableJSONDataSource implements JSONDataSource {
             return objNode;
         }
 
+        /**
+         * Writes the current row straight to the generator, without creating a JSON object for it first.
+         */
+        @Override
+        public void serialize(BTable df, JsonGenerator gen) throws IOException {
+            BStructureType structType = df.getStructType();
+            BField[] structFields = null;
+            if (structType != null) {
+                structFields = structType.getFields();
+            }
+            gen.startObject();
+            int index = 0;
+            for (ColumnDefinition col : df.getColumnDefs()) {
+                if (structFields != null) {
+                    gen.writeFieldName(structFields[index].getFieldName());
+                } else {
+                    gen.writeFieldName(col.getName());
+                }
+                serializeColumn(df, gen, col.getType(), index + 1, structFields);
+                ++index;
+            }
+            gen.endObject();
+        }
+
+        private static void serializeColumn(BTable df, JsonGenerator gen, TypeKind type, int index,
+                                            BField[] structFields) throws IOException {
+            switch (type) {
+                case INT:
+                    gen.writeNumber(df.getInt(index));
+                    break;
+                case FLOAT:
+                    gen.writeNumber(df.getFloat(index));
+                    break;
+                case BOOLEAN:
+                    gen.writeBoolean(df.getBoolean(index));
+                    break;
+                case BLOB:
+                    writeString(gen, df.getBlob(index));
+                    break;
+                case ARRAY:
+                case JSON:
+                case OBJECT:
+                case RECORD:
+                    gen.serialize(getJsonData(df, type, index, structFields));
+                    break;
+                default:
+                    writeString(gen, df.getString(index));
+                    break;
+            }
+        }
+
+        private static void writeString(JsonGenerator gen, String value) throws IOException {
+            if (value == null) {
+                gen.writeNull();
+            } else {
+                gen.writeString(value);
+            }
+        }
     }
 
     private static void constructJsonData(BTable df, BMap<String, BRefType<?>> jsonObject, String name, TypeKind type,
                                           int index, BField[] structFields) {
+        jsonObject.put(name, getJsonData(df, type, index, structFields));
+    }
+
+    private static BRefType<?> getJsonData(BTable df, TypeKind type, int index, BField[] structFields) {
         switch (type) {
             case STRING:
-                jsonObject.put(name, getBString(df.getString(index)));
-                break;
+                return getBString(df.getString(index));
             case INT:
-                jsonObject.put(name, new BInteger(df.getInt(index)));
-                break;
+                return BInteger.valueOf(df.getInt(index));
             case FLOAT:
-                jsonObject.put(name, new BFloat(df.getFloat(index)));
-                break;
+                return new BFloat(df.getFloat(index));
             case BOOLEAN:
-                jsonObject.put(name, new BBoolean(df.getBoolean(index)));
-                break;
+                return BBoolean.valueOf(df.getBoolean(index));
             case BLOB:
-                jsonObject.put(name, getBString(df.getBlob(index)));
-                break;
+                return getBString(df.getBlob(index));
             case ARRAY:
-                jsonObject.put(name, getDataArray(df, index));
-                break;
+                return getDataArray(df, index);
             case JSON:
-                jsonObject.put(name, JsonParser.parse(df.getString(index)));
-                break;
+                return JsonParser.parse(df.getString(index));
             case OBJECT:
             case RECORD:
-                jsonObject.put(name, getStructData(df.getStruct(index), structFields, index));
-                break;
+                return getStructData(df.getStruct(index), structFields, index);
             case XML:
-                jsonObject.put(name, getBString(df.getString(index)));
-                break;
+                return getBString(df.getString(index));
             default:
-                jsonObject.put(name, getBString(df.getString(index)));
-            break;
+                return getBString(df.getString(index));
         }
     }
 
@@ -176,13 +236,13 @@ public class TableJSONDataSource implements JSONDataSource {
                         if (value instanceof String) {
                             jsonArray.append(new BString((String) value));
                         } else if (value instanceof Boolean) {
-                            jsonArray.append(new BBoolean((Boolean) value));
+                            jsonArray.append(BBoolean.valueOf((Boolean) value));
                         } else if (value instanceof Long) {
-                            jsonArray.append(new BInteger((long) value));
+                            jsonArray.append(BInteger.valueOf((long) value));
                         } else if (value instanceof Double) {
                             jsonArray.append(new BFloat((double) value));
                         } else if (value instanceof Integer) {
-                            jsonArray.append(new BInteger((int) value));
+                            jsonArray.append(BInteger.valueOf((int) value));
                         } else if (value instanceof Float) {
                             jsonArray.append(new BFloat((float) value));
                         } else if (value instanceof BigDecimal) {
@@ -205,13 +265,13 @@ public class TableJSONDataSource implements JSONDataSource {
                                 if (value instanceof String) {
                                     jsonData.put(interanlStructFields[i].fieldName, new BString((String) value));
                                 } else if (value instanceof Boolean) {
-                                    jsonData.put(interanlStructFields[i].fieldName, new BBoolean((Boolean) value));
+                                    jsonData.put(interanlStructFields[i].fieldName, BBoolean.valueOf((Boolean) value));
                                 } else if (value instanceof Long) {
-                                    jsonData.put(interanlStructFields[i].fieldName, new BInteger((long) value));
+                                    jsonData.put(interanlStructFields[i].fieldName, BInteger.valueOf((long) value));
                                 } else if (value instanceof Double) {
                                     jsonData.put(interanlStructFields[i].fieldName, new BFloat((double) value));
                                 } else if (value instanceof Integer) {
-                                    jsonData.put(interanlStructFields[i].fieldName, new BInteger((int) value));
+                                    jsonData.put(interanlStructFields[i].fieldName, BInteger.valueOf((int) value));
                                 } else if (value instanceof Float) {
                                     jsonData.put(interanlStructFields[i].fieldName, new BFloat((float) value));
                                 } else if (value instanceof BigDecimal) {
@@ -252,15 +312,15 @@ public class TableJSONDataSource implements JSONDataSource {
                 }
             } else if (obj instanceof Boolean) {
                 for (Object value : dataArray) {
-                    jsonArray.append(new BBoolean((boolean) value));
+                    jsonArray.append(BBoolean.valueOf((boolean) value));
                 }
             } else if (obj instanceof Integer) {
                 for (Object value : dataArray) {
-                    jsonArray.append(new BInteger((int) value));
+                    jsonArray.append(BInteger.valueOf((int) value));
                 }
             } else if (obj instanceof Long) {
                 for (Object value : dataArray) {
-                    jsonArray.append(new BInteger((long) value));
+                    jsonArray.append(BInteger.valueOf((long) value));
                 }
             } else if (obj instanceof Float) {
                 for (Object value : dataArray) {
@@ -302,5 +362,16 @@ public class TableJSONDataSource implements JSONDataSource {
          */
         BRefType<?> transform(BTable table) throws IOException;
 
+        /**
+         * Writes the current position of the given table to a JSON generator.
+         *
+         * @param table The table that should be used in the current position
+         * @param gen   The generator to write the JSON to
+         * @throws IOException for JSON reading/serializing errors
+         */
+        default void serialize(BTable table, JsonGenerator gen) throws IOException {
+            gen.serialize(transform(table));
+        }
+
     }
 }
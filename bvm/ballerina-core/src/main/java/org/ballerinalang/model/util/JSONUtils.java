@@ -104,7 +104,7 @@ public class JSONUtils {
         BRefValueArray json = new BRefValueArray(new BArrayType(BTypes.typeJSON));
         for (int i = 0; i < intArray.size(); i++) {
             long value = intArray.get(i);
-            json.append(new BInteger(value));
+            json.append(BInteger.valueOf(value));
         }
         return json;
     }
@@ -149,7 +149,7 @@ public class JSONUtils {
         BRefValueArray json = new BRefValueArray(new BArrayType(BTypes.typeJSON));
         for (int i = 0; i < booleanArray.size(); i++) {
             int value = booleanArray.get(i);
-            json.append(new BBoolean(value == 1));
+            json.append(BBoolean.valueOf(value == 1));
         }
         return json;
     }
@@ -226,7 +226,7 @@ public class JSONUtils {
 
         BMap<String, BValue> json = new BMap<>(targetType);
         if (targetType.getConstrainedType() == null) {
-            for (Entry<String, BValue> structField : map.getMap().entrySet()) {
+            for (Entry<String, BValue> structField : map.getMapForRead().entrySet()) {
                 String key = structField.getKey();
                 BValue value = structField.getValue();
                 populateJSON(json, key, value, BTypes.typeJSON);
@@ -497,7 +497,7 @@ public class JSONUtils {
         } else {
             switch (json.getType().getTag()) {
                 case TypeTags.JSON_TAG:
-                    LinkedHashMap<String, BValue> map = ((BMap) json).getMap();
+                    LinkedHashMap<String, BValue> map = ((BMap) json).getMapForRead();
                     for (Entry<String, BValue> entry : map.entrySet()) {
                         currentRoot = traverseJsonNode(entry.getValue(), entry.getKey(), currentRoot,
                                 omElementArrayList, attributePrefix, arrayEntryTag);
@@ -609,7 +609,7 @@ public class JSONUtils {
         BType mapConstraint = mapType.getConstrainedType();
         if (mapConstraint == null || mapConstraint.getTag() == TypeTags.ANY_TAG ||
                 mapConstraint.getTag() == TypeTags.JSON_TAG) {
-            ((BMap<String, BValue>) json).getMap().entrySet().forEach(entry -> {
+            ((BMap<String, BValue>) json).getMapForRead().entrySet().forEach(entry -> {
                 map.put(entry.getKey(), entry.getValue());
             });
 
@@ -617,7 +617,7 @@ public class JSONUtils {
         }
 
         // We reach here if the map is constrained.
-        ((BMap<String, BRefType<?>>) json).getMap().entrySet().forEach(entry -> {
+        ((BMap<String, BRefType<?>>) json).getMapForRead().entrySet().forEach(entry -> {
             map.put(entry.getKey(), convertJSON(entry.getValue(), mapConstraint));
         });
 
@@ -853,7 +853,7 @@ public class JSONUtils {
         return "json-" + nodeType;
     }
     
-    private static void handleError(Exception e, String fieldName) {
+    static void handleError(Exception e, String fieldName) {
         String errorMsg = e.getCause() == null ? "error while mapping '" + fieldName + "': " : "";
         throw new BallerinaException(errorMsg + e.getMessage(), e);
     }
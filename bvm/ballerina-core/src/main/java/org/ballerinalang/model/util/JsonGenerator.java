@@ -31,6 +31,7 @@ import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.Writer;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.Map.Entry;
 
 /**
@@ -67,13 +68,21 @@ public class JsonGenerator {
     }
     
     public JsonGenerator(OutputStream out, Charset charset) {
-        this(new BufferedWriter(new OutputStreamWriter(out, charset)));
+        this(createWriter(out, charset));
     }
 
     public JsonGenerator(Writer writer) {
         this.writer = writer;
     }
 
+    private static Writer createWriter(OutputStream out, Charset charset) {
+        // UTF-8 is encoded straight into the output buffer, without going through a character buffer and an encoder
+        if (StandardCharsets.UTF_8.equals(charset)) {
+            return new Utf8OutputStreamWriter(out);
+        }
+        return new BufferedWriter(new OutputStreamWriter(out, charset));
+    }
+
     private void setLevelInit(int index, boolean init) {
         this.checkAndResizeLevels(index);
         this.levelInit[index] = init;
@@ -149,24 +158,23 @@ public class JsonGenerator {
     }
     
     private void writeStringValue(String value) throws IOException {
-        this.writer.write("\"");        
+        this.writer.write('"');
         int count = value.length();
         char ch;
         boolean escaped = false;
-        char[] chs = value.toCharArray();
         for (int i = 0; i < count; i++) {
-            ch = chs[i];
+            ch = value.charAt(i);
             if (ch < escChars.length && escChars[ch]) {
                 escaped = true;
                 break;
             }
         }        
         if (escaped) {
-            this.writeStringEsc(chs);            
+            this.writeStringEsc(value.toCharArray());
         } else {
-            this.writer.write(chs);
+            this.writer.write(value, 0, count);
         }        
-        this.writer.write("\"");
+        this.writer.write('"');
     }
     
     public void writeString(String value) throws IOException {
@@ -293,7 +301,7 @@ public class JsonGenerator {
             case TypeTags.MAP_TAG:
             case TypeTags.JSON_TAG:
                 this.startObject();
-                for (Entry<String, BValue> entry : ((BMap<String, BValue>) json).getMap().entrySet()) {
+                for (Entry<String, BValue> entry : ((BMap<String, BValue>) json).getMapForRead().entrySet()) {
                     this.writeFieldName(entry.getKey());
                     serialize(entry.getValue());
                 }
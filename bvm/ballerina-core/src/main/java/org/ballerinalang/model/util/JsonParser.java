@@ -19,6 +19,7 @@ package org.ballerinalang.model.util;
 
 import org.apache.commons.lang3.StringEscapeUtils;
 import org.ballerinalang.model.types.BArrayType;
+import org.ballerinalang.model.types.BStructureType;
 import org.ballerinalang.model.types.BTypes;
 import org.ballerinalang.model.types.TypeTags;
 import org.ballerinalang.model.values.BBoolean;
@@ -111,6 +112,38 @@ public class JsonParser {
         }
     }
     
+    /**
+     * Parses the contents in the given {@link InputStream} and binds it straight into a value of the given structure
+     * type, without building the intermediate JSON tree.
+     *
+     * @param in input stream which contains the JSON content
+     * @param charsetName the character set name of the input stream
+     * @param structType the type of the structure to bind to
+     * @return the structure value with the values in the JSON content
+     * @throws BallerinaException for any parsing error or if the JSON content is not compatible with the type
+     */
+    public static BMap<String, BValue> parse(InputStream in, String charsetName, BStructureType structType)
+            throws BallerinaException {
+        try {
+            return parse(new InputStreamReader(in, charsetName), structType);
+        } catch (IOException e) {
+            throw new BallerinaException("Error in parsing JSON data: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Parses the contents in the given {@link Reader} and binds it straight into a value of the given structure type,
+     * without building the intermediate JSON tree.
+     *
+     * @param reader reader which contains the JSON content
+     * @param structType the type of the structure to bind to
+     * @return the structure value with the values in the JSON content
+     * @throws BallerinaException for any parsing error or if the JSON content is not compatible with the type
+     */
+    public static BMap<String, BValue> parse(Reader reader, BStructureType structType) throws BallerinaException {
+        return new JsonStructBinder(reader).bind(structType);
+    }
+
     /**
      * Represents a JSON parser related exception.
      */
@@ -187,6 +220,7 @@ public class JsonParser {
         private int line;
         private int column;
         private char currentQuoteChar;
+        private boolean internFieldNames;
 
         StateMachine() {
             reset();
@@ -220,6 +254,7 @@ public class JsonParser {
         
         public BRefType<?> execute(Reader reader) throws BallerinaException {
             State currentState = DOC_START_STATE;
+            this.internFieldNames = StringInternTable.isEnabled();
             try {
                 char[] buff = new char[1024];
                 int count;
@@ -516,7 +551,13 @@ public class JsonParser {
         }
         
         private void processFieldName() {
-            this.fieldNames.push(this.value());
+            if (this.internFieldNames) {
+                // Field names repeat across documents, hence the same key instances can be shared
+                this.fieldNames.push(StringInternTable.intern(this.charBuff, 0, this.charBuffIndex));
+                this.charBuffIndex = 0;
+            } else {
+                this.fieldNames.push(this.value());
+            }
         }
         
         /**
@@ -825,13 +866,13 @@ public class JsonParser {
                 if (ch == 't' && TRUE.equals(str)) {
                     switch (type) {
                     case ARRAY_ELEMENT:
-                        ((BRefValueArray) this.currentJsonNode).append(new BBoolean(true));
+                        ((BRefValueArray) this.currentJsonNode).append(BBoolean.TRUE);
                         break;
                     case FIELD:
-                        ((BMap<String, BValue>) this.currentJsonNode).put(this.fieldNames.pop(), new BBoolean(true));
+                        ((BMap<String, BValue>) this.currentJsonNode).put(this.fieldNames.pop(), BBoolean.TRUE);
                         break;
                     case VALUE:
-                        currentJsonNode = new BBoolean(true);
+                        currentJsonNode = BBoolean.TRUE;
                         break;
                     default:
                         break;
@@ -839,13 +880,13 @@ public class JsonParser {
                 } else if (ch == 'f' && FALSE.equals(str)) {
                     switch (type) {
                     case ARRAY_ELEMENT:
-                        ((BRefValueArray) this.currentJsonNode).append(new BBoolean(false));
+                        ((BRefValueArray) this.currentJsonNode).append(BBoolean.FALSE);
                         break;
                     case FIELD:
-                        ((BMap<String, BValue>) this.currentJsonNode).put(this.fieldNames.pop(), new BBoolean(false));
+                        ((BMap<String, BValue>) this.currentJsonNode).put(this.fieldNames.pop(), BBoolean.FALSE);
                         break;
                     case VALUE:
-                        currentJsonNode = new BBoolean(false);
+                        currentJsonNode = BBoolean.FALSE;
                         break;
                     default:
                         break;
@@ -869,14 +910,14 @@ public class JsonParser {
                         long longValue = Long.parseLong(str);
                         switch (type) {
                         case ARRAY_ELEMENT:
-                            ((BRefValueArray) this.currentJsonNode).append(new BInteger(longValue));
+                            ((BRefValueArray) this.currentJsonNode).append(BInteger.valueOf(longValue));
                             break;
                         case FIELD:
                                 ((BMap<String, BValue>) this.currentJsonNode).put(this.fieldNames.pop(),
-                                        new BInteger(longValue));
+                                        BInteger.valueOf(longValue));
                                 break;
                         case VALUE:
-                            currentJsonNode = new BInteger(longValue);
+                            currentJsonNode = BInteger.valueOf(longValue);
                             break;
                         default:
                             break;                
@@ -0,0 +1,460 @@
+/*
+ *  Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.model.util;
+
+import org.ballerinalang.model.types.BArrayType;
+import org.ballerinalang.model.types.BStructureType;
+import org.ballerinalang.model.types.BType;
+import org.ballerinalang.model.types.BTypes;
+import org.ballerinalang.model.types.TypeTags;
+import org.ballerinalang.model.values.BBoolean;
+import org.ballerinalang.model.values.BFloat;
+import org.ballerinalang.model.values.BInteger;
+import org.ballerinalang.model.values.BMap;
+import org.ballerinalang.model.values.BRefType;
+import org.ballerinalang.model.values.BRefValueArray;
+import org.ballerinalang.model.values.BString;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.util.codegen.StructFieldInfo;
+import org.ballerinalang.util.codegen.StructureTypeInfo;
+import org.ballerinalang.util.exceptions.BallerinaException;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * {@code JsonStructBinder} is a pull based JSON parser which binds a JSON document straight into a value of a given
+ * structure type, without building the intermediate JSON tree. The result is the same as parsing the document with
+ * {@link JsonParser} and converting it with {@link JSONUtils#convertJSONToStruct(BValue, BStructureType)}.
+ * <p>
+ * Field names are matched against the fields of the structure type in the character buffer, fields which are not in
+ * the structure type are skipped without creating any values, and objects and arrays under a structure type are
+ * bound recursively. Other values are read as JSON and converted with {@link JSONUtils#convertJSON(BRefType, BType)}.
+ *
+ * @since 0.981.2
+ */
+@SuppressWarnings("unchecked")
+class JsonStructBinder {
+
+    private static final int EOF = -1;
+
+    private final Reader reader;
+
+    private final char[] readBuff = new char[4096];
+
+    private int readIndex;
+
+    private int readCount;
+
+    private char[] charBuff = new char[256];
+
+    private int charBuffIndex;
+
+    private int line = 1;
+
+    private int column;
+
+    JsonStructBinder(Reader reader) {
+        this.reader = reader;
+    }
+
+    BMap<String, BValue> bind(BStructureType structType) {
+        try {
+            BRefType<?> result = readValue(structType);
+            if (skipWhitespace() != EOF) {
+                throw new JsonBindingException("invalid JSON document");
+            }
+            return (BMap<String, BValue>) result;
+        } catch (IOException e) {
+            throw new BallerinaException("Error reading JSON: " + e.getMessage());
+        } catch (JsonBindingException e) {
+            throw new BallerinaException(e.getMessage() + " at line: " + this.line + " column: " + this.column);
+        }
+    }
+
+    private BRefType<?> readValue(BType targetType) throws IOException, JsonBindingException {
+        int ch = skipWhitespace();
+        switch (targetType.getTag()) {
+            case TypeTags.OBJECT_TYPE_TAG:
+            case TypeTags.RECORD_TYPE_TAG:
+                if (ch == '{') {
+                    return readStruct((BStructureType) targetType);
+                }
+                break;
+            case TypeTags.ARRAY_TAG:
+                if (ch == '[' && isBoundElementType(((BArrayType) targetType).getElementType())) {
+                    return readArray((BArrayType) targetType);
+                }
+                break;
+            default:
+                break;
+        }
+        return JSONUtils.convertJSON(readJson(), targetType);
+    }
+
+    private static boolean isBoundElementType(BType elementType) {
+        // Arrays of these types are converted into typed arrays, and are better read as JSON first
+        switch (elementType.getTag()) {
+            case TypeTags.INT_TAG:
+            case TypeTags.FLOAT_TAG:
+            case TypeTags.STRING_TAG:
+            case TypeTags.BOOLEAN_TAG:
+            case TypeTags.ANY_TAG:
+                return false;
+            default:
+                return true;
+        }
+    }
+
+    private BMap<String, BValue> readStruct(BStructureType structType) throws IOException, JsonBindingException {
+        next();
+        StructFieldInfo[] fieldInfos = ((StructureTypeInfo) structType.getTypeInfo()).getFieldInfoEntries();
+        BRefType<?>[] fieldValues = new BRefType<?>[fieldInfos.length];
+        boolean[] fieldsPresent = new boolean[fieldInfos.length];
+        int ch = skipWhitespace();
+        if (ch == '}') {
+            next();
+        } else {
+            while (true) {
+                readString(ch);
+                int fieldIndex = findField(fieldInfos);
+                expect(':');
+                if (fieldIndex < 0) {
+                    skipValue();
+                } else {
+                    StructFieldInfo fieldInfo = fieldInfos[fieldIndex];
+                    try {
+                        fieldValues[fieldIndex] = readValue(fieldInfo.getFieldType());
+                    } catch (RuntimeException e) {
+                        JSONUtils.handleError(e, fieldInfo.getName());
+                    }
+                    fieldsPresent[fieldIndex] = true;
+                }
+                ch = skipWhitespace();
+                next();
+                if (ch == '}') {
+                    break;
+                }
+                if (ch != ',') {
+                    throw new JsonBindingException("expected , or }");
+                }
+                ch = skipWhitespace();
+            }
+        }
+
+        BMap<String, BValue> bStruct = new BMap<>(structType);
+        for (int i = 0; i < fieldInfos.length; i++) {
+            StructFieldInfo fieldInfo = fieldInfos[i];
+            // If the field does not exists in the JSON, set the default value for that struct field.
+            BValue fieldValue = fieldsPresent[i] ? fieldValues[i] : fieldInfo.getFieldType().getZeroValue();
+            bStruct.put(fieldInfo.getName(), fieldValue);
+        }
+        return bStruct;
+    }
+
+    private int findField(StructFieldInfo[] fieldInfos) {
+        for (int i = 0; i < fieldInfos.length; i++) {
+            String name = fieldInfos[i].getName();
+            if (name.length() != this.charBuffIndex) {
+                continue;
+            }
+            int j = 0;
+            while (j < this.charBuffIndex && name.charAt(j) == this.charBuff[j]) {
+                j++;
+            }
+            if (j == this.charBuffIndex) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private BRefValueArray readArray(BArrayType arrayType) throws IOException, JsonBindingException {
+        next();
+        BRefValueArray array = new BRefValueArray(arrayType);
+        int ch = skipWhitespace();
+        if (ch == ']') {
+            next();
+            return array;
+        }
+        while (true) {
+            array.append(readValue(arrayType.getElementType()));
+            ch = skipWhitespace();
+            next();
+            if (ch == ']') {
+                return array;
+            }
+            if (ch != ',') {
+                throw new JsonBindingException("expected , or ]");
+            }
+        }
+    }
+
+    private BRefType<?> readJson() throws IOException, JsonBindingException {
+        int ch = skipWhitespace();
+        switch (ch) {
+            case '{':
+                next();
+                BMap<String, BRefType<?>> jsonObject = new BMap<>(BTypes.typeJSON);
+                ch = skipWhitespace();
+                if (ch == '}') {
+                    next();
+                    return jsonObject;
+                }
+                while (true) {
+                    readString(ch);
+                    String fieldName = value();
+                    expect(':');
+                    jsonObject.put(fieldName, readJson());
+                    ch = skipWhitespace();
+                    next();
+                    if (ch == '}') {
+                        return jsonObject;
+                    }
+                    if (ch != ',') {
+                        throw new JsonBindingException("expected , or }");
+                    }
+                    ch = skipWhitespace();
+                }
+            case '[':
+                next();
+                BRefValueArray jsonArray = new BRefValueArray(new BArrayType(BTypes.typeJSON));
+                ch = skipWhitespace();
+                if (ch == ']') {
+                    next();
+                    return jsonArray;
+                }
+                while (true) {
+                    jsonArray.append(readJson());
+                    ch = skipWhitespace();
+                    next();
+                    if (ch == ']') {
+                        return jsonArray;
+                    }
+                    if (ch != ',') {
+                        throw new JsonBindingException("expected , or ]");
+                    }
+                }
+            case '"':
+            case '\'':
+                readString(ch);
+                return new BString(value());
+            default:
+                return readNonStringValue();
+        }
+    }
+
+    private void skipValue() throws IOException, JsonBindingException {
+        int ch = skipWhitespace();
+        switch (ch) {
+            case '{':
+            case '[':
+                next();
+                int depth = 1;
+                while (depth > 0) {
+                    ch = skipWhitespace();
+                    if (ch == '"' || ch == '\'') {
+                        readString(ch);
+                        continue;
+                    }
+                    if (ch == EOF) {
+                        throw new JsonBindingException("unexpected end of JSON document");
+                    }
+                    if (ch == '{' || ch == '[') {
+                        depth++;
+                    } else if (ch == '}' || ch == ']') {
+                        depth--;
+                    }
+                    next();
+                }
+                break;
+            case '"':
+            case '\'':
+                readString(ch);
+                break;
+            default:
+                readToken();
+                break;
+        }
+        this.charBuffIndex = 0;
+    }
+
+    private BRefType<?> readNonStringValue() throws IOException, JsonBindingException {
+        readToken();
+        String str = value();
+        if (str.isEmpty()) {
+            throw new JsonBindingException("unexpected character");
+        }
+        switch (str) {
+            case "true":
+                return BBoolean.TRUE;
+            case "false":
+                return BBoolean.FALSE;
+            case "null":
+                return null;
+            default:
+                break;
+        }
+        try {
+            if (str.indexOf('.') >= 0) {
+                return new BFloat(Double.parseDouble(str));
+            }
+            return BInteger.valueOf(Long.parseLong(str));
+        } catch (NumberFormatException e) {
+            throw new JsonBindingException("unrecognized token '" + str + "'");
+        }
+    }
+
+    private void readToken() throws IOException {
+        this.charBuffIndex = 0;
+        int ch = peek();
+        while (ch != EOF && ch != ',' && ch != '}' && ch != ']' && ch != ':' && !isWhitespace(ch)) {
+            append((char) next());
+            ch = peek();
+        }
+    }
+
+    private void readString(int quote) throws IOException, JsonBindingException {
+        if (quote != '"' && quote != '\'') {
+            throw new JsonBindingException("expected \" or '");
+        }
+        next();
+        this.charBuffIndex = 0;
+        while (true) {
+            int ch = next();
+            if (ch == EOF) {
+                throw new JsonBindingException("unexpected end of JSON document");
+            }
+            if (ch == quote) {
+                return;
+            }
+            if (ch == '\\') {
+                append(readEscapedChar());
+            } else {
+                append((char) ch);
+            }
+        }
+    }
+
+    private char readEscapedChar() throws IOException, JsonBindingException {
+        int ch = next();
+        switch (ch) {
+            case '"':
+            case '\'':
+            case '\\':
+            case '/':
+                return (char) ch;
+            case 'b':
+                return '\b';
+            case 'f':
+                return '\f';
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 't':
+                return '\t';
+            case 'u':
+                int code = 0;
+                for (int i = 0; i < 4; i++) {
+                    int digit = Character.digit(next(), 16);
+                    if (digit < 0) {
+                        throw new JsonBindingException("expected the hexadecimal value of a unicode character");
+                    }
+                    code = (code << 4) | digit;
+                }
+                return (char) code;
+            default:
+                throw new JsonBindingException("expected escaped characters");
+        }
+    }
+
+    private void expect(char expected) throws IOException, JsonBindingException {
+        if (skipWhitespace() != expected) {
+            throw new JsonBindingException("expected " + expected);
+        }
+        next();
+    }
+
+    private String value() {
+        String result = new String(this.charBuff, 0, this.charBuffIndex);
+        this.charBuffIndex = 0;
+        return result;
+    }
+
+    private void append(char ch) {
+        if (this.charBuffIndex == this.charBuff.length) {
+            char[] newBuff = new char[this.charBuff.length * 2];
+            System.arraycopy(this.charBuff, 0, newBuff, 0, this.charBuff.length);
+            this.charBuff = newBuff;
+        }
+        this.charBuff[this.charBuffIndex++] = ch;
+    }
+
+    private static boolean isWhitespace(int ch) {
+        return ch == ' ' || ch == '\t' || ch == '\n' || ch == '\r';
+    }
+
+    private int skipWhitespace() throws IOException {
+        int ch = peek();
+        while (isWhitespace(ch)) {
+            next();
+            ch = peek();
+        }
+        return ch;
+    }
+
+    private int peek() throws IOException {
+        if (this.readIndex == this.readCount) {
+            this.readCount = this.reader.read(this.readBuff);
+            this.readIndex = 0;
+            if (this.readCount <= 0) {
+                this.readCount = 0;
+                return EOF;
+            }
+        }
+        return this.readBuff[this.readIndex];
+    }
+
+    private int next() throws IOException {
+        int ch = peek();
+        if (ch == EOF) {
+            return EOF;
+        }
+        this.readIndex++;
+        if (ch == '\n') {
+            this.line++;
+            this.column = 0;
+        } else {
+            this.column++;
+        }
+        return ch;
+    }
+
+    /**
+     * Represents a syntax error in the JSON document being bound.
+     */
+    private static class JsonBindingException extends Exception {
+
+        private static final long serialVersionUID = -5727291474962407826L;
+
+        JsonBindingException(String msg) {
+            super(msg);
+        }
+    }
+}
@@ -52,16 +52,16 @@ public class ListUtils {
             case TypeTags.BOOLEAN_TAG:
                 BBooleanArray bBooleanArray = (BBooleanArray) array;
                 int i = bBooleanArray.get(index);
-                return i == 0 ? new BBoolean(false) : new BBoolean(true);
+                return i == 0 ? BBoolean.FALSE : BBoolean.TRUE;
             case TypeTags.BYTE_TAG:
                 BByteArray bByteArray = (BByteArray) array;
-                return new BByte(bByteArray.get(index));
+                return BByte.valueOf(bByteArray.get(index));
             case TypeTags.FLOAT_TAG:
                 BFloatArray bFloatArray = (BFloatArray) array;
                 return new BFloat(bFloatArray.get(index));
             case TypeTags.INT_TAG:
                 BIntArray bIntArray = (BIntArray) array;
-                return new BInteger(bIntArray.get(index));
+                return BInteger.valueOf(bIntArray.get(index));
             case TypeTags.STRING_TAG:
                 BStringArray bStringArray = (BStringArray) array;
                 return new BString(bStringArray.get(index));
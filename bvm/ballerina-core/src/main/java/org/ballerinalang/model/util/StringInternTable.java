@@ -0,0 +1,86 @@
+/*
+ *  Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.model.util;
+
+import org.ballerinalang.config.ConfigRegistry;
+
+/**
+ * {@code StringInternTable} is a fixed size table of short strings, such as map keys, which are created over and
+ * over again from character buffers. Looking up a string in the table does not allocate when the string is already
+ * there, and every lookup of the same characters returns the same instance.
+ * <p>
+ * Each slot holds a single string and a colliding string simply replaces it, hence the table never grows and does
+ * not need any locking. Since strings are immutable, a racing read sees either the old or the new string.
+ *
+ * @since 0.981.2
+ */
+public class StringInternTable {
+
+    private static final String INTERN_CONFIG_PROP = "b7a.runtime.vm.internkeys";
+
+    private static final int MAX_LENGTH = 32;
+
+    private static final int TABLE_SIZE = 4096;
+
+    private static final String[] TABLE = new String[TABLE_SIZE];
+
+    private StringInternTable() {
+    }
+
+    public static boolean isEnabled() {
+        return ConfigRegistry.getInstance().getAsBoolean(INTERN_CONFIG_PROP);
+    }
+
+    /**
+     * Returns the interned string with the given characters.
+     *
+     * @param chars  the character buffer
+     * @param offset the index of the first character
+     * @param length the number of characters
+     * @return the string with the given characters
+     */
+    public static String intern(char[] chars, int offset, int length) {
+        if (length > MAX_LENGTH) {
+            return new String(chars, offset, length);
+        }
+        int hash = 0;
+        for (int i = offset; i < offset + length; i++) {
+            hash = 31 * hash + chars[i];
+        }
+        int slot = (hash ^ (hash >>> 16)) & (TABLE_SIZE - 1);
+        String str = TABLE[slot];
+        if (str != null && matches(str, chars, offset, length)) {
+            return str;
+        }
+        str = new String(chars, offset, length);
+        TABLE[slot] = str;
+        return str;
+    }
+
+    private static boolean matches(String str, char[] chars, int offset, int length) {
+        if (str.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (str.charAt(i) != chars[offset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
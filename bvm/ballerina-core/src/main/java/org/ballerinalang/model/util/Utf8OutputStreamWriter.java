@@ -0,0 +1,143 @@
+/*
+ *  Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.model.util;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+
+/**
+ * {@code Utf8OutputStreamWriter} encodes characters as UTF-8 straight into a byte buffer which is written out to
+ * the underlying {@link OutputStream} when full or flushed. Strings are encoded in place without copying them to a
+ * character array first, and ASCII characters take a fast path.
+ * <p>
+ * Malformed surrogate characters are replaced with {@code '?'}, as done by the JDK UTF-8 encoder.
+ *
+ * @since 0.981.2
+ */
+class Utf8OutputStreamWriter extends Writer {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private static final byte REPLACEMENT = '?';
+
+    private final OutputStream out;
+
+    private final byte[] buff = new byte[BUFFER_SIZE];
+
+    private int index;
+
+    private char highSurrogate;
+
+    Utf8OutputStreamWriter(OutputStream out) {
+        this.out = out;
+    }
+
+    @Override
+    public void write(int c) throws IOException {
+        encode((char) c);
+    }
+
+    @Override
+    public void write(char[] cbuf, int off, int len) throws IOException {
+        for (int i = off; i < off + len; i++) {
+            char ch = cbuf[i];
+            if (ch < 0x80 && this.highSurrogate == 0) {
+                if (this.index == BUFFER_SIZE) {
+                    flushBuffer();
+                }
+                this.buff[this.index++] = (byte) ch;
+            } else {
+                encode(ch);
+            }
+        }
+    }
+
+    @Override
+    public void write(String str, int off, int len) throws IOException {
+        for (int i = off; i < off + len; i++) {
+            char ch = str.charAt(i);
+            if (ch < 0x80 && this.highSurrogate == 0) {
+                if (this.index == BUFFER_SIZE) {
+                    flushBuffer();
+                }
+                this.buff[this.index++] = (byte) ch;
+            } else {
+                encode(ch);
+            }
+        }
+    }
+
+    private void encode(char ch) throws IOException {
+        if (this.index > BUFFER_SIZE - 4) {
+            flushBuffer();
+        }
+        if (this.highSurrogate != 0) {
+            char high = this.highSurrogate;
+            this.highSurrogate = 0;
+            if (Character.isLowSurrogate(ch)) {
+                int codePoint = Character.toCodePoint(high, ch);
+                this.buff[this.index++] = (byte) (0xF0 | (codePoint >> 18));
+                this.buff[this.index++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                this.buff[this.index++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                this.buff[this.index++] = (byte) (0x80 | (codePoint & 0x3F));
+                return;
+            }
+            this.buff[this.index++] = REPLACEMENT;
+            encode(ch);
+            return;
+        }
+        if (ch < 0x80) {
+            this.buff[this.index++] = (byte) ch;
+        } else if (ch < 0x800) {
+            this.buff[this.index++] = (byte) (0xC0 | (ch >> 6));
+            this.buff[this.index++] = (byte) (0x80 | (ch & 0x3F));
+        } else if (Character.isHighSurrogate(ch)) {
+            this.highSurrogate = ch;
+        } else if (Character.isLowSurrogate(ch)) {
+            this.buff[this.index++] = REPLACEMENT;
+        } else {
+            this.buff[this.index++] = (byte) (0xE0 | (ch >> 12));
+            this.buff[this.index++] = (byte) (0x80 | ((ch >> 6) & 0x3F));
+            this.buff[this.index++] = (byte) (0x80 | (ch & 0x3F));
+        }
+    }
+
+    private void flushBuffer() throws IOException {
+        if (this.index > 0) {
+            this.out.write(this.buff, 0, this.index);
+            this.index = 0;
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        flushBuffer();
+        this.out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (this.highSurrogate != 0) {
+            this.highSurrogate = 0;
+            encode((char) REPLACEMENT);
+        }
+        flush();
+        this.out.close();
+    }
+}
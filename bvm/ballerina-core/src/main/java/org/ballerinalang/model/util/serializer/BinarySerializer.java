@@ -0,0 +1,297 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ballerinalang.model.util.serializer;
+
+import org.ballerinalang.model.types.BArrayType;
+import org.ballerinalang.model.types.BTypes;
+import org.ballerinalang.model.types.TypeTags;
+import org.ballerinalang.model.values.BBoolean;
+import org.ballerinalang.model.values.BFloat;
+import org.ballerinalang.model.values.BInteger;
+import org.ballerinalang.model.values.BMap;
+import org.ballerinalang.model.values.BRefType;
+import org.ballerinalang.model.values.BRefValueArray;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.util.exceptions.BallerinaException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Serialize Java object graphs into a compact binary form and back.
+ * <p>
+ * The object graph is converted into the same {@link BValue} tree used by {@link JsonSerializer}, and the tree is
+ * written with a one byte tag per node, variable length numbers and a table of strings seen so far, so that repeated
+ * field names and type names are written only once. Deserialization reuses the {@link JsonDeserializer}.
+ * <p>
+ * Note that {@link BinarySerializer} is not thread safe and each thread needs to have it's own instance.
+ *
+ * @since 0.981.2
+ */
+public class BinarySerializer {
+    // Creating a JsonSerializer registers the BValue providers shared by both serializers
+    private static final BValueProvider bValueProvider = new JsonSerializer().getBValueProviderRegistry();
+
+    private static final byte NULL = 0;
+    private static final byte MAP = 1;
+    private static final byte ARRAY = 2;
+    private static final byte STRING = 3;
+    private static final byte STRING_REF = 4;
+    private static final byte INT = 5;
+    private static final byte FLOAT = 6;
+    private static final byte TRUE = 7;
+    private static final byte FALSE = 8;
+
+    public BValueProvider getBValueProviderRegistry() {
+        return bValueProvider;
+    }
+
+    /**
+     * Serialize the given object graph.
+     *
+     * @param object instance to be serialized
+     * @return serialized bytes, or null if the object is null
+     */
+    public byte[] serialize(Object object) {
+        if (object == null) {
+            return null;
+        }
+        try {
+            BRefType bValueTree = new BValueTree().toBValueTree(object);
+            TreeWriter writer = new TreeWriter();
+            writer.writeValue(bValueTree);
+            return writer.toByteArray();
+        } catch (BallerinaException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new BallerinaException("Exception in BinarySerializer: ", e);
+        }
+    }
+
+    /**
+     * Deserialize bytes created by {@link #serialize(Object)} into a Java object starting from {@code targetClass}.
+     *
+     * @param serialized  serialized bytes
+     * @param targetClass target type to start deserialization
+     * @param <T>         generic type of target type
+     * @return deserialized object
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T deserialize(byte[] serialized, Class<T> targetClass) {
+        BRefType<?> objTree = (BRefType<?>) new TreeReader(serialized).readValue();
+        JsonDeserializer deserializer = new JsonDeserializer(objTree);
+        return (T) deserializer.deserialize(targetClass);
+    }
+
+    /**
+     * Writes a {@link BValue} tree into a growable byte buffer.
+     */
+    private static class TreeWriter {
+
+        private byte[] buffer = new byte[1024];
+
+        private int position;
+
+        private final Map<String, Integer> strings = new HashMap<>();
+
+        @SuppressWarnings("unchecked")
+        void writeValue(BValue value) {
+            if (value == null) {
+                writeByte(NULL);
+                return;
+            }
+            switch (value.getType().getTag()) {
+                case TypeTags.MAP_TAG:
+                case TypeTags.JSON_TAG:
+                    BMap<String, BValue> map = (BMap<String, BValue>) value;
+                    writeByte(MAP);
+                    writeVarLong(map.size());
+                    for (String key : map.keys()) {
+                        writeString(key);
+                        writeValue(map.get(key));
+                    }
+                    return;
+                case TypeTags.ARRAY_TAG:
+                    BRefValueArray array = (BRefValueArray) value;
+                    writeByte(ARRAY);
+                    writeVarLong(array.size());
+                    for (int i = 0; i < array.size(); i++) {
+                        writeValue(array.get(i));
+                    }
+                    return;
+                case TypeTags.STRING_TAG:
+                    writeString(value.stringValue());
+                    return;
+                case TypeTags.INT_TAG:
+                    writeByte(INT);
+                    long longValue = ((BInteger) value).intValue();
+                    writeVarLong((longValue << 1) ^ (longValue >> 63));
+                    return;
+                case TypeTags.FLOAT_TAG:
+                    writeByte(FLOAT);
+                    long bits = Double.doubleToRawLongBits(((BFloat) value).floatValue());
+                    for (int i = 56; i >= 0; i -= 8) {
+                        writeByte((byte) (bits >>> i));
+                    }
+                    return;
+                case TypeTags.BOOLEAN_TAG:
+                    writeByte(((BBoolean) value).booleanValue() ? TRUE : FALSE);
+                    return;
+                default:
+                    throw new BallerinaException(String.format("Unknown BValue type to serialize: %s",
+                            value.getClass().getSimpleName()));
+            }
+        }
+
+        private void writeString(String str) {
+            Integer index = strings.get(str);
+            if (index != null) {
+                writeByte(STRING_REF);
+                writeVarLong(index);
+                return;
+            }
+            strings.put(str, strings.size());
+            byte[] bytes = str.getBytes(StandardCharsets.UTF_8);
+            writeByte(STRING);
+            writeVarLong(bytes.length);
+            ensureCapacity(bytes.length);
+            System.arraycopy(bytes, 0, buffer, position, bytes.length);
+            position += bytes.length;
+        }
+
+        private void writeVarLong(long value) {
+            ensureCapacity(10);
+            while ((value & ~0x7FL) != 0) {
+                buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[position++] = (byte) value;
+        }
+
+        private void writeByte(byte value) {
+            ensureCapacity(1);
+            buffer[position++] = value;
+        }
+
+        private void ensureCapacity(int length) {
+            if (position + length > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + length));
+            }
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buffer, position);
+        }
+    }
+
+    /**
+     * Reads a {@link BValue} tree written by {@link TreeWriter}.
+     */
+    private static class TreeReader {
+
+        private final byte[] buffer;
+
+        private int position;
+
+        private final List<String> strings = new ArrayList<>();
+
+        TreeReader(byte[] buffer) {
+            this.buffer = buffer;
+        }
+
+        BValue readValue() {
+            byte tag = readByte();
+            switch (tag) {
+                case NULL:
+                    return null;
+                case MAP:
+                    int size = (int) readVarLong();
+                    BMap<String, BValue> map = new BMap<>();
+                    for (int i = 0; i < size; i++) {
+                        String key = readString(readByte());
+                        map.put(key, readValue());
+                    }
+                    return map;
+                case ARRAY:
+                    int length = (int) readVarLong();
+                    BRefType[] values = new BRefType[length];
+                    for (int i = 0; i < length; i++) {
+                        values[i] = (BRefType) readValue();
+                    }
+                    return new BRefValueArray(values, new BArrayType(BTypes.typeAny));
+                case STRING:
+                case STRING_REF:
+                    return BTreeHelper.createBString(readString(tag));
+                case INT:
+                    long zigZag = readVarLong();
+                    return new BInteger((zigZag >>> 1) ^ -(zigZag & 1));
+                case FLOAT:
+                    long bits = 0;
+                    for (int i = 0; i < 8; i++) {
+                        bits = (bits << 8) | (readByte() & 0xFF);
+                    }
+                    return new BFloat(Double.longBitsToDouble(bits));
+                case TRUE:
+                    return BBoolean.valueOf(true);
+                case FALSE:
+                    return BBoolean.valueOf(false);
+                default:
+                    throw new BallerinaException("Invalid tag in serialized bytes: " + tag);
+            }
+        }
+
+        private String readString(byte tag) {
+            if (tag == STRING_REF) {
+                return strings.get((int) readVarLong());
+            }
+            if (tag != STRING) {
+                throw new BallerinaException("Invalid tag in serialized bytes, expected a string: " + tag);
+            }
+            int length = (int) readVarLong();
+            if (position + length > buffer.length) {
+                throw new BallerinaException("Unexpected end of serialized bytes");
+            }
+            String str = new String(buffer, position, length, StandardCharsets.UTF_8);
+            position += length;
+            strings.add(str);
+            return str;
+        }
+
+        private long readVarLong() {
+            long value = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = readByte();
+                value |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            return value;
+        }
+
+        private byte readByte() {
+            if (position >= buffer.length) {
+                throw new BallerinaException("Unexpected end of serialized bytes");
+            }
+            return buffer[position++];
+        }
+    }
+}
@@ -45,7 +45,7 @@ public class BMapBValueProvider implements SerializationBValueProvider<BMap> {
 
     @Override
     public BPacket toBValue(BMap bMap, BValueSerializer serializer) {
-        LinkedHashMap implMap = bMap.getMap();
+        LinkedHashMap implMap = bMap.getMapForRead();
         BValue serialized = serializer.toBValue(implMap, implMap.getClass());
         return BPacket.from(typeName(), serialized);
     }
@@ -56,7 +56,7 @@ public class BMapBValueProvider implements SerializationBValueProvider<BMap> {
         BMap payload = (BMap<String, BValue>) packet.getValue();
         HashMap deserializedMap = (HashMap) bValueDeserializer.deserialize(payload, HashMap.class);
         BMap bMap = new BMap();
-        bMap.getMap().putAll(deserializedMap);
+        deserializedMap.forEach((key, value) -> bMap.put(key, (BValue) value));
         return bMap;
     }
 }
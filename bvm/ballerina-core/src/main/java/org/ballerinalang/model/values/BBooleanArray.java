@@ -88,6 +88,6 @@ public class BBooleanArray extends BNewArray {
 
     @Override
     public BValue getBValue(long index) {
-        return new BBoolean(get(index) == 1);
+        return BBoolean.valueOf(get(index) == 1);
     }
 }
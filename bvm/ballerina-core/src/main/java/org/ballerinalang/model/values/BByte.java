@@ -28,12 +28,30 @@ import org.ballerinalang.model.types.BTypes;
  */
 public final class BByte extends BValueType implements BRefType<Byte> {
 
-    private byte value;
+    private static final BByte[] CACHE = new BByte[256];
+
+    static {
+        for (int i = 0; i < CACHE.length; i++) {
+            CACHE[i] = new BByte((byte) i);
+        }
+    }
+
+    private final byte value;
 
     public BByte(byte value) {
         this.value = value;
     }
 
+    /**
+     * Returns the cached {@code BByte} representing the given value.
+     *
+     * @param value the byte value
+     * @return the {@code BByte} representing the given value
+     */
+    public static BByte valueOf(byte value) {
+        return CACHE[Byte.toUnsignedInt(value)];
+    }
+
     @Override
     public byte byteValue() {
         return this.value;
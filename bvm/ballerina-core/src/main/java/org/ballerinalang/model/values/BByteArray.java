@@ -98,7 +98,7 @@ public class BByteArray extends BNewArray {
 
     @Override
     public BValue getBValue(long index) {
-        return new BByte(get(index));
+        return BByte.valueOf(get(index));
     }
 
     @Override
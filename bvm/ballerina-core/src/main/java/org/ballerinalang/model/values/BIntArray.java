@@ -88,6 +88,6 @@ public class BIntArray extends BNewArray {
 
     @Override
     public BValue getBValue(long index) {
-        return new BInteger(get(index));
+        return BInteger.valueOf(get(index));
     }
 }
@@ -47,10 +47,13 @@ public class BIntRange implements BRefType, BCollection {
 
     /**
      * {@code {@link BIntRangeIterator}} implements iterator for Ballerina int range.
+     * <p>
+     * Apart from {@link #getNext(int)}, the BVM can iterate the range using {@link #nextIndex()} and
+     * {@link #valueAt(long)}, without boxing the values.
      *
      * @since 0.96.0
      */
-    static class BIntRangeIterator implements BIterator {
+    public static class BIntRangeIterator implements BIterator {
 
         private BIntRange collection;
         long cursor = 0, currentValue;
@@ -65,9 +68,23 @@ public class BIntRange implements BRefType, BCollection {
             long cursor = this.cursor++;
             long currentValue = this.currentValue++;
             if (arity == 1) {
-                return new BValue[]{new BInteger(currentValue)};
+                return new BValue[]{BInteger.valueOf(currentValue)};
             }
-            return new BValue[]{new BInteger(cursor), new BInteger(currentValue)};
+            return new BValue[]{BInteger.valueOf(cursor), BInteger.valueOf(currentValue)};
+        }
+
+        /**
+         * Moves the iterator to the next value of the range.
+         *
+         * @return index of the next value, which can be resolved using {@link #valueAt(long)}
+         */
+        public long nextIndex() {
+            this.currentValue++;
+            return this.cursor++;
+        }
+
+        public long valueAt(long index) {
+            return collection.startValue + index;
         }
 
         @Override
@@ -27,12 +27,38 @@ import org.ballerinalang.model.types.BTypes;
  */
 public final class BInteger extends BValueType implements BRefType<Long> {
 
-    private long value;
+    private static final int CACHE_LOW = -128;
+
+    private static final int CACHE_HIGH = 1023;
+
+    private static final BInteger[] CACHE = new BInteger[CACHE_HIGH - CACHE_LOW + 1];
+
+    static {
+        for (int i = 0; i < CACHE.length; i++) {
+            CACHE[i] = new BInteger(i + CACHE_LOW);
+        }
+    }
+
+    private final long value;
 
     public BInteger(long value) {
         this.value = value;
     }
 
+    /**
+     * Returns a {@code BInteger} representing the given value. Values in the range -128 to 1023 are cached, hence
+     * boxing a common integer value does not allocate a new object.
+     *
+     * @param value the integer value
+     * @return a {@code BInteger} representing the given value
+     */
+    public static BInteger valueOf(long value) {
+        if (value >= CACHE_LOW && value <= CACHE_HIGH) {
+            return CACHE[(int) value - CACHE_LOW];
+        }
+        return new BInteger(value);
+    }
+
     @Override
     public long intValue() {
         return this.value;
@@ -43,6 +43,7 @@ import java.util.StringJoiner;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiConsumer;
 
 /**
  * {@code MapType} represents a map.
@@ -59,6 +60,10 @@ public class BMap<K, V extends BValue> implements BRefType, BCollection, Seriali
     private final Lock writeLock = lock.writeLock();
     private BType type = BTypes.typeMap;
     private HashMap<String, Object> nativeData = new HashMap<>();
+    // incremented on every modification, guarded by the write lock
+    private int version;
+    private volatile Snapshot snapshot;
+    private volatile boolean mapExposed;
 
     public BMap() {
         map =  new LinkedHashMap<>();
@@ -132,6 +137,7 @@ public class BMap<K, V extends BValue> implements BRefType, BCollection, Seriali
         writeLock.lock();
         try {
             map.put(key, value);
+            version++;
         } finally {
             writeLock.unlock();
         }
@@ -144,6 +150,7 @@ public class BMap<K, V extends BValue> implements BRefType, BCollection, Seriali
         writeLock.lock();
         try {
             map.clear();
+            version++;
         } finally {
             writeLock.unlock();
         }
@@ -166,12 +173,43 @@ public class BMap<K, V extends BValue> implements BRefType, BCollection, Seriali
 
     /**
      * Retrieve the internal map.
+     * <p>
+     * Modifications done directly on the returned map are not tracked, hence iteration snapshots are not reused
+     * for this map afterwards.
+     *
      * @return map
      */
     public LinkedHashMap<K, V> getMap() {
+        mapExposed = true;
+        return map;
+    }
+
+    /**
+     * Retrieve the internal map for reading only.
+     * <p>
+     * Unlike {@link #getMap()}, iteration snapshots of this map keep being reused, hence the returned map must not be
+     * modified.
+     *
+     * @return map
+     */
+    public LinkedHashMap<K, V> getMapForRead() {
         return map;
     }
 
+    /**
+     * Performs the given action for each entry of the map, in insertion order.
+     *
+     * @param action the action to be performed for each entry
+     */
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        readLock.lock();
+        try {
+            map.forEach(action);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
     /**
      * Get the size of the map.
      * @return returns the size of the map
@@ -197,6 +235,7 @@ public class BMap<K, V extends BValue> implements BRefType, BCollection, Seriali
             boolean hasKey = map.containsKey(key);
             if (hasKey) {
                 map.remove(key);
+                version++;
             }
             return hasKey;
         } finally {
@@ -347,6 +386,36 @@ public class BMap<K, V extends BValue> implements BRefType, BCollection, Seriali
         return new BMapIterator<>(this);
     }
 
+    /**
+     * Returns a snapshot of the current entries of the map. The same snapshot is shared by all the iterators
+     * created until the map is modified, so iterating a map which is not being modified does not copy it.
+     *
+     * @return snapshot of the map entries
+     */
+    Snapshot getSnapshot() {
+        readLock.lock();
+        try {
+            Snapshot current = snapshot;
+            if (current != null && current.version == version && !mapExposed) {
+                return current;
+            }
+            Object[] keys = new Object[map.size()];
+            BValue[] values = new BValue[keys.length];
+            int i = 0;
+            for (Map.Entry<K, V> entry : map.entrySet()) {
+                keys[i] = entry.getKey();
+                values[i] = entry.getValue();
+                i++;
+            }
+            current = new Snapshot(version, keys, values);
+            // concurrent readers may replace each other's snapshot, but both hold the same entries
+            snapshot = current;
+            return current;
+        } finally {
+            readLock.unlock();
+        }
+    }
+
     @Override
     public SerializableRefType serialize(SerializableState state) {
         return new SerializableBMap<>(this, state);
@@ -360,25 +429,44 @@ public class BMap<K, V extends BValue> implements BRefType, BCollection, Seriali
     static class BMapIterator<K, V extends BValue> implements BIterator {
 
         BMap<K, V> collection;
-        Iterator<Map.Entry<K, V>> iterator;
+        Snapshot snapshot;
+        int cursor;
 
         BMapIterator(BMap<K, V> value) {
             collection = value;
-            iterator = new LinkedHashMap<>(value.map).entrySet().iterator();
+            snapshot = value.getSnapshot();
         }
 
         @Override
         public BValue[] getNext(int arity) {
-            Map.Entry<K, V> next = iterator.next();
+            int i = cursor++;
             if (arity == 1) {
-                return new BValue[] {next.getValue()};
+                return new BValue[] {snapshot.values[i]};
             }
-            return new BValue[] {new BString((String) next.getKey()), next.getValue()};
+            return new BValue[] {new BString((String) snapshot.keys[i]), snapshot.values[i]};
         }
 
         @Override
         public boolean hasNext() {
-            return iterator.hasNext();
+            return cursor < snapshot.keys.length;
+        }
+    }
+
+    /**
+     * {@code Snapshot} is an immutable copy of the entries of a map at a given version.
+     *
+     * @since 0.981.2
+     */
+    static class Snapshot {
+
+        final int version;
+        final Object[] keys;
+        final BValue[] values;
+
+        Snapshot(int version, Object[] keys, BValue[] values) {
+            this.version = version;
+            this.keys = keys;
+            this.values = values;
         }
     }
 
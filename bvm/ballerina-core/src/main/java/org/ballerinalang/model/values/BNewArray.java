@@ -126,10 +126,13 @@ public abstract class BNewArray implements BRefType, BCollection {
 
     /**
      * {@code {@link BArrayIterator}} provides iterator implementation for Ballerina array values.
+     * <p>
+     * Apart from {@link #getNext(int)}, the BVM can iterate primitive arrays using {@link #nextIndex()} and read
+     * the element directly from the array, without boxing it.
      *
      * @since 0.96.0
      */
-    static class BArrayIterator implements BIterator {
+    public static class BArrayIterator implements BIterator {
         BNewArray array;
         long cursor = 0;
         long length;
@@ -145,7 +148,20 @@ public abstract class BNewArray implements BRefType, BCollection {
             if (arity == 1) {
                 return new BValue[] {array.getBValue(cursor)};
             }
-            return new BValue[] {new BInteger(cursor), array.getBValue(cursor)};
+            return new BValue[] {BInteger.valueOf(cursor), array.getBValue(cursor)};
+        }
+
+        /**
+         * Moves the iterator to the next element.
+         *
+         * @return index of the next element
+         */
+        public long nextIndex() {
+            return this.cursor++;
+        }
+
+        public BNewArray getArray() {
+            return array;
         }
 
         @Override
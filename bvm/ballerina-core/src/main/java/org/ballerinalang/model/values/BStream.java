@@ -22,8 +22,10 @@ import io.ballerina.messaging.broker.core.BrokerException;
 import io.ballerina.messaging.broker.core.Consumer;
 import io.ballerina.messaging.broker.core.Message;
 import org.ballerinalang.bre.bvm.CPU;
+import org.ballerinalang.bre.bvm.StreamDispatcher;
 import org.ballerinalang.broker.BallerinaBroker;
 import org.ballerinalang.broker.BallerinaBrokerByteBuf;
+import org.ballerinalang.config.ConfigRegistry;
 import org.ballerinalang.model.types.BField;
 import org.ballerinalang.model.types.BIndexedType;
 import org.ballerinalang.model.types.BStreamType;
@@ -31,9 +33,12 @@ import org.ballerinalang.model.types.BStructureType;
 import org.ballerinalang.model.types.BType;
 import org.ballerinalang.model.types.BTypes;
 import org.ballerinalang.model.types.TypeTags;
+import org.ballerinalang.siddhi.core.event.Event;
 import org.ballerinalang.siddhi.core.stream.input.InputHandler;
 import org.ballerinalang.util.exceptions.BallerinaException;
 import org.ballerinalang.util.program.BLangFunctions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -41,19 +46,31 @@ import java.util.UUID;
 
 /**
  * The {@code BStream} represents a stream in Ballerina.
+ * <p>
+ * Events are delivered to the subscribers within the process by a {@link StreamDispatcher}, unless
+ * {@code b7a.streams.delivery} is set to {@code broker}, in which case they are routed through the internal message
+ * broker.
  *
  * @since 0.965.0
  */
 public class BStream implements BRefType<Object> {
 
+    private static final Logger log = LoggerFactory.getLogger(BStream.class);
+
     private static final String TOPIC_NAME_PREFIX = "TOPIC_NAME_";
 
+    private static final String DELIVERY_CONFIG = "b7a.streams.delivery";
+
+    private static final String BROKER_DELIVERY = "broker";
+
     private BType constraintType;
 
     private String streamId = "";
 
     private BallerinaBroker brokerInstance;
 
+    private StreamDispatcher dispatcher;
+
     /**
      * The name of the underlying broker topic representing the stream object.
      */
@@ -63,12 +80,17 @@ public class BStream implements BRefType<Object> {
         if (((BStreamType) type).getConstrainedType() == null) {
             throw new BallerinaException("a stream cannot be declared without a constraint");
         }
+        this.constraintType = ((BStreamType) type).getConstrainedType();
+        this.streamId = name;
+        if (!BROKER_DELIVERY.equalsIgnoreCase(ConfigRegistry.getInstance().getAsString(DELIVERY_CONFIG))) {
+            this.dispatcher = new StreamDispatcher(name);
+            return;
+        }
         try {
             this.brokerInstance = BallerinaBroker.getBrokerInstance();
         } catch (Exception e) {
             throw new BallerinaException("Error starting up internal broker for streams");
         }
-        this.constraintType = ((BStreamType) type).getConstrainedType();
         if (constraintType instanceof BIndexedType) {
             this.topicName = TOPIC_NAME_PREFIX + ((BIndexedType) constraintType).getElementType() + "_" + name;
         } else if (constraintType != null) {
@@ -77,7 +99,6 @@ public class BStream implements BRefType<Object> {
             this.topicName = TOPIC_NAME_PREFIX + name; //TODO: check for improvement
         }
         topicName = topicName.concat("_").concat(UUID.randomUUID().toString());
-        this.streamId = name;
     }
 
     public String getStreamId() {
@@ -109,21 +130,33 @@ public class BStream implements BRefType<Object> {
     }
 
     /**
-     * Method to publish to a topic representing the stream in the broker.
+     * Method to publish an event to the subscribers of the stream.
      *
      * @param data the data to publish to the stream
      */
     public void publish(BValue data) {
         BType dataType = data.getType();
+        if (data instanceof EventBatch) {
+            // A batch of events, as handed over by a streaming query, is published event by event
+            EventBatch events = (EventBatch) data;
+            for (int i = 0; i < events.size(); i++) {
+                publish(events.get(i));
+            }
+            return;
+        }
         if (!CPU.checkCast(data, constraintType)) {
             throw new BallerinaException("incompatible types: value of type:" + dataType
                     + " cannot be added to a stream of type:" + this.constraintType);
         }
+        if (dispatcher != null) {
+            dispatcher.publish(data);
+            return;
+        }
         brokerInstance.publish(topicName, new BallerinaBrokerByteBuf(data));
     }
 
     /**
-     * Method to register a subscription to the underlying topic representing the stream in the broker.
+     * Method to register a subscription to the stream.
      *
      * @param functionPointer represents the function pointer reference for the function to be invoked on receiving
      *                        messages
@@ -135,6 +168,10 @@ public class BStream implements BRefType<Object> {
             throw new BallerinaException("incompatible function: subscription function needs to be a function"
                                                  + " accepting:" + this.constraintType);
         }
+        if (dispatcher != null) {
+            dispatcher.subscribe(new StreamSubscriber(null, functionPointer));
+            return;
+        }
         String queueName = String.valueOf(System.currentTimeMillis()) + UUID.randomUUID().toString();
         brokerInstance.addSubscription(topicName, new StreamSubscriber(queueName, functionPointer));
     }
@@ -144,11 +181,15 @@ public class BStream implements BRefType<Object> {
                 && constraintType.getTag() != TypeTags.RECORD_TYPE_TAG) {
             throw new BallerinaException("Streaming Support is only available with streams accepting objects");
         }
+        if (dispatcher != null) {
+            dispatcher.subscribe(new InternalStreamSubscriber(streamId, null, inputHandler));
+            return;
+        }
         String queueName = String.valueOf(UUID.randomUUID());
         brokerInstance.addSubscription(topicName, new InternalStreamSubscriber(topicName, queueName, inputHandler));
     }
 
-    private class StreamSubscriber extends Consumer {
+    private class StreamSubscriber extends Consumer implements StreamDispatcher.Subscriber {
         final String queueName;
         final BFunctionPointer functionPointer;
         List<BValue> closureArgs = new ArrayList<>();
@@ -163,14 +204,28 @@ public class BStream implements BRefType<Object> {
 
         @Override
         protected void send(Message message) {
+            BValue data =
+                    ((BallerinaBrokerByteBuf) (message.getContentChunks().get(0).getByteBuf()).unwrap()).getValue();
+            invoke(data);
+        }
+
+        @Override
+        public void deliver(List<StreamDispatcher.PublishedEvent> events) {
+            for (StreamDispatcher.PublishedEvent event : events) {
+                // A failure of the subscriber for one event should not drop the rest of the batch
+                try {
+                    invoke(event.getData());
+                } catch (RuntimeException e) {
+                    log.error("Error delivering event of stream " + streamId + " to subscriber: ", e);
+                }
+            }
+        }
+
+        private void invoke(BValue data) {
             try {
-                BValue data =
-                        ((BallerinaBrokerByteBuf) (message.getContentChunks().get(0).getByteBuf()).unwrap()).getValue();
-                List<BValue> argsList = new ArrayList<>();
-                argsList.addAll(closureArgs);
-                argsList.add(data);
-                BLangFunctions.invokeCallable(functionPointer.value(),
-                                              argsList.toArray(new BValue[argsList.size()]));
+                BValue[] args = closureArgs.toArray(new BValue[closureArgs.size() + 1]);
+                args[closureArgs.size()] = data;
+                BLangFunctions.invokeCallable(functionPointer.value(), args);
             } catch (Exception e) {
                 throw new BallerinaException("Error delivering event to subscriber: ", e);
             }
@@ -198,7 +253,7 @@ public class BStream implements BRefType<Object> {
     }
 
     //Class which handles the subscription internally
-    private class InternalStreamSubscriber extends Consumer {
+    private class InternalStreamSubscriber extends Consumer implements StreamDispatcher.Subscriber {
         private final String topic;
         private final String queueName;
         private final InputHandler inputHandler;
@@ -222,6 +277,29 @@ public class BStream implements BRefType<Object> {
             }
         }
 
+        @Override
+        public void deliver(List<StreamDispatcher.PublishedEvent> events) {
+            List<Event> siddhiEvents = new ArrayList<>(events.size());
+            for (StreamDispatcher.PublishedEvent event : events) {
+                // An event which cannot be converted is skipped, rather than dropping the rest of the batch
+                try {
+                    siddhiEvents.add(new Event(event.getTimestamp(), createEvent((BMap) event.getData())));
+                } catch (RuntimeException e) {
+                    log.error("Error converting event of stream " + topic + ": ", e);
+                }
+            }
+            if (siddhiEvents.isEmpty()) {
+                return;
+            }
+            try {
+                inputHandler.send(siddhiEvents.toArray(new Event[siddhiEvents.size()]));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new BallerinaException("Error while sending events to stream: " + topic + ": " + e.getMessage()
+                        , e);
+            }
+        }
+
         private Object[] createEvent(BMap<String, BValue> data) {
             BStructureType streamType = (BStructureType) data.getType();
             Object[] event = new Object[streamType.getFields().length];
@@ -268,4 +346,15 @@ public class BStream implements BRefType<Object> {
             return true;
         }
     }
+
+    /**
+     * A batch of events handed over by a streaming query to the function of its stream action. Only such a batch is
+     * published to a stream event by event, other arrays are published as they are.
+     */
+    public static class EventBatch extends BRefValueArray {
+
+        public EventBatch(BRefType<?>[] values, BType type) {
+            super(values, type);
+        }
+    }
 }
@@ -155,7 +155,7 @@ public class BStreamingJSON extends BRefValueArray {
                 if (arity == 1) {
                     values = new BValue[] { array.getBValue(cursor) };
                 } else {
-                    values = new BValue[] { new BInteger(cursor), array.getBValue(cursor) };
+                    values = new BValue[] { BInteger.valueOf(cursor), array.getBValue(cursor) };
                 }
             } else {
                 // Otherwise read the next value from data-source and cache it in memory
@@ -254,7 +254,7 @@ public class BTable implements BRefType<Object>, BCollection {
                     tableProvider.deleteData(tableName, data);
                 }
             }
-            context.setReturnValues(new BInteger(deletedCount));
+            context.setReturnValues(BInteger.valueOf(deletedCount));
             reset(false);
         } catch (Throwable e) {
             context.setReturnValues(TableUtils.createTableOperationError(context, e));
@@ -356,7 +356,7 @@ public class BTable implements BRefType<Object>, BCollection {
                 return new BValue[] {table.getNext()};
             }
             int cursor = this.cursor++;
-            return new BValue[] {new BInteger(cursor), table.getNext()};
+            return new BValue[] {BInteger.valueOf(cursor), table.getNext()};
         }
 
         @Override
@@ -136,7 +136,7 @@ public final class BXMLItem extends BXML<OMNode> {
      */
     @Override
     public BBoolean isEmpty() {
-        return new BBoolean(omNode == null);
+        return BBoolean.valueOf(omNode == null);
     }
     
     /**
@@ -144,7 +144,7 @@ public final class BXMLItem extends BXML<OMNode> {
      */
     @Override
     public BBoolean isSingleton() {
-        return new BBoolean(true);
+        return BBoolean.TRUE;
     }
     
     /**
@@ -813,7 +813,7 @@ public final class BXMLItem extends BXML<OMNode> {
             if (arity == 1) {
                 return cursor++ == 0 ? new BValue[] {value} : null;
             }
-            return cursor++ == 0 ? new BValue[] {new BInteger(0), value} : null;
+            return cursor++ == 0 ? new BValue[] {BInteger.valueOf(0), value} : null;
         }
 
         @Override
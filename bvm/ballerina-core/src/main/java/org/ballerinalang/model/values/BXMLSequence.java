@@ -70,7 +70,7 @@ public final class BXMLSequence extends BXML<BRefValueArray> {
      */
     @Override
     public BBoolean isEmpty() {
-        return new BBoolean(sequence.size() == 0);
+        return BBoolean.valueOf(sequence.size() == 0);
     }
     
     /**
@@ -78,7 +78,7 @@ public final class BXMLSequence extends BXML<BRefValueArray> {
      */
     @Override
     public BBoolean isSingleton() {
-        return new BBoolean(sequence.size() == 1);
+        return BBoolean.valueOf(sequence.size() == 1);
     }
 
     /**
@@ -454,7 +454,7 @@ public final class BXMLSequence extends BXML<BRefValueArray> {
                 return new BValue[] {value.sequence.get(cursor++)};
             }
             int cursor = this.cursor++;
-            return new BValue[] {new BInteger(cursor), value.sequence.get(cursor)};
+            return new BValue[] {BInteger.valueOf(cursor), value.sequence.get(cursor)};
         }
 
         @Override
@@ -20,14 +20,11 @@ package org.ballerinalang.persistence;
 import org.ballerinalang.bre.bvm.BLangScheduler;
 import org.ballerinalang.bre.bvm.WorkerExecutionContext;
 import org.ballerinalang.persistence.states.RuntimeStates;
-import org.ballerinalang.persistence.states.State;
 import org.ballerinalang.persistence.store.PersistenceStore;
 import org.ballerinalang.util.codegen.ProgramFile;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.List;
-
 /**
  * This is used to recover persisted states during startup.
  *
@@ -45,12 +42,8 @@ public class RecoveryTask implements Runnable {
 
     @Override
     public void run() {
-        List<State> states = PersistenceStore.getStates(programFile);
-        if (states.isEmpty()) {
-            return;
-        }
         logger.debug("RecoveryTask: Starting saved states.");
-        states.forEach(state -> {
+        PersistenceStore.recoverStates(programFile, state -> {
             WorkerExecutionContext context = state.getContext();
             // As we don't have any running context at this point, none of the contexts can run in caller.
             // Even though sync functions run in caller under normal conditions, we have to override
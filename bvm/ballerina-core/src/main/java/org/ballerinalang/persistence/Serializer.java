@@ -17,6 +17,7 @@
 package org.ballerinalang.persistence;
 
 import org.ballerinalang.model.util.serializer.BValueProvider;
+import org.ballerinalang.model.util.serializer.BinarySerializer;
 import org.ballerinalang.model.util.serializer.InstanceProviderRegistry;
 import org.ballerinalang.model.util.serializer.JsonSerializer;
 import org.ballerinalang.model.values.BBoolean;
@@ -47,6 +48,7 @@ public class Serializer {
 
     private static final List<String> serializableClasses = new ArrayList<>();
     private static final JsonSerializer JSON_SERIALIZER = new JsonSerializer();
+    private static final BinarySerializer BINARY_SERIALIZER = new BinarySerializer();
     private static final BValueProvider BVALUE_PROVIDER_REGISTRY = JSON_SERIALIZER.getBValueProviderRegistry();
     private static final InstanceProviderRegistry INSTANCE_PROVIDER_REGISTRY =
             JSON_SERIALIZER.getInstanceProviderRegistry();
@@ -88,4 +90,8 @@ public class Serializer {
     public static JsonSerializer getJsonSerializer() {
         return JSON_SERIALIZER;
     }
+
+    public static BinarySerializer getBinarySerializer() {
+        return BINARY_SERIALIZER;
+    }
 }
@@ -19,6 +19,7 @@ package org.ballerinalang.persistence.serializable;
 
 import org.ballerinalang.bre.bvm.CallableWorkerResponseContext;
 import org.ballerinalang.bre.bvm.WorkerExecutionContext;
+import org.ballerinalang.model.util.serializer.BinarySerializer;
 import org.ballerinalang.model.util.serializer.JsonSerializer;
 import org.ballerinalang.model.values.BRefType;
 import org.ballerinalang.persistence.Deserializer;
@@ -27,6 +28,7 @@ import org.ballerinalang.persistence.serializable.reftypes.Serializable;
 import org.ballerinalang.persistence.serializable.reftypes.SerializableRefType;
 import org.ballerinalang.util.codegen.CallableUnitInfo;
 import org.ballerinalang.util.codegen.ProgramFile;
+import org.ballerinalang.util.exceptions.BallerinaException;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -40,6 +42,14 @@ import java.util.Map;
  */
 public class SerializableState {
 
+    private static final String STATE_ENTRY = "state";
+
+    private static final String CONTEXT_ENTRY_PREFIX = "ctx:";
+
+    private static final String RESP_CONTEXT_ENTRY_PREFIX = "resp:";
+
+    private static final String REF_TYPE_ENTRY_PREFIX = "ref:";
+
     private String id;
 
     private String currentContextKey;
@@ -79,6 +89,63 @@ public class SerializableState {
         return Serializer.getJsonSerializer().serialize(this);
     }
 
+    /**
+     * Serializes this state into separately encoded entries: one for each context, response context and reference
+     * type, and one for the remaining fields of the state. This lets a checkpoint write only the entries which
+     * changed since the previous checkpoint. Object references are shared only within an entry.
+     *
+     * @return serialized entries by entry key
+     */
+    public Map<String, byte[]> serializeEntries() {
+        BinarySerializer serializer = Serializer.getBinarySerializer();
+        Map<String, byte[]> entries = new HashMap<>();
+        SerializableState stateEntry = new SerializableState(null, 0);
+        stateEntry.id = id;
+        stateEntry.currentContextKey = currentContextKey;
+        stateEntry.globalProps = globalProps;
+        entries.put(STATE_ENTRY, serializer.serialize(new SerializedEntry(stateEntry)));
+        sContexts.forEach((key, value) -> entries.put(CONTEXT_ENTRY_PREFIX + key,
+                serializer.serialize(new SerializedEntry(value))));
+        sRespContexts.forEach((key, value) -> entries.put(RESP_CONTEXT_ENTRY_PREFIX + key,
+                serializer.serialize(new SerializedEntry(value))));
+        sRefTypes.forEach((key, value) -> entries.put(REF_TYPE_ENTRY_PREFIX + key,
+                serializer.serialize(new SerializedEntry(value))));
+        return entries;
+    }
+
+    /**
+     * Reconstructs a state from the entries created by {@link #serializeEntries()}.
+     *
+     * @param entries serialized entries by entry key
+     * @return the reconstructed state
+     */
+    public static SerializableState deserializeEntries(Map<String, byte[]> entries) {
+        BinarySerializer serializer = Serializer.getBinarySerializer();
+        byte[] stateEntry = entries.get(STATE_ENTRY);
+        if (stateEntry == null) {
+            throw new BallerinaException("Incomplete state checkpoint, state entry is missing");
+        }
+        SerializableState state = (SerializableState) serializer.deserialize(stateEntry, SerializedEntry.class).value;
+        for (Map.Entry<String, byte[]> entry : entries.entrySet()) {
+            String key = entry.getKey();
+            if (key.equals(STATE_ENTRY)) {
+                continue;
+            }
+            Object value = serializer.deserialize(entry.getValue(), SerializedEntry.class).value;
+            if (key.startsWith(CONTEXT_ENTRY_PREFIX)) {
+                state.sContexts.put(key.substring(CONTEXT_ENTRY_PREFIX.length()), (SerializableContext) value);
+            } else if (key.startsWith(RESP_CONTEXT_ENTRY_PREFIX)) {
+                state.sRespContexts.put(key.substring(RESP_CONTEXT_ENTRY_PREFIX.length()),
+                        (SerializableRespContext) value);
+            } else if (key.startsWith(REF_TYPE_ENTRY_PREFIX)) {
+                state.sRefTypes.put(key.substring(REF_TYPE_ENTRY_PREFIX.length()), (SerializableRefType) value);
+            } else {
+                throw new BallerinaException("Unknown state checkpoint entry: " + key);
+            }
+        }
+        return state;
+    }
+
     public WorkerExecutionContext getExecutionContext(ProgramFile programFile, Deserializer deserializer) {
         SerializableContext serializableContext = sContexts.get(currentContextKey);
         return serializableContext.getWorkerExecutionContext(programFile, this, deserializer);
@@ -193,4 +260,16 @@ public class SerializableState {
         }
         return null;
     }
+
+    /**
+     * Holds an entry of the state, so that the type of the entry is kept with the serialized entry.
+     */
+    private static class SerializedEntry {
+
+        private Object value;
+
+        SerializedEntry(Object value) {
+            this.value = value;
+        }
+    }
 }
@@ -49,7 +49,7 @@ public class SerializableBMap<K, V extends BValue> implements SerializableRefTyp
         structName = bMap.getType().getName();
         pkgPath = bMap.getType().getPackagePath();
         bMap.getNativeData().forEach((k, o) -> nativeData.put(k, state.serialize(o)));
-        bMap.getMap().forEach((k, v) -> map.put(k, state.serialize(v)));
+        bMap.getMapForRead().forEach((k, v) -> map.put(k, state.serialize(v)));
     }
 
     @Override
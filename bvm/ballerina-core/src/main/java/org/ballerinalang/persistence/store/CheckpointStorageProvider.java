@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * you may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.persistence.store;
+
+import org.ballerinalang.persistence.states.State;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Representation of a storage provider which persists @{@link State}s as binary checkpoints. A full checkpoint holds
+ * the complete state, and the delta checkpoints that follow it hold only the parts of the state which changed.
+ * <p>
+ * Unlike a {@link StorageProvider}, a checkpoint storage provider does not store states as serialized strings.
+ *
+ * @since 0.981.2
+ */
+public interface CheckpointStorageProvider extends Closeable {
+
+    /**
+     * Persists a checkpoint of the given state.
+     *
+     * @param stateId    id of the state
+     * @param checkpoint encoded checkpoint
+     * @param full       whether the checkpoint holds the complete state, which replaces the earlier checkpoints
+     * @throws IOException if the checkpoint could not be persisted, in which case the next checkpoint of the state
+     *                     has to be a full checkpoint
+     */
+    void persistCheckpoint(String stateId, byte[] checkpoint, boolean full) throws IOException;
+
+    /**
+     * Removes the checkpoints of the given state, as the state is no longer active.
+     *
+     * @param stateId id of the state
+     */
+    void removeActiveState(String stateId);
+
+    /**
+     * Returns the checkpoints of the active states, starting from the last full checkpoint of each state. The
+     * checkpoints of a state are read only when the iterator reaches that state.
+     *
+     * @return iterator over the checkpoints of each active state
+     */
+    Iterator<List<byte[]>> getActiveCheckpoints();
+
+    /**
+     * Releases the resources held by the storage provider.
+     */
+    @Override
+    void close();
+}
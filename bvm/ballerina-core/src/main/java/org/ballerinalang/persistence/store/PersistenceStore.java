@@ -19,18 +19,28 @@
 package org.ballerinalang.persistence.store;
 
 import org.ballerinalang.bre.bvm.WorkerExecutionContext;
+import org.ballerinalang.config.ConfigRegistry;
 import org.ballerinalang.persistence.Deserializer;
 import org.ballerinalang.persistence.serializable.SerializableState;
 import org.ballerinalang.persistence.states.State;
+import org.ballerinalang.persistence.store.impl.AppendLogStorageProvider;
 import org.ballerinalang.persistence.store.impl.FileStorageProvider;
 import org.ballerinalang.runtime.Constants;
 import org.ballerinalang.util.codegen.ProgramFile;
 import org.ballerinalang.util.codegen.ResourceInfo;
+import org.ballerinalang.util.exceptions.BallerinaException;
 import org.ballerinalang.util.program.BLangVMUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
-import java.util.Collections;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 
 /**
  * This class is used to persist @{@link State}s in given storage.
@@ -39,44 +49,163 @@ import java.util.List;
  */
 public class PersistenceStore {
 
-    private static StorageProvider storageProvider = new FileStorageProvider();
+    // Config key to select the storage of the states, which is either "file" (default) or "log".
+    public static final String INTERRUPTIBLE_STATES_STORAGE = "ballerina.interruptible.storage";
+
+    public static final String LOG_STORAGE = "log";
+
+    private static final Logger log = LoggerFactory.getLogger(PersistenceStore.class);
+
+    // Only one of the providers is set, depending on whether states are stored as strings or as checkpoints
+    private static StorageProvider storageProvider;
+
+    private static CheckpointStorageProvider checkpointStorageProvider;
+
+    // Entries of the last checkpoint of each state, used to find the entries changed since the last checkpoint
+    private static final Map<String, CheckpointEntries> lastCheckpoints = new ConcurrentHashMap<>();
+
+    static {
+        String storage = ConfigRegistry.getInstance().getAsString(INTERRUPTIBLE_STATES_STORAGE);
+        if (LOG_STORAGE.equalsIgnoreCase(storage)) {
+            checkpointStorageProvider = new AppendLogStorageProvider();
+        } else {
+            storageProvider = new FileStorageProvider();
+        }
+    }
 
     public static void persistState(State state) {
         SerializableState sState = new SerializableState(state.getContext(), state.getIp());
         sState.setId(state.getId());
+        if (checkpointStorageProvider != null) {
+            persistCheckpoint(checkpointStorageProvider, state.getId(), sState);
+            return;
+        }
         String stateString = sState.serialize();
-        storageProvider.persistState(state.getId(), stateString);
+        try {
+            storageProvider.persistState(state.getId(), stateString);
+        } catch (BallerinaException e) {
+            log.error("Error while persisting the state for state id: {}", state.getId(), e);
+        }
+    }
+
+    private static void persistCheckpoint(CheckpointStorageProvider provider, String stateId,
+                                          SerializableState sState) {
+        Map<String, byte[]> entries = sState.serializeEntries();
+        CheckpointEntries lastCheckpoint = lastCheckpoints.computeIfAbsent(stateId, k -> new CheckpointEntries());
+        // Checkpoints of a state are written in the order they are encoded, as each depends on the previous one
+        synchronized (lastCheckpoint) {
+            boolean full = lastCheckpoint.entries == null;
+            byte[] checkpoint = null;
+            if (!full) {
+                checkpoint = StateCheckpoint.encode(entries, lastCheckpoint.entries);
+                // Once the deltas outgrow the full checkpoint, a new full checkpoint lets the storage drop them
+                full = lastCheckpoint.deltaBytes + checkpoint.length > lastCheckpoint.fullBytes;
+            }
+            if (full) {
+                checkpoint = StateCheckpoint.encode(entries, null);
+            }
+            try {
+                provider.persistCheckpoint(stateId, checkpoint, full);
+            } catch (IOException e) {
+                // The storage may not have the checkpoint, so the next checkpoint cannot be a delta on top of it
+                lastCheckpoint.entries = null;
+                log.error("Error while persisting the state for state id: {}", stateId, e);
+                return;
+            }
+            lastCheckpoint.entries = entries;
+            if (full) {
+                lastCheckpoint.fullBytes = checkpoint.length;
+                lastCheckpoint.deltaBytes = 0;
+            } else {
+                lastCheckpoint.deltaBytes += checkpoint.length;
+            }
+        }
     }
 
     public static void removeStates(String stateId) {
-        storageProvider.removeActiveState(stateId);
+        lastCheckpoints.remove(stateId);
+        if (checkpointStorageProvider != null) {
+            checkpointStorageProvider.removeActiveState(stateId);
+        } else {
+            storageProvider.removeActiveState(stateId);
+        }
     }
 
     public static List<State> getStates(ProgramFile programFile) {
-        List<String> serializedStates = storageProvider.getAllSerializedStates();
-        if (serializedStates.isEmpty()) {
-            return Collections.emptyList();
-        }
-        Deserializer deserializer = new Deserializer();
         List<State> states = new LinkedList<>();
-        for (String serializedState : serializedStates) {
-            SerializableState sState = SerializableState.deserialize(serializedState);
-            WorkerExecutionContext context = sState.getExecutionContext(programFile, deserializer);
-            if (context.callableUnitInfo instanceof ResourceInfo) {
-                ResourceInfo resourceInfo = (ResourceInfo) context.callableUnitInfo;
-                BLangVMUtils.setServiceInfo(context, resourceInfo.getServiceInfo());
+        recoverStates(programFile, states::add);
+        return states;
+    }
+
+    /**
+     * Reconstructs the persisted states one by one and passes each state to the given consumer. States persisted as
+     * checkpoints are read from the storage only when they are reconstructed.
+     *
+     * @param programFile program file the states belong to
+     * @param consumer    consumer of the reconstructed states
+     */
+    public static void recoverStates(ProgramFile programFile, Consumer<State> consumer) {
+        Deserializer deserializer = new Deserializer();
+        if (checkpointStorageProvider != null) {
+            Iterator<List<byte[]>> iterator = checkpointStorageProvider.getActiveCheckpoints();
+            while (iterator.hasNext()) {
+                Map<String, byte[]> entries = new HashMap<>();
+                for (byte[] checkpoint : iterator.next()) {
+                    StateCheckpoint.apply(checkpoint, entries);
+                }
+                consumer.accept(getState(SerializableState.deserializeEntries(entries), programFile, deserializer));
+            }
+        } else {
+            for (String serializedState : storageProvider.getAllSerializedStates()) {
+                consumer.accept(getState(SerializableState.deserialize(serializedState), programFile,
+                        deserializer));
             }
-            State state = new State(context, (String) context.globalProps.get(Constants.STATE_ID));
-            // have to decrement ip as CPU class increments it as soon as instruction is fetched
-            context.ip--;
-            state.setIp(context.ip);
-            states.add(state);
         }
         deserializer.cleanUpDeserializer();
-        return states;
+    }
+
+    private static State getState(SerializableState sState, ProgramFile programFile, Deserializer deserializer) {
+        WorkerExecutionContext context = sState.getExecutionContext(programFile, deserializer);
+        if (context.callableUnitInfo instanceof ResourceInfo) {
+            ResourceInfo resourceInfo = (ResourceInfo) context.callableUnitInfo;
+            BLangVMUtils.setServiceInfo(context, resourceInfo.getServiceInfo());
+        }
+        State state = new State(context, (String) context.globalProps.get(Constants.STATE_ID));
+        // have to decrement ip as CPU class increments it as soon as instruction is fetched
+        context.ip--;
+        state.setIp(context.ip);
+        return state;
     }
 
     public static void setStorageProvider(StorageProvider storageProvider) {
+        closeCheckpointStorageProvider();
         PersistenceStore.storageProvider = storageProvider;
+        lastCheckpoints.clear();
+    }
+
+    public static void setStorageProvider(CheckpointStorageProvider checkpointStorageProvider) {
+        closeCheckpointStorageProvider();
+        PersistenceStore.checkpointStorageProvider = checkpointStorageProvider;
+        storageProvider = null;
+        lastCheckpoints.clear();
+    }
+
+    private static void closeCheckpointStorageProvider() {
+        if (checkpointStorageProvider != null) {
+            checkpointStorageProvider.close();
+            checkpointStorageProvider = null;
+        }
+    }
+
+    /**
+     * Entries of the last checkpoint of a state, and the sizes of the checkpoints the state is stored as.
+     */
+    private static class CheckpointEntries {
+
+        private Map<String, byte[]> entries;
+
+        private long fullBytes;
+
+        private long deltaBytes;
     }
 }
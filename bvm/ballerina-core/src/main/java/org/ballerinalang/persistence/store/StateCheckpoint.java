@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * you may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.persistence.store;
+
+import org.ballerinalang.util.exceptions.BallerinaException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Encodes the checkpoints of a state, which are made of the entries created by
+ * {@link org.ballerinalang.persistence.serializable.SerializableState#serializeEntries()}. A full checkpoint holds
+ * all the entries, and a delta checkpoint holds the entries which were added or changed and the keys of the entries
+ * which were removed since the previous checkpoint.
+ *
+ * @since 0.981.2
+ */
+class StateCheckpoint {
+
+    private static final byte FULL = 1;
+
+    private static final byte DELTA = 2;
+
+    private StateCheckpoint() {
+    }
+
+    /**
+     * Encodes the given entries as a checkpoint.
+     *
+     * @param entries  current entries of the state
+     * @param previous entries of the previous checkpoint, or null to encode a full checkpoint
+     * @return the encoded checkpoint
+     */
+    static byte[] encode(Map<String, byte[]> entries, Map<String, byte[]> previous) {
+        List<String> removed = new ArrayList<>();
+        List<Map.Entry<String, byte[]>> changed = new ArrayList<>();
+        for (Map.Entry<String, byte[]> entry : entries.entrySet()) {
+            if (previous == null || !Arrays.equals(entry.getValue(), previous.get(entry.getKey()))) {
+                changed.add(entry);
+            }
+        }
+        if (previous != null) {
+            for (String key : previous.keySet()) {
+                if (!entries.containsKey(key)) {
+                    removed.add(key);
+                }
+            }
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(previous == null ? FULL : DELTA);
+            out.writeInt(changed.size());
+            for (Map.Entry<String, byte[]> entry : changed) {
+                out.writeUTF(entry.getKey());
+                out.writeInt(entry.getValue().length);
+                out.write(entry.getValue());
+            }
+            out.writeInt(removed.size());
+            for (String key : removed) {
+                out.writeUTF(key);
+            }
+        } catch (IOException e) {
+            // ignoring, ByteArrayOutputStream does no IO operations
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Applies a checkpoint on the entries of a state.
+     *
+     * @param checkpoint encoded checkpoint
+     * @param entries    entries of the state, which are replaced if the checkpoint is a full checkpoint
+     */
+    static void apply(byte[] checkpoint, Map<String, byte[]> entries) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(checkpoint))) {
+            byte type = in.readByte();
+            if (type == FULL) {
+                entries.clear();
+            } else if (type != DELTA) {
+                throw new BallerinaException("Invalid state checkpoint type: " + type);
+            }
+            int changedCount = in.readInt();
+            for (int i = 0; i < changedCount; i++) {
+                String key = in.readUTF();
+                byte[] value = new byte[in.readInt()];
+                in.readFully(value);
+                entries.put(key, value);
+            }
+            int removedCount = in.readInt();
+            for (int i = 0; i < removedCount; i++) {
+                entries.remove(in.readUTF());
+            }
+        } catch (IOException e) {
+            throw new BallerinaException("Invalid state checkpoint", e);
+        }
+    }
+}
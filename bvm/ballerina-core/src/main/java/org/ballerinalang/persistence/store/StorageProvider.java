@@ -28,6 +28,14 @@ import java.util.List;
  */
 public interface StorageProvider {
 
+    /**
+     * Persists the given state, replacing the state persisted earlier with the same id.
+     *
+     * @param stateId     id of the state
+     * @param stateString serialized state
+     * @throws org.ballerinalang.util.exceptions.BallerinaException if the state could not be persisted, in which case
+     *                                                              the state persisted earlier is kept
+     */
     void persistState(String stateId, String stateString);
 
     void removeActiveState(String stateId);
@@ -0,0 +1,243 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.persistence.store;
+
+import org.ballerinalang.util.exceptions.BallerinaException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Persists snapshots of streaming query runtimes in a {@link StorageProvider}. The snapshot of a runtime is made of
+ * the serialized state of each of its processing elements.
+ * <p>
+ * Snapshots are incremental. A base holds the state of every element, and a delta holds the elements which changed
+ * since the base. Each snapshot rewrites only the delta, until the delta grows beyond half the size of the base and
+ * the base is rewritten instead. A delta carries the revision of its base, so that a delta left behind by a crash
+ * while the base was being rewritten is ignored on recovery. Records which cannot be decoded are skipped on recovery.
+ *
+ * @since 0.981.2
+ */
+public class StreamSnapshotStore {
+
+    private static final String BASE_SUFFIX = "-base";
+
+    private static final String DELTA_SUFFIX = "-delta";
+
+    private static final Logger log = LoggerFactory.getLogger(StreamSnapshotStore.class);
+
+    private final StorageProvider storageProvider;
+
+    private final Map<String, PersistedSnapshot> persistedSnapshots = new ConcurrentHashMap<>();
+
+    private Map<String, Map<String, byte[]>> recoveredSnapshots;
+
+    public StreamSnapshotStore(StorageProvider storageProvider) {
+        this.storageProvider = storageProvider;
+    }
+
+    /**
+     * Persists a snapshot of a runtime, writing only what changed since the base of the runtime.
+     *
+     * @param runtimeName name of the runtime
+     * @param elements    serialized state of each processing element of the runtime
+     * @throws BallerinaException if the storage could not persist the snapshot, in which case the next snapshot is
+     *                            written against the base persisted earlier
+     */
+    public void persist(String runtimeName, Map<String, byte[]> elements) {
+        PersistedSnapshot persisted = persistedSnapshots.computeIfAbsent(runtimeName, k -> new PersistedSnapshot());
+        synchronized (persisted) {
+            Map<String, byte[]> delta = new HashMap<>();
+            long deltaSize = 0;
+            long size = 0;
+            for (Map.Entry<String, byte[]> entry : elements.entrySet()) {
+                size += entry.getValue().length;
+                if (persisted.base == null || !Arrays.equals(entry.getValue(), persisted.base.get(entry.getKey()))) {
+                    delta.put(entry.getKey(), entry.getValue());
+                    deltaSize += entry.getValue().length;
+                }
+            }
+            if (persisted.base == null || deltaSize * 2 > persisted.baseSize) {
+                long revision = Math.max(persisted.revision + 1, System.currentTimeMillis());
+                // A failed write throws before the base is recorded, so the next snapshot rewrites the base
+                storageProvider.persistState(runtimeName + BASE_SUFFIX, encode(runtimeName, false, revision,
+                        elements));
+                if (persisted.delta != null) {
+                    storageProvider.removeActiveState(runtimeName + DELTA_SUFFIX);
+                }
+                persisted.base = elements;
+                persisted.baseSize = size;
+                persisted.revision = revision;
+                persisted.delta = null;
+            } else if (!sameElements(delta, persisted.delta != null ? persisted.delta : Collections.emptyMap())) {
+                storageProvider.persistState(runtimeName + DELTA_SUFFIX, encode(runtimeName, true,
+                        persisted.revision, delta));
+                persisted.delta = delta;
+            }
+        }
+    }
+
+    /**
+     * Returns the last persisted snapshot of a runtime. The persisted snapshots are read from the storage on the first
+     * call, and each snapshot is returned only once.
+     *
+     * @param runtimeName name of the runtime
+     * @return serialized state of each processing element of the runtime, or null if there is no snapshot
+     */
+    public synchronized Map<String, byte[]> recover(String runtimeName) {
+        if (recoveredSnapshots == null) {
+            recoveredSnapshots = readSnapshots();
+        }
+        return recoveredSnapshots.remove(runtimeName);
+    }
+
+    private Map<String, Map<String, byte[]>> readSnapshots() {
+        Map<String, SnapshotRecord> bases = new HashMap<>();
+        Map<String, SnapshotRecord> deltas = new HashMap<>();
+        List<String> serializedStates;
+        try {
+            serializedStates = storageProvider.getAllSerializedStates();
+        } catch (BallerinaException e) {
+            log.warn("Starting streaming queries without their earlier state", e);
+            return new HashMap<>();
+        }
+        for (String serializedState : serializedStates) {
+            SnapshotRecord record;
+            try {
+                record = decode(serializedState);
+            } catch (BallerinaException | IllegalArgumentException e) {
+                log.warn("Skipping a snapshot record which is not a snapshot of a streaming query runtime", e);
+                continue;
+            }
+            (record.delta ? deltas : bases).put(record.runtimeName, record);
+        }
+        Map<String, Map<String, byte[]>> snapshots = new HashMap<>();
+        for (SnapshotRecord base : bases.values()) {
+            PersistedSnapshot persisted = new PersistedSnapshot();
+            persisted.base = base.elements;
+            persisted.revision = base.revision;
+            for (byte[] state : base.elements.values()) {
+                persisted.baseSize += state.length;
+            }
+            Map<String, byte[]> elements = new HashMap<>(base.elements);
+            SnapshotRecord delta = deltas.get(base.runtimeName);
+            if (delta != null && delta.revision == base.revision) {
+                elements.putAll(delta.elements);
+                persisted.delta = delta.elements;
+            }
+            // Snapshots taken after the recovery continue from the recovered base
+            persistedSnapshots.put(base.runtimeName, persisted);
+            snapshots.put(base.runtimeName, elements);
+        }
+        return snapshots;
+    }
+
+    private static boolean sameElements(Map<String, byte[]> elements, Map<String, byte[]> other) {
+        if (elements.size() != other.size()) {
+            return false;
+        }
+        for (Map.Entry<String, byte[]> entry : elements.entrySet()) {
+            if (!Arrays.equals(entry.getValue(), other.get(entry.getKey()))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String encode(String runtimeName, boolean delta, long revision, Map<String, byte[]> elements) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeUTF(runtimeName);
+            out.writeBoolean(delta);
+            out.writeLong(revision);
+            out.writeInt(elements.size());
+            for (Map.Entry<String, byte[]> entry : elements.entrySet()) {
+                out.writeUTF(entry.getKey());
+                out.writeInt(entry.getValue().length);
+                out.write(entry.getValue());
+            }
+        } catch (IOException e) {
+            throw new BallerinaException("Failed to encode the snapshot of " + runtimeName, e);
+        }
+        return Base64.getEncoder().encodeToString(bytes.toByteArray());
+    }
+
+    private static SnapshotRecord decode(String serializedState) {
+        byte[] bytes = Base64.getDecoder().decode(serializedState.trim());
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            SnapshotRecord record = new SnapshotRecord();
+            record.runtimeName = in.readUTF();
+            record.delta = in.readBoolean();
+            record.revision = in.readLong();
+            int size = in.readInt();
+            for (int i = 0; i < size; i++) {
+                String elementId = in.readUTF();
+                int length = in.readInt();
+                if (length < 0 || length > in.available()) {
+                    throw new IOException("Invalid length " + length + " of the state of " + elementId);
+                }
+                byte[] state = new byte[length];
+                in.readFully(state);
+                record.elements.put(elementId, state);
+            }
+            return record;
+        } catch (IOException e) {
+            throw new BallerinaException("Failed to decode a snapshot of a streaming query runtime", e);
+        }
+    }
+
+    /**
+     * Base and delta persisted last for a runtime.
+     */
+    private static class PersistedSnapshot {
+
+        private Map<String, byte[]> base;
+
+        private long baseSize;
+
+        private long revision;
+
+        private Map<String, byte[]> delta;
+    }
+
+    /**
+     * A base or a delta read from the storage.
+     */
+    private static class SnapshotRecord {
+
+        private String runtimeName;
+
+        private boolean delta;
+
+        private long revision;
+
+        private final Map<String, byte[]> elements = new HashMap<>();
+    }
+}
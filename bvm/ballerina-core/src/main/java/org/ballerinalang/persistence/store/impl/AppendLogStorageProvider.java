@@ -0,0 +1,430 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * you may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.persistence.store.impl;
+
+import org.ballerinalang.persistence.states.State;
+import org.ballerinalang.persistence.store.CheckpointStorageProvider;
+import org.ballerinalang.util.exceptions.BallerinaException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.zip.CRC32;
+
+/**
+ * This class implements @{@link CheckpointStorageProvider} to persist @{@link State}s as records appended to a single
+ * log file. A record is made of its length, a CRC32 checksum, the record type, the state id and the checkpoint.
+ * <p>
+ * Concurrent writers share an fsync: a writer which finds that another writer has already synced past its record
+ * returns without syncing again. A torn record at the end of the log, left by a crash during a write, is dropped
+ * when the log is opened, and a record which failed to be written is overwritten by the next record.
+ * <p>
+ * The log is truncated whenever there are no active states left. Otherwise, once the log grows past the compaction
+ * threshold and more than half of it is taken by records which are no longer needed, the records of the active
+ * states from their last full checkpoint onwards are copied to a new log which replaces the old one.
+ *
+ * @since 0.981.2
+ */
+public class AppendLogStorageProvider implements CheckpointStorageProvider {
+
+    public static final String LOG_FILE_NAME = "states.log";
+
+    public static final long DEFAULT_COMPACTION_THRESHOLD = 16 * 1024 * 1024;
+
+    private static final Logger log = LoggerFactory.getLogger(AppendLogStorageProvider.class);
+
+    private static final byte FULL_CHECKPOINT = 1;
+
+    private static final byte DELTA_CHECKPOINT = 2;
+
+    private static final byte REMOVE = 3;
+
+    // Length and checksum of a record
+    private static final int RECORD_HEADER_SIZE = 8;
+
+    // Type and state id length of a record
+    private static final int RECORD_PREFIX_SIZE = 3;
+
+    private static final int SCAN_BUFFER_SIZE = 8192;
+
+    private final Path logPath;
+
+    private final long compactionThreshold;
+
+    private final Object writeLock = new Object();
+
+    private final Object syncLock = new Object();
+
+    private FileChannel channel;
+
+    private long writePosition;
+
+    // Total number of bytes ever appended, which unlike the write position does not go back when the log is truncated
+    private long appendedBytes;
+
+    private long syncedBytes;
+
+    // Records of each active state from its last full checkpoint, as the start, checkpoint and end positions
+    private Map<String, List<long[]>> activeRecords = new LinkedHashMap<>();
+
+    // Number of bytes taken by the records of the active states
+    private long activeBytes;
+
+    private Map<String, List<long[]>> recoveredCheckpoints;
+
+    // The log is not compacted while recovered checkpoints are read, as compaction moves them
+    private volatile boolean recovering;
+
+    public AppendLogStorageProvider() {
+        this(Paths.get(FileStorageProvider.getStateStoreDirPath(), LOG_FILE_NAME));
+    }
+
+    public AppendLogStorageProvider(Path logPath) {
+        this(logPath, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    public AppendLogStorageProvider(Path logPath, long compactionThreshold) {
+        this.logPath = logPath;
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    @Override
+    public void persistCheckpoint(String stateId, byte[] checkpoint, boolean full) throws IOException {
+        long appended;
+        synchronized (writeLock) {
+            open();
+            appended = append(full ? FULL_CHECKPOINT : DELTA_CHECKPOINT, stateId, checkpoint);
+        }
+        sync(appended);
+        compactIfNeeded();
+    }
+
+    @Override
+    public void removeActiveState(String stateId) {
+        try {
+            long appended;
+            synchronized (writeLock) {
+                open();
+                if (!activeRecords.containsKey(stateId)) {
+                    return;
+                }
+                if (activeRecords.size() == 1) {
+                    // None of the records are needed anymore
+                    channel.truncate(0);
+                    channel.force(true);
+                    writePosition = 0;
+                    activeRecords.clear();
+                    activeBytes = 0;
+                    return;
+                }
+                appended = append(REMOVE, stateId, new byte[0]);
+            }
+            sync(appended);
+            compactIfNeeded();
+        } catch (IOException e) {
+            log.error("Error while removing the state for state id: {}", stateId, e);
+        }
+    }
+
+    @Override
+    public Iterator<List<byte[]>> getActiveCheckpoints() {
+        List<List<long[]>> checkpoints;
+        synchronized (writeLock) {
+            try {
+                open();
+            } catch (IOException e) {
+                throw new BallerinaException("Failed to retrieve states.", e);
+            }
+            if (recoveredCheckpoints == null) {
+                return new ArrayList<List<byte[]>>().iterator();
+            }
+            checkpoints = new ArrayList<>(recoveredCheckpoints.values());
+            recoveredCheckpoints = null;
+            recovering = true;
+        }
+        Iterator<List<long[]>> iterator = checkpoints.iterator();
+        return new Iterator<List<byte[]>>() {
+            @Override
+            public boolean hasNext() {
+                if (iterator.hasNext()) {
+                    return true;
+                }
+                recovering = false;
+                return false;
+            }
+
+            @Override
+            public List<byte[]> next() {
+                if (!iterator.hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                List<long[]> records = iterator.next();
+                List<byte[]> stateCheckpoints = new ArrayList<>(records.size());
+                try {
+                    for (long[] record : records) {
+                        ByteBuffer buffer = ByteBuffer.allocate((int) (record[2] - record[1]));
+                        readFully(buffer, record[1]);
+                        stateCheckpoints.add(buffer.array());
+                    }
+                } catch (IOException e) {
+                    throw new BallerinaException("Error occurred while reading state from file path: " + logPath, e);
+                }
+                return stateCheckpoints;
+            }
+        };
+    }
+
+    @Override
+    public void close() {
+        synchronized (syncLock) {
+            synchronized (writeLock) {
+                if (channel == null) {
+                    return;
+                }
+                try {
+                    channel.close();
+                } catch (IOException e) {
+                    log.error("Error while closing {}", logPath, e);
+                } finally {
+                    channel = null;
+                    recoveredCheckpoints = null;
+                    recovering = false;
+                }
+            }
+        }
+    }
+
+    private long append(byte type, String stateId, byte[] checkpoint) throws IOException {
+        byte[] id = stateId.getBytes(StandardCharsets.UTF_8);
+        int length = RECORD_PREFIX_SIZE + id.length + checkpoint.length;
+        ByteBuffer record = ByteBuffer.allocate(RECORD_HEADER_SIZE + length);
+        record.putInt(length).putInt(0).put(type).putShort((short) id.length).put(id).put(checkpoint);
+        CRC32 crc = new CRC32();
+        crc.update(record.array(), RECORD_HEADER_SIZE, length);
+        record.putInt(4, (int) crc.getValue());
+        record.flip();
+        long start = writePosition;
+        try {
+            while (record.hasRemaining()) {
+                writePosition += channel.write(record, writePosition);
+            }
+        } catch (IOException e) {
+            // Records after a partly written record would be dropped when the log is opened, so it is overwritten
+            writePosition = start;
+            throw e;
+        }
+        appendedBytes += RECORD_HEADER_SIZE + length;
+        addRecord(type, stateId, new long[]{start, writePosition - checkpoint.length, writePosition});
+        return appendedBytes;
+    }
+
+    private void addRecord(byte type, String stateId, long[] record) {
+        if (type == REMOVE) {
+            List<long[]> removed = activeRecords.remove(stateId);
+            if (removed != null) {
+                activeBytes -= size(removed);
+            }
+            return;
+        }
+        List<long[]> stateRecords = activeRecords.computeIfAbsent(stateId, k -> new ArrayList<>());
+        if (type == FULL_CHECKPOINT) {
+            activeBytes -= size(stateRecords);
+            stateRecords.clear();
+        }
+        stateRecords.add(record);
+        activeBytes += record[2] - record[0];
+    }
+
+    private static long size(List<long[]> records) {
+        long size = 0;
+        for (long[] record : records) {
+            size += record[2] - record[0];
+        }
+        return size;
+    }
+
+    private void sync(long appended) throws IOException {
+        synchronized (syncLock) {
+            if (syncedBytes >= appended) {
+                return;
+            }
+            long target;
+            synchronized (writeLock) {
+                target = appendedBytes;
+            }
+            channel.force(false);
+            syncedBytes = target;
+        }
+    }
+
+    private void compactIfNeeded() throws IOException {
+        synchronized (syncLock) {
+            synchronized (writeLock) {
+                if (recovering || channel == null || writePosition < compactionThreshold
+                        || writePosition < 2 * activeBytes) {
+                    return;
+                }
+                compact();
+            }
+        }
+    }
+
+    /**
+     * Copies the records of the active states to a new log, which replaces the current log. Must be called while
+     * holding both the sync and the write locks.
+     */
+    private void compact() throws IOException {
+        Path compactPath = logPath.resolveSibling(logPath.getFileName() + ".compact");
+        Map<String, List<long[]>> compacted = new LinkedHashMap<>();
+        long position = 0;
+        try (FileChannel target = FileChannel.open(compactPath, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            for (Map.Entry<String, List<long[]>> entry : activeRecords.entrySet()) {
+                List<long[]> moved = new ArrayList<>(entry.getValue().size());
+                for (long[] record : entry.getValue()) {
+                    long length = record[2] - record[0];
+                    transferFully(record[0], length, target);
+                    moved.add(new long[]{position, position + record[1] - record[0], position + length});
+                    position += length;
+                }
+                compacted.put(entry.getKey(), moved);
+            }
+            target.force(true);
+        } catch (IOException e) {
+            Files.deleteIfExists(compactPath);
+            throw e;
+        }
+        long compactedFrom = writePosition;
+        channel.close();
+        try {
+            Files.move(compactPath, logPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            activeRecords = compacted;
+            writePosition = position;
+            // Everything appended so far is in the new log, which is already synced
+            syncedBytes = appendedBytes;
+        } finally {
+            channel = FileChannel.open(logPath, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        }
+        log.debug("Compacted {} from {} to {} bytes", logPath, compactedFrom, position);
+    }
+
+    private void transferFully(long position, long length, FileChannel target) throws IOException {
+        long transferred = 0;
+        while (transferred < length) {
+            long count = channel.transferTo(position + transferred, length - transferred, target);
+            if (count <= 0) {
+                throw new EOFException("Unexpected end of " + logPath);
+            }
+            transferred += count;
+        }
+    }
+
+    /**
+     * Opens the log on first use and finds the checkpoints of the states which are still active.
+     */
+    private void open() throws IOException {
+        if (channel != null) {
+            return;
+        }
+        Path parent = logPath.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        channel = FileChannel.open(logPath, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        activeRecords = new LinkedHashMap<>();
+        activeBytes = 0;
+        long size = channel.size();
+        long position = 0;
+        ByteBuffer header = ByteBuffer.allocate(RECORD_HEADER_SIZE + RECORD_PREFIX_SIZE);
+        ByteBuffer scanBuffer = ByteBuffer.allocate(SCAN_BUFFER_SIZE);
+        CRC32 crc = new CRC32();
+        while (position + header.capacity() <= size) {
+            header.clear();
+            readFully(header, position);
+            header.flip();
+            int length = header.getInt();
+            int checksum = header.getInt();
+            byte type = header.get();
+            int idLength = header.getShort() & 0xFFFF;
+            long end = position + RECORD_HEADER_SIZE + length;
+            if (length < RECORD_PREFIX_SIZE + idLength || end > size) {
+                break;
+            }
+            crc.reset();
+            crc.update(header.array(), RECORD_HEADER_SIZE, RECORD_PREFIX_SIZE);
+            long idPosition = position + header.capacity();
+            for (long offset = idPosition; offset < end; offset += scanBuffer.limit()) {
+                scanBuffer.clear();
+                scanBuffer.limit((int) Math.min(SCAN_BUFFER_SIZE, end - offset));
+                readFully(scanBuffer, offset);
+                crc.update(scanBuffer.array(), 0, scanBuffer.limit());
+            }
+            if ((int) crc.getValue() != checksum) {
+                break;
+            }
+            ByteBuffer id = ByteBuffer.allocate(idLength);
+            readFully(id, idPosition);
+            String stateId = new String(id.array(), StandardCharsets.UTF_8);
+            addRecord(type, stateId, new long[]{position, idPosition + idLength, end});
+            position = end;
+        }
+        if (position < size) {
+            log.warn("Dropping {} bytes of partially written states at the end of {}", size - position, logPath);
+            channel.truncate(position);
+        }
+        if (activeRecords.isEmpty() && position > 0) {
+            channel.truncate(0);
+            position = 0;
+        }
+        writePosition = position;
+        if (activeRecords.isEmpty()) {
+            recoveredCheckpoints = null;
+            return;
+        }
+        recoveredCheckpoints = new LinkedHashMap<>();
+        for (Map.Entry<String, List<long[]>> entry : activeRecords.entrySet()) {
+            recoveredCheckpoints.put(entry.getKey(), new ArrayList<>(entry.getValue()));
+        }
+    }
+
+    private void readFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position);
+            if (read < 0) {
+                throw new EOFException("Unexpected end of " + logPath);
+            }
+            position += read;
+        }
+    }
+}
@@ -54,9 +54,23 @@ public class FileStorageProvider implements StorageProvider {
         }
     }
 
+    private final String dirPath;
+
+    public FileStorageProvider() {
+        this(stateStoreDirPath);
+    }
+
+    public FileStorageProvider(String dirPath) {
+        this.dirPath = dirPath;
+    }
+
+    static String getStateStoreDirPath() {
+        return stateStoreDirPath;
+    }
+
     @Override
     public void persistState(String stateId, String stateString) {
-        File baseDir = new File(stateStoreDirPath);
+        File baseDir = new File(dirPath);
         if (!baseDir.exists()) {
             baseDir.mkdir();
         }
@@ -68,15 +82,17 @@ public class FileStorageProvider implements StorageProvider {
             String fileName = baseDir.getPath() + File.separator + stateId;
             Path path = Paths.get(fileName + ".tmp");
             Files.write(path, stateString.getBytes());
-            path.toFile().renameTo(new File(fileName + ".json"));
+            if (!path.toFile().renameTo(new File(fileName + ".json"))) {
+                throw new BallerinaException("Failed to replace the state file for state id: " + stateId);
+            }
         } catch (IOException e) {
-            log.error("Error while persisting the state for state id: {}", stateId, e);
+            throw new BallerinaException("Error while persisting the state for state id: " + stateId, e);
         }
     }
 
     @Override
     public void removeActiveState(String stateId) {
-        File baseDir = new File(stateStoreDirPath);
+        File baseDir = new File(dirPath);
         if (!baseDir.exists()) {
             return;
         }
@@ -90,11 +106,11 @@ public class FileStorageProvider implements StorageProvider {
     @Override
     public List<String> getAllSerializedStates() {
         List<String> states = new LinkedList<>();
-        File baseDir = new File(stateStoreDirPath);
+        File baseDir = new File(dirPath);
         if (!baseDir.exists()) {
             return states;
         }
-        try (Stream<Path> stream = Files.list(Paths.get(stateStoreDirPath))) {
+        try (Stream<Path> stream = Files.list(Paths.get(dirPath))) {
             stream.forEach(path -> {
                 try {
                     if (path.toString().endsWith(".json")) {
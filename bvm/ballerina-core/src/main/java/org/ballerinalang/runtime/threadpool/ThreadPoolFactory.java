@@ -23,6 +23,11 @@ import org.omg.PortableServer.ThreadPolicyOperations;
 
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 /**
  * {@code ThreadPoolFactory} holds the thread pools in Ballerina engine.
@@ -36,30 +41,67 @@ public class ThreadPoolFactory {
     private static final int MIN_THREAD_POOL_SIZE = 1;
 
     private static final String WORKER_THREAD_POOL_SIZE_PROP = "b7a.runtime.scheduler.threadpoolsize";
+    private static final String WORKER_SCHEDULER_TYPE_PROP = "b7a.runtime.scheduler.type";
+    private static final String BLOCKING_THREAD_POOL_SIZE_PROP = "b7a.runtime.scheduler.blockingpoolsize";
+
+    private static final long BLOCKING_THREAD_KEEP_ALIVE_SECONDS = 60;
+    private static final int BLOCKING_THREAD_CORE_POOL_SIZE_RATIO = 4;
+
+    private static final String SCHEDULER_TYPE_FIXED = "fixed";
+    private static final String SCHEDULER_TYPE_WORK_STEALING = "workstealing";
 
     private static ThreadPoolFactory instance;
 
     private ExecutorService workerExecutor;
 
+    private ThreadPoolExecutor blockingExecutor;
+
     private ThreadPoolFactory() {
-        int poolSize = this.extractThreadPoolSize();
-        this.workerExecutor = Executors.newFixedThreadPool(poolSize,
-                new BLangThreadFactory(new ThreadGroup("worker"), "worker-thread-pool"));
+        String schedulerType = this.extractSchedulerType();
+        if (SCHEDULER_TYPE_WORK_STEALING.equals(schedulerType)) {
+            int poolSize = this.extractThreadPoolSize(Runtime.getRuntime().availableProcessors());
+            this.workerExecutor = createWorkStealingExecutor(poolSize);
+        } else {
+            int poolSize = this.extractThreadPoolSize(DEFAULT_THREAD_POOL_SIZE);
+            this.workerExecutor = Executors.newFixedThreadPool(poolSize,
+                    new BLangThreadFactory(new ThreadGroup("worker"), "worker-thread-pool"));
+        }
+        int blockingPoolSize = this.extractPoolSize(BLOCKING_THREAD_POOL_SIZE_PROP, 0);
+        if (blockingPoolSize > 0) {
+            this.blockingExecutor = createBlockingExecutor(blockingPoolSize);
+        }
     };
+
+    private String extractSchedulerType() {
+        String schedulerType = ConfigRegistry.getInstance().getAsString(WORKER_SCHEDULER_TYPE_PROP);
+        if (schedulerType == null) {
+            return SCHEDULER_TYPE_FIXED;
+        }
+        schedulerType = schedulerType.trim().toLowerCase();
+        if (!SCHEDULER_TYPE_FIXED.equals(schedulerType) && !SCHEDULER_TYPE_WORK_STEALING.equals(schedulerType)) {
+            throw new BallerinaException("invalid value for '" + WORKER_SCHEDULER_TYPE_PROP + "': " + schedulerType
+                    + ", expected '" + SCHEDULER_TYPE_FIXED + "' or '" + SCHEDULER_TYPE_WORK_STEALING + "'");
+        }
+        return schedulerType;
+    }
     
-    private int extractThreadPoolSize() {
-        int poolSize = DEFAULT_THREAD_POOL_SIZE;
-        String workerThreadPoolSizeProp = ConfigRegistry.getInstance().getAsString(WORKER_THREAD_POOL_SIZE_PROP);
-        if (workerThreadPoolSizeProp != null) {
+    private int extractThreadPoolSize(int defaultPoolSize) {
+        return this.extractPoolSize(WORKER_THREAD_POOL_SIZE_PROP, defaultPoolSize);
+    }
+
+    private int extractPoolSize(String poolSizeProp, int defaultPoolSize) {
+        int poolSize = defaultPoolSize;
+        String poolSizePropValue = ConfigRegistry.getInstance().getAsString(poolSizeProp);
+        if (poolSizePropValue != null) {
             try {
-                poolSize = Integer.parseInt(workerThreadPoolSizeProp);
+                poolSize = Integer.parseInt(poolSizePropValue);
                 if (poolSize < MIN_THREAD_POOL_SIZE || poolSize > MAX_THREAD_POOL_SIZE) {
-                    throw new BallerinaException(WORKER_THREAD_POOL_SIZE_PROP + " must be between "
+                    throw new BallerinaException(poolSizeProp + " must be between "
                             + MIN_THREAD_POOL_SIZE + " and " + MAX_THREAD_POOL_SIZE + " (inclusive)");
                 }
             } catch (NumberFormatException ignore) { 
-                throw new BallerinaException("invalid value for '" + WORKER_THREAD_POOL_SIZE_PROP 
-                        + "': " + workerThreadPoolSizeProp);
+                throw new BallerinaException("invalid value for '" + poolSizeProp 
+                        + "': " + poolSizePropValue);
             }
         }
         return poolSize;
@@ -80,4 +122,82 @@ public class ThreadPoolFactory {
         return workerExecutor;
     }
 
+    /**
+     * Submits a task to the worker executor. When the work-stealing scheduler is in use and the caller is
+     * itself a carrier thread of the worker pool, the task is pushed to the caller's own deque, so that a
+     * resumed worker continues on the same thread unless an idle thread steals it.
+     *
+     * @param task the task to be executed
+     */
+    public void submitWorkerTask(Runnable task) {
+        submitTask(this.workerExecutor, task);
+    }
+
+    /**
+     * Submits a task to the given executor. If the executor is a work-stealing pool and the caller is one of its
+     * carrier threads, the task is pushed to the caller's own deque instead of the shared submission queue.
+     *
+     * @param executor the executor to run the task
+     * @param task     the task to be executed
+     */
+    public static void submitTask(ExecutorService executor, Runnable task) {
+        if (executor instanceof ForkJoinPool && ForkJoinTask.getPool() == executor) {
+            ForkJoinTask.adapt(task).fork();
+        } else {
+            executor.submit(task);
+        }
+    }
+
+    /**
+     * Creates a work-stealing worker pool, with one deque per carrier thread. Idle threads steal from the others.
+     *
+     * @param poolSize number of carrier threads
+     * @return the work-stealing pool
+     */
+    public static ForkJoinPool createWorkStealingExecutor(int poolSize) {
+        // async mode keeps the local deques FIFO, since worker contexts are never joined
+        return new ForkJoinPool(poolSize, new BLangForkJoinWorkerThreadFactory("worker-thread-pool"), null, true);
+    }
+
+    /**
+     * Creates an elastic pool for blocking native calls. Each call is handed off to an idle thread, or to a new
+     * thread up to the given maximum, and idle threads time out. When all the threads are busy, the call runs on
+     * the submitting thread, as it would without a blocking pool.
+     *
+     * @param maxPoolSize maximum number of threads
+     * @return the blocking pool
+     */
+    public static ThreadPoolExecutor createBlockingExecutor(int maxPoolSize) {
+        int corePoolSize = Math.max(maxPoolSize / BLOCKING_THREAD_CORE_POOL_SIZE_RATIO, 1);
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(corePoolSize, maxPoolSize,
+                BLOCKING_THREAD_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new SynchronousQueue<>(),
+                new BLangThreadFactory(new ThreadGroup("blocking"), "blocking-thread-pool"),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * Submits a blocking native call to the dedicated blocking executor, if one is configured using
+     * {@code b7a.runtime.scheduler.blockingpoolsize}. Otherwise the task is run on the worker executor.
+     *
+     * @param task the blocking task to be executed
+     */
+    public void submitBlockingTask(Runnable task) {
+        if (this.blockingExecutor != null) {
+            this.blockingExecutor.submit(task);
+        } else {
+            this.submitWorkerTask(task);
+        }
+    }
+
+    /**
+     * Returns the executor dedicated to blocking native calls.
+     *
+     * @return the blocking executor, or {@code null} if blocking calls share the worker executor
+     */
+    public ThreadPoolExecutor getBlockingExecutor() {
+        return blockingExecutor;
+    }
+
 }
@@ -201,7 +201,7 @@ public class TableIterator implements DataIterator {
                 switch (type.getTag()) {
                     case TypeTags.INT_TAG:
                         long iValue = rs.getInt(index);
-                        value = new BInteger(iValue);
+                        value = BInteger.valueOf(iValue);
                         break;
                     case TypeTags.STRING_TAG:
                         String sValue = rs.getString(index);
@@ -213,7 +213,7 @@ public class TableIterator implements DataIterator {
                         break;
                     case TypeTags.BOOLEAN_TAG:
                         boolean boolValue = rs.getBoolean(index);
-                        value = new BBoolean(boolValue);
+                        value = BBoolean.valueOf(boolValue);
                         break;
                     case TypeTags.JSON_TAG:
                         String jsonValue = rs.getString(index);
@@ -255,7 +255,10 @@ public class TableIterator implements DataIterator {
     }
 
     protected BNewArray getDataArray(Array array) throws SQLException {
-        Object[] dataArray = generateArrayDataResult(array);
+        return getDataArray(generateArrayDataResult(array));
+    }
+
+    protected BNewArray getDataArray(Object[] dataArray) {
         if (dataArray == null || dataArray.length == 0) {
             return null;
         }
@@ -337,17 +340,17 @@ public class TableIterator implements DataIterator {
         } else if (firstNonNullElement instanceof Boolean) {
             refValueArray = createEmptyRefValueArray(BTypes.typeBoolean, length);
             for (int i = 0; i < length; i++) {
-                refValueArray.add(i, dataArray[i] != null ? new BBoolean((Boolean) dataArray[i]) : null);
+                refValueArray.add(i, dataArray[i] != null ? BBoolean.valueOf((Boolean) dataArray[i]) : null);
             }
         } else if (firstNonNullElement instanceof Integer) {
             refValueArray = createEmptyRefValueArray(BTypes.typeInt, length);
             for (int i = 0; i < length; i++) {
-                refValueArray.add(i, dataArray[i] != null ? new BInteger((Integer) dataArray[i]) : null);
+                refValueArray.add(i, dataArray[i] != null ? BInteger.valueOf((Integer) dataArray[i]) : null);
             }
         } else if (firstNonNullElement instanceof Long) {
             refValueArray = createEmptyRefValueArray(BTypes.typeInt, length);
             for (int i = 0; i < length; i++) {
-                refValueArray.add(i, dataArray[i] != null ? new BInteger((Long) dataArray[i]) : null);
+                refValueArray.add(i, dataArray[i] != null ? BInteger.valueOf((Long) dataArray[i]) : null);
             }
         } else if (firstNonNullElement instanceof Float) {
             refValueArray = createEmptyRefValueArray(BTypes.typeFloat, length);
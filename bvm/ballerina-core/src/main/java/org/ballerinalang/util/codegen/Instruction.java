@@ -372,4 +372,61 @@ public class Instruction {
             return Mnemonics.getMnem(opcode) + " " + sj.toString();
         }
     }
+
+    /**
+     * {@code InstructionICMPBR} represents an integer comparison followed by a conditional branch on its result.
+     * <p>
+     * This is a superinstruction created by the {@link InstructionPreDecoder}.
+     *
+     * @since 0.981.2
+     */
+    public static class InstructionICMPBR extends Instruction {
+
+        public int cmpOpcode;
+        public int lhsReg;
+        public int rhsReg;
+        public int resultReg;
+        public boolean branchIfTrue;
+        public int jumpAddr;
+
+        InstructionICMPBR(int cmpOpcode, int lhsReg, int rhsReg, int resultReg, boolean branchIfTrue,
+                          int jumpAddr) {
+            super(InstructionCodes.ICMP_BR, cmpOpcode, lhsReg, rhsReg, resultReg, branchIfTrue ? 1 : 0, jumpAddr);
+            this.cmpOpcode = cmpOpcode;
+            this.lhsReg = lhsReg;
+            this.rhsReg = rhsReg;
+            this.resultReg = resultReg;
+            this.branchIfTrue = branchIfTrue;
+            this.jumpAddr = jumpAddr;
+        }
+    }
+
+    /**
+     * {@code InstructionIImm} represents an integer constant load followed by an integer addition or subtraction
+     * using that constant.
+     * <p>
+     * This is a superinstruction created by the {@link InstructionPreDecoder}.
+     *
+     * @since 0.981.2
+     */
+    public static class InstructionIImm extends Instruction {
+
+        public long value;
+        public int constReg;
+        public int lhsReg;
+        public int resultReg;
+
+        InstructionIImm(int opcode, long value, int constReg, int lhsReg, int resultReg) {
+            super(opcode, constReg, lhsReg, resultReg);
+            this.value = value;
+            this.constReg = constReg;
+            this.lhsReg = lhsReg;
+            this.resultReg = resultReg;
+        }
+
+        @Override
+        public String toString() {
+            return super.toString() + " #" + value;
+        }
+    }
 }
@@ -284,5 +284,11 @@ public interface InstructionCodes {
     int TEQ = 253;
     int TNE = 254;
 
-    int INSTRUCTION_CODE_COUNT = 255;
+    // Superinstructions. These are never emitted to the bytecode, they are only created by the
+    // InstructionPreDecoder when the loaded code is pre-decoded.
+    int ICMP_BR = 256;
+    int IADD_IMM = 257;
+    int ISUB_IMM = 258;
+
+    int INSTRUCTION_CODE_COUNT = 259;
 }
@@ -0,0 +1,123 @@
+/*
+ *  Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.util.codegen;
+
+import org.ballerinalang.config.ConfigRegistry;
+import org.ballerinalang.util.codegen.Instruction.InstructionICMPBR;
+import org.ballerinalang.util.codegen.Instruction.InstructionIImm;
+import org.ballerinalang.util.codegen.cpentries.ConstantPoolEntry;
+import org.ballerinalang.util.codegen.cpentries.IntegerCPEntry;
+
+/**
+ * {@code InstructionPreDecoder} rewrites the loaded instructions of a package into an executable form in which
+ * common instruction sequences are fused into superinstructions, so that the CPU dispatches once per sequence.
+ * <p>
+ * A superinstruction replaces only the first instruction of the sequence it covers and the rest of the
+ * instructions are left in place. Therefore instruction addresses, jump targets, error tables and line numbers of
+ * the original code stay valid for the pre-decoded code as well.
+ *
+ * @since 0.981.2
+ */
+public class InstructionPreDecoder {
+
+    private static final String PRE_DECODE_CONFIG_PROP = "b7a.runtime.vm.predecode";
+
+    public static boolean isEnabled() {
+        return ConfigRegistry.getInstance().getAsBoolean(PRE_DECODE_CONFIG_PROP);
+    }
+
+    /**
+     * Creates the pre-decoded form of the given instructions. The given array is not modified.
+     *
+     * @param code      the instructions of a package
+     * @param constPool the constant pool of the package
+     * @return the pre-decoded instructions
+     */
+    public static Instruction[] preDecode(Instruction[] code, ConstantPoolEntry[] constPool) {
+        Instruction[] decoded = code.clone();
+        for (int ip = 0; ip < code.length - 1; ip++) {
+            Instruction fused = fuse(code[ip], code[ip + 1], constPool);
+            if (fused != null) {
+                decoded[ip] = fused;
+                // The second instruction of a fused pair cannot start another sequence
+                ip++;
+            }
+        }
+        return decoded;
+    }
+
+    private static Instruction fuse(Instruction first, Instruction second, ConstantPoolEntry[] constPool) {
+        switch (first.opcode) {
+            case InstructionCodes.IEQ:
+            case InstructionCodes.INE:
+            case InstructionCodes.IGT:
+            case InstructionCodes.IGE:
+            case InstructionCodes.ILT:
+            case InstructionCodes.ILE:
+                return fuseCmpAndBranch(first, second);
+            case InstructionCodes.ICONST:
+                long value = ((IntegerCPEntry) constPool[first.operands[0]]).getValue();
+                return fuseImmediate(value, first.operands[1], second);
+            case InstructionCodes.ICONST_0:
+            case InstructionCodes.ICONST_1:
+            case InstructionCodes.ICONST_2:
+            case InstructionCodes.ICONST_3:
+            case InstructionCodes.ICONST_4:
+            case InstructionCodes.ICONST_5:
+                return fuseImmediate(first.opcode - InstructionCodes.ICONST_0, first.operands[0], second);
+            default:
+                return null;
+        }
+    }
+
+    private static Instruction fuseCmpAndBranch(Instruction cmp, Instruction branch) {
+        if (branch.opcode != InstructionCodes.BR_TRUE && branch.opcode != InstructionCodes.BR_FALSE) {
+            return null;
+        }
+        int resultReg = cmp.operands[2];
+        if (branch.operands[0] != resultReg) {
+            return null;
+        }
+        return new InstructionICMPBR(cmp.opcode, cmp.operands[0], cmp.operands[1], resultReg,
+                branch.opcode == InstructionCodes.BR_TRUE, branch.operands[1]);
+    }
+
+    private static Instruction fuseImmediate(long value, int constReg, Instruction binaryOp) {
+        switch (binaryOp.opcode) {
+            case InstructionCodes.IADD:
+                if (binaryOp.operands[1] == constReg) {
+                    return new InstructionIImm(InstructionCodes.IADD_IMM, value, constReg, binaryOp.operands[0],
+                            binaryOp.operands[2]);
+                }
+                if (binaryOp.operands[0] == constReg) {
+                    // Addition is commutative, so the constant can be on either side
+                    return new InstructionIImm(InstructionCodes.IADD_IMM, value, constReg, binaryOp.operands[1],
+                            binaryOp.operands[2]);
+                }
+                return null;
+            case InstructionCodes.ISUB:
+                if (binaryOp.operands[1] == constReg) {
+                    return new InstructionIImm(InstructionCodes.ISUB_IMM, value, constReg, binaryOp.operands[0],
+                            binaryOp.operands[2]);
+                }
+                return null;
+            default:
+                return null;
+        }
+    }
+}
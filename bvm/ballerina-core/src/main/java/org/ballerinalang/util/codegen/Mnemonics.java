@@ -252,6 +252,10 @@ public class Mnemonics {
         mnemonics[InstructionCodes.XML2S] = "xml2s";
         mnemonics[InstructionCodes.LOCK] = "lock";
         mnemonics[InstructionCodes.UNLOCK] = "unlock";
+
+        mnemonics[InstructionCodes.ICMP_BR] = "icmp_br";
+        mnemonics[InstructionCodes.IADD_IMM] = "iadd_imm";
+        mnemonics[InstructionCodes.ISUB_IMM] = "isub_imm";
     }
 
     public static String getMnem(int opcode) {
@@ -54,6 +54,7 @@ public class PackageInfo implements ConstantPool, AttributeInfoPool {
     private List<ConstantPoolEntry> constantPoolEntries = new ArrayList<>();
 
     private Instruction[] instructions;
+    private Instruction[] preDecodedInstructions;
     private List<Instruction> instructionList = new ArrayList<>();
 
     private Map<String, PackageVarInfo> constantInfoMap = new LinkedHashMap<>();
@@ -199,6 +200,20 @@ public class PackageInfo implements ConstantPool, AttributeInfoPool {
         return instructions;
     }
 
+    /**
+     * Returns the instructions to be executed by the CPU. These are the pre-decoded instructions, if the
+     * package was pre-decoded when loading, otherwise the instructions as in the bytecode.
+     *
+     * @return the executable instructions
+     */
+    public Instruction[] getExecutableInstructions() {
+        return preDecodedInstructions != null ? preDecodedInstructions : instructions;
+    }
+
+    public void setPreDecodedInstructions(Instruction[] preDecodedInstructions) {
+        this.preDecodedInstructions = preDecodedInstructions;
+    }
+
     public int getInstructionCount() {
         return instructionList.size();
     }
@@ -17,6 +17,7 @@
  */
 package org.ballerinalang.util.codegen;
 
+import org.ballerinalang.bre.bvm.WorkerDataPool;
 import org.ballerinalang.model.NativeCallableUnit;
 import org.ballerinalang.model.types.BArrayType;
 import org.ballerinalang.model.types.BAttachedFunction;
@@ -354,6 +355,31 @@ public class PackageInfoReader {
         readInstructions(packageInfo);
 
         packageInfo.complete();
+
+        if (InstructionPreDecoder.isEnabled()) {
+            packageInfo.setPreDecodedInstructions(InstructionPreDecoder.preDecode(packageInfo.getInstructions(),
+                    packageInfo.getConstPoolEntries()));
+        }
+
+        if (WorkerDataPool.isEnabled()) {
+            attachWorkerDataPools(packageInfo);
+        }
+    }
+
+    private void attachWorkerDataPools(PackageInfo packageInfo) {
+        for (FunctionInfo functionInfo : packageInfo.getFunctionInfoEntries()) {
+            if (functionInfo.isNative()) {
+                continue;
+            }
+            // Frames are pooled only for functions with a single worker, since the frame of an init worker is
+            // read after it has returned
+            CallableUnitInfo.WorkerSet workerSet = functionInfo.getWorkerSet();
+            if (workerSet.initWorker != null || workerSet.generalWorkers.length != 1) {
+                continue;
+            }
+            WorkerInfo workerInfo = workerSet.generalWorkers[0];
+            workerInfo.setWorkerDataPool(new WorkerDataPool(workerInfo.getCodeAttributeInfo()));
+        }
     }
 
     private void readImportPackageInfoEntries(PackageInfo packageInfo) throws IOException {
@@ -1688,15 +1714,15 @@ public class PackageInfoReader {
         switch (typeDesc) {
             case TypeSignature.SIG_BOOLEAN:
                 boolean boolValue = defaultValue.getBooleanValue();
-                value = new BBoolean(boolValue);
+                value = BBoolean.valueOf(boolValue);
                 break;
             case TypeSignature.SIG_INT:
                 long intValue = defaultValue.getIntValue();
-                value = new BInteger(intValue);
+                value = BInteger.valueOf(intValue);
                 break;
             case TypeSignature.SIG_BYTE:
                 byte byteValue = defaultValue.getByteValue();
-                value = new BByte(byteValue);
+                value = BByte.valueOf(byteValue);
                 break;
             case TypeSignature.SIG_FLOAT:
                 double floatValue = defaultValue.getFloatValue();
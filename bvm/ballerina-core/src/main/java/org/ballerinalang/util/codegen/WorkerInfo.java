@@ -16,6 +16,7 @@
 */
 package org.ballerinalang.util.codegen;
 
+import org.ballerinalang.bre.bvm.WorkerDataPool;
 import org.ballerinalang.util.codegen.attributes.AttributeInfo;
 import org.ballerinalang.util.codegen.attributes.AttributeInfoPool;
 import org.ballerinalang.util.codegen.attributes.CodeAttributeInfo;
@@ -45,6 +46,8 @@ public class WorkerInfo implements AttributeInfoPool {
 
     private Map<AttributeInfo.Kind, AttributeInfo> attributeInfoMap = new HashMap<>();
 
+    private WorkerDataPool workerDataPool;
+
     public WorkerInfo(int workerNameCPIndex, String workerName) {
         this.workerName = workerName;
         this.workerNameCPIndex = workerNameCPIndex;
@@ -70,6 +73,14 @@ public class WorkerInfo implements AttributeInfoPool {
         this.attributeInfoMap.put(AttributeInfo.Kind.CODE_ATTRIBUTE, codeAttributeInfo);
     }
 
+    public WorkerDataPool getWorkerDataPool() {
+        return workerDataPool;
+    }
+
+    public void setWorkerDataPool(WorkerDataPool workerDataPool) {
+        this.workerDataPool = workerDataPool;
+    }
+
     public AttributeInfo getAttributeInfo(AttributeInfo.Kind attributeKind) {
         return attributeInfoMap.get(attributeKind);
     }
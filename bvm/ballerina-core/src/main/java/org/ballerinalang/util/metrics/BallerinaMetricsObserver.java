@@ -22,15 +22,23 @@ import org.ballerinalang.util.observability.ObserverContext;
 
 import java.io.PrintStream;
 import java.time.Duration;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
 
 import static org.ballerinalang.util.observability.ObservabilityConstants.PROPERTY_ERROR;
 import static org.ballerinalang.util.observability.ObservabilityConstants.TAG_KEY_HTTP_STATUS_CODE;
 
 /**
  * Observe the runtime and collect measurements.
+ * <p>
+ * Metrics are resolved from the registry once per connector and service/resource or action, and once per distinct
+ * set of tags of the observer context. Observations afterwards only update the resolved metrics.
  */
 public class BallerinaMetricsObserver implements BallerinaObserver {
 
@@ -58,17 +66,26 @@ public class BallerinaMetricsObserver implements BallerinaObserver {
                     .build()
     };
 
+    /**
+     * Metric handles per connector name, service name and resource name of server observations.
+     */
+    private static final ConcurrentMap<String, ConcurrentMap<String, ConcurrentMap<String, ObservationMetrics>>>
+            serverMetrics = new ConcurrentHashMap<>();
+
+    /**
+     * Metric handles per connector name and action name of client observations.
+     */
+    private static final ConcurrentMap<String, ConcurrentMap<String, ObservationMetrics>> clientMetrics =
+            new ConcurrentHashMap<>();
+
     @Override
     public void startServerObservation(ObserverContext observerContext) {
-        String[] mainTags = {TAG_KEY_SERVICE, observerContext.getServiceName(), TAG_KEY_RESOURCE,
-                observerContext.getResourceName()};
-        startObservation(observerContext, mainTags);
+        startObservation(observerContext, this::getServerMetrics);
     }
 
     @Override
     public void startClientObservation(ObserverContext observerContext) {
-        String[] mainTags = {TAG_KEY_ACTION, observerContext.getActionName()};
-        startObservation(observerContext, mainTags);
+        startObservation(observerContext, this::getClientMetrics);
     }
 
     @Override
@@ -77,9 +94,7 @@ public class BallerinaMetricsObserver implements BallerinaObserver {
             // Do not collect metrics if the observation hasn't started
             return;
         }
-        String[] mainTags = {TAG_KEY_SERVICE, observerContext.getServiceName(), TAG_KEY_RESOURCE,
-                observerContext.getResourceName()};
-        stopObservation(observerContext, mainTags);
+        stopObservation(observerContext, this::getServerMetrics);
     }
 
     @Override
@@ -88,89 +103,196 @@ public class BallerinaMetricsObserver implements BallerinaObserver {
             // Do not collect metrics if the observation hasn't started
             return;
         }
-        String[] mainTags = {TAG_KEY_ACTION, observerContext.getActionName()};
-        stopObservation(observerContext, mainTags);
+        stopObservation(observerContext, this::getClientMetrics);
     }
 
-    private void startObservation(ObserverContext observerContext, String[] mainTags) {
+    private void startObservation(ObserverContext observerContext,
+                                  Function<ObserverContext, ObservationMetrics> metricsResolver) {
         observerContext.addProperty(PROPERTY_START_TIME, System.nanoTime());
-        String connectorName = observerContext.getConnectorName();
-        Set<Tag> mainTagSet = new HashSet<>(mainTags.length);
         try {
-            // Tags are validated (both key and value should not be null)
-            Tags.tags(mainTagSet, mainTags);
-            getInprogressGauge(connectorName, mainTagSet).increment();
+            metricsResolver.apply(observerContext).inprogressGauge.increment();
         } catch (RuntimeException e) {
-            handleError(connectorName, mainTagSet, e);
+            handleError(observerContext, e);
         }
     }
 
-    private void stopObservation(ObserverContext observerContext, String[] mainTags) {
-        // Connector name must be a part of the metric name to make sure that every metric is unique with
-        // the combination of name and tags.
-        String connectorName = observerContext.getConnectorName();
-        Map<String, String> tags = observerContext.getTags();
-        Set<Tag> allTags = new HashSet<>(tags.size() + mainTags.length);
+    private void stopObservation(ObserverContext observerContext,
+                                 Function<ObserverContext, ObservationMetrics> metricsResolver) {
         try {
-            // Tags are validated (both key and value should not be null)
-            Tags.tags(allTags, observerContext.getTags());
-            Tags.tags(allTags, mainTags);
-            Set<Tag> mainTagSet = new HashSet<>(mainTags.length);
-            Tags.tags(mainTagSet, mainTags);
+            ObservationMetrics metrics = metricsResolver.apply(observerContext);
+            Map<String, String> tags = observerContext.getTags();
+            RequestMetrics requestMetrics = metrics.getRequestMetrics(tags);
             Long startTime = (Long) observerContext.getProperty(PROPERTY_START_TIME);
             long duration = System.nanoTime() - startTime;
-            getInprogressGauge(connectorName, mainTagSet).decrement();
-            metricRegistry.gauge(new MetricId(connectorName + "_response_time_seconds", "Response Time",
-                    allTags), responseTimeStatisticConfigs).setValue(duration / 1E9);
-            metricRegistry.counter(new MetricId(connectorName + "_requests_total",
-                    "Total number of requests", allTags)).increment();
+            metrics.inprogressGauge.decrement();
+            requestMetrics.responseTimeGauge.setValue(duration / 1E9);
+            requestMetrics.requestsCounter.increment();
             // Check HTTP status code
             String statusCode = tags.get(TAG_KEY_HTTP_STATUS_CODE);
             if (statusCode != null) {
                 int httpStatusCode = Integer.parseInt(statusCode);
                 if (httpStatusCode > 0) {
-                    incrementHttpStatusCodeCounters(httpStatusCode, connectorName, mainTagSet);
+                    Counter statusCodeCounter = metrics.getHttpStatusCodeCounter(httpStatusCode);
+                    if (statusCodeCounter != null) {
+                        statusCodeCounter.increment();
+                    }
                 }
             }
             Boolean error = (Boolean) observerContext.getProperty(PROPERTY_ERROR);
             if (error != null && error) {
-                metricRegistry.counter(new MetricId(connectorName + "_failed_requests_total",
-                        "Total number of failed requests", allTags)).increment();
+                requestMetrics.getFailedRequestsCounter().increment();
             }
         } catch (RuntimeException e) {
-            handleError(connectorName, allTags, e);
+            handleError(observerContext, e);
         }
     }
 
-    private Gauge getInprogressGauge(String connectorName, Set<Tag> tags) {
-        return metricRegistry.gauge(new MetricId(connectorName + "_inprogress_requests",
-                "Inprogress Requests", tags));
+    private ObservationMetrics getServerMetrics(ObserverContext observerContext) {
+        String connectorName = observerContext.getConnectorName();
+        String serviceName = observerContext.getServiceName();
+        String resourceName = observerContext.getResourceName();
+        return getOrCreate(getOrCreate(getOrCreate(serverMetrics, connectorName, k -> new ConcurrentHashMap<>()),
+                serviceName, k -> new ConcurrentHashMap<>()), resourceName,
+                k -> new ObservationMetrics(connectorName,
+                        TAG_KEY_SERVICE, serviceName, TAG_KEY_RESOURCE, resourceName));
     }
 
-    private void incrementHttpStatusCodeCounters(int statusCode, String connectorName, Set<Tag> tags) {
-        if (statusCode >= 100 && statusCode < 200) {
-            metricRegistry.counter(new MetricId(connectorName + "_1XX_requests_total",
-                    "Total number of requests that resulted in HTTP 1xx informational responses", tags))
-                    .increment();
-        } else if (statusCode < 300) {
-            metricRegistry.counter(new MetricId(connectorName + "_2XX_requests_total",
-                    "Total number of requests that resulted in HTTP 2xx successful responses", tags))
-                    .increment();
-        } else if (statusCode < 400) {
-            metricRegistry.counter(new MetricId(connectorName + "_3XX_requests_total",
-                    "Total number of requests that resulted in HTTP 3xx redirections", tags)).increment();
-        } else if (statusCode < 500) {
-            metricRegistry.counter(new MetricId(connectorName + "_4XX_requests_total",
-                    "Total number of requests that resulted in HTTP 4xx client errors", tags)).increment();
-        } else if (statusCode < 600) {
-            metricRegistry.counter(new MetricId(connectorName + "_5XX_requests_total",
-                    "Total number of requests that resulted in HTTP 5xx server errors", tags)).increment();
-        }
+    private ObservationMetrics getClientMetrics(ObserverContext observerContext) {
+        String connectorName = observerContext.getConnectorName();
+        String actionName = observerContext.getActionName();
+        return getOrCreate(getOrCreate(clientMetrics, connectorName, k -> new ConcurrentHashMap<>()), actionName,
+                k -> new ObservationMetrics(connectorName, TAG_KEY_ACTION, actionName));
+    }
+
+    private static <V> V getOrCreate(ConcurrentMap<String, V> map, String key, Function<String, V> factory) {
+        // Avoid the locking in computeIfAbsent when the value is already there
+        V value = map.get(key);
+        return value != null ? value : map.computeIfAbsent(key, factory);
     }
 
-    private void handleError(String connectorName, Set<Tag> tags, RuntimeException e) {
+    private void handleError(ObserverContext observerContext, RuntimeException e) {
         // Metric Provider may throw exceptions if there is a mismatch in tags.
-        consoleError.println("error: error collecting metrics for " + connectorName + " with tags " + tags +
-                ": " + e.getMessage());
+        String mainTags = observerContext.isServer() ?
+                TAG_KEY_SERVICE + "=" + observerContext.getServiceName() + ", " + TAG_KEY_RESOURCE + "=" +
+                        observerContext.getResourceName() :
+                TAG_KEY_ACTION + "=" + observerContext.getActionName();
+        consoleError.println("error: error collecting metrics for " + observerContext.getConnectorName() +
+                " with tags [" + mainTags + "] " + observerContext.getTags() + ": " + e.getMessage());
+    }
+
+    /**
+     * Metrics of a connector for a given service and resource, or a given action. These are resolved from the
+     * registry once and updated directly afterwards.
+     */
+    private static class ObservationMetrics {
+
+        // Connector name must be a part of the metric name to make sure that every metric is unique with
+        // the combination of name and tags.
+        private final String connectorName;
+
+        private final String[] mainTags;
+
+        private final Set<Tag> mainTagSet;
+
+        private final Gauge inprogressGauge;
+
+        private final AtomicReferenceArray<Counter> httpStatusCodeCounters = new AtomicReferenceArray<>(5);
+
+        private final ConcurrentMap<Map<String, String>, RequestMetrics> requestMetrics = new ConcurrentHashMap<>();
+
+        ObservationMetrics(String connectorName, String... mainTags) {
+            this.connectorName = connectorName;
+            this.mainTags = mainTags;
+            Set<Tag> tags = new HashSet<>(mainTags.length);
+            // Tags are validated (both key and value should not be null)
+            Tags.tags(tags, mainTags);
+            this.mainTagSet = Tags.intern(tags);
+            this.inprogressGauge = metricRegistry.gauge(new MetricId(connectorName + "_inprogress_requests",
+                    "Inprogress Requests", mainTagSet));
+        }
+
+        RequestMetrics getRequestMetrics(Map<String, String> tags) {
+            RequestMetrics metrics = requestMetrics.get(tags);
+            if (metrics == null) {
+                // The tags of the observer context are mutable, therefore the key has to be a copy
+                Map<String, String> key = new HashMap<>(tags);
+                metrics = requestMetrics.computeIfAbsent(key, k -> new RequestMetrics(connectorName, k, mainTags));
+            }
+            return metrics;
+        }
+
+        Counter getHttpStatusCodeCounter(int statusCode) {
+            if (statusCode < 100 || statusCode >= 600) {
+                return null;
+            }
+            int index = statusCode / 100 - 1;
+            Counter counter = httpStatusCodeCounters.get(index);
+            if (counter == null) {
+                // The registry returns the same counter if this is resolved concurrently
+                counter = createHttpStatusCodeCounter(index);
+                httpStatusCodeCounters.set(index, counter);
+            }
+            return counter;
+        }
+
+        private Counter createHttpStatusCodeCounter(int index) {
+            switch (index) {
+                case 0:
+                    return metricRegistry.counter(new MetricId(connectorName + "_1XX_requests_total",
+                            "Total number of requests that resulted in HTTP 1xx informational responses",
+                            mainTagSet));
+                case 1:
+                    return metricRegistry.counter(new MetricId(connectorName + "_2XX_requests_total",
+                            "Total number of requests that resulted in HTTP 2xx successful responses", mainTagSet));
+                case 2:
+                    return metricRegistry.counter(new MetricId(connectorName + "_3XX_requests_total",
+                            "Total number of requests that resulted in HTTP 3xx redirections", mainTagSet));
+                case 3:
+                    return metricRegistry.counter(new MetricId(connectorName + "_4XX_requests_total",
+                            "Total number of requests that resulted in HTTP 4xx client errors", mainTagSet));
+                default:
+                    return metricRegistry.counter(new MetricId(connectorName + "_5XX_requests_total",
+                            "Total number of requests that resulted in HTTP 5xx server errors", mainTagSet));
+            }
+        }
+    }
+
+    /**
+     * Metrics of an {@link ObservationMetrics} for a given set of tags of the observer context.
+     */
+    private static class RequestMetrics {
+
+        private final String connectorName;
+
+        private final Set<Tag> allTags;
+
+        private final Gauge responseTimeGauge;
+
+        private final Counter requestsCounter;
+
+        private volatile Counter failedRequestsCounter;
+
+        RequestMetrics(String connectorName, Map<String, String> tags, String[] mainTags) {
+            this.connectorName = connectorName;
+            Set<Tag> allTags = new HashSet<>(tags.size() + mainTags.length);
+            // Tags are validated (both key and value should not be null)
+            Tags.tags(allTags, tags);
+            Tags.tags(allTags, mainTags);
+            this.allTags = Tags.intern(allTags);
+            this.responseTimeGauge = metricRegistry.gauge(new MetricId(connectorName + "_response_time_seconds",
+                    "Response Time", this.allTags), responseTimeStatisticConfigs);
+            this.requestsCounter = metricRegistry.counter(new MetricId(connectorName + "_requests_total",
+                    "Total number of requests", this.allTags));
+        }
+
+        Counter getFailedRequestsCounter() {
+            Counter counter = failedRequestsCounter;
+            if (counter == null) {
+                counter = metricRegistry.counter(new MetricId(connectorName + "_failed_requests_total",
+                        "Total number of failed requests", allTags));
+                failedRequestsCounter = counter;
+            }
+            return counter;
+        }
     }
 }
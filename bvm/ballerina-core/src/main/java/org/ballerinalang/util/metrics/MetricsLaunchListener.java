@@ -20,6 +20,7 @@ package org.ballerinalang.util.metrics;
 import org.ballerinalang.annotation.JavaSPIService;
 import org.ballerinalang.bre.bvm.BLangScheduler;
 import org.ballerinalang.config.ConfigRegistry;
+import org.ballerinalang.runtime.threadpool.ThreadPoolFactory;
 import org.ballerinalang.util.LaunchListener;
 import org.ballerinalang.util.metrics.noop.NoOpMetricProvider;
 import org.ballerinalang.util.metrics.noop.NoOpMetricReporter;
@@ -121,6 +122,16 @@ public class MetricsLaunchListener implements LaunchListener {
                 BLangScheduler.SchedulerStats::getWaitingForResponseWorkerCount).register();
         PolledGauge.builder(prefix + "waiting_for_lock_worker_count", schedulerStats,
                 BLangScheduler.SchedulerStats::getWaitingForLockWorkerCount).register();
+        if (ThreadPoolFactory.getInstance().getBlockingExecutor() != null) {
+            PolledGauge.builder(prefix + "blocking_active_thread_count", schedulerStats,
+                    BLangScheduler.SchedulerStats::getBlockingActiveThreadCount).register();
+            PolledGauge.builder(prefix + "blocking_pool_thread_count", schedulerStats,
+                    BLangScheduler.SchedulerStats::getBlockingPoolThreadCount).register();
+            PolledGauge.builder(prefix + "blocking_queued_task_count", schedulerStats,
+                    BLangScheduler.SchedulerStats::getBlockingQueuedTaskCount).register();
+            PolledGauge.builder(prefix + "blocking_completed_task_count", schedulerStats,
+                    BLangScheduler.SchedulerStats::getBlockingCompletedTaskCount).register();
+        }
     }
 
     @Override
@@ -17,14 +17,20 @@
  */
 package org.ballerinalang.util.metrics;
 
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Utility methods to add tags to an existing list of {@link Tag Tags}.
  */
 public class Tags {
 
+    private static final ConcurrentMap<Set<Tag>, Set<Tag>> internedTags = new ConcurrentHashMap<>();
+
     private Tags() {
     }
 
@@ -76,4 +82,21 @@ public class Tags {
     public static void tags(Set<Tag> tags, Map<String, String> tagsMap) {
         tagsMap.forEach((key, value) -> tags.add(Tag.of(key, value)));
     }
+
+    /**
+     * Get the canonical instance of a set of tags. Metrics which are resolved once and reused can share the same
+     * unmodifiable set of tags instead of keeping their own copies.
+     *
+     * @param tags A set of {@link Tag Tags}.
+     * @return An unmodifiable set of {@link Tag Tags} equal to the given set.
+     */
+    public static Set<Tag> intern(Set<Tag> tags) {
+        Set<Tag> interned = internedTags.get(tags);
+        if (interned != null) {
+            return interned;
+        }
+        Set<Tag> copy = Collections.unmodifiableSet(new HashSet<>(tags));
+        interned = internedTags.putIfAbsent(copy, copy);
+        return interned != null ? interned : copy;
+    }
 }
@@ -31,6 +31,7 @@ import org.ballerinalang.bre.bvm.ForkJoinWorkerResponseContext;
 import org.ballerinalang.bre.bvm.InitWorkerResponseContext;
 import org.ballerinalang.bre.bvm.SyncCallableWorkerResponseContext;
 import org.ballerinalang.bre.bvm.WorkerData;
+import org.ballerinalang.bre.bvm.WorkerDataPool;
 import org.ballerinalang.bre.bvm.WorkerExecutionContext;
 import org.ballerinalang.bre.bvm.WorkerResponseContext;
 import org.ballerinalang.model.InterruptibleNativeCallableUnit;
@@ -43,6 +44,7 @@ import org.ballerinalang.model.values.BValue;
 import org.ballerinalang.persistence.states.State;
 import org.ballerinalang.persistence.store.PersistenceStore;
 import org.ballerinalang.runtime.Constants;
+import org.ballerinalang.runtime.threadpool.ThreadPoolFactory;
 import org.ballerinalang.util.FunctionFlags;
 import org.ballerinalang.util.codegen.CallableUnitInfo;
 import org.ballerinalang.util.codegen.CallableUnitInfo.WorkerSet;
@@ -67,6 +69,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Semaphore;
 
 /**
@@ -319,7 +322,8 @@ public class BLangFunctions {
                     wdi, initWorkerLocalData, initWorkerCAI, false, observerContext);
         }
         WorkerExecutionContext runInCallerCtx = executeWorker(respCtx, parentCtx, argRegs, callableUnitInfo, 
-                workerSet.generalWorkers[0], wdi, initWorkerLocalData, initWorkerCAI, true, observerContext);
+                workerSet.generalWorkers[0], wdi, initWorkerLocalData, initWorkerCAI, true, observerContext,
+                getFramePool(workerSet.generalWorkers[0], parentCtx));
         if (waitForResponse) {
             BLangScheduler.executeNow(runInCallerCtx);
             respCallback.waitForResponse();
@@ -389,7 +393,15 @@ public class BLangFunctions {
         }
         try {
             ObserverContext observerContext = checkAndStartNativeCallableObservation(ctx, callableUnitInfo, flags);
-            if (nativeCallable.isBlocking()) {
+            ExecutorService blockingExecutor = ThreadPoolFactory.getInstance().getBlockingExecutor();
+            if (nativeCallable.isBlocking() && blockingExecutor != null) {
+                /* the blocking call runs on the blocking pool, while the parent waits for the response without
+                 * holding a worker thread, and is resumed on the worker pool when the call completes */
+                CallableUnitCallback callback = getNativeCallableUnitCallback(parentCtx, ctx, observerContext,
+                        retRegs, retTypes, flags);
+                BLangScheduler.executeBlockingNative(blockingExecutor, nativeCallable, ctx, callback);
+                return null;
+            } else if (nativeCallable.isBlocking()) {
                 nativeCallable.execute(ctx, null);
                 BLangVMUtils.populateWorkerDataWithValues(parentLocalData, retRegs, ctx.getReturnValues(), retTypes);
                 checkAndStopCallableObservation(observerContext, flags);
@@ -440,19 +452,43 @@ public class BLangFunctions {
             int[] argRegs, CallableUnitInfo callableUnitInfo, WorkerInfo workerInfo, WorkerDataIndex wdi,
             WorkerData initWorkerLocalData, CodeAttributeInfo initWorkerCAI, boolean runInCaller,
             ObserverContext observerContext) {
-        WorkerData workerLocal = BLangVMUtils
-                .createWorkerDataForLocal(workerInfo, parentCtx, argRegs, callableUnitInfo.getParamTypes());
+        return executeWorker(respCtx, parentCtx, argRegs, callableUnitInfo, workerInfo, wdi, initWorkerLocalData,
+                initWorkerCAI, runInCaller, observerContext, null);
+    }
+
+    private static WorkerExecutionContext executeWorker(WorkerResponseContext respCtx, WorkerExecutionContext parentCtx,
+            int[] argRegs, CallableUnitInfo callableUnitInfo, WorkerInfo workerInfo, WorkerDataIndex wdi,
+            WorkerData initWorkerLocalData, CodeAttributeInfo initWorkerCAI, boolean runInCaller,
+            ObserverContext observerContext, WorkerDataPool framePool) {
+        WorkerData workerLocal;
+        if (framePool != null) {
+            workerLocal = BLangVMUtils.createWorkerDataForLocal(framePool, parentCtx, argRegs,
+                    callableUnitInfo.getParamTypes());
+        } else {
+            workerLocal = BLangVMUtils.createWorkerDataForLocal(workerInfo, parentCtx, argRegs,
+                    callableUnitInfo.getParamTypes());
+        }
         if (initWorkerLocalData != null) {
             BLangVMUtils.mergeInitWorkertData(initWorkerLocalData, workerLocal, initWorkerCAI);
         }
         WorkerData workerResult = BLangVMUtils.createWorkerData(wdi);
         WorkerExecutionContext ctx = new WorkerExecutionContext(parentCtx, respCtx, callableUnitInfo, workerInfo,
                 workerLocal, workerResult, wdi.retRegs, runInCaller);
+        ctx.framePool = framePool;
         ObservabilityUtils.setObserverContextToWorkerExecutionContext(ctx, observerContext);
         BLangScheduler.schedule(ctx);
         return ctx;
     }
     
+    private static WorkerDataPool getFramePool(WorkerInfo workerInfo, WorkerExecutionContext parentCtx) {
+        // The frame of an interruptible worker may be persisted and the debugger may inspect frames at any time,
+        // hence frames are not reused in those cases
+        if (parentCtx.interruptible || parentCtx.programFile.getDebugger().isDebugEnabled()) {
+            return null;
+        }
+        return workerInfo.getWorkerDataPool();
+    }
+
     private static WorkerData executeInitWorker(WorkerExecutionContext parentCtx, int[] argRegs,
             CallableUnitInfo callableUnitInfo, WorkerInfo workerInfo, WorkerDataIndex wdi,
             ObserverContext observerContext) {
@@ -20,6 +20,7 @@ package org.ballerinalang.util.program;
 import org.ballerinalang.bre.bvm.CPU;
 import org.ballerinalang.bre.bvm.CPU.HandleErrorException;
 import org.ballerinalang.bre.bvm.WorkerData;
+import org.ballerinalang.bre.bvm.WorkerDataPool;
 import org.ballerinalang.bre.bvm.WorkerExecutionContext;
 import org.ballerinalang.model.types.BType;
 import org.ballerinalang.model.types.TypeTags;
@@ -118,6 +119,13 @@ public class BLangVMUtils {
         return wd;
     }
 
+    public static WorkerData createWorkerDataForLocal(WorkerDataPool framePool, WorkerExecutionContext parentCtx,
+            int[] argRegs, BType[] paramTypes) {
+        WorkerData wd = framePool.acquire();
+        BLangVMUtils.copyArgValues(parentCtx.workerLocal, wd, argRegs, paramTypes);
+        return wd;
+    }
+
     static WorkerData createWorkerDataForLocal(WorkerInfo workerInfo, WorkerExecutionContext parentCtx,
                                                int[] argRegs) {
         WorkerData wd = createWorkerData(workerInfo);
@@ -243,10 +251,10 @@ public class BLangVMUtils {
             BType retType = retTypes[i];
             switch (retType.getTag()) {
             case TypeTags.INT_TAG:
-                returnValues[i] = new BInteger(data.longRegs[retRegs[i]]);
+                returnValues[i] = BInteger.valueOf(data.longRegs[retRegs[i]]);
                 break;
             case TypeTags.BYTE_TAG:
-                returnValues[i] = new BByte((byte) data.intRegs[retRegs[i]]);
+                returnValues[i] = BByte.valueOf((byte) data.intRegs[retRegs[i]]);
                 break;
             case TypeTags.FLOAT_TAG:
                 returnValues[i] = new BFloat(data.doubleRegs[retRegs[i]]);
@@ -256,7 +264,7 @@ public class BLangVMUtils {
                 break;
             case TypeTags.BOOLEAN_TAG:
                 boolean boolValue = data.intRegs[retRegs[i]] == 1;
-                returnValues[i] = new BBoolean(boolValue);
+                returnValues[i] = BBoolean.valueOf(boolValue);
                 break;
             default:
                 returnValues[i] = data.refRegs[retRegs[i]];
@@ -46,7 +46,7 @@ public class TransactionUtils {
             int transactionBlockId, String protocol) {
         BValue[] args = {
                 (globalTransactionId == null ? null : new BString(globalTransactionId)),
-                new BInteger(transactionBlockId), new BString(url),
+                BInteger.valueOf(transactionBlockId), new BString(url),
                 new BString(protocol)
         };
         BValue[] returns = invokeCoordinatorFunction(ctx, TransactionConstants.COORDINATOR_BEGIN_TRANSACTION, args);
@@ -56,20 +56,20 @@ public class TransactionUtils {
 
     public static void notifyTransactionEnd(WorkerExecutionContext ctx, String globalTransactionId,
             int transactionBlockId) {
-        BValue[] args = {new BString(globalTransactionId), new BInteger(transactionBlockId)};
+        BValue[] args = {new BString(globalTransactionId), BInteger.valueOf(transactionBlockId)};
         BValue[] returns = invokeCoordinatorFunction(ctx, TransactionConstants.COORDINATOR_END_TRANSACTION, args);
         checkTransactionCoordinatorError(returns[0], ctx, "error in transaction end: ");
     }
 
     public static void notifyTransactionAbort(WorkerExecutionContext ctx, String globalTransactionId,
             int transactionBlockId) {
-        BValue[] args = {new BString(globalTransactionId), new BInteger(transactionBlockId)};
+        BValue[] args = {new BString(globalTransactionId), BInteger.valueOf(transactionBlockId)};
         invokeCoordinatorFunction(ctx, TransactionConstants.COORDINATOR_ABORT_TRANSACTION, args);
     }
 
     public static boolean isInitiator(WorkerExecutionContext ctx, String globalTransactionId,
             int transactionBlockId) {
-        BValue[] args = {new BString(globalTransactionId), new BInteger(transactionBlockId)};
+        BValue[] args = {new BString(globalTransactionId), BInteger.valueOf(transactionBlockId)};
         BValue[] returns = invokeCoordinatorFunction(ctx, TransactionConstants.COORDINATOR_IS_INITIATOR, args);
         return ((BBoolean) returns[0]).booleanValue();
     }
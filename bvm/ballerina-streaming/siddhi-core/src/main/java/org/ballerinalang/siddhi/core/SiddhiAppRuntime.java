@@ -350,6 +350,10 @@ public class SiddhiAppRuntime {
         return tableMap.values();
     }
 
+    public Collection<StreamJunction> getStreamJunctions() {
+        return streamJunctionMap.values();
+    }
+
     public synchronized void start() {
         try {
             if (siddhiAppContext.isStatsEnabled() && siddhiAppContext.getStatisticsManager() != null) {
@@ -569,6 +573,30 @@ public class SiddhiAppRuntime {
         }
     }
 
+    public Map<String, byte[]> snapshotElements() {
+        try {
+            // first, pause all the event sources
+            sourceMap.values().forEach(list -> list.forEach(Source::pause));
+            // take snapshots of each execution unit
+            return siddhiAppContext.getSnapshotService().snapshotElements();
+        } finally {
+            // at the end, resume the event sources
+            sourceMap.values().forEach(list -> list.forEach(Source::resume));
+        }
+    }
+
+    public void restoreElements(Map<String, byte[]> snapshots) throws CannotRestoreSiddhiAppStateException {
+        try {
+            // first, pause all the event sources
+            sourceMap.values().forEach(list -> list.forEach(Source::pause));
+            // start the restoring process
+            siddhiAppContext.getSnapshotService().restoreElements(snapshots);
+        } finally {
+            // at the end, resume the event sources
+            sourceMap.values().forEach(list -> list.forEach(Source::resume));
+        }
+    }
+
     public void restoreRevision(String revision) throws CannotRestoreSiddhiAppStateException {
         try {
             // first, pause all the event sources
@@ -20,7 +20,9 @@ package org.ballerinalang.siddhi.core.stream;
 
 import com.lmax.disruptor.BlockingWaitStrategy;
 import com.lmax.disruptor.EventHandler;
+import com.lmax.disruptor.InsufficientCapacityException;
 import com.lmax.disruptor.RingBuffer;
+import com.lmax.disruptor.WorkHandler;
 import com.lmax.disruptor.dsl.Disruptor;
 import com.lmax.disruptor.dsl.ProducerType;
 import org.ballerinalang.siddhi.core.config.SiddhiAppContext;
@@ -47,18 +49,27 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Stream Junction is the place where streams are collected and distributed. There will be an Stream Junction per
  * evey event stream. {@link StreamJunction.Publisher} can be used to publish events to the junction and
  * {@link StreamJunction.Receiver} can be used to receive events from Stream Junction. Stream Junction will hold the
  * events till they are consumed by registered Receivers.
+ * <p>
+ * A stream annotated with {@code @Async} hands events over to its receivers through a Disruptor ring buffer of
+ * {@code buffer.size} events. With {@code workers} greater than one, each receiver consumes the ring buffer with a
+ * pool of workers, which does not preserve the order of events, and the queries reading the stream are locked so
+ * that the workers do not process their state at once. Publishers which find the ring buffer full are counted and
+ * block until space is available.
  */
 public class StreamJunction implements EventBufferHolder {
     private static final Logger log = LoggerFactory.getLogger(StreamJunction.class);
     private final SiddhiAppContext siddhiAppContext;
     private final StreamDefinition streamDefinition;
     private int bufferSize;
+    private int workers = 1;
+    private final LongAdder blockedPublishes = new LongAdder();
     private List<Receiver> receivers = new CopyOnWriteArrayList<Receiver>();
     private List<Publisher> publishers = Collections.synchronizedList(new LinkedList<>());
     private ExecutorService executorService;
@@ -88,6 +99,10 @@ public class StreamJunction implements EventBufferHolder {
                 if (bufferSizeString != null) {
                     this.bufferSize = Integer.parseInt(bufferSizeString);
                 }
+                String workersString = annotation.getElement(SiddhiConstants.ANNOTATION_ELEMENT_WORKERS);
+                if (workersString != null) {
+                    this.workers = Integer.parseInt(workersString);
+                }
             }
 
         } catch (DuplicateAnnotationException e) {
@@ -108,7 +123,7 @@ public class StreamJunction implements EventBufferHolder {
                 if (throughputTracker != null && siddhiAppContext.isStatsEnabled()) {
                     throughputTracker.eventIn();
                 }
-                long sequenceNo = ringBuffer.next();
+                long sequenceNo = nextSequence();
                 try {
                     Event existingEvent = ringBuffer.get(sequenceNo);
                     existingEvent.copyFrom(complexEventList);
@@ -140,7 +155,7 @@ public class StreamJunction implements EventBufferHolder {
             log.trace(event + " event is received by streamJunction " + this);
         }
         if (disruptor != null) {
-            long sequenceNo = ringBuffer.next();
+            long sequenceNo = nextSequence();
             try {
                 Event existingEvent = ringBuffer.get(sequenceNo);
                 existingEvent.copyFrom(event);
@@ -162,15 +177,7 @@ public class StreamJunction implements EventBufferHolder {
             log.trace("Event is received by streamJunction " + this);
         }
         if (disruptor != null) {
-            for (Event event : events) {   // Todo : optimize for arrays
-                long sequenceNo = ringBuffer.next();
-                try {
-                    Event existingEvent = ringBuffer.get(sequenceNo);
-                    existingEvent.copyFrom(event);
-                } finally {
-                    ringBuffer.publish(sequenceNo);
-                }
-            }
+            publishBatch(events);
         } else {
             for (Receiver receiver : receivers) {
                 receiver.receive(events);
@@ -183,15 +190,7 @@ public class StreamJunction implements EventBufferHolder {
             log.trace("Event is received by streamJunction " + this);
         }
         if (disruptor != null) {
-            for (Event event : events) {   // Todo : optimize for arrays
-                long sequenceNo = ringBuffer.next();
-                try {
-                    Event existingEvent = ringBuffer.get(sequenceNo);
-                    existingEvent.copyFrom(event);
-                } finally {
-                    ringBuffer.publish(sequenceNo);
-                }
-            }
+            publishBatch(events.toArray(new Event[events.size()]));
         } else {
             for (Receiver receiver : receivers) {
                 receiver.receive(events.toArray(new Event[events.size()]));
@@ -209,7 +208,7 @@ public class StreamJunction implements EventBufferHolder {
             throughputTracker.eventIn();
         }
         if (disruptor != null) {
-            long sequenceNo = ringBuffer.next();
+            long sequenceNo = nextSequence();
             try {
                 Event existingEvent = ringBuffer.get(sequenceNo);
                 existingEvent.setTimestamp(timeStamp);
@@ -225,6 +224,36 @@ public class StreamJunction implements EventBufferHolder {
         }
     }
 
+    private void publishBatch(Event[] events) {
+        // Claim a run of slots at once, in chunks which fit in the ring buffer
+        int offset = 0;
+        while (offset < events.length) {
+            int count = Math.min(events.length - offset, bufferSize);
+            long hi = nextSequence(count);
+            long lo = hi - count + 1;
+            try {
+                for (long sequenceNo = lo; sequenceNo <= hi; sequenceNo++) {
+                    ringBuffer.get(sequenceNo).copyFrom(events[offset++]);
+                }
+            } finally {
+                ringBuffer.publish(lo, hi);
+            }
+        }
+    }
+
+    private long nextSequence() {
+        return nextSequence(1);
+    }
+
+    private long nextSequence(int count) {
+        try {
+            return ringBuffer.tryNext(count);
+        } catch (InsufficientCapacityException e) {
+            blockedPublishes.increment();
+            return ringBuffer.next(count);
+        }
+    }
+
     /**
      * Create and start disruptor based on annotations given in the streamDefinition.
      */
@@ -246,7 +275,15 @@ public class StreamJunction implements EventBufferHolder {
                 disruptor.handleExceptionsWith(siddhiAppContext.getDisruptorExceptionHandler());
             }
             for (Receiver receiver : receivers) {
-                disruptor.handleEventsWith(new StreamHandler(receiver));
+                if (workers > 1) {
+                    StreamWorkHandler[] workHandlers = new StreamWorkHandler[workers];
+                    for (int i = 0; i < workers; i++) {
+                        workHandlers[i] = new StreamWorkHandler(receiver);
+                    }
+                    disruptor.handleEventsWithWorkerPool(workHandlers);
+                } else {
+                    disruptor.handleEventsWith(new StreamHandler(receiver));
+                }
             }
             ringBuffer = disruptor.start();
         } else {
@@ -300,6 +337,27 @@ public class StreamJunction implements EventBufferHolder {
         return 0L;
     }
 
+    public boolean isAsync() {
+        return async;
+    }
+
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    public int getWorkers() {
+        return workers;
+    }
+
+    /**
+     * Returns the number of times a publisher found the ring buffer full and had to wait for space.
+     *
+     * @return number of blocked publishes
+     */
+    public long getBlockedPublishes() {
+        return blockedPublishes.sum();
+    }
+
     @Override
     public boolean containsBufferedEvents() {
         return (!receivers.isEmpty() && async);
@@ -339,6 +397,22 @@ public class StreamJunction implements EventBufferHolder {
         }
     }
 
+    /**
+     * Handler of a worker pool, where each event is received by only one of the workers of a receiver.
+     */
+    public class StreamWorkHandler implements WorkHandler<Event> {
+
+        private Receiver receiver;
+
+        public StreamWorkHandler(Receiver receiver) {
+            this.receiver = receiver;
+        }
+
+        public void onEvent(Event event) {
+            receiver.receive(event);
+        }
+    }
+
     /**
      * Interface to be implemented to send events into the Stream Junction.
      */
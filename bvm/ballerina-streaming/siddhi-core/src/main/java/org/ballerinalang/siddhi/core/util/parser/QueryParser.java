@@ -41,6 +41,7 @@ import org.ballerinalang.siddhi.core.util.lock.LockWrapper;
 import org.ballerinalang.siddhi.core.util.parser.helper.QueryParserHelper;
 import org.ballerinalang.siddhi.core.util.statistics.LatencyTracker;
 import org.ballerinalang.siddhi.core.window.Window;
+import org.ballerinalang.siddhi.query.api.annotation.Annotation;
 import org.ballerinalang.siddhi.query.api.annotation.Element;
 import org.ballerinalang.siddhi.query.api.definition.AbstractDefinition;
 import org.ballerinalang.siddhi.query.api.exception.DuplicateDefinitionException;
@@ -136,7 +137,8 @@ public class QueryParser {
                     lockWrapper.setLock(new ReentrantLock());   // LockWrapper does not have a default lock
                 }
             } else {
-                if (isWindow || !(streamRuntime instanceof SingleStreamRuntime)) {
+                if (isWindow || !(streamRuntime instanceof SingleStreamRuntime)
+                        || hasConcurrentWorkers(query, streamDefinitionMap)) {
                     if (streamRuntime instanceof JoinStreamRuntime) {
                         // If at least one Window is involved in the join, use the LockWrapper of that window
                         // for the query as well.
@@ -230,5 +232,26 @@ public class QueryParser {
         return queryRuntime;
     }
 
+    /**
+     * Checks whether the input stream of a query is consumed by several workers of an async junction, in which case
+     * the query receives events from several threads at once and needs a lock even without a window.
+     */
+    private static boolean hasConcurrentWorkers(Query query, Map<String, AbstractDefinition> streamDefinitionMap) {
+        if (!(query.getInputStream() instanceof SingleInputStream)) {
+            return false;
+        }
+        AbstractDefinition definition = streamDefinitionMap.get(
+                ((SingleInputStream) query.getInputStream()).getStreamId());
+        if (definition == null) {
+            return false;
+        }
+        Annotation asyncAnnotation = AnnotationHelper.getAnnotation(SiddhiConstants.ANNOTATION_ASYNC,
+                definition.getAnnotations());
+        if (asyncAnnotation == null) {
+            return false;
+        }
+        String workers = asyncAnnotation.getElement(SiddhiConstants.ANNOTATION_ELEMENT_WORKERS);
+        return workers != null && Integer.parseInt(workers) > 1;
+    }
 
 }
@@ -128,6 +128,50 @@ public class SnapshotService {
     public void restore(byte[] snapshot) throws CannotRestoreSiddhiAppStateException {
         Map<String, Map<String, Object>> snapshots = (Map<String, Map<String, Object>>)
                 ByteSerializer.byteToObject(snapshot, siddhiAppContext);
+        restoreStates(snapshots);
+    }
+
+    /**
+     * Takes a snapshot of each processing element separately, so that the elements which did not change since an
+     * earlier snapshot can be identified by comparing their serialized states.
+     *
+     * @return serialized state of each processing element, by element id
+     */
+    public Map<String, byte[]> snapshotElements() {
+        Map<String, byte[]> snapshots = new HashMap<>();
+        try {
+            threadBarrier.lock();
+            for (List<Snapshotable> snapshotables : snapshotableMap.values()) {
+                for (Snapshotable snapshotable : snapshotables) {
+                    byte[] state = ByteSerializer.objectToByte(snapshotable.currentState(), siddhiAppContext);
+                    if (state != null) {
+                        snapshots.put(snapshotable.getElementId(), state);
+                    }
+                }
+            }
+        } finally {
+            threadBarrier.unlock();
+        }
+        return snapshots;
+    }
+
+    /**
+     * Restores the processing elements from snapshots taken by {@link #snapshotElements()}.
+     *
+     * @param snapshots serialized state of each processing element, by element id
+     * @throws CannotRestoreSiddhiAppStateException if the snapshots do not match the processing elements
+     */
+    public void restoreElements(Map<String, byte[]> snapshots) throws CannotRestoreSiddhiAppStateException {
+        Map<String, Map<String, Object>> states = new HashMap<>(snapshots.size());
+        for (Map.Entry<String, byte[]> entry : snapshots.entrySet()) {
+            states.put(entry.getKey(), (Map<String, Object>) ByteSerializer.byteToObject(entry.getValue(),
+                    siddhiAppContext));
+        }
+        restoreStates(states);
+    }
+
+    private void restoreStates(Map<String, Map<String, Object>> snapshots)
+            throws CannotRestoreSiddhiAppStateException {
         List<Snapshotable> snapshotableList;
         try {
             threadBarrier.lock();
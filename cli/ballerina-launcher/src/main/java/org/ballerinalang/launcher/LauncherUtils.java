@@ -155,6 +155,10 @@ public class LauncherUtils {
         try {
             ThreadPoolFactory.getInstance().getWorkerExecutor().shutdown();
             ThreadPoolFactory.getInstance().getWorkerExecutor().awaitTermination(10000, TimeUnit.MILLISECONDS);
+            if (ThreadPoolFactory.getInstance().getBlockingExecutor() != null) {
+                ThreadPoolFactory.getInstance().getBlockingExecutor().shutdown();
+                ThreadPoolFactory.getInstance().getBlockingExecutor().awaitTermination(10000, TimeUnit.MILLISECONDS);
+            }
         } catch (InterruptedException ex) {
             // Ignore the error
         }
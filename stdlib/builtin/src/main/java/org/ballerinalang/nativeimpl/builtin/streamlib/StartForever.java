@@ -70,7 +70,9 @@ public class StartForever extends BlockingNativeCallableUnit {
             siddhiQuery = siddhiQuery.replaceFirst("\\[\\[streamName\\]\\]", stream.getStreamId());
 
             BField[] structFieldArray = ((BStructureType) stream.getConstraintType()).getFields();
-            StringBuilder streamDefinition = new StringBuilder("define stream ");
+            StringBuilder streamDefinition = new StringBuilder(
+                    StreamingRuntimeManager.getInstance().getStreamAnnotation(stream.getStreamId()));
+            streamDefinition.append("define stream ");
             streamDefinition.append(stream.getStreamId()).append("( ");
             generateStreamDefinition(structFieldArray, streamDefinition);
             streamDefinitionQuery.append(streamDefinition).append("\n ");
@@ -29,6 +29,15 @@
 # + minimumIdle - Minimum number of idle connections that pool tries to maintain in the pool. Default is same as maximumPoolSize
 # + maxLifetime - Maximum lifetime of a connection in the pool. Default is 30 minutes
 # + validationTimeout - Maximum amount of time that a connection will be tested for aliveness. Default 5 seconds
+# + statementCacheSize - Maximum number of processed queries cached for reuse. The prepared statement cache of the
+#                        MySQL and PostgreSQL drivers is also enabled with the same size. Default is 0, which disables
+#                        statement caching
+# + updateBatchSize - Maximum number of concurrent updates of the same statement executed together as a single JDBC
+#                     batch. Updates within a transaction are never batched. If the driver does not report the
+#                     number of rows updated by a statement of the batch, the update returns -2 as the count.
+#                     Default is 0, which disables batching
+# + updateBatchWindow - Maximum number of milliseconds an update waits for other updates of the same statement to
+#                       join its batch. Default is 2 milliseconds
 public type PoolOptions record {
     string connectionInitSql,
     string dataSourceClassName,
@@ -40,6 +49,9 @@ public type PoolOptions record {
     int minimumIdle = -1,
     int maxLifetime = 1800000,
     int validationTimeout = 5000,
+    int statementCacheSize = 0,
+    int updateBatchSize = 0,
+    int updateBatchWindow = 2,
     !...
 };
 
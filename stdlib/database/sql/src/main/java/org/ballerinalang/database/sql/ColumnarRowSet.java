@@ -0,0 +1,493 @@
+/*
+ *  Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.database.sql;
+
+import org.ballerinalang.model.ColumnDefinition;
+import org.ballerinalang.util.exceptions.BallerinaException;
+
+import java.io.UnsupportedEncodingException;
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.ResultSet;
+import java.sql.RowId;
+import java.sql.SQLException;
+import java.sql.Struct;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.List;
+import javax.sql.rowset.serial.SerialStruct;
+
+/**
+ * {@code ColumnarRowSet} holds the rows of a {@link ResultSet} in memory, column by column. Integer, floating point
+ * and boolean columns are kept in primitive arrays, while the other columns keep the values read from the result set
+ * detached from the database connection, e.g. BLOBs as byte arrays and CLOBs as strings.
+ * <p>
+ * The reader of each column is chosen once from the SQL type of the column, hence loading a row does not switch on
+ * the column types again.
+ *
+ * @since 0.981.2
+ */
+public class ColumnarRowSet {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final Column[] columns;
+
+    private int rowCount;
+
+    private int cursor = -1;
+
+    private boolean lastValueNull;
+
+    private ColumnarRowSet(Column[] columns) {
+        this.columns = columns;
+    }
+
+    /**
+     * Reads all the remaining rows of the given result set into a new row set. The result set is not closed.
+     *
+     * @param rs          the result set to read
+     * @param columnDefs  the column definitions of the result set
+     * @param utcCalendar the calendar used to read time and timestamp values
+     * @return the row set holding the rows of the result set
+     * @throws SQLException if reading the result set fails
+     */
+    public static ColumnarRowSet load(ResultSet rs, List<ColumnDefinition> columnDefs, Calendar utcCalendar)
+            throws SQLException {
+        Column[] columns = new Column[columnDefs.size()];
+        for (int i = 0; i < columns.length; i++) {
+            int sqlType = ((SQLDataIterator.SQLColumnDefinition) columnDefs.get(i)).getSqlType();
+            columns[i] = createColumn(sqlType, i + 1, utcCalendar);
+        }
+        ColumnarRowSet rowSet = new ColumnarRowSet(columns);
+        while (rs.next()) {
+            for (Column column : columns) {
+                column.read(rs, rowSet.rowCount);
+            }
+            rowSet.rowCount++;
+        }
+        return rowSet;
+    }
+
+    private static Column createColumn(int sqlType, int index, Calendar utcCalendar) {
+        switch (sqlType) {
+            case Types.TINYINT:
+            case Types.SMALLINT:
+            case Types.INTEGER:
+            case Types.BIGINT:
+                return new LongColumn(index);
+            case Types.REAL:
+            case Types.FLOAT:
+            case Types.DOUBLE:
+                return new DoubleColumn(index);
+            case Types.BIT:
+            case Types.BOOLEAN:
+                return new BooleanColumn(index);
+            case Types.CHAR:
+            case Types.VARCHAR:
+            case Types.LONGVARCHAR:
+            case Types.NCHAR:
+            case Types.NVARCHAR:
+            case Types.LONGNVARCHAR:
+                return new ObjectColumn(index, rs -> rs.getString(index));
+            case Types.CLOB:
+                return new ObjectColumn(index, rs -> SQLDatasourceUtils.getString(rs.getClob(index)));
+            case Types.NCLOB:
+                return new ObjectColumn(index, rs -> SQLDatasourceUtils.getString(rs.getNClob(index)));
+            case Types.NUMERIC:
+            case Types.DECIMAL:
+                return new ObjectColumn(index, rs -> rs.getBigDecimal(index));
+            case Types.BINARY:
+            case Types.VARBINARY:
+            case Types.LONGVARBINARY:
+                return new ObjectColumn(index, rs -> rs.getBytes(index));
+            case Types.BLOB:
+                return new ObjectColumn(index, rs -> {
+                    Blob blob = rs.getBlob(index);
+                    return blob == null ? null : blob.getBytes(1L, (int) blob.length());
+                });
+            case Types.DATE:
+                return new ObjectColumn(index, rs -> rs.getDate(index));
+            case Types.TIME:
+            case Types.TIME_WITH_TIMEZONE:
+                return new ObjectColumn(index, rs -> rs.getTime(index, utcCalendar));
+            case Types.TIMESTAMP:
+            case Types.TIMESTAMP_WITH_TIMEZONE:
+                return new ObjectColumn(index, rs -> rs.getTimestamp(index, utcCalendar));
+            case Types.ROWID:
+                return new ObjectColumn(index, rs -> {
+                    RowId rowId = rs.getRowId(index);
+                    return rowId == null ? null : toString(rowId.getBytes());
+                });
+            case Types.ARRAY:
+                return new ObjectColumn(index, rs -> {
+                    Array array = rs.getArray(index);
+                    return array == null ? null : array.getArray();
+                });
+            case Types.STRUCT:
+                return new ObjectColumn(index, rs -> {
+                    Struct struct = (Struct) rs.getObject(index);
+                    return struct == null ? null : new SerialStruct(struct, Collections.emptyMap());
+                });
+            default:
+                return new ObjectColumn(index, rs -> rs.getObject(index));
+        }
+    }
+
+    private static String toString(byte[] bytes) throws SQLException {
+        try {
+            return new String(bytes, "UTF-8");
+        } catch (UnsupportedEncodingException e) {
+            throw new SQLException(e.getMessage(), e);
+        }
+    }
+
+    public int size() {
+        return rowCount;
+    }
+
+    /**
+     * Moves the cursor to the next row.
+     *
+     * @return true if the cursor is on a row, false if there are no more rows
+     */
+    public boolean next() {
+        if (cursor < rowCount) {
+            cursor++;
+        }
+        return cursor < rowCount;
+    }
+
+    /**
+     * Moves the cursor to the position before the first row.
+     */
+    public void beforeFirst() {
+        cursor = -1;
+    }
+
+    /**
+     * Returns whether the last value read was SQL NULL.
+     *
+     * @return true if the last value read was SQL NULL
+     */
+    public boolean wasNull() {
+        return lastValueNull;
+    }
+
+    public long getLong(int columnIndex) {
+        Column column = getColumn(columnIndex);
+        lastValueNull = column.isNull(cursor);
+        return column.getLong(cursor);
+    }
+
+    public double getDouble(int columnIndex) {
+        Column column = getColumn(columnIndex);
+        lastValueNull = column.isNull(cursor);
+        return column.getDouble(cursor);
+    }
+
+    public boolean getBoolean(int columnIndex) {
+        Column column = getColumn(columnIndex);
+        lastValueNull = column.isNull(cursor);
+        return column.getBoolean(cursor);
+    }
+
+    public String getString(int columnIndex) {
+        Column column = getColumn(columnIndex);
+        lastValueNull = column.isNull(cursor);
+        return lastValueNull ? null : column.getString(cursor);
+    }
+
+    /**
+     * Returns the value of the given column as held by this row set, e.g. a byte array for a BLOB column or the
+     * elements of an SQL array for an array column.
+     *
+     * @param columnIndex the index of the column starting from 1
+     * @return the value of the column in the current row
+     */
+    public Object getObject(int columnIndex) {
+        Column column = getColumn(columnIndex);
+        lastValueNull = column.isNull(cursor);
+        return column.getObject(cursor);
+    }
+
+    private Column getColumn(int columnIndex) {
+        if (cursor < 0 || cursor >= rowCount) {
+            throw new BallerinaException("no current row in the in-memory table");
+        }
+        return columns[columnIndex - 1];
+    }
+
+    /**
+     * Reads the values of a single column of a result set.
+     */
+    @FunctionalInterface
+    private interface ValueReader {
+
+        Object read(ResultSet rs) throws SQLException;
+    }
+
+    /**
+     * Values of a single column.
+     */
+    private abstract static class Column {
+
+        final int index;
+
+        Column(int index) {
+            this.index = index;
+        }
+
+        abstract void read(ResultSet rs, int row) throws SQLException;
+
+        abstract boolean isNull(int row);
+
+        abstract Object getObject(int row);
+
+        long getLong(int row) {
+            Object value = getObject(row);
+            if (value instanceof Number) {
+                return ((Number) value).longValue();
+            }
+            return value == null ? 0 : Long.parseLong(value.toString().trim());
+        }
+
+        double getDouble(int row) {
+            Object value = getObject(row);
+            if (value instanceof Number) {
+                return ((Number) value).doubleValue();
+            }
+            return value == null ? 0 : Double.parseDouble(value.toString().trim());
+        }
+
+        boolean getBoolean(int row) {
+            Object value = getObject(row);
+            if (value instanceof Boolean) {
+                return (Boolean) value;
+            }
+            if (value instanceof Number) {
+                return ((Number) value).doubleValue() != 0;
+            }
+            return value != null && Boolean.parseBoolean(value.toString().trim());
+        }
+
+        String getString(int row) {
+            return String.valueOf(getObject(row));
+        }
+    }
+
+    /**
+     * Column of integer values.
+     */
+    private static class LongColumn extends Column {
+
+        private long[] values = new long[INITIAL_CAPACITY];
+
+        private final BitSet nulls = new BitSet();
+
+        LongColumn(int index) {
+            super(index);
+        }
+
+        @Override
+        void read(ResultSet rs, int row) throws SQLException {
+            if (row == values.length) {
+                values = Arrays.copyOf(values, row * 2);
+            }
+            values[row] = rs.getLong(index);
+            if (rs.wasNull()) {
+                nulls.set(row);
+            }
+        }
+
+        @Override
+        boolean isNull(int row) {
+            return nulls.get(row);
+        }
+
+        @Override
+        Object getObject(int row) {
+            return nulls.get(row) ? null : values[row];
+        }
+
+        @Override
+        long getLong(int row) {
+            return values[row];
+        }
+
+        @Override
+        double getDouble(int row) {
+            return values[row];
+        }
+
+        @Override
+        boolean getBoolean(int row) {
+            return values[row] != 0;
+        }
+
+        @Override
+        String getString(int row) {
+            return Long.toString(values[row]);
+        }
+    }
+
+    /**
+     * Column of floating point values.
+     */
+    private static class DoubleColumn extends Column {
+
+        private double[] values = new double[INITIAL_CAPACITY];
+
+        private final BitSet nulls = new BitSet();
+
+        DoubleColumn(int index) {
+            super(index);
+        }
+
+        @Override
+        void read(ResultSet rs, int row) throws SQLException {
+            if (row == values.length) {
+                values = Arrays.copyOf(values, row * 2);
+            }
+            values[row] = rs.getDouble(index);
+            if (rs.wasNull()) {
+                nulls.set(row);
+            }
+        }
+
+        @Override
+        boolean isNull(int row) {
+            return nulls.get(row);
+        }
+
+        @Override
+        Object getObject(int row) {
+            return nulls.get(row) ? null : values[row];
+        }
+
+        @Override
+        long getLong(int row) {
+            return (long) values[row];
+        }
+
+        @Override
+        double getDouble(int row) {
+            return values[row];
+        }
+
+        @Override
+        boolean getBoolean(int row) {
+            return values[row] != 0;
+        }
+
+        @Override
+        String getString(int row) {
+            return Double.toString(values[row]);
+        }
+    }
+
+    /**
+     * Column of boolean values.
+     */
+    private static class BooleanColumn extends Column {
+
+        private final BitSet values = new BitSet();
+
+        private final BitSet nulls = new BitSet();
+
+        BooleanColumn(int index) {
+            super(index);
+        }
+
+        @Override
+        void read(ResultSet rs, int row) throws SQLException {
+            if (rs.getBoolean(index)) {
+                values.set(row);
+            }
+            if (rs.wasNull()) {
+                nulls.set(row);
+            }
+        }
+
+        @Override
+        boolean isNull(int row) {
+            return nulls.get(row);
+        }
+
+        @Override
+        Object getObject(int row) {
+            return nulls.get(row) ? null : values.get(row);
+        }
+
+        @Override
+        long getLong(int row) {
+            return values.get(row) ? 1 : 0;
+        }
+
+        @Override
+        double getDouble(int row) {
+            return values.get(row) ? 1 : 0;
+        }
+
+        @Override
+        boolean getBoolean(int row) {
+            return values.get(row);
+        }
+
+        @Override
+        String getString(int row) {
+            return Boolean.toString(values.get(row));
+        }
+    }
+
+    /**
+     * Column of values which are not kept in primitive form.
+     */
+    private static class ObjectColumn extends Column {
+
+        private final ValueReader reader;
+
+        private Object[] values = new Object[INITIAL_CAPACITY];
+
+        ObjectColumn(int index, ValueReader reader) {
+            super(index);
+            this.reader = reader;
+        }
+
+        @Override
+        void read(ResultSet rs, int row) throws SQLException {
+            if (row == values.length) {
+                values = Arrays.copyOf(values, row * 2);
+            }
+            values[row] = reader.read(rs);
+        }
+
+        @Override
+        boolean isNull(int row) {
+            return values[row] == null;
+        }
+
+        @Override
+        Object getObject(int row) {
+            return values[row];
+        }
+    }
+}
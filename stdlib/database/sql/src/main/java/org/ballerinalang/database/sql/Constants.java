@@ -167,6 +167,9 @@ public final class Constants {
         public static final String MINIMUM_IDLE = "minimumIdle";
         public static final String MAX_LIFE_TIME = "maxLifetime";
         public static final String VALIDATION_TIMEOUT = "validationTimeout";
+        public static final String STATEMENT_CACHE_SIZE = "statementCacheSize";
+        public static final String UPDATE_BATCH_SIZE = "updateBatchSize";
+        public static final String UPDATE_BATCH_WINDOW = "updateBatchWindow";
     }
 
     /**
@@ -204,4 +207,10 @@ public final class Constants {
     public static final String PARAMETER_VALUE_FIELD = "value";
     public static final String PARAMETER_DIRECTION_FIELD = "direction";
     public static final String PARAMETER_RECORD_TYPE_FIELD = "recordType";
+
+    public static final String MYSQL_URL_PREFIX = "jdbc:mysql:";
+    public static final String POSTGRES_URL_PREFIX = "jdbc:postgresql:";
+    public static final String MYSQL_CACHE_PREP_STMTS = "cachePrepStmts";
+    public static final String MYSQL_PREP_STMT_CACHE_SIZE = "prepStmtCacheSize";
+    public static final String POSTGRES_PREPARED_STATEMENT_CACHE_QUERIES = "preparedStatementCacheQueries";
 }
@@ -41,19 +41,21 @@ import org.ballerinalang.util.TableResourceManager;
 import org.ballerinalang.util.codegen.StructureTypeInfo;
 import org.ballerinalang.util.exceptions.BallerinaException;
 
+import java.io.UnsupportedEncodingException;
 import java.math.BigDecimal;
 import java.sql.Array;
 import java.sql.Blob;
 import java.sql.Date;
 import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Struct;
 import java.sql.Time;
 import java.sql.Timestamp;
 import java.sql.Types;
+import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.List;
-import javax.sql.rowset.CachedRowSet;
 
 import static org.ballerinalang.database.sql.SQLDatasourceUtils.POSTGRES_DATABASE_NAME;
 import static org.ballerinalang.database.sql.SQLDatasourceUtils.POSTGRES_OID_COLUMN_TYPE_NAME;
@@ -73,55 +75,131 @@ public class SQLDataIterator extends TableIterator {
             "Corresponding Union type in the record is not an assignable nillable type";
     private static final String MISMATCHING_FIELD_ASSIGNMENT = "Trying to assign to a mismatching type";
     private String sourceDatabase;
+    private ColumnarRowSet rowSet;
+    private boolean[] oidColumns;
+    private ColumnReader[] columnReaders;
 
     public SQLDataIterator(Calendar utcCalendar, BStructureType structType, StructureTypeInfo timeStructInfo,
                            StructureTypeInfo zoneStructInfo, TableResourceManager rm,
                            ResultSet rs, List<ColumnDefinition> columnDefs, String databaseProductName) {
-        super(rm, rs, structType, columnDefs);
-        this.utcCalendar = utcCalendar;
-        this.timeStructInfo = timeStructInfo;
-        this.zoneStructInfo = zoneStructInfo;
-        this.sourceDatabase = databaseProductName;
+        this(rm, rs, utcCalendar, columnDefs, structType, timeStructInfo, zoneStructInfo, databaseProductName, false);
     }
 
     public SQLDataIterator(TableResourceManager rm, ResultSet rs, Calendar utcCalendar,
             List<ColumnDefinition> columnDefs, BStructureType structType, StructureTypeInfo timeStructInfo,
                            StructureTypeInfo zoneStructInfo, String databaseProductName) {
+        this(rm, rs, utcCalendar, columnDefs, structType, timeStructInfo, zoneStructInfo, databaseProductName, false);
+    }
+
+    /**
+     * Creates an iterator over the given result set. If the data is loaded to memory, all the rows are read into a
+     * {@link ColumnarRowSet} and the result set is no longer referred by the iterator.
+     */
+    public SQLDataIterator(TableResourceManager rm, ResultSet rs, Calendar utcCalendar,
+            List<ColumnDefinition> columnDefs, BStructureType structType, StructureTypeInfo timeStructInfo,
+            StructureTypeInfo zoneStructInfo, String databaseProductName, boolean loadToMemory) {
         super(rm, rs, structType, columnDefs);
         this.utcCalendar = utcCalendar;
         this.timeStructInfo = timeStructInfo;
         this.zoneStructInfo = zoneStructInfo;
         this.sourceDatabase = databaseProductName;
+        try {
+            this.oidColumns = findOIDColumns();
+            if (loadToMemory) {
+                this.rowSet = ColumnarRowSet.load(rs, columnDefs, utcCalendar);
+                this.rs = null;
+            }
+        } catch (SQLException e) {
+            throw new BallerinaException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * PostgreSQL large objects are referred by OID columns, which are reported as integer columns. They are found
+     * once from the result set metadata rather than for each row.
+     */
+    private boolean[] findOIDColumns() throws SQLException {
+        if (rs == null || !POSTGRES_DATABASE_NAME.equalsIgnoreCase(sourceDatabase)) {
+            return null;
+        }
+        boolean[] oids = new boolean[columnDefs.size()];
+        ResultSetMetaData metaData = rs.getMetaData();
+        for (int i = 0; i < oids.length; i++) {
+            int sqlType = ((SQLColumnDefinition) columnDefs.get(i)).getSqlType();
+            oids[i] = (sqlType == Types.INTEGER || sqlType == Types.BIGINT)
+                    && metaData.getColumnTypeName(i + 1).equalsIgnoreCase(POSTGRES_OID_COLUMN_TYPE_NAME);
+        }
+        return oids;
+    }
+
+    @Override
+    public boolean next() {
+        if (rowSet != null) {
+            return rowSet.next();
+        }
+        return super.next();
     }
 
     @Override
     public void close(boolean isInTransaction) {
         try {
-            if (rs != null && !(rs instanceof CachedRowSet) && !rs.isClosed()) {
+            if (rs != null && !rs.isClosed()) {
                 rs.close();
             }
             resourceManager.gracefullyReleaseResources(isInTransaction);
             rs = null;
+            rowSet = null;
         } catch (SQLException e) {
             throw new BallerinaException(e.getMessage(), e);
         }
     }
 
     public void reset(boolean isInTransaction) {
-        try {
-            if (rs instanceof CachedRowSet) {
-                rs.beforeFirst();
-            } else {
-                close(isInTransaction);
-            }
-        } catch (SQLException e) {
-            throw new BallerinaException(e.getMessage(), e);
+        if (rowSet != null) {
+            rowSet.beforeFirst();
+        } else {
+            close(isInTransaction);
         }
     }
 
+    @Override
+    public String getString(int columnIndex) {
+        if (rowSet != null) {
+            return rowSet.getString(columnIndex);
+        }
+        return super.getString(columnIndex);
+    }
+
+    @Override
+    public long getInt(int columnIndex) {
+        if (rowSet != null) {
+            return rowSet.getLong(columnIndex);
+        }
+        return super.getInt(columnIndex);
+    }
+
+    @Override
+    public double getFloat(int columnIndex) {
+        if (rowSet != null) {
+            return rowSet.getDouble(columnIndex);
+        }
+        return super.getFloat(columnIndex);
+    }
+
+    @Override
+    public boolean getBoolean(int columnIndex) {
+        if (rowSet != null) {
+            return rowSet.getBoolean(columnIndex);
+        }
+        return super.getBoolean(columnIndex);
+    }
+
     @Override
     public String getBlob(int columnIndex) {
         try {
+            if (rowSet != null) {
+                return SQLDatasourceUtils.getBase64String((byte[]) rowSet.getObject(columnIndex));
+            }
             Blob bValue = rs.getBlob(columnIndex);
             return SQLDatasourceUtils.getString(bValue);
         } catch (SQLException e) {
@@ -129,130 +207,47 @@ public class SQLDataIterator extends TableIterator {
         }
     }
 
+    @Override
+    public Object[] getStruct(int columnIndex) {
+        if (rowSet != null) {
+            try {
+                Struct data = (Struct) rowSet.getObject(columnIndex);
+                return data == null ? null : data.getAttributes();
+            } catch (SQLException e) {
+                throw new BallerinaException(e.getMessage(), e);
+            }
+        }
+        return super.getStruct(columnIndex);
+    }
+
+    @Override
+    public Object[] getArray(int columnIndex) {
+        if (rowSet != null) {
+            return (Object[]) rowSet.getObject(columnIndex);
+        }
+        return super.getArray(columnIndex);
+    }
+
     @Override
     public BMap<String, BValue> generateNext() {
         if (this.type == null) {
             throw new BallerinaException("the expected struct type is not specified in action");
         }
+        if (columnReaders == null) {
+            columnReaders = createColumnReaders();
+        }
         BMap<String, BValue> bStruct = new BMap<>(this.type);
         int index = 0;
         String columnName = null;
         int sqlType = -1;
         try {
             BField[] structFields = this.type.getFields();
-            for (ColumnDefinition columnDef : columnDefs) {
-                if (columnDef instanceof SQLColumnDefinition) {
-                    SQLColumnDefinition def = (SQLColumnDefinition) columnDef;
-                    columnName = def.getName();
-                    sqlType = def.getSqlType();
-                    ++index;
-                    BField field = structFields[index - 1];
-                    BType fieldType = field.getFieldType();
-                    String fieldName = field.fieldName;
-                    switch (sqlType) {
-                        case Types.ARRAY:
-                            Array data = rs.getArray(index);
-                            handleArrayValue(bStruct, fieldName, data, fieldType);
-                            break;
-                        case Types.CHAR:
-                        case Types.VARCHAR:
-                        case Types.LONGVARCHAR:
-                        case Types.NCHAR:
-                        case Types.NVARCHAR:
-                        case Types.LONGNVARCHAR:
-                            String sValue = rs.getString(index);
-                            handleStringValue(sValue, fieldName, bStruct, fieldType);
-                            break;
-                        case Types.BINARY:
-                        case Types.VARBINARY:
-                        case Types.LONGVARBINARY:
-                            byte[] binaryValue = rs.getBytes(index);
-                            handleBinaryValue(bStruct, fieldName, binaryValue, fieldType);
-                            break;
-                        case Types.BLOB:
-                            Blob blobValue = rs.getBlob(index);
-                            handleBinaryValue(bStruct, fieldName, blobValue == null ?
-                                    null : blobValue.getBytes(1L, (int) blobValue.length()), fieldType);
-                            break;
-                        case Types.CLOB:
-                            String clobValue = SQLDatasourceUtils.getString((rs.getClob(index)));
-                            handleStringValue(clobValue, fieldName, bStruct, fieldType);
-                            break;
-                        case Types.NCLOB:
-                            String nClobValue = SQLDatasourceUtils.getString((rs.getNClob(index)));
-                            handleStringValue(nClobValue, fieldName, bStruct, fieldType);
-                            break;
-                        case Types.DATE:
-                            Date date = rs.getDate(index);
-                            handleDateValue(bStruct, fieldName, date, fieldType);
-                            break;
-                        case Types.TIME:
-                        case Types.TIME_WITH_TIMEZONE:
-                            Time time = rs.getTime(index, utcCalendar);
-                            handleDateValue(bStruct, fieldName, time, fieldType);
-                            break;
-                        case Types.TIMESTAMP:
-                        case Types.TIMESTAMP_WITH_TIMEZONE:
-                            Timestamp timestamp = rs.getTimestamp(index, utcCalendar);
-                            handleDateValue(bStruct, fieldName, timestamp, fieldType);
-                            break;
-                        case Types.ROWID:
-                            sValue = new String(rs.getRowId(index).getBytes(), "UTF-8");
-                            handleStringValue(sValue, fieldName, bStruct, fieldType);
-                            break;
-                        case Types.TINYINT:
-                        case Types.SMALLINT:
-                            long iValue = rs.getInt(index);
-                            handleLongValue(iValue, bStruct, fieldName, fieldType);
-                            break;
-                        case Types.INTEGER:
-                        case Types.BIGINT:
-                            if (sourceDatabase.equalsIgnoreCase(POSTGRES_DATABASE_NAME)) {
-                                boolean isOID = rs.getMetaData().getColumnTypeName(index)
-                                        .equalsIgnoreCase(POSTGRES_OID_COLUMN_TYPE_NAME);
-                                if (isOID) {
-                                    handleOIDValue(index, bStruct, fieldName, fieldType);
-                                } else {
-                                    long lValue = rs.getLong(index);
-                                    handleLongValue(lValue, bStruct, fieldName, fieldType);
-                                }
-                            } else {
-                                long lValue = rs.getLong(index);
-                                handleLongValue(lValue, bStruct, fieldName, fieldType);
-                            }
-                            break;
-                        case Types.REAL:
-                        case Types.FLOAT:
-                            double fValue = rs.getFloat(index);
-                            handleDoubleValue(fValue, bStruct, fieldName, fieldType);
-                            break;
-                        case Types.DOUBLE:
-                            double dValue = rs.getDouble(index);
-                            handleDoubleValue(dValue, bStruct, fieldName, fieldType);
-                            break;
-                        case Types.NUMERIC:
-                        case Types.DECIMAL:
-                            double decimalValue = 0;
-                            BigDecimal bigDecimalValue = rs.getBigDecimal(index);
-                            if (bigDecimalValue != null) {
-                                decimalValue = bigDecimalValue.doubleValue();
-                            }
-                            handleDoubleValue(decimalValue, bStruct, fieldName, fieldType);
-                            break;
-                        case Types.BIT:
-                        case Types.BOOLEAN:
-                            boolean boolValue = rs.getBoolean(index);
-                            handleBooleanValue(bStruct, fieldName, boolValue, fieldType);
-                            break;
-                        case Types.STRUCT:
-                            Struct structData = (Struct) rs.getObject(index);
-                            handleStructValue(bStruct, fieldName, structData, fieldType);
-                            break;
-                        default:
-                            throw new BallerinaException("unsupported sql type "
-                                    + sqlType + " found for the column " + columnName + " index:" + index);
-                    }
-                }
+            for (ColumnReader reader : columnReaders) {
+                columnName = reader.columnName;
+                sqlType = reader.sqlType;
+                ++index;
+                BField field = structFields[index - 1];
+                reader.read(bStruct, index, field.fieldName, field.getFieldType());
             }
         } catch (Throwable e) {
             throw new BallerinaException(
@@ -262,6 +257,180 @@ public class SQLDataIterator extends TableIterator {
         return bStruct;
     }
 
+    /**
+     * Chooses the reader of each column once from its SQL type, instead of switching on the type of every column of
+     * every row.
+     */
+    private ColumnReader[] createColumnReaders() {
+        List<ColumnReader> readers = new ArrayList<>(columnDefs.size());
+        for (ColumnDefinition columnDef : columnDefs) {
+            if (columnDef instanceof SQLColumnDefinition) {
+                SQLColumnDefinition def = (SQLColumnDefinition) columnDef;
+                readers.add(new ColumnReader(def.getName(), def.getSqlType(),
+                        getColumnValueReader(def.getName(), def.getSqlType(), readers.size() + 1)));
+            }
+        }
+        return readers.toArray(new ColumnReader[readers.size()]);
+    }
+
+    private ColumnValueReader getColumnValueReader(String columnName, int sqlType, int columnIndex) {
+        switch (sqlType) {
+            case Types.ARRAY:
+                return (bStruct, index, fieldName, fieldType) ->
+                        handleArrayValue(bStruct, fieldName, getArrayElements(index), fieldType);
+            case Types.CHAR:
+            case Types.VARCHAR:
+            case Types.LONGVARCHAR:
+            case Types.NCHAR:
+            case Types.NVARCHAR:
+            case Types.LONGNVARCHAR:
+                return (bStruct, index, fieldName, fieldType) ->
+                        handleStringValue(getStringValue(index), fieldName, bStruct, fieldType);
+            case Types.BINARY:
+            case Types.VARBINARY:
+            case Types.LONGVARBINARY:
+                return (bStruct, index, fieldName, fieldType) ->
+                        handleBinaryValue(bStruct, fieldName, getBytesValue(index), fieldType);
+            case Types.BLOB:
+                return (bStruct, index, fieldName, fieldType) ->
+                        handleBinaryValue(bStruct, fieldName, getBlobBytes(index), fieldType);
+            case Types.CLOB:
+                return (bStruct, index, fieldName, fieldType) ->
+                        handleStringValue(getClobString(index), fieldName, bStruct, fieldType);
+            case Types.NCLOB:
+                return (bStruct, index, fieldName, fieldType) ->
+                        handleStringValue(getNClobString(index), fieldName, bStruct, fieldType);
+            case Types.DATE:
+                return (bStruct, index, fieldName, fieldType) ->
+                        handleDateValue(bStruct, fieldName, getDateValue(index), fieldType);
+            case Types.TIME:
+            case Types.TIME_WITH_TIMEZONE:
+                return (bStruct, index, fieldName, fieldType) ->
+                        handleDateValue(bStruct, fieldName, getTimeValue(index), fieldType);
+            case Types.TIMESTAMP:
+            case Types.TIMESTAMP_WITH_TIMEZONE:
+                return (bStruct, index, fieldName, fieldType) ->
+                        handleDateValue(bStruct, fieldName, getTimestampValue(index), fieldType);
+            case Types.ROWID:
+                return (bStruct, index, fieldName, fieldType) ->
+                        handleStringValue(getRowIdString(index), fieldName, bStruct, fieldType);
+            case Types.TINYINT:
+            case Types.SMALLINT:
+                return (bStruct, index, fieldName, fieldType) ->
+                        handleLongValue(getLongValue(index), bStruct, fieldName, fieldType);
+            case Types.INTEGER:
+            case Types.BIGINT:
+                if (oidColumns != null && oidColumns[columnIndex - 1]) {
+                    return (bStruct, index, fieldName, fieldType) ->
+                            handleOIDValue(index, bStruct, fieldName, fieldType);
+                }
+                return (bStruct, index, fieldName, fieldType) ->
+                        handleLongValue(getLongValue(index), bStruct, fieldName, fieldType);
+            case Types.REAL:
+            case Types.FLOAT:
+                return (bStruct, index, fieldName, fieldType) ->
+                        handleDoubleValue(getFloatValue(index), bStruct, fieldName, fieldType);
+            case Types.DOUBLE:
+                return (bStruct, index, fieldName, fieldType) ->
+                        handleDoubleValue(getDoubleValue(index), bStruct, fieldName, fieldType);
+            case Types.NUMERIC:
+            case Types.DECIMAL:
+                return (bStruct, index, fieldName, fieldType) -> {
+                    BigDecimal bigDecimalValue = getBigDecimalValue(index);
+                    double decimalValue = bigDecimalValue != null ? bigDecimalValue.doubleValue() : 0;
+                    handleDoubleValue(decimalValue, bStruct, fieldName, fieldType);
+                };
+            case Types.BIT:
+            case Types.BOOLEAN:
+                return (bStruct, index, fieldName, fieldType) ->
+                        handleBooleanValue(bStruct, fieldName, getBooleanValue(index), fieldType);
+            case Types.STRUCT:
+                return (bStruct, index, fieldName, fieldType) ->
+                        handleStructValue(bStruct, fieldName, getStructValue(index), fieldType);
+            default:
+                return (bStruct, index, fieldName, fieldType) -> {
+                    throw new BallerinaException("unsupported sql type "
+                            + sqlType + " found for the column " + columnName + " index:" + index);
+                };
+        }
+    }
+
+    private boolean wasNull() throws SQLException {
+        return rowSet != null ? rowSet.wasNull() : rs.wasNull();
+    }
+
+    private long getLongValue(int index) throws SQLException {
+        return rowSet != null ? rowSet.getLong(index) : rs.getLong(index);
+    }
+
+    private double getDoubleValue(int index) throws SQLException {
+        return rowSet != null ? rowSet.getDouble(index) : rs.getDouble(index);
+    }
+
+    private float getFloatValue(int index) throws SQLException {
+        return rowSet != null ? (float) rowSet.getDouble(index) : rs.getFloat(index);
+    }
+
+    private boolean getBooleanValue(int index) throws SQLException {
+        return rowSet != null ? rowSet.getBoolean(index) : rs.getBoolean(index);
+    }
+
+    private String getStringValue(int index) throws SQLException {
+        return rowSet != null ? rowSet.getString(index) : rs.getString(index);
+    }
+
+    private String getClobString(int index) throws SQLException {
+        return rowSet != null ? rowSet.getString(index) : SQLDatasourceUtils.getString(rs.getClob(index));
+    }
+
+    private String getNClobString(int index) throws SQLException {
+        return rowSet != null ? rowSet.getString(index) : SQLDatasourceUtils.getString(rs.getNClob(index));
+    }
+
+    private String getRowIdString(int index) throws SQLException, UnsupportedEncodingException {
+        return rowSet != null ? rowSet.getString(index) : new String(rs.getRowId(index).getBytes(), "UTF-8");
+    }
+
+    private byte[] getBytesValue(int index) throws SQLException {
+        return rowSet != null ? (byte[]) rowSet.getObject(index) : rs.getBytes(index);
+    }
+
+    private byte[] getBlobBytes(int index) throws SQLException {
+        if (rowSet != null) {
+            return (byte[]) rowSet.getObject(index);
+        }
+        Blob blobValue = rs.getBlob(index);
+        return blobValue == null ? null : blobValue.getBytes(1L, (int) blobValue.length());
+    }
+
+    private BigDecimal getBigDecimalValue(int index) throws SQLException {
+        return rowSet != null ? (BigDecimal) rowSet.getObject(index) : rs.getBigDecimal(index);
+    }
+
+    private Date getDateValue(int index) throws SQLException {
+        return rowSet != null ? (Date) rowSet.getObject(index) : rs.getDate(index);
+    }
+
+    private Time getTimeValue(int index) throws SQLException {
+        return rowSet != null ? (Time) rowSet.getObject(index) : rs.getTime(index, utcCalendar);
+    }
+
+    private Timestamp getTimestampValue(int index) throws SQLException {
+        return rowSet != null ? (Timestamp) rowSet.getObject(index) : rs.getTimestamp(index, utcCalendar);
+    }
+
+    private Struct getStructValue(int index) throws SQLException {
+        return rowSet != null ? (Struct) rowSet.getObject(index) : (Struct) rs.getObject(index);
+    }
+
+    private Object[] getArrayElements(int index) throws SQLException {
+        if (rowSet != null) {
+            return (Object[]) rowSet.getObject(index);
+        }
+        Array array = rs.getArray(index);
+        return array == null ? null : (Object[]) array.getArray();
+    }
+
     private void validateAndSetRefRecordField(BMap<String, BValue> bStruct, String fieldName, int expectedTypeTag,
                                               int actualTypeTag, BRefType value, String exceptionMessage) {
         if (expectedTypeTag == actualTypeTag) {
@@ -347,8 +516,7 @@ public class SQLDataIterator extends TableIterator {
         return struct;
     }
 
-    private void handleArrayValue(BMap<String, BValue> bStruct, String fieldName, Array data, BType fieldType)
-            throws SQLException {
+    private void handleArrayValue(BMap<String, BValue> bStruct, String fieldName, Object[] data, BType fieldType) {
         int fieldTypeTag = fieldType.getTag();
         BNewArray dataArray = getDataArray(data);
         if (dataArray != null) {
@@ -452,7 +620,7 @@ public class SQLDataIterator extends TableIterator {
     private void handleBooleanValue(BMap<String, BValue> bStruct, String fieldName, boolean boolValue, BType fieldType)
             throws SQLException {
         int fieldTypeTag = fieldType.getTag();
-        boolean isOriginalValueNull = rs.wasNull();
+        boolean isOriginalValueNull = wasNull();
         if (fieldTypeTag == TypeTags.UNION_TAG) {
             BRefType refValue = isOriginalValueNull ? null : new BBoolean(boolValue);
             validateAndSetRefRecordField(bStruct, fieldName, TypeTags.BOOLEAN_TAG,
@@ -533,8 +701,8 @@ public class SQLDataIterator extends TableIterator {
                     unassignableUnionTypeAssignmentHandler);
         } else {
             // Need to call a getter method before calling ResultSet#wasNull.
-            long longValue = rs.getLong(index);
-            boolean isOriginalValueNull = rs.wasNull();
+            long longValue = getLongValue(index);
+            boolean isOriginalValueNull = wasNull();
             if (longValue == 0 && isOriginalValueNull) {
                 handleNilToNonNillableFieldAssignment();
             } else {
@@ -548,22 +716,30 @@ public class SQLDataIterator extends TableIterator {
         if (fieldTypeTag == TypeTags.ARRAY_TAG) {
             int elementTypeTag = ((BArrayType) fieldType).getElementType().getTag();
             if (elementTypeTag == TypeTags.BYTE_TAG) {
-                Blob blobValue = rs.getBlob(index);
-                byte[] bytes = blobValue.getBytes(1L, (int) blobValue.length());
+                byte[] bytes = getOIDBytes(index);
                 bStruct.put(fieldName, bytes == null ? null : new BByteArray(bytes));
             } else {
                 errorHandlerFunction.apply();
             }
         } else if (fieldTypeTag == TypeTags.INT_TAG) {
-            bStruct.put(fieldName, new BInteger(rs.getLong(index)));
+            bStruct.put(fieldName, new BInteger(getLongValue(index)));
         } else {
             errorHandlerFunction.apply();
         }
     }
 
+    private byte[] getOIDBytes(int index) throws SQLException {
+        if (rowSet != null) {
+            // Large objects can only be read through the connection, which is released once loaded to memory
+            throw new BallerinaException("large object data is not available in a table loaded to memory");
+        }
+        Blob blobValue = rs.getBlob(index);
+        return blobValue.getBytes(1L, (int) blobValue.length());
+    }
+
     private void handleLongValue(long longValue, BMap<String, BValue> bStruct, String fieldName, BType fieldType)
             throws SQLException {
-        boolean isOriginalValueNull = rs.wasNull();
+        boolean isOriginalValueNull = wasNull();
         int fieldTypeTag = fieldType.getTag();
         if (fieldTypeTag == TypeTags.UNION_TAG) {
             BRefType refValue = isOriginalValueNull ? null : new BInteger(longValue);
@@ -580,7 +756,7 @@ public class SQLDataIterator extends TableIterator {
 
     private void handleDoubleValue(double fValue, BMap<String, BValue> bStruct, String fieldName, BType fieldType)
             throws SQLException {
-        boolean isOriginalValueNull = rs.wasNull();
+        boolean isOriginalValueNull = wasNull();
         int fieldTypeTag = fieldType.getTag();
         if (fieldTypeTag == TypeTags.UNION_TAG) {
             BRefType refValue = isOriginalValueNull ? null : new BFloat(fValue);
@@ -662,4 +838,37 @@ public class SQLDataIterator extends TableIterator {
             return sqlType;
         }
     }
+
+    /**
+     * Reads the value of a column of the current row into a field of a record.
+     */
+    @FunctionalInterface
+    private interface ColumnValueReader {
+
+        void read(BMap<String, BValue> bStruct, int index, String fieldName, BType fieldType) throws SQLException,
+                UnsupportedEncodingException;
+    }
+
+    /**
+     * The reader of a column, chosen once from the SQL type of the column.
+     */
+    private static class ColumnReader {
+
+        private final String columnName;
+
+        private final int sqlType;
+
+        private final ColumnValueReader valueReader;
+
+        ColumnReader(String columnName, int sqlType, ColumnValueReader valueReader) {
+            this.columnName = columnName;
+            this.sqlType = sqlType;
+            this.valueReader = valueReader;
+        }
+
+        void read(BMap<String, BValue> bStruct, int index, String fieldName, BType fieldType) throws SQLException,
+                UnsupportedEncodingException {
+            valueReader.read(bStruct, index, fieldName, fieldType);
+        }
+    }
 }
@@ -37,6 +37,7 @@ import java.sql.DriverManager;
 import java.sql.SQLException;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Properties;
 import java.util.UUID;
 import javax.sql.XADataSource;
 
@@ -53,6 +54,8 @@ public class SQLDatasource implements BValue {
     private String databaseProductName;
     private String connectorId;
     private boolean xaConn;
+    private SQLStatementCache statementCache;
+    private SQLUpdateBatcher updateBatcher;
 
     public SQLDatasource() {
     }
@@ -62,6 +65,9 @@ public class SQLDatasource implements BValue {
         peerAddress = sqlDatasourceParams.jdbcUrl;
         buildDataSource(sqlDatasourceParams);
         connectorId = UUID.randomUUID().toString();
+        if (statementCache != null) {
+            statementCache.registerMetrics(peerAddress, connectorId);
+        }
         xaConn = isXADataSource();
         try (Connection con = getSQLConnection()) {
             databaseProductName = con.getMetaData().getDatabaseProductName().toLowerCase(Locale.ENGLISH);
@@ -127,7 +133,28 @@ public class SQLDatasource implements BValue {
         return xaDataSource;
     }
 
+    /**
+     * Get the cache of processed queries.
+     *
+     * @return The statement cache, or null if statement caching is disabled.
+     */
+    public SQLStatementCache getStatementCache() {
+        return statementCache;
+    }
+
+    /**
+     * Get the batcher which executes concurrent updates of the same statement together.
+     *
+     * @return The update batcher, or null if update batching is disabled.
+     */
+    public SQLUpdateBatcher getUpdateBatcher() {
+        return updateBatcher;
+    }
+
     public void closeConnectionPool() {
+        if (statementCache != null) {
+            statementCache.unregisterMetrics();
+        }
         hikariDataSource.close();
     }
 
@@ -198,6 +225,19 @@ public class SQLDatasource implements BValue {
                 if (dataSourceConfigMap != null) {
                     setDataSourceProperties(dataSourceConfigMap, config);
                 }
+                int statementCacheSize = (int) sqlDatasourceParams.options
+                        .getIntField(Constants.Options.STATEMENT_CACHE_SIZE);
+                if (statementCacheSize > 0) {
+                    statementCache = new SQLStatementCache(statementCacheSize);
+                    setStatementCacheProperties(sqlDatasourceParams.jdbcUrl, statementCacheSize, config);
+                }
+                int updateBatchSize = (int) sqlDatasourceParams.options
+                        .getIntField(Constants.Options.UPDATE_BATCH_SIZE);
+                if (updateBatchSize > 1) {
+                    long updateBatchWindow = sqlDatasourceParams.options
+                            .getIntField(Constants.Options.UPDATE_BATCH_WINDOW);
+                    updateBatcher = new SQLUpdateBatcher(this, updateBatchSize, updateBatchWindow);
+                }
             } else {
                 config.setJdbcUrl(sqlDatasourceParams.jdbcUrl);
             }
@@ -406,6 +446,20 @@ public class SQLDatasource implements BValue {
         }
     }
 
+    /**
+     * Enables the prepared statement cache of the JDBC driver, so that the statements prepared for the cached queries
+     * are reused across the pooled connections. Properties given explicitly in the DB options are not overridden.
+     */
+    private void setStatementCacheProperties(String jdbcUrl, int statementCacheSize, HikariConfig config) {
+        Properties properties = config.getDataSourceProperties();
+        if (jdbcUrl.startsWith(Constants.MYSQL_URL_PREFIX)) {
+            properties.putIfAbsent(Constants.MYSQL_CACHE_PREP_STMTS, true);
+            properties.putIfAbsent(Constants.MYSQL_PREP_STMT_CACHE_SIZE, statementCacheSize);
+        } else if (jdbcUrl.startsWith(Constants.POSTGRES_URL_PREFIX)) {
+            properties.putIfAbsent(Constants.POSTGRES_PREPARED_STATEMENT_CACHE_QUERIES, statementCacheSize);
+        }
+    }
+
     @Override
     public String stringValue() {
         return null;
@@ -1033,14 +1033,26 @@ public class SQLDatasourceUtils {
             return null;
         }
         try {
-            byte[] encode = getBase64Encode(
-                    new String(data.getBytes(1L, (int) data.length()), Charset.defaultCharset()));
-            return new String(encode, Charset.defaultCharset());
+            return getBase64String(data.getBytes(1L, (int) data.length()));
         } catch (SQLException e) {
             throw new BallerinaException("error occurred while reading blob value", e);
         }
     }
 
+    /**
+     * This will retrieve the base64 encoded string value for the given blob data.
+     *
+     * @param data blob data
+     * @return base64 encoded string value
+     */
+    public static String getBase64String(byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        byte[] encode = getBase64Encode(new String(data, Charset.defaultCharset()));
+        return new String(encode, Charset.defaultCharset());
+    }
+
     /**
      * This will retrieve the string value for the given binary data.
      *
@@ -0,0 +1,165 @@
+/*
+ *  Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.database.sql;
+
+import org.ballerinalang.util.metrics.DefaultMetricRegistry;
+import org.ballerinalang.util.metrics.MetricRegistry;
+import org.ballerinalang.util.metrics.PolledGauge;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import static org.ballerinalang.util.observability.ObservabilityConstants.TAG_KEY_PEER_ADDRESS;
+
+/**
+ * {@code SQLStatementCache} keeps the processed SQL strings of a datasource, so that a query which is executed over
+ * and over again with the same parameter shape is expanded only once. A query is keyed by its original string and
+ * the number of values bound to each parameter, since array parameters are expanded into a list of "?"s.
+ * <p>
+ * The cache holds at most the configured number of queries and evicts the least recently used query when full.
+ *
+ * @since 0.981.2
+ */
+public class SQLStatementCache {
+
+    private static final String METRIC_PREFIX = "ballerina_sql_statement_cache_";
+
+    private static final String TAG_KEY_CONNECTOR_ID = "connector_id";
+
+    private final Map<QueryKey, String> queries;
+
+    private final AtomicLong hits = new AtomicLong();
+
+    private final AtomicLong misses = new AtomicLong();
+
+    private PolledGauge[] gauges;
+
+    public SQLStatementCache(int maxSize) {
+        this.queries = new LinkedHashMap<QueryKey, String>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<QueryKey, String> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * Returns the processed query for the given query and parameter shape, creating it with the given function if
+     * it is not in the cache.
+     *
+     * @param query           the query as given by the user
+     * @param paramCounts     the number of values bound to each parameter of the query
+     * @param queryProcessor  the function which creates the processed query on a cache miss
+     * @return the processed query
+     */
+    public String getProcessedQuery(String query, int[] paramCounts, Function<String, String> queryProcessor) {
+        QueryKey key = new QueryKey(query, paramCounts);
+        String processedQuery;
+        synchronized (queries) {
+            processedQuery = queries.get(key);
+        }
+        if (processedQuery != null) {
+            hits.incrementAndGet();
+            return processedQuery;
+        }
+        misses.incrementAndGet();
+        processedQuery = queryProcessor.apply(query);
+        synchronized (queries) {
+            queries.put(key, processedQuery);
+        }
+        return processedQuery;
+    }
+
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    /**
+     * Registers the hit and miss counts of this cache as gauges, if metrics are enabled.
+     *
+     * @param peerAddress the peer address of the datasource which owns this cache
+     * @param connectorId the unique id of the datasource which owns this cache
+     */
+    void registerMetrics(String peerAddress, String connectorId) {
+        MetricRegistry registry = DefaultMetricRegistry.getInstance();
+        if (registry == null) {
+            return;
+        }
+        PolledGauge hitGauge = PolledGauge.builder(METRIC_PREFIX + "hit_count", this, SQLStatementCache::getHitCount)
+                .description("Number of SQL queries served from the statement cache")
+                .tag(TAG_KEY_PEER_ADDRESS, peerAddress).tag(TAG_KEY_CONNECTOR_ID, connectorId).register(registry);
+        PolledGauge missGauge = PolledGauge.builder(METRIC_PREFIX + "miss_count", this,
+                SQLStatementCache::getMissCount)
+                .description("Number of SQL queries processed on a statement cache miss")
+                .tag(TAG_KEY_PEER_ADDRESS, peerAddress).tag(TAG_KEY_CONNECTOR_ID, connectorId).register(registry);
+        gauges = new PolledGauge[] { hitGauge, missGauge };
+    }
+
+    /**
+     * Unregisters the gauges of this cache, if they were registered.
+     */
+    void unregisterMetrics() {
+        MetricRegistry registry = DefaultMetricRegistry.getInstance();
+        if (registry == null || gauges == null) {
+            return;
+        }
+        for (PolledGauge gauge : gauges) {
+            registry.unregister(gauge);
+        }
+        gauges = null;
+    }
+
+    /**
+     * Cache key of a query and the shape of its parameters.
+     */
+    private static class QueryKey {
+
+        private final String query;
+
+        private final int[] paramCounts;
+
+        private final int hash;
+
+        QueryKey(String query, int[] paramCounts) {
+            this.query = query;
+            this.paramCounts = paramCounts;
+            this.hash = 31 * query.hashCode() + Arrays.hashCode(paramCounts);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof QueryKey)) {
+                return false;
+            }
+            QueryKey other = (QueryKey) obj;
+            return hash == other.hash && query.equals(other.query) && Arrays.equals(paramCounts, other.paramCounts);
+        }
+    }
+}
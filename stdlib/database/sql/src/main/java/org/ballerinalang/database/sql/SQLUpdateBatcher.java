@@ -0,0 +1,258 @@
+/*
+ *  Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.database.sql;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code SQLUpdateBatcher} coalesces updates of the same statement issued concurrently on a datasource into a single
+ * JDBC batch. The first update of a statement opens a batch and waits for the batch window, during which updates of
+ * the same statement from other workers join the batch. The batch is executed as soon as it is full or the window
+ * is over, and each caller gets back its own update count.
+ * <p>
+ * If the batch fails as a whole, the updates of the batch are executed one by one, so that each caller gets the
+ * same result or error it would have got without batching. Drivers may not report the number of rows updated by
+ * each statement of a batch, in which case the caller gets {@link java.sql.Statement#SUCCESS_NO_INFO} as the count.
+ *
+ * @since 0.981.2
+ */
+public class SQLUpdateBatcher {
+
+    private final SQLDatasource datasource;
+
+    private final int maxBatchSize;
+
+    private final long windowNanos;
+
+    private final Map<String, Batch> openBatches = new HashMap<>();
+
+    public SQLUpdateBatcher(SQLDatasource datasource, int maxBatchSize, long windowMillis) {
+        this.datasource = datasource;
+        this.maxBatchSize = maxBatchSize;
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(windowMillis);
+    }
+
+    /**
+     * Executes the given update as part of a batch of the same statement.
+     *
+     * @param query  the processed query of the update
+     * @param binder binds the parameters of the update to the prepared statement
+     * @return the number of rows updated by the given update, or {@link java.sql.Statement#SUCCESS_NO_INFO} if the
+     *         driver did not report it
+     * @throws SQLException if the update fails
+     */
+    public int executeUpdate(String query, ParameterBinder binder) throws SQLException {
+        Update update = new Update(binder);
+        Batch batch;
+        boolean leader = false;
+        synchronized (openBatches) {
+            batch = openBatches.get(query);
+            if (batch == null) {
+                batch = new Batch(query);
+                openBatches.put(query, batch);
+                leader = true;
+            }
+            batch.updates.add(update);
+            if (batch.updates.size() >= maxBatchSize) {
+                openBatches.remove(query);
+                batch.markFull();
+            }
+        }
+        if (leader) {
+            batch.awaitFull(windowNanos);
+            synchronized (openBatches) {
+                openBatches.remove(query, batch);
+            }
+            // No update can join the batch from this point onwards
+            execute(batch);
+        }
+        return update.awaitResult();
+    }
+
+    private void execute(Batch batch) {
+        List<Update> updates = batch.updates;
+        Connection conn = null;
+        try {
+            conn = datasource.getSQLConnection();
+            if (updates.size() == 1) {
+                executeOneByOne(conn, batch.query, updates);
+            } else {
+                executeBatch(conn, batch.query, updates);
+            }
+        } catch (Throwable e) {
+            for (Update update : updates) {
+                update.fail(e);
+            }
+        } finally {
+            SQLDatasourceUtils.cleanupResources(conn, false);
+        }
+    }
+
+    private void executeBatch(Connection conn, String query, List<Update> updates) throws SQLException {
+        boolean autoCommit = conn.getAutoCommit();
+        int[] counts;
+        try (PreparedStatement stmt = conn.prepareStatement(query)) {
+            if (autoCommit) {
+                // The batch is committed as a whole, as if it was a single update
+                conn.setAutoCommit(false);
+            }
+            for (Update update : updates) {
+                update.binder.bind(conn, stmt);
+                stmt.addBatch();
+            }
+            counts = stmt.executeBatch();
+            if (autoCommit) {
+                conn.commit();
+            }
+        } catch (Throwable e) {
+            if (autoCommit) {
+                conn.rollback();
+            }
+            counts = null;
+        } finally {
+            if (autoCommit) {
+                conn.setAutoCommit(true);
+            }
+        }
+        if (counts == null || counts.length != updates.size()) {
+            executeOneByOne(conn, query, updates);
+            return;
+        }
+        for (int i = 0; i < counts.length; i++) {
+            // A count the driver did not report is passed on as SUCCESS_NO_INFO, as batchUpdate does. Executing the
+            // statement again to get the count would apply the update twice.
+            updates.get(i).complete(counts[i]);
+        }
+    }
+
+    private void executeOneByOne(Connection conn, String query, List<Update> updates) {
+        for (Update update : updates) {
+            try (PreparedStatement stmt = conn.prepareStatement(query)) {
+                update.binder.bind(conn, stmt);
+                update.complete(stmt.executeUpdate());
+            } catch (Throwable e) {
+                update.fail(e);
+            }
+        }
+    }
+
+    /**
+     * Binds the parameters of an update to a prepared statement.
+     */
+    @FunctionalInterface
+    public interface ParameterBinder {
+
+        void bind(Connection conn, PreparedStatement stmt) throws SQLException;
+    }
+
+    /**
+     * Updates of the same statement which are executed together.
+     */
+    private static class Batch {
+
+        private final String query;
+
+        private final List<Update> updates = new ArrayList<>();
+
+        private boolean full;
+
+        Batch(String query) {
+            this.query = query;
+        }
+
+        synchronized void markFull() {
+            full = true;
+            notifyAll();
+        }
+
+        synchronized void awaitFull(long windowNanos) {
+            long deadline = System.nanoTime() + windowNanos;
+            long remaining = windowNanos;
+            while (!full && remaining > 0) {
+                try {
+                    TimeUnit.NANOSECONDS.timedWait(this, remaining);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                remaining = deadline - System.nanoTime();
+            }
+        }
+    }
+
+    /**
+     * A single update of a batch and its result.
+     */
+    private static class Update {
+
+        private final ParameterBinder binder;
+
+        private final CountDownLatch done = new CountDownLatch(1);
+
+        private int count;
+
+        private Throwable error;
+
+        Update(ParameterBinder binder) {
+            this.binder = binder;
+        }
+
+        void complete(int count) {
+            this.count = count;
+            done.countDown();
+        }
+
+        void fail(Throwable error) {
+            if (done.getCount() == 0) {
+                return;
+            }
+            this.error = error;
+            done.countDown();
+        }
+
+        int awaitResult() throws SQLException {
+            boolean interrupted = false;
+            while (true) {
+                try {
+                    done.await();
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+            if (error instanceof SQLException) {
+                throw (SQLException) error;
+            }
+            if (error != null) {
+                throw new SQLException(error.getMessage(), error);
+            }
+            return count;
+        }
+    }
+}
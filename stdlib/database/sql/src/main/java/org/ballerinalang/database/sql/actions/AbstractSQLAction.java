@@ -23,6 +23,8 @@ import org.ballerinalang.database.sql.Constants;
 import org.ballerinalang.database.sql.SQLDataIterator;
 import org.ballerinalang.database.sql.SQLDatasource;
 import org.ballerinalang.database.sql.SQLDatasourceUtils;
+import org.ballerinalang.database.sql.SQLStatementCache;
+import org.ballerinalang.database.sql.SQLUpdateBatcher;
 import org.ballerinalang.database.table.BCursorTable;
 import org.ballerinalang.database.table.BProxyTable;
 import org.ballerinalang.model.ColumnDefinition;
@@ -81,8 +83,6 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Optional;
 import java.util.TimeZone;
-import javax.sql.rowset.CachedRowSet;
-import javax.sql.rowset.RowSetProvider;
 
 import static org.ballerinalang.database.sql.Constants.PARAMETER_DIRECTION_FIELD;
 import static org.ballerinalang.database.sql.Constants.PARAMETER_RECORD_TYPE_FIELD;
@@ -118,22 +118,22 @@ public abstract class AbstractSQLAction extends BlockingNativeCallableUnit {
         try {
             BRefValueArray generatedParams = constructParameters(context, parameters);
             conn = SQLDatasourceUtils.getDatabaseConnection(context, datasource, isInTransaction);
-            String processedQuery = createProcessedQueryString(query, generatedParams);
+            String processedQuery = getProcessedQuery(datasource, query, generatedParams);
             stmt = getPreparedStatement(conn, datasource, processedQuery, loadSQLTableToMemory);
             createProcessedStatement(conn, stmt, generatedParams);
             rs = stmt.executeQuery();
             TableResourceManager rm = new TableResourceManager(conn, stmt);
             List<ColumnDefinition> columnDefinitions = SQLDatasourceUtils.getColumnDefinitions(rs);
+            BTable table = constructTable(rm, context, rs, structType, loadSQLTableToMemory, columnDefinitions,
+                    datasource.getDatabaseProductName());
             if (loadSQLTableToMemory) {
-                CachedRowSet cachedRowSet = RowSetProvider.newFactory().createCachedRowSet();
-                cachedRowSet.populate(rs);
-                rs = cachedRowSet;
+                // The rows are loaded to the table, so the connection is released right away
+                rs.close();
                 rm.gracefullyReleaseResources(isInTransaction);
             } else {
                 rm.addResultSet(rs);
             }
-            context.setReturnValues(constructTable(rm, context, rs, structType, loadSQLTableToMemory, columnDefinitions,
-                    datasource.getDatabaseProductName()));
+            context.setReturnValues(table);
         } catch (Throwable e) {
             SQLDatasourceUtils.cleanupResources(rs, stmt, conn, isInTransaction);
             throw new BallerinaException("execute query failed: " + e.getMessage(), e);
@@ -146,8 +146,18 @@ public abstract class AbstractSQLAction extends BlockingNativeCallableUnit {
         boolean isInTransaction = context.isInTransaction();
         try {
             BRefValueArray generatedParams = constructParameters(context, parameters);
+            SQLUpdateBatcher updateBatcher = datasource.getUpdateBatcher();
+            if (!isInTransaction && updateBatcher != null) {
+                String processedQuery = getProcessedQuery(datasource, query, generatedParams);
+                String productName = datasource.getDatabaseProductName();
+                int count = updateBatcher.executeUpdate(processedQuery,
+                        (batchConn, batchStmt) -> createProcessedStatement(batchConn, batchStmt, generatedParams,
+                                productName));
+                context.setReturnValues(new BInteger(count));
+                return;
+            }
             conn = SQLDatasourceUtils.getDatabaseConnection(context, datasource, isInTransaction);
-            String processedQuery = createProcessedQueryString(query, generatedParams);
+            String processedQuery = getProcessedQuery(datasource, query, generatedParams);
             stmt = conn.prepareStatement(processedQuery);
             createProcessedStatement(conn, stmt, generatedParams, datasource.getDatabaseProductName());
             int count = stmt.executeUpdate();
@@ -168,7 +178,7 @@ public abstract class AbstractSQLAction extends BlockingNativeCallableUnit {
         try {
             BRefValueArray generatedParams = constructParameters(context, parameters);
             conn = SQLDatasourceUtils.getDatabaseConnection(context, datasource, isInTransaction);
-            String processedQuery = createProcessedQueryString(query, generatedParams);
+            String processedQuery = getProcessedQuery(datasource, query, generatedParams);
             int keyColumnCount = 0;
             if (keyColumns != null) {
                 keyColumnCount = (int) keyColumns.size();
@@ -382,34 +392,62 @@ public abstract class AbstractSQLAction extends BlockingNativeCallableUnit {
         return new BMap<>(paramStructInfo.getType());
     }
 
+    /**
+     * Returns the query to be prepared for the given parameters. The processed query is taken from the statement cache
+     * of the datasource if it is enabled.
+     */
+    private String getProcessedQuery(SQLDatasource datasource, String query, BRefValueArray parameters) {
+        int[] paramCounts = getParameterCounts(parameters);
+        SQLStatementCache statementCache = datasource.getStatementCache();
+        if (statementCache == null) {
+            return createProcessedQueryString(query, paramCounts);
+        }
+        return statementCache.getProcessedQuery(query, paramCounts, q -> createProcessedQueryString(q, paramCounts));
+    }
+
+    /**
+     * Returns the number of "?"s each parameter is bound to. Arrays of parameter for types other than sql array are
+     * bound to one "?" per element, and a nil parameter is not bound at all.
+     */
+    private int[] getParameterCounts(BRefValueArray parameters) {
+        if (parameters == null) {
+            return new int[0];
+        }
+        int paramCount = (int) parameters.size();
+        int[] paramCounts = new int[paramCount];
+        for (int i = 0; i < paramCount; i++) {
+            // types.bal Parameter
+            BMap<String, BValue> paramValue = (BMap<String, BValue>) parameters.get(i);
+            if (paramValue != null) {
+                String sqlType = getSQLType(paramValue);
+                BValue value = paramValue.get(PARAMETER_VALUE_FIELD);
+                if (value != null && (value.getType().getTag() == TypeTags.ARRAY_TAG
+                        && ((BArrayType) value.getType()).getElementType().getTag() != TypeTags.BYTE_TAG)
+                        && !Constants.SQLDataTypes.ARRAY.equalsIgnoreCase(sqlType)) {
+                    paramCounts[i] = (int) ((BNewArray) value).size();
+                } else {
+                    paramCounts[i] = 1;
+                }
+            } else {
+                paramCounts[i] = -1;
+            }
+        }
+        return paramCounts;
+    }
+
     /**
      * If there are any arrays of parameter for types other than sql array, the given query is expanded by adding "?" s
      * to match with the array size.
      */
-    private String createProcessedQueryString(String query, BRefValueArray parameters) {
+    private String createProcessedQueryString(String query, int[] paramCounts) {
         String currentQuery = query;
-        if (parameters != null) {
-            int start = 0;
-            Object[] vals;
-            int count;
-            int paramCount = (int) parameters.size();
-            for (int i = 0; i < paramCount; i++) {
-                // types.bal Parameter
-                BMap<String, BValue> paramValue = (BMap<String, BValue>) parameters.get(i);
-                if (paramValue != null) {
-                    String sqlType = getSQLType(paramValue);
-                    BValue value = paramValue.get(PARAMETER_VALUE_FIELD);
-                    if (value != null && (value.getType().getTag() == TypeTags.ARRAY_TAG
-                            && ((BArrayType) value.getType()).getElementType().getTag() != TypeTags.BYTE_TAG)
-                            && !Constants.SQLDataTypes.ARRAY.equalsIgnoreCase(sqlType)) {
-                        count = (int) ((BNewArray) value).size();
-                    } else {
-                        count = 1;
-                    }
-                    vals = this.expandQuery(start, count, currentQuery);
-                    start = (Integer) vals[0];
-                    currentQuery = (String) vals[1];
-                }
+        int start = 0;
+        Object[] vals;
+        for (int count : paramCounts) {
+            if (count != -1) {
+                vals = this.expandQuery(start, count, currentQuery);
+                start = (Integer) vals[0];
+                currentQuery = (String) vals[1];
             }
         }
         return currentQuery;
@@ -949,8 +987,8 @@ public abstract class AbstractSQLAction extends BlockingNativeCallableUnit {
             boolean loadSQLTableToMemory, List<ColumnDefinition> columnDefinitions, String databaseProductName)
             throws SQLException {
         return new BCursorTable(new SQLDataIterator(rm, rs, utcCalendar, columnDefinitions, structType,
-                TimeUtils.getTimeStructInfo(context), TimeUtils.getTimeZoneStructInfo(context), databaseProductName),
-                loadSQLTableToMemory);
+                TimeUtils.getTimeStructInfo(context), TimeUtils.getTimeZoneStructInfo(context), databaseProductName,
+                loadSQLTableToMemory), loadSQLTableToMemory);
     }
 
     private BTable constructTable(TableResourceManager rm, Context context, ResultSet rs, BStructureType structType,
@@ -52,9 +52,11 @@ public type Client object {
 #
 # + url - URL of the target service
 # + secureSocket - Configurations for secure communication with the remote HTTP endpoint
+# + weight - Relative share of the requests sent to the service by the `WEIGHTED_ROUND_ROBIN` load balancing algorithm
 public type TargetService record {
     string url,
     SecureSocket? secureSocket,
+    int weight = 1,
     !...
 };
 
@@ -14,7 +14,6 @@
 // specific language governing permissions and limitations
 // under the License.
 
-import ballerina/log;
 import ballerina/time;
 import ballerina/io;
 
@@ -38,7 +37,9 @@ public type CircuitState "OPEN" | "HALF_OPEN" | "CLOSED";
 # will trip and move to the `OPEN` state.
 @final public CircuitState CB_CLOSED_STATE = "CLOSED";
 
-# Maintains the health of the Circuit Breaker.
+# Maintains the health of the Circuit Breaker. The statistics of the `RollingWindow` are kept natively against the
+# record, so that concurrent requests update them without locking. The fields other than `startTime` are refreshed
+# from those statistics each time the circuit breaker records a request.
 #
 # + lastRequestSuccess - Whether last request is success or not
 # + totalRequestCount - Total request count received within the `RollingWindow`
@@ -530,11 +531,13 @@ function CircuitBreakerClient::rejectPromise(PushPromise promise) {
 
 function CircuitBreakerClient::forceClose() {
     self.currentCircuitState = CB_CLOSED_STATE;
+    nativeResetCircuitHealth(self.circuitHealth, self.circuitBreakerInferredConfig);
 }
 
 function CircuitBreakerClient::forceOpen() {
     self.currentCircuitState = CB_OPEN_STATE;
     self.circuitHealth.lastForcedOpenTime = time:currentTime();
+    nativeRecordForcedOpen(self.circuitHealth, self.circuitBreakerInferredConfig);
 }
 
 function CircuitBreakerClient::getCurrentState() returns CircuitState {
@@ -549,86 +552,26 @@ function CircuitBreakerClient::getCurrentState() returns CircuitState {
 # + return - State of the circuit
 function updateCircuitState(CircuitHealth circuitHealth, CircuitState currentStateValue,
                             CircuitBreakerInferredConfig circuitBreakerInferredConfig) returns (CircuitState) {
-    lock {
-        CircuitState currentState = currentStateValue;
-        prepareRollingWindow(circuitHealth, circuitBreakerInferredConfig);
-        int currentBucketId = getCurrentBucketId(circuitHealth, circuitBreakerInferredConfig);
-        updateLastUsedBucketId(currentBucketId, circuitHealth);
-        circuitHealth.lastRequestTime = time:currentTime();
-        int totalRequestsCount = getTotalRequestsCount(circuitHealth);
-        circuitHealth.totalRequestCount = totalRequestsCount;
-        if (totalRequestsCount >= circuitBreakerInferredConfig.rollingWindow.requestVolumeThreshold) {
-            if (currentState == CB_OPEN_STATE) {
-                currentState = switchCircuitStateOpenToHalfOpenOnResetTime(circuitBreakerInferredConfig,
-                                                                                    circuitHealth, currentState);
-            } else if (currentState == CB_HALF_OPEN_STATE) {
-                if (!circuitHealth.lastRequestSuccess) {
-                    // If the trial run has failed, trip the circuit again
-                    currentState = CB_OPEN_STATE;
-                    log:printInfo("CircuitBreaker trial run has failed. Circuit switched from HALF_OPEN to OPEN state.")
-                    ;
-                } else {
-                    // If the trial run was successful reset the circuit
-                    currentState = CB_CLOSED_STATE;
-                    log:printInfo(
-                        "CircuitBreaker trial run  was successful. Circuit switched from HALF_OPEN to CLOSE state.");
-                }
-            } else {
-                float currentFailureRate = getCurrentFailureRatio(circuitHealth);
-
-                if (currentFailureRate > circuitBreakerInferredConfig.failureThreshold) {
-                    currentState = CB_OPEN_STATE;
-                    log:printInfo("CircuitBreaker failure threshold exceeded. Circuit tripped from CLOSE to OPEN state."
-                    );
-                }
-            }
-        } else {
-            currentState = switchCircuitStateOpenToHalfOpenOnResetTime(circuitBreakerInferredConfig,
-                                                                                    circuitHealth, currentState);
-        }
-        circuitHealth.totalBuckets[currentBucketId].totalCount++;
-        return currentState;
-    }
+    int stateCode = nativeUpdateCircuitState(circuitHealth, getCircuitStateCode(currentStateValue),
+                                             circuitBreakerInferredConfig);
+    return getCircuitState(stateCode);
 }
 
 function updateCircuitHealthFailure(CircuitHealth circuitHealth,
                                     error httpConnectorErr, CircuitBreakerInferredConfig circuitBreakerInferredConfig) {
-    lock {
-        int currentBucketId = getCurrentBucketId(circuitHealth, circuitBreakerInferredConfig);
-        circuitHealth.lastRequestSuccess = false;
-        updateLastUsedBucketId(currentBucketId, circuitHealth);
-        circuitHealth.totalBuckets[currentBucketId].failureCount++;
-        time:Time lastUpdated = time:currentTime();
-        circuitHealth.lastErrorTime = lastUpdated;
-        circuitHealth.totalBuckets[currentBucketId].lastUpdatedTime = lastUpdated;
-    }
+    nativeRecordCircuitHealthResult(circuitHealth, circuitBreakerInferredConfig, false);
 }
 
 function updateCircuitHealthSuccess(CircuitHealth circuitHealth, Response inResponse,
                                     CircuitBreakerInferredConfig circuitBreakerInferredConfig) {
-    lock {
-        int currentBucketId = getCurrentBucketId(circuitHealth, circuitBreakerInferredConfig);
-        time:Time lastUpdated = time:currentTime();
-        updateLastUsedBucketId(currentBucketId, circuitHealth);
-        if (circuitBreakerInferredConfig.statusCodes[inResponse.statusCode] == true) {
-            circuitHealth.totalBuckets[currentBucketId].failureCount++;
-            circuitHealth.lastRequestSuccess = false;
-            circuitHealth.lastErrorTime = lastUpdated;
-            circuitHealth.totalBuckets[currentBucketId].lastUpdatedTime = lastUpdated;
-        } else {
-            circuitHealth.lastRequestSuccess = true;
-            circuitHealth.totalBuckets[currentBucketId].lastUpdatedTime = lastUpdated;
-        }
-    }
+    boolean failure = circuitBreakerInferredConfig.statusCodes[inResponse.statusCode];
+    nativeRecordCircuitHealthResult(circuitHealth, circuitBreakerInferredConfig, !failure);
 }
 
 // Handles open circuit state.
 function handleOpenCircuit(CircuitHealth circuitHealth, CircuitBreakerInferredConfig circuitBreakerInferredConfig)
              returns (error) {
-    updateRejectedRequestCount(circuitHealth, circuitBreakerInferredConfig);
-    time:Time effectiveErrorTime = getEffectiveErrorTime(circuitHealth);
-    int timeDif = time:currentTime().time - effectiveErrorTime.time;
-    int timeRemaining = circuitBreakerInferredConfig.resetTimeMillis - timeDif;
+    int timeRemaining = nativeRecordRejectedRequest(circuitHealth, circuitBreakerInferredConfig);
     string errorMessage = "Upstream service unavailable. Requests to upstream service will be suspended for "
         + timeRemaining + " milliseconds.";
     error httpConnectorErr = {message:errorMessage};
@@ -646,159 +589,40 @@ function validateCircuitBreakerConfiguration(CircuitBreakerConfig circuitBreaker
     }
 }
 
-# Calculate Failure at a given point.
-#
-# + circuitHealth - Circuit Breaker health status
-# + return - Current failure ratio
-function getCurrentFailureRatio(CircuitHealth circuitHealth) returns float {
-    int totalCount;
-    int totalFailures;
-
-    foreach bucket in circuitHealth.totalBuckets {
-        totalCount =  totalCount + bucket.failureCount + (bucket.totalCount - (bucket.failureCount + bucket.rejectedCount));
-        totalFailures = totalFailures + bucket.failureCount;
-    }
-    float ratio = 0.0;
-    if (totalCount > 0) {
-        ratio = <float> totalFailures / totalCount;
+// Maps a circuit state to the state code used by the native circuit health monitor.
+function getCircuitStateCode(CircuitState state) returns int {
+    if (state == CB_OPEN_STATE) {
+        return 1;
+    } else if (state == CB_HALF_OPEN_STATE) {
+        return 2;
     }
-    return ratio;
+    return 0;
 }
 
-# Calculate total requests count within `RollingWindow`.
-#
-# + circuitHealth - Circuit Breaker health status
-# + return - Total requests count
-function getTotalRequestsCount(CircuitHealth circuitHealth) returns int {
-    int totalCount;
-
-    foreach bucket in circuitHealth.totalBuckets {
-        totalCount  =  totalCount + bucket.totalCount;
+// Maps a state code of the native circuit health monitor to the circuit state.
+function getCircuitState(int stateCode) returns CircuitState {
+    if (stateCode == 1) {
+        return CB_OPEN_STATE;
+    } else if (stateCode == 2) {
+        return CB_HALF_OPEN_STATE;
     }
-    return totalCount;
+    return CB_CLOSED_STATE;
 }
 
-# Calculate the current bucket Id.
-#
-# + circuitHealth - Circuit Breaker health status
-# + circuitBreakerInferredConfig - Configurations derived from `CircuitBreakerConfig`
-# + return - Current bucket id
-function getCurrentBucketId(CircuitHealth circuitHealth, CircuitBreakerInferredConfig circuitBreakerInferredConfig)
-             returns int {
-    int elapsedTime = (time:currentTime().time - circuitHealth.startTime.time) % circuitBreakerInferredConfig.
-        rollingWindow.timeWindowMillis;
-    int currentBucketId = ((elapsedTime / circuitBreakerInferredConfig.rollingWindow.bucketSizeMillis) + 1)
-        % circuitBreakerInferredConfig.noOfBuckets;
-    return currentBucketId;
-}
+// The rolling window statistics of a circuit breaker are kept natively against its `CircuitHealth`, so that
+// concurrent requests update them without locking.
+extern function nativeUpdateCircuitState(CircuitHealth circuitHealth, int currentState,
+                                         CircuitBreakerInferredConfig circuitBreakerInferredConfig) returns int;
 
-# Update rejected requests count.
-#
-# + circuitHealth - Circuit Breaker health status
-# + circuitBreakerInferredConfig - Configurations derived from `CircuitBreakerConfig`
-function updateRejectedRequestCount(CircuitHealth circuitHealth, CircuitBreakerInferredConfig circuitBreakerInferredConfig) {
-    int currentBucketId = getCurrentBucketId(circuitHealth, circuitBreakerInferredConfig);
-    updateLastUsedBucketId(currentBucketId, circuitHealth);
-    circuitHealth.totalBuckets[currentBucketId].rejectedCount++;
-}
+extern function nativeRecordCircuitHealthResult(CircuitHealth circuitHealth,
+                                                CircuitBreakerInferredConfig circuitBreakerInferredConfig,
+                                                boolean success);
 
-# Reset the bucket values to default ones.
-#
-# + circuitHealth - - Circuit Breaker health status.
-# + bucketId - - Id of the bucket should reset.
-function resetBucketStats(CircuitHealth circuitHealth, int bucketId) {
-    circuitHealth.totalBuckets[bucketId] = {};
-}
+extern function nativeRecordRejectedRequest(CircuitHealth circuitHealth,
+                                            CircuitBreakerInferredConfig circuitBreakerInferredConfig) returns int;
 
-function getEffectiveErrorTime(CircuitHealth circuitHealth) returns time:Time {
-    return (circuitHealth.lastErrorTime.time > circuitHealth.lastForcedOpenTime.time)
-    ? circuitHealth.lastErrorTime : circuitHealth.lastForcedOpenTime;
-}
+extern function nativeRecordForcedOpen(CircuitHealth circuitHealth,
+                                       CircuitBreakerInferredConfig circuitBreakerInferredConfig);
 
-# Populate the `RollingWindow` statistics to handle circuit breaking within the `RollingWindow` time frame.
-#
-# + circuitHealth - Circuit Breaker health status
-# + circuitBreakerInferredConfig - Configurations derived from `CircuitBreakerConfig`
-function prepareRollingWindow(CircuitHealth circuitHealth, CircuitBreakerInferredConfig circuitBreakerInferredConfig) {
-
-    int currentTime = time:currentTime().time;
-    int idleTime = currentTime - circuitHealth.lastRequestTime.time;
-    RollingWindow rollingWindow = circuitBreakerInferredConfig.rollingWindow;
-    // If the time duration between two requests greater than timeWindowMillis values, reset the buckets to default.
-    if (idleTime > rollingWindow.timeWindowMillis) {
-        reInitializeBuckets(circuitHealth);
-    } else {
-        int currentBucketId = getCurrentBucketId(circuitHealth, circuitBreakerInferredConfig);
-        int lastUsedBucketId = circuitHealth.lastUsedBucketId;
-        // Check whether subsequent requests received within same bucket(sub time window). If the idle time is greater
-        // than bucketSizeMillis means subsequent calls are received time exceeding the rolling window. if we need to
-        // reset the buckets to default.
-        if (currentBucketId == circuitHealth.lastUsedBucketId && idleTime > rollingWindow.bucketSizeMillis) {
-            reInitializeBuckets(circuitHealth);
-        // If the current bucket (sub time window) is less than last updated bucket. Stats of the current bucket to zeroth
-        // bucket and Last bucket to last used bucket needs to be reset to default.
-        } else if (currentBucketId < lastUsedBucketId) {
-            int index = currentBucketId;
-            while (index >= 0) {
-                resetBucketStats(circuitHealth, index);
-                index--;
-            }
-            int lastIndex = (lengthof circuitHealth.totalBuckets) - 1;
-            while (lastIndex > currentBucketId) {
-                resetBucketStats(circuitHealth, lastIndex);
-                lastIndex--;
-            }
-        } else {
-            // If the current bucket (sub time window) is greater than last updated bucket. Stats of current bucket to
-            // last used bucket needs to be reset without resetting last used bucket stat.
-            while (currentBucketId > lastUsedBucketId && idleTime > rollingWindow.bucketSizeMillis) {
-                resetBucketStats(circuitHealth, currentBucketId);
-                currentBucketId--;
-            }
-        }
-    }
-}
-
-# Reinitialize the Buckets to default state.
-#
-# + circuitHealth - Circuit Breaker health status
-function reInitializeBuckets(CircuitHealth circuitHealth) {
-    Bucket[] bucketArray = [];
-    int bucketIndex = 0;
-    while (bucketIndex < lengthof circuitHealth.totalBuckets) {
-        bucketArray[bucketIndex] = {};
-        bucketIndex++;
-    }
-    circuitHealth.totalBuckets = bucketArray;
-}
-
-# Updates the `lastUsedBucketId` in `CircuitHealth`.
-#
-# + bucketId - Possition of the currrently used bucket
-# + circuitHealth - Circuit Breaker health status
-function updateLastUsedBucketId(int bucketId, CircuitHealth circuitHealth) {
-    if (bucketId != circuitHealth.lastUsedBucketId) {
-        resetBucketStats(circuitHealth, bucketId);
-        circuitHealth.lastUsedBucketId = bucketId;
-    }
-}
-
-# Switches circuit state from open to half open state when reset time exceeded.
-#
-# + circuitBreakerInferredConfig -  Configurations derived from `CircuitBreakerConfig`
-# + circuitHealth - Circuit Breaker health status
-# + currentState - current state of the circuit
-# + return - Calculated state value of the circuit
-function switchCircuitStateOpenToHalfOpenOnResetTime(CircuitBreakerInferredConfig circuitBreakerInferredConfig,
-                                        CircuitHealth circuitHealth, CircuitState currentState) returns CircuitState {
-    CircuitState currentCircuitState = currentState;
-    if (currentState == CB_OPEN_STATE) {
-        time:Time effectiveErrorTime = getEffectiveErrorTime(circuitHealth);
-        int elapsedTime = time:currentTime().time - effectiveErrorTime.time;
-        if (elapsedTime > circuitBreakerInferredConfig.resetTimeMillis) {
-            currentCircuitState = CB_HALF_OPEN_STATE;
-            log:printInfo("CircuitBreaker reset timeout reached. Circuit switched from OPEN to HALF_OPEN state.");
-        }
-    }
-    return currentCircuitState;
-}
+extern function nativeResetCircuitHealth(CircuitHealth circuitHealth,
+                                         CircuitBreakerInferredConfig circuitBreakerInferredConfig);
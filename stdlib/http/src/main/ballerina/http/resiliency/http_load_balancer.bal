@@ -18,6 +18,14 @@
 # Load balancing algorithm - Round Robin
 @final public string ROUND_ROBIN = "round-robin";
 
+# Load balancing algorithm - Least Outstanding Requests. The client with the least number of requests in flight is
+# selected.
+@final public string LEAST_OUTSTANDING_REQUESTS = "least-outstanding-requests";
+
+# Load balancing algorithm - Weighted Round Robin. Clients are selected in turn, each as many times as the `weight`
+# of its `TargetService` in a round.
+@final public string WEIGHTED_ROUND_ROBIN = "weighted-round-robin";
+
 # LoadBalancer caller actions which provides load balancing and failover capabilities to the
 #load balance client endpoint.
 #
@@ -25,8 +33,10 @@
 # + config - The configurations of the client endpoint associated with this `LoadBalancer` instance
 # + loadBalanceClientsArray - Array of HTTP clients for load balancing
 # + algorithm - Load balancing algorithm
-# + nextIndex - Index of the next load balancing client
+# + nextIndex - Index of the load balancing client to start with. It is updated to the index of the client to be
+#               selected next after each selection. Changing it after the first request has no effect.
 # + failover - Whether to fail over in case of a failure
+# + weights - Weights of the load balancing clients used by the weighted round robin algorithm
 public type LoadBalancerActions object {
 
    public string serviceUri;
@@ -35,6 +45,7 @@ public type LoadBalancerActions object {
    public string algorithm;
    public int nextIndex;
    public boolean failover;
+   public int[] weights;
 
     # Load Balancer adds an additional layer to the HTTP client to make network interactions more resilient.
     #
@@ -42,7 +53,7 @@ public type LoadBalancerActions object {
     # + config - The configurations of the client endpoint associated with this `LoadBalancer` instance
     # + loadBalanceClientsArray - Array of HTTP clients for load balancing
     # + algorithm - Load balancing algorithm
-    # + nextIndex - Index of the next load balancing client
+    # + nextIndex - Index of the load balancing client to start with
     # + failover - Whether to fail over in case of a failure
    public new (serviceUri, config, loadBalanceClientsArray, algorithm, nextIndex, failover) {}
 
@@ -297,10 +308,14 @@ function performLoadBalanceAction(LoadBalancerActions lb, string path, Request r
         }
     }
 
+    int clientIndex = -1;
     while (loadBalanceTermination < lengthof lb.loadBalanceClientsArray) {
-        CallerActions loadBalanceClient = roundRobin(lb, lb.loadBalanceClientsArray);
+        clientIndex = nativeSelectClient(lb, clientIndex);
+        CallerActions loadBalanceClient = lb.loadBalanceClientsArray[clientIndex];
 
-        match invokeEndpoint(path, request, requestAction, loadBalanceClient) {
+        var result = invokeEndpoint(path, request, requestAction, loadBalanceClient);
+        nativeReleaseClient(lb, clientIndex);
+        match result {
             Response inResponse => return inResponse;
 
             error httpActionErr => {
@@ -308,7 +323,7 @@ function performLoadBalanceAction(LoadBalancerActions lb, string path, Request r
                     return httpActionErr;
                 } else {
                     loadBlancerInRequest = createFailoverRequest(loadBlancerInRequest, requestEntity);
-                    loadBalanceActionError.httpActionErr[lb.nextIndex] = httpActionErr;
+                    loadBalanceActionError.httpActionErr[loadBalanceTermination] = httpActionErr;
                     loadBalanceTermination = loadBalanceTermination + 1;
                 }
             }
@@ -324,19 +339,8 @@ function performLoadBalanceAction(LoadBalancerActions lb, string path, Request r
 # + loadBalanceConfigArray - Array of HTTP Clients that needs to be load balanced
 # + return - HttpClient elected from the algorithm
 public function roundRobin(LoadBalancerActions lb, CallerActions[] loadBalanceConfigArray) returns CallerActions {
-    CallerActions httpClient = new;
-
-    lock {
-        if (lb.nextIndex == ((lengthof (loadBalanceConfigArray)) - 1)) {
-            httpClient = loadBalanceConfigArray[lb.nextIndex];
-            lb.nextIndex = 0;
-        } else {
-            httpClient = loadBalanceConfigArray[lb.nextIndex];
-            lb.nextIndex = lb.nextIndex + 1;
-        }
-    }
-
-    return httpClient;
+    int index = nativeNextRoundRobinIndex(lb);
+    return loadBalanceConfigArray[index % lengthof loadBalanceConfigArray];
 }
 
 // Populates generic error specific to Load Balance connector by including all the errors returned from endpoints.
@@ -349,3 +353,11 @@ function populateGenericLoadBalanceActionError(LoadBalanceActionError loadBalanc
     error err = loadBalanceActionError;
     return err;
 }
+
+// The selection state of a load balancer is kept natively against its `LoadBalancerActions`, so that concurrent
+// requests select clients without locking.
+extern function nativeSelectClient(LoadBalancerActions lb, int previousIndex) returns int;
+
+extern function nativeReleaseClient(LoadBalancerActions lb, int index);
+
+extern function nativeNextRoundRobinIndex(LoadBalancerActions lb) returns int;
@@ -55,7 +55,8 @@ public type LoadBalanceClient object {
 # + cache - The configurations for controlling the caching behaviour
 # + compression - Specifies the way of handling compression (`accept-encoding`) header
 # + auth - HTTP authentication releated configurations
-# + algorithm - The algorithm to be used for load balancing. The HTTP package provides 'roundRobin()' by default
+# + algorithm - The algorithm to be used for load balancing. The HTTP package provides `ROUND_ROBIN` (default),
+#               `LEAST_OUTSTANDING_REQUESTS` and `WEIGHTED_ROUND_ROBIN`
 # + failover - Configuration for load balancer whether to fail over in case of a failure
 public type LoadBalanceClientEndpointConfiguration record {
     CircuitBreakerConfig? circuitBreaker,
@@ -118,8 +119,16 @@ function createLoadBalancerClient(LoadBalanceClientEndpointConfiguration loadBal
     ClientEndpointConfig config = createClientEPConfigFromLoalBalanceEPConfig(loadBalanceClientConfig,
                                                                             loadBalanceClientConfig.targets[0]);
     CallerActions[] lbClients = createLoadBalanceHttpClientArray(loadBalanceClientConfig);
-    return new LoadBalancerActions(loadBalanceClientConfig.targets[0].url, config, lbClients,
+    LoadBalancerActions lb = new LoadBalancerActions(loadBalanceClientConfig.targets[0].url, config, lbClients,
                                             loadBalanceClientConfig.algorithm, 0, loadBalanceClientConfig.failover);
+    int[] weights = [];
+    int i = 0;
+    foreach target in loadBalanceClientConfig.targets {
+        weights[i] = target.weight;
+        i = i + 1;
+    }
+    lb.weights = weights;
+    return lb;
 }
 
 function createLoadBalanceHttpClientArray(LoadBalanceClientEndpointConfiguration loadBalanceClientConfig)
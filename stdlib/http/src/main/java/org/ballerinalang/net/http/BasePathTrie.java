@@ -0,0 +1,115 @@
+/*
+ *  Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ *
+ */
+
+package org.ballerinalang.net.http;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A trie of the base paths of the services registered under a host, which finds the most specific base path of a
+ * request path in a single pass over the path.
+ * <p>
+ * A base path matches a request path if both are equal ignoring the case, or if the request path starts with the
+ * base path followed by a '/'. When more than one base path matches, the longest one is the most specific.
+ *
+ * @since 0.981.2
+ */
+class BasePathTrie {
+
+    private final Node root = new Node();
+
+    private final Node lowerCaseRoot = new Node();
+
+    private final int size;
+
+    /**
+     * Build the trie of the given base paths.
+     *
+     * @param sortedBasePaths base paths sorted from the longest to the shortest
+     */
+    BasePathTrie(List<String> sortedBasePaths) {
+        int count = 0;
+        for (String basePath : sortedBasePaths) {
+            add(root, basePath, false);
+            add(lowerCaseRoot, basePath, true);
+            count++;
+        }
+        this.size = count;
+    }
+
+    /**
+     * Get the number of base paths the trie was built with.
+     *
+     * @return number of base paths
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Find the most specific base path of the given request path.
+     *
+     * @param requestURIPath path of the request URI
+     * @return the most specific base path or null if no base path matches
+     */
+    String match(String requestURIPath) {
+        int length = requestURIPath.length();
+        Node node = lowerCaseRoot;
+        for (int i = 0; i < length && node != null; i++) {
+            node = node.children.get(Character.toLowerCase(requestURIPath.charAt(i)));
+        }
+        if (node != null && node.basePath != null) {
+            return node.basePath;
+        }
+        String basePath = null;
+        node = root;
+        for (int i = 0; i < length && node != null; i++) {
+            char c = requestURIPath.charAt(i);
+            if (c == '/' && node.basePath != null) {
+                basePath = node.basePath;
+            }
+            node = node.children.get(c);
+        }
+        return basePath;
+    }
+
+    private static void add(Node root, String basePath, boolean lowerCase) {
+        Node node = root;
+        for (int i = 0; i < basePath.length(); i++) {
+            char c = basePath.charAt(i);
+            node = node.children.computeIfAbsent(lowerCase ? Character.toLowerCase(c) : c, k -> new Node());
+        }
+        if (node.basePath == null) {
+            // Base paths which are equal ignoring the case resolve to the one registered first
+            node.basePath = basePath;
+        }
+    }
+
+    /**
+     * A node of the trie, for a prefix of one or more base paths.
+     */
+    private static class Node {
+
+        private final Map<Character, Node> children = new HashMap<>(4);
+
+        private String basePath;
+    }
+}
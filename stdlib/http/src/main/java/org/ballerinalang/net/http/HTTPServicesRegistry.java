@@ -162,20 +162,20 @@ public class HTTPServicesRegistry {
         return basePath;
     }
 
-    public String findTheMostSpecificBasePath(String requestURIPath, Map<String, HttpService> services,
-                                              List<String> sortedServiceURIs) {
-        for (Object key : sortedServiceURIs) {
-            if (!requestURIPath.toLowerCase().contains(key.toString().toLowerCase())) {
-                continue;
-            }
-            if (requestURIPath.length() <= key.toString().length()) {
-                return key.toString();
-            }
-            if (requestURIPath.startsWith(key.toString().concat("/"))) {
-                return key.toString();
-            }
+    /**
+     * Find the most specific base path for the request path among the services registered under the given host.
+     *
+     * @param requestURIPath path of the request URI
+     * @param hostName       host name the services are registered under
+     * @return the most specific base path or null if there is no matching service
+     */
+    public String findTheMostSpecificBasePath(String requestURIPath, String hostName) {
+        ServicesMapHolder servicesMapHolder = servicesMapByHost.get(hostName);
+        String basePath = servicesMapHolder.getBasePathTrie().match(requestURIPath);
+        if (basePath != null) {
+            return basePath;
         }
-        if (services.containsKey(HttpConstants.DEFAULT_BASE_PATH)) {
+        if (servicesMapHolder.servicesByBasePath.containsKey(HttpConstants.DEFAULT_BASE_PATH)) {
             return HttpConstants.DEFAULT_BASE_PATH;
         }
         return null;
@@ -187,10 +187,21 @@ public class HTTPServicesRegistry {
     protected class ServicesMapHolder {
         private Map<String, HttpService> servicesByBasePath;
         private List<String> sortedServiceURIs;
+        private volatile BasePathTrie basePathTrie;
 
         public ServicesMapHolder(Map<String, HttpService> servicesByBasePath, List<String> sortedServiceURIs) {
             this.servicesByBasePath = servicesByBasePath;
             this.sortedServiceURIs = sortedServiceURIs;
         }
+
+        private BasePathTrie getBasePathTrie() {
+            BasePathTrie trie = basePathTrie;
+            // Base paths are only added to the list, so the trie is stale if the sizes differ
+            if (trie == null || trie.size() != sortedServiceURIs.size()) {
+                trie = new BasePathTrie(sortedServiceURIs);
+                basePathTrie = trie;
+            }
+            return trie;
+        }
     }
 }
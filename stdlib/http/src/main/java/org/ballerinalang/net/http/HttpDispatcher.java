@@ -19,6 +19,7 @@ package org.ballerinalang.net.http;
 
 import io.netty.handler.codec.http.HttpHeaderNames;
 
+import org.ballerinalang.config.ConfigRegistry;
 import org.ballerinalang.connector.api.BLangConnectorSPIUtil;
 import org.ballerinalang.connector.api.BallerinaConnectorException;
 import org.ballerinalang.connector.api.Struct;
@@ -41,8 +42,8 @@ import org.wso2.transport.http.netty.message.HttpCarbonMessage;
 import java.io.UnsupportedEncodingException;
 import java.net.URI;
 import java.net.URLDecoder;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 
 import static org.ballerinalang.mime.util.MimeConstants.ENTITY;
@@ -62,31 +63,33 @@ import static org.ballerinalang.net.http.HttpConstants.SERVICE_ENDPOINT_CONNECTI
  */
 public class HttpDispatcher {
 
+    private static final String DIRECT_DATA_BINDING_CONFIG = "b7a.http.databinding.direct";
+
     public static HttpService findService(HTTPServicesRegistry servicesRegistry, HttpCarbonMessage inboundReqMsg) {
         try {
-            Map<String, HttpService> servicesOnInterface;
-            List<String> sortedServiceURIs;
             String hostName = inboundReqMsg.getHeader(HttpHeaderNames.HOST.toString());
-            if (hostName != null && servicesRegistry.getServicesMapHolder(hostName) != null) {
-                servicesOnInterface = servicesRegistry.getServicesByHost(hostName);
-                sortedServiceURIs = servicesRegistry.getSortedServiceURIsByHost(hostName);
-            } else {
-                servicesOnInterface = servicesRegistry.getServicesByHost(DEFAULT_HOST);
-                sortedServiceURIs = servicesRegistry.getSortedServiceURIsByHost(DEFAULT_HOST);
+            if (hostName == null || servicesRegistry.getServicesMapHolder(hostName) == null) {
+                hostName = DEFAULT_HOST;
             }
 
             String rawUri = (String) inboundReqMsg.getProperty(HttpConstants.TO);
             inboundReqMsg.setProperty(HttpConstants.RAW_URI, rawUri);
-            Map<String, Map<String, String>> matrixParams = new HashMap<>();
-            String uriWithoutMatrixParams = URIUtil.extractMatrixParams(rawUri, matrixParams);
+            Map<String, Map<String, String>> matrixParams;
+            String uriWithoutMatrixParams;
+            if (isWithoutMatrixParams(rawUri)) {
+                matrixParams = Collections.emptyMap();
+                uriWithoutMatrixParams = rawUri;
+            } else {
+                matrixParams = new HashMap<>();
+                uriWithoutMatrixParams = URIUtil.extractMatrixParams(rawUri, matrixParams);
+            }
 
             inboundReqMsg.setProperty(HttpConstants.TO, uriWithoutMatrixParams);
             inboundReqMsg.setProperty(HttpConstants.MATRIX_PARAMS, matrixParams);
 
             URI validatedUri = getValidatedURI(uriWithoutMatrixParams);
 
-            String basePath = servicesRegistry.findTheMostSpecificBasePath(validatedUri.getPath(),
-                    servicesOnInterface, sortedServiceURIs);
+            String basePath = servicesRegistry.findTheMostSpecificBasePath(validatedUri.getPath(), hostName);
 
             if (basePath == null) {
                 inboundReqMsg.setProperty(HttpConstants.HTTP_STATUS_CODE, 404);
@@ -94,7 +97,7 @@ public class HttpDispatcher {
                         validatedUri.getRawPath());
             }
 
-            HttpService service = servicesOnInterface.get(basePath);
+            HttpService service = servicesRegistry.getServicesByHost(hostName).get(basePath);
             setInboundReqProperties(inboundReqMsg, validatedUri, basePath);
             return service;
         } catch (Exception e) {
@@ -102,6 +105,26 @@ public class HttpDispatcher {
         }
     }
 
+    /**
+     * Check whether the URI has no matrix parameters and is already in the form
+     * {@link URIUtil#extractMatrixParams(String, Map)} would return, so that the extraction can be skipped.
+     *
+     * @param rawUri raw request URI
+     * @return true if the URI can be dispatched as it is
+     */
+    private static boolean isWithoutMatrixParams(String rawUri) {
+        if (rawUri.isEmpty() || rawUri.charAt(0) != '/' || rawUri.indexOf(';') != -1 ||
+                rawUri.charAt(rawUri.length() - 1) == '?') {
+            return false;
+        }
+        // Matrix param extraction removes trailing slashes of the path
+        int pathEnd = rawUri.indexOf('?');
+        if (pathEnd == -1) {
+            pathEnd = rawUri.length();
+        }
+        return pathEnd == 1 || rawUri.charAt(pathEnd - 1) != '/';
+    }
+
     private static void setInboundReqProperties(HttpCarbonMessage inboundReqMsg, URI requestUri, String basePath) {
         String subPath = URIUtil.getSubPath(requestUri.getPath(), basePath);
         inboundReqMsg.setProperty(HttpConstants.BASE_PATH, basePath);
@@ -239,6 +262,15 @@ public class HttpDispatcher {
                     }
                 case TypeTags.OBJECT_TYPE_TAG:
                 case TypeTags.RECORD_TYPE_TAG:
+                    if (isDirectDataBindingEnabled()) {
+                        BMap<String, BValue> struct = EntityBodyHandler.constructStructFromJson(inRequestEntity,
+                                (BStructureType) entityBodyType);
+                        if (struct == null) {
+                            throw new BallerinaConnectorException("cannot convert payload to struct type: " +
+                                    entityBodyType.getName());
+                        }
+                        return struct;
+                    }
                     bjson = EntityBodyHandler.constructJsonDataSource(inRequestEntity);
                     EntityBodyHandler.addMessageDataSource(inRequestEntity, bjson);
                     try {
@@ -256,6 +288,10 @@ public class HttpDispatcher {
         return null;
     }
 
+    private static boolean isDirectDataBindingEnabled() {
+        return ConfigRegistry.getInstance().getAsBoolean(DIRECT_DATA_BINDING_CONFIG);
+    }
+
     public static boolean shouldDiffer(HttpResource httpResource) {
         return (httpResource != null && httpResource.getSignatureParams().getEntityBody() != null);
     }
@@ -0,0 +1,327 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.net.http.nativeimpl.resiliency;
+
+import org.ballerinalang.model.values.BBoolean;
+import org.ballerinalang.model.values.BFloat;
+import org.ballerinalang.model.values.BInteger;
+import org.ballerinalang.model.values.BMap;
+import org.ballerinalang.model.values.BRefValueArray;
+import org.ballerinalang.model.values.BValue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * {@code CircuitHealthMonitor} keeps the health statistics of a circuit breaker in a rolling window of atomic
+ * buckets, so that concurrent requests through the circuit breaker do not need to lock each other.
+ * <p>
+ * Each bucket holds the counts of a sub window of {@code bucketSizeMillis} along with the sequence number of the sub
+ * window since the circuit breaker started. A bucket which belongs to a sub window older than the rolling window
+ * is not counted, and is reset when it is used for a new sub window. The public fields of the {@code CircuitHealth}
+ * record are refreshed from these statistics by {@link #updateHealthRecord(BMap)}.
+ *
+ * @since 0.981.2
+ */
+public class CircuitHealthMonitor {
+
+    private static final Logger log = LoggerFactory.getLogger(CircuitHealthMonitor.class);
+
+    static final int CLOSED = 0;
+    static final int OPEN = 1;
+    static final int HALF_OPEN = 2;
+
+    private static final String CIRCUIT_HEALTH_MONITOR = "CIRCUIT_HEALTH_MONITOR";
+
+    private final long startTime;
+    private final long bucketSizeMillis;
+    private final int noOfBuckets;
+    private final long requestVolumeThreshold;
+    private final double failureThreshold;
+    private final long resetTimeMillis;
+
+    private final AtomicLongArray bucketWindows;
+    private final AtomicLongArray totalCounts;
+    private final AtomicLongArray failureCounts;
+    private final AtomicLongArray rejectedCounts;
+    private final AtomicLongArray lastUpdatedTimes;
+
+    private volatile boolean lastRequestSuccess;
+    private volatile int lastUsedBucketId;
+    private volatile long lastRequestTime;
+    private volatile long lastErrorTime;
+    private volatile long lastForcedOpenTime;
+
+    private CircuitHealthMonitor(long startTime, int noOfBuckets, long bucketSizeMillis, long requestVolumeThreshold,
+                                 double failureThreshold, long resetTimeMillis) {
+        this.startTime = startTime;
+        this.noOfBuckets = Math.max(noOfBuckets, 1);
+        this.bucketSizeMillis = Math.max(bucketSizeMillis, 1);
+        this.requestVolumeThreshold = requestVolumeThreshold;
+        this.failureThreshold = failureThreshold;
+        this.resetTimeMillis = resetTimeMillis;
+        this.bucketWindows = new AtomicLongArray(this.noOfBuckets);
+        this.totalCounts = new AtomicLongArray(this.noOfBuckets);
+        this.failureCounts = new AtomicLongArray(this.noOfBuckets);
+        this.rejectedCounts = new AtomicLongArray(this.noOfBuckets);
+        this.lastUpdatedTimes = new AtomicLongArray(this.noOfBuckets);
+    }
+
+    /**
+     * Get the monitor of the given {@code CircuitHealth} record, creating it from the given
+     * {@code CircuitBreakerInferredConfig} record when it is used for the first time.
+     *
+     * @param circuitHealth                {@code CircuitHealth} record of the circuit breaker
+     * @param circuitBreakerInferredConfig {@code CircuitBreakerInferredConfig} record of the circuit breaker
+     * @return the health monitor of the circuit breaker
+     */
+    @SuppressWarnings("unchecked")
+    static CircuitHealthMonitor getMonitor(BMap<String, BValue> circuitHealth,
+                                           BMap<String, BValue> circuitBreakerInferredConfig) {
+        CircuitHealthMonitor monitor = (CircuitHealthMonitor) circuitHealth.getNativeData(CIRCUIT_HEALTH_MONITOR);
+        if (monitor != null) {
+            return monitor;
+        }
+        synchronized (circuitHealth) {
+            monitor = (CircuitHealthMonitor) circuitHealth.getNativeData(CIRCUIT_HEALTH_MONITOR);
+            if (monitor == null) {
+                BMap<String, BValue> rollingWindow = (BMap<String, BValue>) circuitBreakerInferredConfig
+                        .get("rollingWindow");
+                BValue startTime = circuitHealth.get("startTime");
+                monitor = new CircuitHealthMonitor(
+                        startTime != null ? getInt((BMap<String, BValue>) startTime, "time") :
+                                System.currentTimeMillis(),
+                        (int) getInt(circuitBreakerInferredConfig, "noOfBuckets"),
+                        getInt(rollingWindow, "bucketSizeMillis"),
+                        getInt(rollingWindow, "requestVolumeThreshold"),
+                        ((BFloat) circuitBreakerInferredConfig.get("failureThreshold")).floatValue(),
+                        getInt(circuitBreakerInferredConfig, "resetTimeMillis"));
+                circuitHealth.addNativeData(CIRCUIT_HEALTH_MONITOR, monitor);
+            }
+            return monitor;
+        }
+    }
+
+    private static long getInt(BMap<String, BValue> record, String field) {
+        BValue value = record.get(field);
+        return value != null ? ((BInteger) value).intValue() : 0;
+    }
+
+    /**
+     * Compute the state of the circuit for a new request and count the request.
+     *
+     * @param currentState current state of the circuit
+     * @return the state of the circuit for the request
+     */
+    int updateCircuitState(int currentState) {
+        long now = System.currentTimeMillis();
+        long window = getWindow(now);
+        int state = currentState;
+        if (getTotalRequestCount(window) >= requestVolumeThreshold) {
+            if (state == OPEN) {
+                state = switchToHalfOpenOnResetTime(state, now);
+            } else if (state == HALF_OPEN) {
+                if (!lastRequestSuccess) {
+                    // If the trial run has failed, trip the circuit again
+                    state = OPEN;
+                    log.info("CircuitBreaker trial run has failed. Circuit switched from HALF_OPEN to OPEN state.");
+                } else {
+                    // If the trial run was successful reset the circuit
+                    state = CLOSED;
+                    log.info("CircuitBreaker trial run  was successful. Circuit switched from HALF_OPEN to CLOSE " +
+                                     "state.");
+                }
+            } else if (getFailureRatio(window) > failureThreshold) {
+                state = OPEN;
+                log.info("CircuitBreaker failure threshold exceeded. Circuit tripped from CLOSE to OPEN state.");
+            }
+        } else {
+            state = switchToHalfOpenOnResetTime(state, now);
+        }
+        int bucket = getBucket(window);
+        totalCounts.incrementAndGet(bucket);
+        lastRequestTime = now;
+        markUsed(bucket, now);
+        return state;
+    }
+
+    /**
+     * Record the result of a request sent through the circuit.
+     *
+     * @param success whether the request was successful
+     */
+    void recordResult(boolean success) {
+        long now = System.currentTimeMillis();
+        int bucket = getBucket(getWindow(now));
+        if (success) {
+            lastRequestSuccess = true;
+        } else {
+            failureCounts.incrementAndGet(bucket);
+            lastRequestSuccess = false;
+            lastErrorTime = now;
+        }
+        markUsed(bucket, now);
+    }
+
+    /**
+     * Record a request rejected as the circuit is open.
+     *
+     * @return the time in milliseconds until the circuit is allowed to be half open
+     */
+    long recordRejectedRequest() {
+        long now = System.currentTimeMillis();
+        int bucket = getBucket(getWindow(now));
+        rejectedCounts.incrementAndGet(bucket);
+        markUsed(bucket, now);
+        return resetTimeMillis - (now - getEffectiveErrorTime());
+    }
+
+    /**
+     * Record that the circuit was forced to the open state.
+     */
+    void recordForcedOpen() {
+        lastForcedOpenTime = System.currentTimeMillis();
+    }
+
+    /**
+     * Reset the health statistics, so that a circuit forced to the closed state starts with a clean rolling window.
+     */
+    void reset() {
+        for (int i = 0; i < noOfBuckets; i++) {
+            totalCounts.set(i, 0);
+            failureCounts.set(i, 0);
+            rejectedCounts.set(i, 0);
+            lastUpdatedTimes.set(i, 0);
+        }
+        lastRequestSuccess = false;
+        lastUsedBucketId = 0;
+        lastRequestTime = 0;
+        lastErrorTime = 0;
+        lastForcedOpenTime = 0;
+    }
+
+    /**
+     * Refresh the public fields of the given {@code CircuitHealth} record from the health statistics. Times are
+     * only set once the corresponding event has happened, using the time zone of the {@code startTime} of the record.
+     *
+     * @param circuitHealth {@code CircuitHealth} record of the circuit breaker
+     */
+    @SuppressWarnings("unchecked")
+    void updateHealthRecord(BMap<String, BValue> circuitHealth) {
+        long window = getWindow(System.currentTimeMillis());
+        BMap<String, BValue> startTime = (BMap<String, BValue>) circuitHealth.get("startTime");
+        circuitHealth.put("lastRequestSuccess", BBoolean.valueOf(lastRequestSuccess));
+        circuitHealth.put("totalRequestCount", new BInteger(getTotalRequestCount(window)));
+        circuitHealth.put("lastUsedBucketId", new BInteger(lastUsedBucketId));
+        putTime(circuitHealth, "lastRequestTime", startTime, lastRequestTime);
+        putTime(circuitHealth, "lastErrorTime", startTime, lastErrorTime);
+
+        BValue totalBuckets = circuitHealth.get("totalBuckets");
+        if (!(totalBuckets instanceof BRefValueArray)) {
+            return;
+        }
+        BRefValueArray buckets = (BRefValueArray) totalBuckets;
+        for (int i = 0; i < noOfBuckets && i < buckets.size(); i++) {
+            BMap<String, BValue> bucket = (BMap<String, BValue>) buckets.get(i);
+            if (bucket == null) {
+                continue;
+            }
+            boolean inRollingWindow = isInRollingWindow(i, window);
+            bucket.put("totalCount", new BInteger(inRollingWindow ? totalCounts.get(i) : 0));
+            bucket.put("failureCount", new BInteger(inRollingWindow ? failureCounts.get(i) : 0));
+            bucket.put("rejectedCount", new BInteger(inRollingWindow ? rejectedCounts.get(i) : 0));
+            putTime(bucket, "lastUpdatedTime", startTime, lastUpdatedTimes.get(i));
+        }
+    }
+
+    private static void putTime(BMap<String, BValue> record, String field, BMap<String, BValue> startTime,
+                                long millis) {
+        if (startTime == null || millis <= 0) {
+            return;
+        }
+        BMap<String, BValue> time = new BMap<>(startTime.getType());
+        time.put("time", new BInteger(millis));
+        time.put("zone", startTime.get("zone"));
+        record.put(field, time);
+    }
+
+    private void markUsed(int bucket, long now) {
+        lastUsedBucketId = bucket;
+        lastUpdatedTimes.set(bucket, now);
+    }
+
+    private int switchToHalfOpenOnResetTime(int state, long now) {
+        if (state == OPEN && now - getEffectiveErrorTime() > resetTimeMillis) {
+            log.info("CircuitBreaker reset timeout reached. Circuit switched from OPEN to HALF_OPEN state.");
+            return HALF_OPEN;
+        }
+        return state;
+    }
+
+    private long getEffectiveErrorTime() {
+        return Math.max(lastErrorTime, lastForcedOpenTime);
+    }
+
+    private long getWindow(long now) {
+        return Math.max(now - startTime, 0) / bucketSizeMillis;
+    }
+
+    private int getBucket(long window) {
+        int bucket = (int) (window % noOfBuckets);
+        long bucketWindow = bucketWindows.get(bucket);
+        if (bucketWindow < window && bucketWindows.compareAndSet(bucket, bucketWindow, window)) {
+            // Counts added by other requests between claiming and resetting the bucket are lost, which is
+            // acceptable for the ratios calculated over the rolling window
+            totalCounts.set(bucket, 0);
+            failureCounts.set(bucket, 0);
+            rejectedCounts.set(bucket, 0);
+            lastUpdatedTimes.set(bucket, 0);
+        }
+        return bucket;
+    }
+
+    private boolean isInRollingWindow(int bucket, long window) {
+        long bucketWindow = bucketWindows.get(bucket);
+        return bucketWindow <= window && bucketWindow > window - noOfBuckets;
+    }
+
+    private long getTotalRequestCount(long window) {
+        long totalCount = 0;
+        for (int i = 0; i < noOfBuckets; i++) {
+            if (isInRollingWindow(i, window)) {
+                totalCount += totalCounts.get(i);
+            }
+        }
+        return totalCount;
+    }
+
+    private double getFailureRatio(long window) {
+        long totalCount = 0;
+        long totalFailures = 0;
+        for (int i = 0; i < noOfBuckets; i++) {
+            if (isInRollingWindow(i, window)) {
+                long failures = failureCounts.get(i);
+                totalCount += failures + (totalCounts.get(i) - (failures + rejectedCounts.get(i)));
+                totalFailures += failures;
+            }
+        }
+        return totalCount > 0 ? (double) totalFailures / totalCount : 0.0;
+    }
+}
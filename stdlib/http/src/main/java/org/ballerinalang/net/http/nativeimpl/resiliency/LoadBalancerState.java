@@ -0,0 +1,221 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.net.http.nativeimpl.resiliency;
+
+import org.ballerinalang.model.values.BIntArray;
+import org.ballerinalang.model.values.BInteger;
+import org.ballerinalang.model.values.BMap;
+import org.ballerinalang.model.values.BNewArray;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.util.exceptions.BallerinaException;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * {@code LoadBalancerState} selects the client of a load balancer for each request without locking, using the
+ * algorithm configured for the load balancer.
+ * <ul>
+ * <li>round-robin - clients are selected one after the other</li>
+ * <li>least-outstanding-requests - the client with the least number of requests in flight is selected</li>
+ * <li>weighted-round-robin - clients are selected one after the other, each as many times as its weight, with the
+ * selections of a client spread over the round</li>
+ * </ul>
+ *
+ * @since 0.981.2
+ */
+public class LoadBalancerState {
+
+    static final String ROUND_ROBIN = "round-robin";
+    static final String LEAST_OUTSTANDING_REQUESTS = "least-outstanding-requests";
+    static final String WEIGHTED_ROUND_ROBIN = "weighted-round-robin";
+
+    private static final String LOAD_BALANCER_STATE = "LOAD_BALANCER_STATE";
+    private static final int MAX_WEIGHTED_SCHEDULE_SIZE = 65536;
+
+    private final String algorithm;
+    private final int noOfClients;
+    private final AtomicInteger next;
+    private final AtomicIntegerArray outstandingRequests;
+    private final int[] weightedSchedule;
+
+    private LoadBalancerState(String algorithm, int noOfClients, int nextIndex, long[] weights) {
+        this.algorithm = algorithm;
+        this.noOfClients = noOfClients;
+        this.next = new AtomicInteger(nextIndex);
+        this.outstandingRequests = new AtomicIntegerArray(noOfClients);
+        this.weightedSchedule = WEIGHTED_ROUND_ROBIN.equals(algorithm) ? createWeightedSchedule(weights) : null;
+    }
+
+    /**
+     * Get the state of the given {@code LoadBalancerActions} object, creating it when it is used for the first time.
+     *
+     * @param loadBalancer {@code LoadBalancerActions} object of the load balancer
+     * @return the state of the load balancer
+     */
+    static LoadBalancerState getState(BMap<String, BValue> loadBalancer) {
+        LoadBalancerState state = (LoadBalancerState) loadBalancer.getNativeData(LOAD_BALANCER_STATE);
+        if (state != null) {
+            return state;
+        }
+        synchronized (loadBalancer) {
+            state = (LoadBalancerState) loadBalancer.getNativeData(LOAD_BALANCER_STATE);
+            if (state == null) {
+                int noOfClients = (int) ((BNewArray) loadBalancer.get("loadBalanceClientsArray")).size();
+                if (noOfClients == 0) {
+                    throw new BallerinaException("no clients to load balance");
+                }
+                state = new LoadBalancerState(loadBalancer.get("algorithm").stringValue(), noOfClients,
+                        (int) ((BInteger) loadBalancer.get("nextIndex")).intValue(),
+                        getWeights((BIntArray) loadBalancer.get("weights"), noOfClients));
+                loadBalancer.addNativeData(LOAD_BALANCER_STATE, state);
+            }
+            return state;
+        }
+    }
+
+    private static long[] getWeights(BIntArray weightsArray, int noOfClients) {
+        long[] weights = new long[noOfClients];
+        for (int i = 0; i < noOfClients; i++) {
+            weights[i] = weightsArray != null && i < weightsArray.size() ? weightsArray.get(i) : 1;
+            if (weights[i] <= 0) {
+                throw new BallerinaException("invalid load balancer weight " + weights[i] +
+                        ", weights should be greater than zero");
+            }
+        }
+        return weights;
+    }
+
+    /**
+     * Select the client for an attempt of a request and count the attempt as in flight until it is released.
+     *
+     * @param previousIndex index of the client used in the previous attempt of the request, or -1 for the first
+     *                      attempt
+     * @return the index of the selected client
+     */
+    int select(int previousIndex) {
+        int index;
+        if (previousIndex >= 0 && !ROUND_ROBIN.equals(algorithm)) {
+            // Fail over to the clients which are not tried yet for the request
+            index = (previousIndex + 1) % noOfClients;
+        } else if (LEAST_OUTSTANDING_REQUESTS.equals(algorithm)) {
+            index = selectLeastOutstanding();
+        } else if (weightedSchedule != null) {
+            index = weightedSchedule[Math.floorMod(next.getAndIncrement(), weightedSchedule.length)];
+        } else {
+            index = Math.floorMod(next.getAndIncrement(), noOfClients);
+        }
+        outstandingRequests.incrementAndGet(index);
+        return index;
+    }
+
+    /**
+     * Release an attempt of a request sent through the given client.
+     *
+     * @param index index of the client
+     */
+    void release(int index) {
+        if (index >= 0 && index < noOfClients) {
+            outstandingRequests.decrementAndGet(index);
+        }
+    }
+
+    /**
+     * Get the index of the client to be used next by round robin.
+     *
+     * @return the index of the client
+     */
+    int nextRoundRobinIndex() {
+        return Math.floorMod(next.getAndIncrement(), noOfClients);
+    }
+
+    /**
+     * Update the {@code nextIndex} field of the given {@code LoadBalancerActions} object with the index of the client
+     * to be selected next, without selecting it.
+     *
+     * @param loadBalancer {@code LoadBalancerActions} object of the load balancer
+     */
+    void updateNextIndex(BMap<String, BValue> loadBalancer) {
+        loadBalancer.put("nextIndex", new BInteger(peekNextIndex()));
+    }
+
+    /**
+     * Get the index of the client to be selected next, without selecting it.
+     *
+     * @return the index of the client
+     */
+    int peekNextIndex() {
+        int position = next.get();
+        return weightedSchedule != null ? weightedSchedule[Math.floorMod(position, weightedSchedule.length)] :
+                Math.floorMod(position, noOfClients);
+    }
+
+    private int selectLeastOutstanding() {
+        // Start the scan from a different client each time, so that ties are spread among the clients
+        int start = Math.floorMod(next.getAndIncrement(), noOfClients);
+        int selected = start;
+        int least = outstandingRequests.get(start);
+        for (int i = 1; i < noOfClients && least > 0; i++) {
+            int index = (start + i) % noOfClients;
+            int outstanding = outstandingRequests.get(index);
+            if (outstanding < least) {
+                least = outstanding;
+                selected = index;
+            }
+        }
+        return selected;
+    }
+
+    /**
+     * Create the order in which clients are selected in a round, using smooth weighted round robin, so that a client
+     * with a large weight is not selected many times in a row.
+     */
+    private static int[] createWeightedSchedule(long[] weights) {
+        long gcd = 0;
+        for (long weight : weights) {
+            gcd = gcd(gcd, weight);
+        }
+        long total = 0;
+        for (long weight : weights) {
+            total += weight / gcd;
+            if (total > MAX_WEIGHTED_SCHEDULE_SIZE) {
+                throw new BallerinaException("load balancer weights are too large, the sum of the weights divided " +
+                        "by their greatest common divisor should not exceed " + MAX_WEIGHTED_SCHEDULE_SIZE);
+            }
+        }
+        int[] schedule = new int[(int) total];
+        long[] current = new long[weights.length];
+        for (int i = 0; i < schedule.length; i++) {
+            int selected = 0;
+            for (int j = 0; j < weights.length; j++) {
+                current[j] += weights[j] / gcd;
+                if (current[j] > current[selected]) {
+                    selected = j;
+                }
+            }
+            current[selected] -= total;
+            schedule[i] = selected;
+        }
+        return schedule;
+    }
+
+    private static long gcd(long a, long b) {
+        return b == 0 ? a : gcd(b, a % b);
+    }
+}
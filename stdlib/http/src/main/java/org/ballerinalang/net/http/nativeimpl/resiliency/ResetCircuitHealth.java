@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.net.http.nativeimpl.resiliency;
+
+import org.ballerinalang.bre.Context;
+import org.ballerinalang.bre.bvm.BlockingNativeCallableUnit;
+import org.ballerinalang.model.types.TypeKind;
+import org.ballerinalang.model.values.BMap;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.natives.annotations.Argument;
+import org.ballerinalang.natives.annotations.BallerinaFunction;
+
+/**
+ * Extern function to reset the health statistics of a circuit breaker forced to the closed state.
+ *
+ * @since 0.981.2
+ */
+@BallerinaFunction(
+        orgName = "ballerina", packageName = "http",
+        functionName = "nativeResetCircuitHealth",
+        args = {@Argument(name = "circuitHealth", type = TypeKind.RECORD, structType = "CircuitHealth",
+                        structPackage = "ballerina/http"),
+                @Argument(name = "circuitBreakerInferredConfig", type = TypeKind.RECORD,
+                        structType = "CircuitBreakerInferredConfig", structPackage = "ballerina/http")},
+        isPublic = true
+)
+public class ResetCircuitHealth extends BlockingNativeCallableUnit {
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void execute(Context context) {
+        BMap<String, BValue> circuitHealth = (BMap<String, BValue>) context.getRefArgument(0);
+        BMap<String, BValue> circuitBreakerInferredConfig = (BMap<String, BValue>) context.getRefArgument(1);
+        CircuitHealthMonitor monitor = CircuitHealthMonitor.getMonitor(circuitHealth, circuitBreakerInferredConfig);
+        monitor.reset();
+        monitor.updateHealthRecord(circuitHealth);
+        context.setReturnValues();
+    }
+}
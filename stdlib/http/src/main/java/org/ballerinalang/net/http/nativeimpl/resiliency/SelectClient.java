@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.net.http.nativeimpl.resiliency;
+
+import org.ballerinalang.bre.Context;
+import org.ballerinalang.bre.bvm.BlockingNativeCallableUnit;
+import org.ballerinalang.model.types.TypeKind;
+import org.ballerinalang.model.values.BInteger;
+import org.ballerinalang.model.values.BMap;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.natives.annotations.Argument;
+import org.ballerinalang.natives.annotations.BallerinaFunction;
+import org.ballerinalang.natives.annotations.ReturnType;
+
+/**
+ * Extern function to select the client of a load balancer for an attempt of a request.
+ *
+ * @since 0.981.2
+ */
+@BallerinaFunction(
+        orgName = "ballerina", packageName = "http",
+        functionName = "nativeSelectClient",
+        args = {@Argument(name = "loadBalancer", type = TypeKind.OBJECT, structType = "LoadBalancerActions",
+                        structPackage = "ballerina/http"),
+                @Argument(name = "previousIndex", type = TypeKind.INT)},
+        returnType = @ReturnType(type = TypeKind.INT),
+        isPublic = true
+)
+public class SelectClient extends BlockingNativeCallableUnit {
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void execute(Context context) {
+        BMap<String, BValue> loadBalancer = (BMap<String, BValue>) context.getRefArgument(0);
+        LoadBalancerState state = LoadBalancerState.getState(loadBalancer);
+        int index = state.select((int) context.getIntArgument(0));
+        state.updateNextIndex(loadBalancer);
+        context.setReturnValues(new BInteger(index));
+    }
+}
@@ -42,6 +42,7 @@ public class HTTPSession implements Session, Serializable {
     private SessionManager sessionManager;
     private boolean isValid = true;
     private boolean isNew = true;
+    private transient volatile SessionExpiryWheel.Timeout expiryTimeout;
 
     public HTTPSession(String id, int maxInactiveInterval, String path) {
         this.id = id;
@@ -111,6 +112,9 @@ public class HTTPSession implements Session, Serializable {
     @Override
     public void setMaxInactiveInterval(int maxInactiveInterval) {
         this.maxInactiveInterval = maxInactiveInterval;
+        if (sessionManager != null) {
+            sessionManager.scheduleExpiry(this);
+        }
     }
 
     @Override
@@ -147,6 +151,14 @@ public class HTTPSession implements Session, Serializable {
         this.sessionManager = sessionManager;
     }
 
+    SessionExpiryWheel.Timeout getExpiryTimeout() {
+        return expiryTimeout;
+    }
+
+    void setExpiryTimeout(SessionExpiryWheel.Timeout expiryTimeout) {
+        this.expiryTimeout = expiryTimeout;
+    }
+
     private void checkValidity() {
         if (!isValid) {
             throw new IllegalStateException("Failed to execute action: Invalid session");
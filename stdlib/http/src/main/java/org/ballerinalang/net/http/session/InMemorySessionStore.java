@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.net.http.session;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@code InMemorySessionStore} keeps sessions in shards of access ordered maps, so that requests of different
+ * sessions seldom contend for the same lock while the least recently used session can still be found without a
+ * scan over all the sessions.
+ *
+ * @since 0.981.2
+ */
+public class InMemorySessionStore implements SessionStore {
+
+    public static final String NAME = "memory";
+
+    private static final int SHARD_COUNT = 16;
+
+    private final Shard[] shards = new Shard[SHARD_COUNT];
+    private final AtomicInteger size = new AtomicInteger();
+
+    public InMemorySessionStore() {
+        for (int i = 0; i < SHARD_COUNT; i++) {
+            shards[i] = new Shard();
+        }
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public Session get(String sessionId) {
+        Shard shard = getShard(sessionId);
+        synchronized (shard) {
+            return shard.get(sessionId);
+        }
+    }
+
+    @Override
+    public void put(Session session) {
+        Shard shard = getShard(session.getId());
+        synchronized (shard) {
+            if (shard.put(session.getId(), session) == null) {
+                size.incrementAndGet();
+            }
+        }
+    }
+
+    @Override
+    public void remove(Session session) {
+        Shard shard = getShard(session.getId());
+        synchronized (shard) {
+            if (shard.remove(session.getId(), session)) {
+                size.decrementAndGet();
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        return size.get();
+    }
+
+    @Override
+    public Session getLeastRecentlyUsed() {
+        // The eldest session of each shard is the least recently used session of the shard
+        Session leastRecentlyUsed = null;
+        for (Shard shard : shards) {
+            synchronized (shard) {
+                Iterator<Session> sessions = shard.values().iterator();
+                if (sessions.hasNext()) {
+                    Session eldest = sessions.next();
+                    if (leastRecentlyUsed == null ||
+                            eldest.getLastAccessedTime() < leastRecentlyUsed.getLastAccessedTime()) {
+                        leastRecentlyUsed = eldest;
+                    }
+                }
+            }
+        }
+        return leastRecentlyUsed;
+    }
+
+    private Shard getShard(String sessionId) {
+        int hash = sessionId.hashCode();
+        return shards[(hash ^ (hash >>> 16)) & (SHARD_COUNT - 1)];
+    }
+
+    /**
+     * A shard of sessions ordered from the least recently used to the most recently used.
+     */
+    private static class Shard extends LinkedHashMap<String, Session> {
+
+        private static final long serialVersionUID = 1L;
+
+        Shard() {
+            super(16, 0.75f, true);
+        }
+    }
+}
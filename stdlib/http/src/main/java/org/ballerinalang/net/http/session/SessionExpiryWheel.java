@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.net.http.session;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * {@code SessionExpiryWheel} expires inactive sessions with a hierarchical timing wheel, so that each tick only
+ * looks at the sessions due in that tick instead of all the active sessions.
+ * <p>
+ * Each level of the wheel has {@code WHEEL_SIZE} slots, and a slot of a level spans all the slots of the level
+ * below. A session is placed in the lowest level which can hold its expiry time, and moved down to the lower levels
+ * as the wheel turns. Accessing a session does not move it in the wheel; when a session falls due it is checked
+ * against its last accessed time, and placed in the wheel again if it has been accessed meanwhile.
+ * <p>
+ * Sessions are scheduled from any thread, while the wheel itself is only turned by a single thread through
+ * {@link #advance(long)}.
+ *
+ * @since 0.981.2
+ */
+class SessionExpiryWheel {
+
+    private static final Logger log = LoggerFactory.getLogger(SessionExpiryWheel.class);
+
+    private static final int WHEEL_BITS = 6;
+    private static final int WHEEL_SIZE = 1 << WHEEL_BITS;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+    private static final int LEVELS = 4;
+
+    private final long startTime;
+    private final long tickMillis;
+    private final List<List<Timeout>> slots = new ArrayList<>(LEVELS * WHEEL_SIZE);
+    private final Queue<Timeout> pendingTimeouts = new ConcurrentLinkedQueue<>();
+    private long currentTick;
+
+    SessionExpiryWheel(long startTime, long tickMillis) {
+        this.startTime = startTime;
+        this.tickMillis = tickMillis;
+        for (int i = 0; i < LEVELS * WHEEL_SIZE; i++) {
+            slots.add(new ArrayList<>());
+        }
+    }
+
+    /**
+     * Schedule the expiry of a session according to its current max inactive interval. A previously scheduled
+     * expiry of the session is replaced.
+     *
+     * @param session session to be expired
+     */
+    void schedule(HTTPSession session) {
+        Timeout timeout = new Timeout(session);
+        session.setExpiryTimeout(timeout);
+        pendingTimeouts.add(timeout);
+    }
+
+    /**
+     * Turn the wheel up to the given time, expiring the sessions which are due.
+     *
+     * @param now current time in milliseconds
+     */
+    void advance(long now) {
+        Timeout pending;
+        while ((pending = pendingTimeouts.poll()) != null) {
+            long deadline = pending.getDeadline();
+            if (deadline >= 0) {
+                add(pending, deadline);
+            }
+        }
+        long targetTick = (now - startTime) / tickMillis;
+        while (currentTick < targetTick) {
+            currentTick++;
+            for (int level = LEVELS - 1; level > 0; level--) {
+                if ((currentTick & ((1L << (WHEEL_BITS * level)) - 1)) == 0) {
+                    for (Timeout timeout : takeSlot(level, currentTick)) {
+                        add(timeout, timeout.deadline);
+                    }
+                }
+            }
+            for (Timeout timeout : takeSlot(0, currentTick)) {
+                expire(timeout, now);
+            }
+        }
+    }
+
+    private void expire(Timeout timeout, long now) {
+        HTTPSession session = timeout.session;
+        if (session.getExpiryTimeout() != timeout || !session.isValid()) {
+            // The session is already invalidated, or its expiry is scheduled again
+            return;
+        }
+        long deadline = timeout.getDeadline();
+        if (deadline < 0) {
+            return;
+        }
+        if (deadline > now) {
+            // The session has been accessed after it was scheduled
+            add(timeout, deadline);
+            return;
+        }
+        try {
+            session.invalidate();
+        } catch (RuntimeException e) {
+            log.error("failed to invalidate expired session", e);
+        }
+    }
+
+    private void add(Timeout timeout, long deadline) {
+        timeout.deadline = deadline;
+        long deadlineTick = Math.max((deadline - startTime + tickMillis - 1) / tickMillis, currentTick + 1);
+        long ticks = deadlineTick - currentTick;
+        for (int level = 0; level < LEVELS; level++) {
+            if (ticks < 1L << (WHEEL_BITS * (level + 1))) {
+                getSlot(level, deadlineTick).add(timeout);
+                return;
+            }
+        }
+        // Beyond the span of the wheel; checked again when the farthest slot falls due
+        getSlot(LEVELS - 1, currentTick + (1L << (WHEEL_BITS * LEVELS)) - 1).add(timeout);
+    }
+
+    private List<Timeout> getSlot(int level, long tick) {
+        return slots.get(level * WHEEL_SIZE + (int) ((tick >>> (WHEEL_BITS * level)) & WHEEL_MASK));
+    }
+
+    private List<Timeout> takeSlot(int level, long tick) {
+        int index = level * WHEEL_SIZE + (int) ((tick >>> (WHEEL_BITS * level)) & WHEEL_MASK);
+        List<Timeout> timeouts = slots.get(index);
+        if (timeouts.isEmpty()) {
+            return timeouts;
+        }
+        slots.set(index, new ArrayList<>());
+        return timeouts;
+    }
+
+    /**
+     * A scheduled expiry of a session.
+     */
+    static class Timeout {
+
+        private final HTTPSession session;
+        private long deadline;
+
+        Timeout(HTTPSession session) {
+            this.session = session;
+        }
+
+        /**
+         * Get the time the session expires unless it is accessed again.
+         *
+         * @return expiry time in milliseconds, or -1 if the session does not expire
+         */
+        long getDeadline() {
+            int maxInactiveInterval = session.getMaxInactiveInterval();
+            if (maxInactiveInterval < 0) {
+                return -1;
+            }
+            return session.getLastAccessedTime() + maxInactiveInterval * 1000L;
+        }
+    }
+}
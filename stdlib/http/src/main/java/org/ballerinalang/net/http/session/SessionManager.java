@@ -18,23 +18,36 @@
 
 package org.ballerinalang.net.http.session;
 
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import org.ballerinalang.config.ConfigRegistry;
+import org.ballerinalang.util.exceptions.BallerinaException;
+
+import java.util.ServiceLoader;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 
 /**
  * SessionManager to manage all transport sessions.
+ * <p>
+ * Sessions are kept in the {@link SessionStore} selected with {@code b7a.http.session.store}, and expired by a
+ * {@link SessionExpiryWheel}. When {@code b7a.http.session.maxActiveSessions} sessions are active, creating a new
+ * session fails, unless {@code b7a.http.session.evictLeastRecentlyUsed} is enabled, in which case the least
+ * recently used session is invalidated to make room for the new session. The check against the limit and the
+ * eviction are serialized among the sessions being created, so that concurrent requests do not exceed the limit or
+ * evict more sessions than needed.
  *
  * @since 0.89
  */
 public class SessionManager {
 
     private static SessionManager instance = new SessionManager();
-    private Map<String, Session> sessionMap = new ConcurrentHashMap<>();
+    private SessionStore sessionStore;
     private SessionIdGenerator sessionIdGenerator = new SessionIdGenerator();
+    private SessionExpiryWheel sessionExpiryWheel;
     private ScheduledExecutorService sessionExpiryChecker;
+    private int maxActiveSessions;
+    private boolean evictLeastRecentlyUsed;
+    private final Object sessionCreationLock = new Object();
 
     /**
      * Max number of sessions that can be active at a given time.
@@ -43,23 +56,50 @@ public class SessionManager {
 
     private static final int DEFAULT_MAX_INACTIVE_INTERVAL = 900;  // In seconds
 
+    private static final long SESSION_EXPIRY_TICK_MILLIS = 1000;
+
+    private static final String SESSION_STORE_CONFIG = "b7a.http.session.store";
+    private static final String MAX_ACTIVE_SESSIONS_CONFIG = "b7a.http.session.maxActiveSessions";
+    private static final String EVICT_LEAST_RECENTLY_USED_CONFIG = "b7a.http.session.evictLeastRecentlyUsed";
+
     /**
      * The session id length of Sessions created by this Manager.
      */
     private static final int SESSION_ID_LENGTH = 16;
 
     private SessionManager() {
+        this(ConfigRegistry.getInstance());
+    }
+
+    private SessionManager(ConfigRegistry configRegistry) {
+        this(createSessionStore(configRegistry.getAsString(SESSION_STORE_CONFIG)),
+                configRegistry.contains(MAX_ACTIVE_SESSIONS_CONFIG) ?
+                        (int) configRegistry.getAsInt(MAX_ACTIVE_SESSIONS_CONFIG) : DEFAULT_MAX_ACTIVE_SESSIONS,
+                configRegistry.getAsBoolean(EVICT_LEAST_RECENTLY_USED_CONFIG));
+    }
+
+    SessionManager(SessionStore sessionStore, int maxActiveSessions, boolean evictLeastRecentlyUsed) {
         sessionIdGenerator.setSessionIdLength(SESSION_ID_LENGTH);
+        this.sessionStore = sessionStore;
+        this.maxActiveSessions = maxActiveSessions;
+        this.evictLeastRecentlyUsed = evictLeastRecentlyUsed;
         // Session expiry scheduled task
+        sessionExpiryWheel = new SessionExpiryWheel(System.currentTimeMillis(), SESSION_EXPIRY_TICK_MILLIS);
         sessionExpiryChecker = Executors.newScheduledThreadPool(1);
-        sessionExpiryChecker.scheduleAtFixedRate(() ->
-                        sessionMap.values().parallelStream()
-                                .filter(session ->
-                                        (session.getMaxInactiveInterval() >= 0 &&
-                                                System.currentTimeMillis() - session.getLastAccessedTime() >=
-                                                        session.getMaxInactiveInterval() * 1000))
-                                .forEach(Session::invalidate),
-                30, 30, TimeUnit.SECONDS);
+        sessionExpiryChecker.scheduleAtFixedRate(() -> sessionExpiryWheel.advance(System.currentTimeMillis()),
+                SESSION_EXPIRY_TICK_MILLIS, SESSION_EXPIRY_TICK_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    private static SessionStore createSessionStore(String storeName) {
+        if (storeName == null || InMemorySessionStore.NAME.equalsIgnoreCase(storeName)) {
+            return new InMemorySessionStore();
+        }
+        for (SessionStore store : ServiceLoader.load(SessionStore.class)) {
+            if (store.getName().equalsIgnoreCase(storeName)) {
+                return store;
+            }
+        }
+        throw new BallerinaException("unknown session store: " + storeName);
     }
 
     public static SessionManager getInstance() {
@@ -67,31 +107,43 @@ public class SessionManager {
     }
 
     public Session getHTTPSession(String sessionId) {
-        HTTPSession session = (HTTPSession) sessionMap.get(sessionId);
-        if (session != null) {
-            return session;
-        }
-        return null;
+        return sessionStore.get(sessionId);
     }
 
     public Session createHTTPSession(String path) {
-        if (sessionMap.size() >= DEFAULT_MAX_ACTIVE_SESSIONS) {
-            throw new IllegalStateException("Failed to create session: Too many active sessions");
-        }
         HTTPSession session = new HTTPSession(sessionIdGenerator.generateSessionId(),
                 DEFAULT_MAX_INACTIVE_INTERVAL, path);
         session.setManager(this);
-        sessionMap.put(session.getId(), session);
+        synchronized (sessionCreationLock) {
+            if (sessionStore.size() >= maxActiveSessions) {
+                Session leastRecentlyUsed = evictLeastRecentlyUsed ? sessionStore.getLeastRecentlyUsed() : null;
+                if (leastRecentlyUsed == null) {
+                    throw new IllegalStateException("Failed to create session: Too many active sessions");
+                }
+                leastRecentlyUsed.invalidate();
+            }
+            sessionStore.put(session);
+        }
+        scheduleExpiry(session);
         return session;
     }
 
+    /**
+     * Schedule the expiry of a session according to its max inactive interval.
+     *
+     * @param session The session to be expired.
+     */
+    void scheduleExpiry(HTTPSession session) {
+        sessionExpiryWheel.schedule(session);
+    }
+
     /**
      * Invalidate a session.
      *
      * @param session The session to be invalidated.
      */
     public void invalidateSession(Session session) {
-        sessionMap.remove(session.getId());
+        sessionStore.remove(session);
     }
 
     /**
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.net.http.session;
+
+/**
+ * {@code SessionStore} keeps the active sessions of the {@link SessionManager}.
+ * <p>
+ * Sessions are kept in memory by {@link InMemorySessionStore} unless another store is selected by name with the
+ * {@code b7a.http.session.store} configuration. Other stores are plugged in through {@link java.util.ServiceLoader}.
+ *
+ * @since 0.981.2
+ */
+public interface SessionStore {
+
+    /**
+     * Get the name used to select the store.
+     *
+     * @return name of the store
+     */
+    String getName();
+
+    /**
+     * Get a session and mark it as the most recently used session.
+     *
+     * @param sessionId id of the session
+     * @return the session, or null if there is no such session
+     */
+    Session get(String sessionId);
+
+    /**
+     * Add a session to the store.
+     *
+     * @param session session to be added
+     */
+    void put(Session session);
+
+    /**
+     * Remove a session from the store.
+     *
+     * @param session session to be removed
+     */
+    void remove(Session session);
+
+    /**
+     * Get the number of sessions in the store.
+     *
+     * @return number of sessions
+     */
+    int size();
+
+    /**
+     * Get the session which was used least recently, to make room for a new session.
+     *
+     * @return the least recently used session, or null if the store is empty
+     */
+    Session getLeastRecentlyUsed();
+}
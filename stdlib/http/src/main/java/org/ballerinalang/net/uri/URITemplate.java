@@ -22,28 +22,64 @@ import org.ballerinalang.net.uri.parser.DataElement;
 import org.ballerinalang.net.uri.parser.DataElementFactory;
 import org.ballerinalang.net.uri.parser.DataReturnAgent;
 import org.ballerinalang.net.uri.parser.Node;
+import org.ballerinalang.net.uri.parser.PathMatch;
 import org.ballerinalang.net.uri.parser.URITemplateParser;
 
 import java.io.UnsupportedEncodingException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
  * Basic URI Template implementation.
+ * <p>
+ * The template keeps the matches of the most recently dispatched paths, so that a path which is dispatched over and
+ * over again is matched against the syntax tree only once. Only the checks on the inbound message are done for the
+ * later requests of the path. The cache is split into segments by the hash of the path, each with its own lock and
+ * least recently used order, so that concurrent requests of different paths seldom wait for each other.
  *
  * @param <DataType> Data type stored in the data element.
  * @param <InboundMsgType> Inbound message type for additional checks.
  **/
 public class URITemplate<DataType, InboundMsgType> {
 
+    private static final int DEFAULT_PATH_CACHE_SIZE = 1024;
+
+    private static final int PATH_CACHE_SEGMENTS = 16;
+
     private Node<DataType, InboundMsgType> syntaxTree;
 
+    private final List<Map<String, PathMatch<DataType, InboundMsgType>>> pathMatchSegments;
+
     public URITemplate(Node<DataType, InboundMsgType> syntaxTree) {
+        this(syntaxTree, DEFAULT_PATH_CACHE_SIZE);
+    }
+
+    public URITemplate(Node<DataType, InboundMsgType> syntaxTree, int pathCacheSize) {
         this.syntaxTree = syntaxTree;
+        int segmentCount = Math.max(1, Math.min(PATH_CACHE_SEGMENTS, pathCacheSize));
+        int segmentSize = Math.max(1, pathCacheSize / segmentCount);
+        this.pathMatchSegments = new ArrayList<>(segmentCount);
+        for (int i = 0; i < segmentCount; i++) {
+            pathMatchSegments.add(new LinkedHashMap<String, PathMatch<DataType, InboundMsgType>>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, PathMatch<DataType, InboundMsgType>> eldest) {
+                    return size() > segmentSize;
+                }
+            });
+        }
     }
 
     public DataType matches(String uri, Map<String, String> variables, InboundMsgType inboundMsg) {
         DataReturnAgent<DataType> dataReturnAgent = new DataReturnAgent<>();
-        boolean isFound = syntaxTree.matchAll(uri, variables, 0, inboundMsg, dataReturnAgent);
+        boolean isFound;
+        if (variables.isEmpty()) {
+            isFound = getPathMatch(uri).resolve(variables, inboundMsg, dataReturnAgent);
+        } else {
+            // Variables given upfront take part in matching, so the cached matches cannot be used
+            isFound = syntaxTree.matchAll(uri, variables, 0, inboundMsg, dataReturnAgent);
+        }
         if (isFound) {
             return dataReturnAgent.getData();
         }
@@ -53,6 +89,25 @@ public class URITemplate<DataType, InboundMsgType> {
         return null;
     }
 
+    private PathMatch<DataType, InboundMsgType> getPathMatch(String uri) {
+        int hash = uri.hashCode();
+        // Spread the higher bits, as only the lower bits pick the segment
+        hash ^= hash >>> 16;
+        Map<String, PathMatch<DataType, InboundMsgType>> segment =
+                pathMatchSegments.get((hash & 0x7fffffff) % pathMatchSegments.size());
+        PathMatch<DataType, InboundMsgType> pathMatch;
+        synchronized (segment) {
+            pathMatch = segment.get(uri);
+        }
+        if (pathMatch == null) {
+            pathMatch = syntaxTree.matchPath(uri);
+            synchronized (segment) {
+                segment.put(uri, pathMatch);
+            }
+        }
+        return pathMatch;
+    }
+
     public void parse(String uriTemplate, DataType resource,
                       DataElementFactory<? extends DataElement<DataType, InboundMsgType>>
                               elementCreator) throws URITemplateException, UnsupportedEncodingException {
@@ -60,6 +115,12 @@ public class URITemplate<DataType, InboundMsgType> {
 
         URITemplateParser<DataType, InboundMsgType> parser = new URITemplateParser<>(syntaxTree, elementCreator);
         parser.parse(uriTemplate, resource);
+        // Matches of the paths may change with the new template
+        for (Map<String, PathMatch<DataType, InboundMsgType>> segment : pathMatchSegments) {
+            synchronized (segment) {
+                segment.clear();
+            }
+        }
     }
 
     private String removeTheFirstAndLastBackSlash(String template) throws URITemplateException {
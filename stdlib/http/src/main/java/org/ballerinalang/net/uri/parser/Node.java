@@ -18,10 +18,12 @@
 
 package org.ballerinalang.net.uri.parser;
 
-import org.ballerinalang.net.http.HttpConstants;
 import org.ballerinalang.net.uri.URITemplateException;
 
+import java.util.ArrayDeque;
 import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -65,21 +67,52 @@ public abstract class Node<DataType, InboundMsgType> {
     public boolean matchAll(String uriFragment, Map<String, String> variables,
                                                           int start, InboundMsgType inboundMsg,
                                                           DataReturnAgent<DataType> dataReturnAgent) {
-        int matchLength = match(uriFragment, variables);
+        // The data elements are checked as they are found, so that matching stops at the first one accepting the
+        // message
+        PathMatch<DataType, InboundMsgType> pathMatch = new PathMatch<>(inboundMsg, dataReturnAgent);
+        collectMatches(uriFragment, variables, new ArrayDeque<>(), pathMatch);
+        return pathMatch.resolve(variables, inboundMsg, dataReturnAgent);
+    }
+
+    /**
+     * Match the given uri against this node and its children, without checking the inbound message.
+     *
+     * @param uri uri to be matched
+     * @return the {@link PathMatch} of the uri, which can be resolved for any inbound message of the uri
+     */
+    public PathMatch<DataType, InboundMsgType> matchPath(String uri) {
+        PathMatch<DataType, InboundMsgType> pathMatch = new PathMatch<>();
+        collectMatches(uri, new HashMap<>(), new ArrayDeque<>(), pathMatch);
+        return pathMatch;
+    }
+
+    private void collectMatches(String uriFragment, Map<String, String> variables, Deque<String> uriPostFixes,
+                                PathMatch<DataType, InboundMsgType> pathMatch) {
+        int matchLength;
+        try {
+            matchLength = match(uriFragment, variables);
+        } catch (RuntimeException e) {
+            // The error is only raised if none of the data elements matched before this accepts the message
+            pathMatch.addError(e);
+            return;
+        }
         if (matchLength < 0) {
-            return false;
+            return;
         }
         if (matchLength == uriFragment.length()) {
-            return dataElement.getData(inboundMsg, dataReturnAgent);
+            pathMatch.addCandidate(dataElement, variables, uriPostFixes);
+            return;
         }
         if (matchLength >= uriFragment.length()) {
-            return false;
+            return;
         }
         String subUriFragment = nextURIFragment(uriFragment, matchLength);
         String subPath = nextSubPath(subUriFragment);
 
-        boolean isFound;
         for (Node<DataType, InboundMsgType> childNode : childNodesList) {
+            if (pathMatch.isComplete()) {
+                return;
+            }
             if (childNode instanceof Literal) {
                 String regex = childNode.getToken();
                 if (regex.equals("*")) {
@@ -87,41 +120,23 @@ public abstract class Node<DataType, InboundMsgType> {
                     if (!subPath.matches(regex)) {
                         continue;
                     }
-                    isFound = childNode.matchAll(subUriFragment, variables, start + matchLength, inboundMsg,
-                                                 dataReturnAgent);
-                    if (isFound) {
-                        setUriPostFix(variables, subUriFragment);
-                        return true;
-                    }
+                    uriPostFixes.push("/" + subUriFragment);
+                    childNode.collectMatches(subUriFragment, variables, uriPostFixes, pathMatch);
+                    uriPostFixes.pop();
                     continue;
                 }
                 if (!subPath.contains(regex)) {
                     continue;
                 }
-                isFound = childNode.matchAll(subUriFragment, variables, start + matchLength, inboundMsg,
-                                             dataReturnAgent);
-                if (isFound) {
-                    return true;
-                }
-                continue;
-            }
-            isFound = childNode.matchAll(subUriFragment, variables, start + matchLength, inboundMsg,
-                                         dataReturnAgent);
-            if (isFound) {
-                return true;
             }
+            childNode.collectMatches(subUriFragment, variables, uriPostFixes, pathMatch);
         }
-        return false;
     }
 
     private boolean hasDataElement(DataElement<DataType, InboundMsgType> dataElement) {
         return dataElement != null && dataElement.hasData();
     }
 
-    private void setUriPostFix(Map<String, String> variables, String subUriFragment) {
-        variables.putIfAbsent(HttpConstants.EXTRA_PATH_INFO, "/" + subUriFragment);
-    }
-
     abstract String expand(Map<String, String> variables);
 
     abstract int match(String uriFragment, Map<String, String> variables);
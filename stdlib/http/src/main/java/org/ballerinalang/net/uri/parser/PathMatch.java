@@ -0,0 +1,140 @@
+/*
+ *  Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.net.uri.parser;
+
+import org.ballerinalang.net.http.HttpConstants;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * PathMatch holds the data elements of the uri-template which match a given path, in the order they are tried, along
+ * with the variables extracted for each of them. Matching the path does not depend on the inbound message, so a
+ * path match can be kept and resolved against later inbound messages of the same path.
+ * <p>
+ * A path match created for a single inbound message instead checks each data element as soon as it is found, and
+ * completes at the first data element which accepts the message.
+ *
+ * @param <DataType> Type of data which should be stored in the node.
+ * @param <InboundMsgType> Inbound message type for additional checks.
+ */
+public class PathMatch<DataType, InboundMsgType> {
+
+    private final List<Candidate<DataType, InboundMsgType>> candidates = new ArrayList<>(2);
+
+    private final InboundMsgType inboundMsg;
+
+    private final DataReturnAgent<DataType> dataReturnAgent;
+
+    private boolean accepted;
+
+    private RuntimeException error;
+
+    /**
+     * Creates a path match which collects all the data elements matching the path.
+     */
+    public PathMatch() {
+        this(null, null);
+    }
+
+    /**
+     * Creates a path match which checks the data elements against the given inbound message as they are found.
+     *
+     * @param inboundMsg      inbound message for the additional checks of the data elements
+     * @param dataReturnAgent agent to return the data or the error
+     */
+    public PathMatch(InboundMsgType inboundMsg, DataReturnAgent<DataType> dataReturnAgent) {
+        this.inboundMsg = inboundMsg;
+        this.dataReturnAgent = dataReturnAgent;
+    }
+
+    void addCandidate(DataElement<DataType, InboundMsgType> dataElement, Map<String, String> variables,
+                      Collection<String> uriPostFixes) {
+        if (dataReturnAgent != null && !dataElement.getData(inboundMsg, dataReturnAgent)) {
+            return;
+        }
+        candidates.add(new Candidate<>(dataElement, new HashMap<>(variables),
+                                       uriPostFixes.toArray(new String[uriPostFixes.size()])));
+        accepted = dataReturnAgent != null;
+    }
+
+    void addError(RuntimeException error) {
+        this.error = error;
+    }
+
+    /**
+     * Returns whether matching can stop, either on an error or on a data element which accepted the message.
+     *
+     * @return true if no more data elements need to be matched
+     */
+    boolean isComplete() {
+        return accepted || error != null;
+    }
+
+    /**
+     * Resolve the data of the first data element which accepts the inbound message.
+     *
+     * @param variables       map to be populated with the variables of the matching path
+     * @param inboundMsg      inbound message for the additional checks of the data elements
+     * @param dataReturnAgent agent to return the data or the error
+     * @return true if a data element accepted the inbound message
+     */
+    public boolean resolve(Map<String, String> variables, InboundMsgType inboundMsg,
+                           DataReturnAgent<DataType> dataReturnAgent) {
+        for (Candidate<DataType, InboundMsgType> candidate : candidates) {
+            // A candidate of a path match created for this message has already accepted it
+            if (!accepted && !candidate.dataElement.getData(inboundMsg, dataReturnAgent)) {
+                continue;
+            }
+            variables.clear();
+            variables.putAll(candidate.variables);
+            for (String uriPostFix : candidate.uriPostFixes) {
+                variables.putIfAbsent(HttpConstants.EXTRA_PATH_INFO, uriPostFix);
+            }
+            return true;
+        }
+        if (error != null) {
+            throw error;
+        }
+        return false;
+    }
+
+    /**
+     * A data element matching the path and the variables extracted on the way to it.
+     */
+    private static class Candidate<DataType, InboundMsgType> {
+
+        private final DataElement<DataType, InboundMsgType> dataElement;
+
+        private final Map<String, String> variables;
+
+        // Extra path info of the enclosing wildcards, from the innermost to the outermost
+        private final String[] uriPostFixes;
+
+        Candidate(DataElement<DataType, InboundMsgType> dataElement, Map<String, String> variables,
+                  String[] uriPostFixes) {
+            this.dataElement = dataElement;
+            this.variables = variables;
+            this.uriPostFixes = uriPostFixes;
+        }
+    }
+}
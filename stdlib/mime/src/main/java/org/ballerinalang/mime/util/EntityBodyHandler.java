@@ -42,6 +42,7 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.OpenOption;
@@ -165,6 +166,39 @@ public class EntityBodyHandler {
         }
     }
 
+    /**
+     * Bind the JSON content in the underneath byte channel which is associated with the entity struct straight into
+     * a value of the given structure type. The JSON content is not kept as a message data source, hence the entity
+     * body cannot be read again afterwards.
+     *
+     * @param entityStruct Represent an entity struct
+     * @param structType   Type of the structure to bind the JSON content to
+     * @return the structure value with the values in the JSON content, or null if the entity does not have a body
+     */
+    public static BMap<String, BValue> constructStructFromJson(BMap<String, BValue> entityStruct,
+                                                               BStructureType structType) {
+        try {
+            Channel byteChannel = getByteChannel(entityStruct);
+            if (byteChannel == null) {
+                return null;
+            }
+            String charsetValue = null;
+            String contentTypeValue = HeaderUtil.getHeaderValue(entityStruct, HttpHeaderNames.CONTENT_TYPE.toString());
+            if (contentTypeValue != null && !contentTypeValue.isEmpty()) {
+                charsetValue = MimeUtil.getContentTypeParamValue(contentTypeValue, CHARSET);
+            }
+            if (charsetValue == null || charsetValue.isEmpty()) {
+                charsetValue = Charset.defaultCharset().name();
+            }
+            BMap<String, BValue> struct = JsonParser.parse(byteChannel.getInputStream(), charsetValue, structType);
+            byteChannel.close();
+            entityStruct.addNativeData(ENTITY_BYTE_CHANNEL, null);
+            return struct;
+        } catch (IOException e) {
+            throw new BallerinaIOException("Error occurred while closing connection", e);
+        }
+    }
+
     /**
      * Construct XMl data source from the underneath byte channel which is associated with the entity struct.
      *
@@ -14,7 +14,6 @@
 // specific language governing permissions and limitations
 // under the License.
 import ballerina/reflect;
-import ballerina/crypto;
 import ballerina/math;
 
 public type Aggregator object {
@@ -53,34 +52,8 @@ public type Sum object {
 
     }
 
-    public function process(any value, EventType eventType) returns any {
-        match value {
-            int i => {
-                if (eventType == "CURRENT") {
-                    iSum += i;
-                } else if (eventType == "EXPIRED"){
-                    iSum -= i;
-                } else if (eventType == "RESET"){
-                    iSum = 0;
-                }
-                return iSum;
-            }
-            float f => {
-                if (eventType == "CURRENT") {
-                    fSum += f;
-                } else if (eventType == "EXPIRED"){
-                    fSum -= f;
-                } else if (eventType == "RESET"){
-                    fSum = 0.0;
-                }
-                return fSum;
-            }
-            any a => {
-                error e = { message: "Unsupported attribute type found" };
-                return e;
-            }
-        }
-    }
+    // Updates `iSum` or `fSum` natively, depending on the type of the value.
+    public extern function process(any value, EventType eventType) returns any;
 
     public function clone() returns Aggregator {
         Sum sumAggregator = new();
@@ -103,39 +76,8 @@ public type Average object {
 
     }
 
-    public function process(any value, EventType eventType) returns any {
-        match value {
-            int i => {
-                if (eventType == "CURRENT") {
-                    sum += i;
-                    count++;
-                } else if (eventType == "EXPIRED"){
-                    sum -= i;
-                    count--;
-                } else if (eventType == "RESET"){
-                    sum = 0.0;
-                    count = 0;
-                }
-            }
-            float f => {
-                if (eventType == "CURRENT") {
-                    sum += f;
-                    count++;
-                } else if (eventType == "EXPIRED"){
-                    sum -= f;
-                    count--;
-                } else if (eventType == "RESET"){
-                    sum = 0.0;
-                    count = 0;
-                }
-            }
-            any a => {
-                error e = { message: "Unsupported attribute type found" };
-                return e;
-            }
-        }
-        return (count > 0) ? (sum / count) : 0.0;
-    }
+    // Updates `sum` and `count` natively.
+    public extern function process(any value, EventType eventType) returns any;
 
     public function clone() returns Aggregator {
         Average avgAggregator = new();
@@ -157,16 +99,8 @@ public type Count object {
 
     }
 
-    public function process(any value, EventType eventType) returns any {
-        if (eventType == "CURRENT") {
-            count++;
-        } else if (eventType == "EXPIRED"){
-            count--;
-        } else if (eventType == "RESET"){
-            count = 0;
-        }
-        return count;
-    }
+    // Updates `count` natively.
+    public extern function process(any value, EventType eventType) returns any;
 
     public function clone() returns Aggregator {
         Count countAggregator = new();
@@ -188,25 +122,9 @@ public type DistinctCount object {
 
     }
 
-    public function process(any value, EventType eventType) returns any {
-        string key = crypto:crc32(value);
-        if (eventType == "CURRENT") {
-            int preVal = distinctValues[key] ?: 0;
-            preVal++;
-            distinctValues[key] = preVal;
-        } else if (eventType == "EXPIRED"){
-            int preVal = distinctValues[key] ?: 1;
-            preVal--;
-            if (preVal <= 0) {
-                _ = distinctValues.remove(key);
-            } else {
-                distinctValues[key] = preVal;
-            }
-        } else if (eventType == "RESET"){
-            distinctValues.clear();
-        }
-        return lengthof distinctValues;
-    }
+    // Counts the occurrences of each value natively in `distinctValues`, keyed by the string representation of the
+    // value.
+    public extern function process(any value, EventType eventType) returns any;
 
     public function clone() returns Aggregator {
         DistinctCount distinctCountAggregator = new();
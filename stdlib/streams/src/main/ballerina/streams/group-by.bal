@@ -25,16 +25,7 @@ public type GroupBy object {
 
     public function performGrouping(StreamEvent[] streamEvents) {
         if (lengthof groupByFields > 0) {
-            foreach streamEvent in streamEvents {
-                string key = generateGroupByKey(streamEvent);
-                if (!groupedStreamEvents.hasKey(key)) {
-                    StreamEvent[] events = [];
-                    groupedStreamEvents[key] = events;
-                }
-                StreamEvent[] groupedEvents = check <StreamEvent[]>groupedStreamEvents[key];
-                groupedEvents[lengthof groupedEvents] = streamEvent;
-            }
-
+            group(streamEvents);
             foreach arr in groupedStreamEvents.values() {
                 StreamEvent[] eventArr = check <StreamEvent[]>arr;
                 nextProcessorPointer(eventArr);
@@ -44,30 +35,9 @@ public type GroupBy object {
         }
     }
 
-    function generateGroupByKey(StreamEvent event) returns string {
-        string key;
-        map|error mappedStreamEvent = <map>event.eventObject;
-        match mappedStreamEvent {
-            map mapValue => {
-                foreach field in groupByFields {
-                    key += ", ";
-                    string? fieldValue = <string>mapValue[field];
-                    match fieldValue {
-                        string value => {
-                            key += value;
-                        }
-                        () => {
-
-                        }
-                    }
-                }
-            }
-            error => {
-
-            }
-        }
-        return key;
-    }
+    // Adds the given events natively to their groups in `groupedStreamEvents`, keyed by the values of the group by
+    // fields of their event objects.
+    extern function group(StreamEvent[] streamEvents);
 };
 
 public function createGroupBy(function(StreamEvent[]) nextProcPointer, string[] groupByFields) returns GroupBy {
@@ -37,6 +37,8 @@ public type Window object {
 public type LengthWindow object {
 
     public int size;
+    // Deprecated and no longer updated, as the events in the window are kept natively. Will be removed in a future
+    // release.
     public LinkedList linkedList;
     public function (StreamEvent[]) nextProcessorPointer;
 
@@ -45,31 +47,11 @@ public type LengthWindow object {
     }
 
     public function process(StreamEvent[] streamEvents) {
-        StreamEvent[] outputEvents = [];
-        foreach event in streamEvents {
-            if (linkedList.getSize() == size) {
-                match linkedList.removeFirst() {
-                    StreamEvent streamEvent => {
-                        outputEvents[lengthof outputEvents] = streamEvent;
-                    }
-
-                    () => {
-                        // do nothing
-                    }
-
-                    any anyValue => {
-                        // do nothing
-                    }
-                }
-            }
-
-            outputEvents[lengthof outputEvents] = event;
-            StreamEvent expiredVeresionOfEvent = {eventType : "EXPIRED", eventObject: event.eventObject,
-                timestamp: event.timestamp};
-            linkedList.addLast(expiredVeresionOfEvent);
-        }
-        nextProcessorPointer(outputEvents);
+        nextProcessorPointer(slide(streamEvents));
     }
+
+    // Returns the events pushed out of the window as expired events, followed by the given events.
+    extern function slide(StreamEvent[] streamEvents) returns StreamEvent[];
 };
 
 public function lengthWindow(function (StreamEvent[]) nextProcessorPointer, int length)
@@ -81,6 +63,8 @@ public function lengthWindow(function (StreamEvent[]) nextProcessorPointer, int
 public type TimeWindow object {
 
     public int timeInMillis;
+    // Deprecated and no longer updated, as the events in the window are kept natively. Will be removed in a future
+    // release.
     public LinkedList expiredEventQueue;
     public LinkedList timerQueue;
     public function (StreamEvent[]) nextProcessorPointer;
@@ -92,56 +76,20 @@ public type TimeWindow object {
     }
 
     public function process(StreamEvent[] streamEvents) {
-        LinkedList streamEventChunk = new;
+        StreamEvent[] events;
         lock {
-            foreach event in streamEvents {
-                streamEventChunk.addLast(event);
-            }
-
-            streamEventChunk.resetToFront();
-
-            while (streamEventChunk.hasNext()) {
-                StreamEvent streamEvent = check <StreamEvent>streamEventChunk.next();
-                int currentTime = time:currentTime().time;
-                expiredEventQueue.resetToFront();
-
-                while (expiredEventQueue.hasNext()) {
-                    StreamEvent expiredEvent = check <StreamEvent>expiredEventQueue.next();
-                    int timeDiff = (expiredEvent.timestamp - currentTime) + timeInMillis;
-                    if (timeDiff <= 0) {
-                        expiredEventQueue.removeCurrent();
-                        expiredEvent.timestamp = currentTime;
-                        streamEventChunk.insertBeforeCurrent(expiredEvent);
-                    } else {
-                        break;
-                    }
-                }
-
-                if (streamEvent.eventType == "CURRENT") {
-                    StreamEvent clonedEvent = cloneStreamEvent(streamEvent);
-                    clonedEvent.eventType = "EXPIRED";
-                    expiredEventQueue.addLast(clonedEvent);
-
-                    if (lastTimestamp < clonedEvent.timestamp) {
-                        task:Timer timer = new task:Timer(self.invokeProcess, self.handleError, timeInMillis,
-                            delay = timeInMillis - (time:currentTime().time - clonedEvent.timestamp));
-                        _ = timer.start();
-                        timerQueue.addLast(timer);
-                        lastTimestamp = clonedEvent.timestamp;
-                    }
-                } else {
-                    streamEventChunk.removeCurrent();
+            events = slide(streamEvents, time:currentTime().time);
+            foreach streamEvent in streamEvents {
+                if (streamEvent.eventType == "CURRENT" && lastTimestamp < streamEvent.timestamp) {
+                    task:Timer timer = new task:Timer(self.invokeProcess, self.handleError, timeInMillis,
+                        delay = timeInMillis - (time:currentTime().time - streamEvent.timestamp));
+                    _ = timer.start();
+                    timerQueue.addLast(timer);
+                    lastTimestamp = streamEvent.timestamp;
                 }
             }
-            expiredEventQueue.resetToFront();
         }
-        if (streamEventChunk.getSize() != 0) {
-            StreamEvent[] events = [];
-            streamEventChunk.resetToFront();
-            while (streamEventChunk.hasNext()) {
-                StreamEvent streamEvent = check <StreamEvent> streamEventChunk.next();
-                events[lengthof events] = streamEvent;
-            }
+        if (lengthof events != 0) {
             nextProcessorPointer(events);
         }
     }
@@ -161,6 +109,9 @@ public type TimeWindow object {
     public function handleError(error e) {
         io:println("Error occured", e);
     }
+
+    // Returns the events which expired by the current time, followed by the given current events.
+    extern function slide(StreamEvent[] streamEvents, int currentTime) returns StreamEvent[];
 };
 
 public function timeWindow(function(StreamEvent[]) nextProcessPointer, int timeLength)
@@ -171,8 +122,11 @@ public function timeWindow(function(StreamEvent[]) nextProcessPointer, int timeL
 
 public type LengthBatchWindow object {
     public int length;
+    // Updated natively.
     public int count;
     public StreamEvent? resetEvent;
+    // Deprecated and no longer updated, as the events in the window are kept natively. Will be removed in a future
+    // release.
     public LinkedList currentEventQueue;
     public LinkedList? expiredEventQueue;
     public function (StreamEvent[]) nextProcessorPointer;
@@ -183,58 +137,13 @@ public type LengthBatchWindow object {
     }
 
     public function process(StreamEvent[] streamEvents) {
-        LinkedList streamEventChunks = new();
-        LinkedList outputStreamEventChunk = new();
-        int currentTime = time:currentTime().time;
-
-        foreach event in streamEvents {
-            StreamEvent clonedStreamEvent = cloneStreamEvent(event);
-            currentEventQueue.addLast(clonedStreamEvent);
-            count++;
-            if (count == length) {
-                //if (expiredEventQueue.getFirst() != ()) {
-                //    expiredEventQueue.clear();
-                //}
-                if (currentEventQueue.getFirst() != ()) {
-                    if (resetEvent != ()) {
-                        outputStreamEventChunk.addLast(resetEvent);
-                        resetEvent = ();
-                    }
-                    //if (expiredEventQueue != ()) {
-                    //    currentEventQueue.resetToFront();
-                    //    while (currentEventQueue.hasNext()) {
-                    //        StreamEvent currentEvent = check <StreamEvent> currentEventQueue.next();
-                    //        StreamEvent toBeExpired = {eventType: "EXPIRED", eventObject: currentEvent.eventObject,
-                    //            timestamp: currentEvent.timestamp};
-                    //        expiredEventQueue.addLast(toBeExpired);
-                    //    }
-                    //}
-                    StreamEvent firstInCurrentEventQueue = check <StreamEvent> currentEventQueue.getFirst();
-                    resetEvent = createResetStreamEvent(firstInCurrentEventQueue);
-                    foreach currentEvent in currentEventQueue.asArray() {
-                        outputStreamEventChunk.addLast(currentEvent);
-                    }
-                }
-                currentEventQueue.clear();
-                count = 0;
-                if (outputStreamEventChunk.getFirst() != ()) {
-                    streamEventChunks.addLast(outputStreamEventChunk);
-                }
-            }
-        }
-
-        streamEventChunks.resetToFront();
-        while streamEventChunks.hasNext() {
-            StreamEvent[] events = [];
-            LinkedList streamEventChunk = check <LinkedList> streamEventChunks.next();
-            streamEventChunk.resetToFront();
-            while (streamEventChunk.hasNext()) {
-                StreamEvent streamEvent = check <StreamEvent> streamEventChunk.next();
-                events[lengthof events] = streamEvent;
-            }
+        foreach events in collect(streamEvents) {
             nextProcessorPointer(events);
         }
     }
+
+    // Returns the batches completed by the given events, each preceded by the reset event of the previous batch.
+    extern function collect(StreamEvent[] streamEvents) returns StreamEvent[][];
 };
 
 public function lengthBatchWindow(function(StreamEvent[]) nextProcessPointer, int length)
@@ -247,8 +156,11 @@ public function lengthBatchWindow(function(StreamEvent[]) nextProcessPointer, in
 public type TimeBatchWindow object {
     public int timeInMilliSeconds;
     public int nextEmitTime = -1;
+    // Deprecated and no longer updated, as the events in the window are kept natively. Will be removed in a future
+    // release.
     public LinkedList currentEventQueue;
     public LinkedList? expiredEventQueue;
+    // Updated natively.
     public StreamEvent? resetEvent;
     public task:Timer? timer;
     public function (StreamEvent[]) nextProcessorPointer;
@@ -266,7 +178,6 @@ public type TimeBatchWindow object {
         return ();
     }
     public function process(StreamEvent[] streamEvents) {
-        LinkedList outputStreamEvents = new();
         if (nextEmitTime == -1) {
             nextEmitTime = time:currentTime().time + timeInMilliSeconds;
             timer = new task:Timer(self.invokeProcess, self.handleError, timeInMilliSeconds, delay =
@@ -288,35 +199,8 @@ public type TimeBatchWindow object {
             sendEvents = false;
         }
 
-        foreach event in streamEvents {
-            if (event.eventType != "CURRENT") {
-                continue;
-            }
-            StreamEvent clonedEvent = cloneStreamEvent(event);
-            currentEventQueue.addLast(clonedEvent);
-        }
-        if (sendEvents) {
-            if (currentEventQueue.getFirst() != ()) {
-                if (resetEvent != ()) {
-                    outputStreamEvents.addLast(resetEvent);
-                    resetEvent = ();
-                }
-                resetEvent = createResetStreamEvent(check <StreamEvent> currentEventQueue.getFirst());
-                currentEventQueue.resetToFront();
-                while (currentEventQueue.hasNext()) {
-                    StreamEvent streamEvent = check <StreamEvent> currentEventQueue.next();
-                    outputStreamEvents.addLast(streamEvent);
-                }
-            }
-            currentEventQueue.clear();
-        }
-        if (outputStreamEvents.getSize() != 0) {
-            StreamEvent[] events = [];
-            outputStreamEvents.resetToFront();
-            while (outputStreamEvents.hasNext()) {
-                StreamEvent streamEvent = check <StreamEvent> outputStreamEvents.next();
-                events[lengthof events] = streamEvent;
-            }
+        StreamEvent[] events = collect(streamEvents, sendEvents);
+        if (lengthof events != 0) {
             nextProcessorPointer(events);
         }
     }
@@ -324,6 +208,9 @@ public type TimeBatchWindow object {
     public function handleError(error e) {
         io:println("Error occured", e);
     }
+
+    // Returns the batch preceded by the reset event of the previous batch, if the batch is to be sent.
+    extern function collect(StreamEvent[] streamEvents, boolean sendEvents) returns StreamEvent[];
 };
 
 public function timeBatchWindow(function(StreamEvent[]) nextProcessPointer, int time)
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.stdlib.streams.nativeimpl;
+
+import org.ballerinalang.bre.Context;
+import org.ballerinalang.bre.bvm.BlockingNativeCallableUnit;
+import org.ballerinalang.model.types.TypeKind;
+import org.ballerinalang.model.values.BInteger;
+import org.ballerinalang.model.values.BMap;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.natives.annotations.Argument;
+import org.ballerinalang.natives.annotations.BallerinaFunction;
+import org.ballerinalang.natives.annotations.Receiver;
+import org.ballerinalang.natives.annotations.ReturnType;
+
+/**
+ * Native process function of the DistinctCount aggregator, which counts the occurrences of each value in the
+ * {@code distinctValues} map of the aggregator, keyed by the string representation of the value.
+ *
+ * @since 0.981.2
+ */
+@BallerinaFunction(
+        orgName = "ballerina",
+        packageName = "streams",
+        functionName = "process",
+        receiver = @Receiver(type = TypeKind.OBJECT, structType = StreamsNativeImplConstants.DISTINCT_COUNT,
+                structPackage = StreamsNativeImplConstants.STREAMS_PACKAGE_PATH),
+        args = {
+                @Argument(name = "value", type = TypeKind.ANY),
+                @Argument(name = "eventType", type = TypeKind.FINITE)
+        },
+        returnType = {@ReturnType(type = TypeKind.ANY)},
+        isPublic = true
+)
+public class DistinctCountProcess extends BlockingNativeCallableUnit {
+
+    @Override
+    public void execute(Context context) {
+        BMap<String, BValue> aggregator = (BMap<String, BValue>) context.getRefArgument(0);
+        BValue value = context.getRefArgument(1);
+        String eventType = context.getRefArgument(2).stringValue();
+        synchronized (aggregator) {
+            BMap<String, BValue> distinctValues =
+                    (BMap<String, BValue>) aggregator.get(StreamsNativeImplConstants.DISTINCT_VALUES_FIELD);
+            String key = value == null ? "" : value.stringValue();
+            if (StreamsNativeImplConstants.CURRENT.equals(eventType)) {
+                BInteger occurrences = (BInteger) distinctValues.get(key);
+                distinctValues.put(key, BInteger.valueOf(occurrences == null ? 1 : occurrences.intValue() + 1));
+            } else if (StreamsNativeImplConstants.EXPIRED.equals(eventType)) {
+                BInteger occurrences = (BInteger) distinctValues.get(key);
+                if (occurrences == null || occurrences.intValue() <= 1) {
+                    distinctValues.remove(key);
+                } else {
+                    distinctValues.put(key, BInteger.valueOf(occurrences.intValue() - 1));
+                }
+            } else if (StreamsNativeImplConstants.RESET.equals(eventType)) {
+                distinctValues.clear();
+            }
+            context.setReturnValues(BInteger.valueOf(distinctValues.size()));
+        }
+    }
+}
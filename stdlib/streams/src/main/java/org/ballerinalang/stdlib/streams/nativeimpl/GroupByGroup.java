@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.stdlib.streams.nativeimpl;
+
+import org.ballerinalang.bre.Context;
+import org.ballerinalang.bre.bvm.BlockingNativeCallableUnit;
+import org.ballerinalang.model.types.BType;
+import org.ballerinalang.model.types.TypeKind;
+import org.ballerinalang.model.values.BMap;
+import org.ballerinalang.model.values.BRefType;
+import org.ballerinalang.model.values.BRefValueArray;
+import org.ballerinalang.model.values.BStringArray;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.natives.annotations.Argument;
+import org.ballerinalang.natives.annotations.BallerinaFunction;
+import org.ballerinalang.natives.annotations.Receiver;
+
+import static org.ballerinalang.stdlib.streams.nativeimpl.StreamEventUtils.getEvent;
+
+/**
+ * Native group function of the GroupBy object. Events are added to their groups in the {@code groupedStreamEvents}
+ * map of the GroupBy object, keyed by the values of the group by fields of their event objects. The groups are kept
+ * across calls, so each call emits the events of all groups seen so far.
+ *
+ * @since 0.981.2
+ */
+@BallerinaFunction(
+        orgName = "ballerina",
+        packageName = "streams",
+        functionName = "group",
+        receiver = @Receiver(type = TypeKind.OBJECT, structType = StreamsNativeImplConstants.GROUP_BY,
+                structPackage = StreamsNativeImplConstants.STREAMS_PACKAGE_PATH),
+        args = {
+                @Argument(name = "streamEvents", type = TypeKind.ARRAY, elementType = TypeKind.RECORD,
+                        structType = StreamsNativeImplConstants.STREAM_EVENT,
+                        structPackage = StreamsNativeImplConstants.STREAMS_PACKAGE_PATH)
+        }
+)
+public class GroupByGroup extends BlockingNativeCallableUnit {
+
+    @Override
+    public void execute(Context context) {
+        BMap<String, BValue> groupBy = (BMap<String, BValue>) context.getRefArgument(0);
+        BRefValueArray streamEvents = (BRefValueArray) context.getRefArgument(1);
+        BStringArray groupByFields = (BStringArray) groupBy.get(StreamsNativeImplConstants.GROUP_BY_FIELDS_FIELD);
+        BType arrayType = streamEvents.getType();
+
+        synchronized (groupBy) {
+            BMap<String, BValue> groupedStreamEvents =
+                    (BMap<String, BValue>) groupBy.get(StreamsNativeImplConstants.GROUPED_STREAM_EVENTS_FIELD);
+            for (int i = 0; i < streamEvents.size(); i++) {
+                BMap<String, BValue> event = getEvent(streamEvents, i);
+                String key = generateGroupByKey(event.get(StreamsNativeImplConstants.EVENT_OBJECT_FIELD),
+                        groupByFields);
+                BRefValueArray group = (BRefValueArray) groupedStreamEvents.get(key);
+                if (group == null) {
+                    groupedStreamEvents.put(key, new BRefValueArray(new BRefType<?>[]{event}, arrayType));
+                } else {
+                    group.add(group.size(), event);
+                }
+            }
+        }
+        context.setReturnValues();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static String generateGroupByKey(BValue eventObject, BStringArray groupByFields) {
+        StringBuilder key = new StringBuilder();
+        if (eventObject instanceof BMap) {
+            BMap<String, BValue> fields = (BMap<String, BValue>) eventObject;
+            for (int i = 0; i < groupByFields.size(); i++) {
+                key.append(", ");
+                BValue value = fields.get(groupByFields.get(i));
+                if (value != null) {
+                    key.append(value.stringValue());
+                }
+            }
+        }
+        return key.toString();
+    }
+}
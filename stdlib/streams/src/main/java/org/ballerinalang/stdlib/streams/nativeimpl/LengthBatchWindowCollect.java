@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.stdlib.streams.nativeimpl;
+
+import org.ballerinalang.bre.Context;
+import org.ballerinalang.bre.bvm.BlockingNativeCallableUnit;
+import org.ballerinalang.model.types.BType;
+import org.ballerinalang.model.types.TypeKind;
+import org.ballerinalang.model.values.BInteger;
+import org.ballerinalang.model.values.BMap;
+import org.ballerinalang.model.values.BRefValueArray;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.natives.annotations.Argument;
+import org.ballerinalang.natives.annotations.BallerinaFunction;
+import org.ballerinalang.natives.annotations.Receiver;
+import org.ballerinalang.natives.annotations.ReturnType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.ballerinalang.stdlib.streams.nativeimpl.StreamEventUtils.copyEvent;
+import static org.ballerinalang.stdlib.streams.nativeimpl.StreamEventUtils.getEvent;
+import static org.ballerinalang.stdlib.streams.nativeimpl.StreamEventUtils.getIntField;
+import static org.ballerinalang.stdlib.streams.nativeimpl.StreamEventUtils.getNativeState;
+import static org.ballerinalang.stdlib.streams.nativeimpl.StreamEventUtils.getTimestamp;
+import static org.ballerinalang.stdlib.streams.nativeimpl.StreamEventUtils.toArray;
+import static org.ballerinalang.stdlib.streams.nativeimpl.StreamEventUtils.toArrayOfArrays;
+
+/**
+ * Native collect function of the LengthBatchWindow object. Events are collected in a bounded ring buffer and each
+ * time the buffer is full, its events are released as a batch, preceded by the reset event of the previous batch.
+ *
+ * @since 0.981.2
+ */
+@BallerinaFunction(
+        orgName = "ballerina",
+        packageName = "streams",
+        functionName = "collect",
+        receiver = @Receiver(type = TypeKind.OBJECT, structType = StreamsNativeImplConstants.LENGTH_BATCH_WINDOW,
+                structPackage = StreamsNativeImplConstants.STREAMS_PACKAGE_PATH),
+        args = {
+                @Argument(name = "streamEvents", type = TypeKind.ARRAY, elementType = TypeKind.RECORD,
+                        structType = StreamsNativeImplConstants.STREAM_EVENT,
+                        structPackage = StreamsNativeImplConstants.STREAMS_PACKAGE_PATH)
+        },
+        returnType = {@ReturnType(type = TypeKind.ARRAY, elementType = TypeKind.RECORD, arrayDimensions = 2,
+                structType = StreamsNativeImplConstants.STREAM_EVENT,
+                structPackage = StreamsNativeImplConstants.STREAMS_PACKAGE_PATH)}
+)
+public class LengthBatchWindowCollect extends BlockingNativeCallableUnit {
+
+    @Override
+    public void execute(Context context) {
+        BMap<String, BValue> lengthBatchWindow = (BMap<String, BValue>) context.getRefArgument(0);
+        BRefValueArray streamEvents = (BRefValueArray) context.getRefArgument(1);
+        BatchWindowState window = getNativeState(lengthBatchWindow, () -> new BatchWindowState(
+                new StreamEventQueue((int) getIntField(lengthBatchWindow, StreamsNativeImplConstants.LENGTH_FIELD),
+                        true)));
+        BType arrayType = streamEvents.getType();
+
+        List<BRefValueArray> batches = new ArrayList<>();
+        synchronized (window) {
+            for (int i = 0; i < streamEvents.size(); i++) {
+                window.currentEvents.addLast(getEvent(streamEvents, i));
+                if (window.currentEvents.isFull()) {
+                    batches.add(toArray(window.emit(), arrayType));
+                }
+            }
+            lengthBatchWindow.put(StreamsNativeImplConstants.COUNT_FIELD,
+                    BInteger.valueOf(window.currentEvents.size()));
+            window.putResetEvent(lengthBatchWindow);
+        }
+        context.setReturnValues(toArrayOfArrays(batches, arrayType));
+    }
+
+    /**
+     * Events of a batch window which are not emitted yet, along with the reset event of the last emitted batch.
+     */
+    static class BatchWindowState {
+
+        final StreamEventQueue currentEvents;
+
+        BMap<String, BValue> resetEvent;
+
+        BatchWindowState(StreamEventQueue currentEvents) {
+            this.currentEvents = currentEvents;
+        }
+
+        List<BMap<String, BValue>> emit() {
+            List<BMap<String, BValue>> batch = new ArrayList<>(currentEvents.size() + 1);
+            if (resetEvent != null) {
+                batch.add(resetEvent);
+            }
+            BMap<String, BValue> firstEvent = currentEvents.getFirst();
+            resetEvent = copyEvent(firstEvent, StreamsNativeImplConstants.RESET, getTimestamp(firstEvent));
+            currentEvents.drainTo(batch);
+            return batch;
+        }
+
+        void putResetEvent(BMap<String, BValue> window) {
+            if (resetEvent != null) {
+                window.put(StreamsNativeImplConstants.RESET_EVENT_FIELD, resetEvent);
+            }
+        }
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.stdlib.streams.nativeimpl;
+
+import org.ballerinalang.bre.Context;
+import org.ballerinalang.bre.bvm.BlockingNativeCallableUnit;
+import org.ballerinalang.model.types.TypeKind;
+import org.ballerinalang.model.values.BMap;
+import org.ballerinalang.model.values.BRefValueArray;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.natives.annotations.Argument;
+import org.ballerinalang.natives.annotations.BallerinaFunction;
+import org.ballerinalang.natives.annotations.Receiver;
+import org.ballerinalang.natives.annotations.ReturnType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.ballerinalang.stdlib.streams.nativeimpl.StreamEventUtils.copyEvent;
+import static org.ballerinalang.stdlib.streams.nativeimpl.StreamEventUtils.getEvent;
+import static org.ballerinalang.stdlib.streams.nativeimpl.StreamEventUtils.getIntField;
+import static org.ballerinalang.stdlib.streams.nativeimpl.StreamEventUtils.getNativeState;
+import static org.ballerinalang.stdlib.streams.nativeimpl.StreamEventUtils.getTimestamp;
+import static org.ballerinalang.stdlib.streams.nativeimpl.StreamEventUtils.toArray;
+
+/**
+ * Native slide function of the LengthWindow object. The events of the window are kept in a bounded ring buffer and
+ * the oldest event is expired whenever a new event arrives at a full window.
+ *
+ * @since 0.981.2
+ */
+@BallerinaFunction(
+        orgName = "ballerina",
+        packageName = "streams",
+        functionName = "slide",
+        receiver = @Receiver(type = TypeKind.OBJECT, structType = StreamsNativeImplConstants.LENGTH_WINDOW,
+                structPackage = StreamsNativeImplConstants.STREAMS_PACKAGE_PATH),
+        args = {
+                @Argument(name = "streamEvents", type = TypeKind.ARRAY, elementType = TypeKind.RECORD,
+                        structType = StreamsNativeImplConstants.STREAM_EVENT,
+                        structPackage = StreamsNativeImplConstants.STREAMS_PACKAGE_PATH)
+        },
+        returnType = {@ReturnType(type = TypeKind.ARRAY, elementType = TypeKind.RECORD,
+                structType = StreamsNativeImplConstants.STREAM_EVENT,
+                structPackage = StreamsNativeImplConstants.STREAMS_PACKAGE_PATH)}
+)
+public class LengthWindowSlide extends BlockingNativeCallableUnit {
+
+    @Override
+    public void execute(Context context) {
+        BMap<String, BValue> lengthWindow = (BMap<String, BValue>) context.getRefArgument(0);
+        BRefValueArray streamEvents = (BRefValueArray) context.getRefArgument(1);
+        StreamEventQueue window = getNativeState(lengthWindow, () -> new StreamEventQueue(
+                (int) getIntField(lengthWindow, StreamsNativeImplConstants.SIZE_FIELD), true));
+
+        List<BMap<String, BValue>> outputEvents = new ArrayList<>((int) streamEvents.size() * 2);
+        synchronized (window) {
+            for (int i = 0; i < streamEvents.size(); i++) {
+                BMap<String, BValue> event = getEvent(streamEvents, i);
+                if (window.isFull()) {
+                    outputEvents.add(window.removeFirst());
+                }
+                outputEvents.add(event);
+                window.addLast(copyEvent(event, StreamsNativeImplConstants.EXPIRED, getTimestamp(event)));
+            }
+        }
+        context.setReturnValues(toArray(outputEvents, streamEvents.getType()));
+    }
+}
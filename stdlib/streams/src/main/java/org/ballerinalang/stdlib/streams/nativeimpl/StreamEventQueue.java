@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.stdlib.streams.nativeimpl;
+
+import org.ballerinalang.model.values.BMap;
+import org.ballerinalang.model.values.BValue;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A first in first out queue of stream events kept in a ring buffer. A bounded queue never grows beyond its initial
+ * capacity, which lets a length window reuse the same buffer for its whole life time.
+ *
+ * @since 0.981.2
+ */
+public class StreamEventQueue {
+
+    private BMap<String, BValue>[] events;
+
+    private final boolean bounded;
+
+    private int head;
+
+    private int size;
+
+    @SuppressWarnings("unchecked")
+    public StreamEventQueue(int capacity, boolean bounded) {
+        this.events = new BMap[Math.max(capacity, 1)];
+        this.bounded = bounded;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public boolean isFull() {
+        return bounded && size == events.length;
+    }
+
+    public void addLast(BMap<String, BValue> event) {
+        if (size == events.length) {
+            if (bounded) {
+                throw new IllegalStateException("stream event queue is full");
+            }
+            grow();
+        }
+        events[(head + size) % events.length] = event;
+        size++;
+    }
+
+    public BMap<String, BValue> getFirst() {
+        return size == 0 ? null : events[head];
+    }
+
+    public BMap<String, BValue> removeFirst() {
+        if (size == 0) {
+            return null;
+        }
+        BMap<String, BValue> event = events[head];
+        events[head] = null;
+        head = (head + 1) % events.length;
+        size--;
+        return event;
+    }
+
+    /**
+     * Moves all the events of the queue, in order, to the end of the given list.
+     *
+     * @param output list to add the events to
+     */
+    public void drainTo(List<? super BMap<String, BValue>> output) {
+        while (size > 0) {
+            output.add(removeFirst());
+        }
+        head = 0;
+    }
+
+    public void clear() {
+        Arrays.fill(events, null);
+        head = 0;
+        size = 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void grow() {
+        BMap<String, BValue>[] grown = new BMap[events.length * 2];
+        for (int i = 0; i < size; i++) {
+            grown[i] = events[(head + i) % events.length];
+        }
+        events = grown;
+        head = 0;
+    }
+}
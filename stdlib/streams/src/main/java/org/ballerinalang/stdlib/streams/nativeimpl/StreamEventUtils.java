@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.stdlib.streams.nativeimpl;
+
+import org.ballerinalang.model.types.BArrayType;
+import org.ballerinalang.model.types.BType;
+import org.ballerinalang.model.values.BFloat;
+import org.ballerinalang.model.values.BInteger;
+import org.ballerinalang.model.values.BMap;
+import org.ballerinalang.model.values.BRefType;
+import org.ballerinalang.model.values.BRefValueArray;
+import org.ballerinalang.model.values.BString;
+import org.ballerinalang.model.values.BValue;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.ballerinalang.stdlib.streams.nativeimpl.StreamsNativeImplConstants.EVENT_OBJECT_FIELD;
+import static org.ballerinalang.stdlib.streams.nativeimpl.StreamsNativeImplConstants.EVENT_TYPE_FIELD;
+import static org.ballerinalang.stdlib.streams.nativeimpl.StreamsNativeImplConstants.NATIVE_STATE_KEY;
+import static org.ballerinalang.stdlib.streams.nativeimpl.StreamsNativeImplConstants.TIMESTAMP_FIELD;
+
+/**
+ * Utility methods to read and create {@code StreamEvent} records and to keep the native state of streams objects.
+ *
+ * @since 0.981.2
+ */
+public class StreamEventUtils {
+
+    private StreamEventUtils() {
+    }
+
+    public static String getEventType(BMap<String, BValue> event) {
+        return event.get(EVENT_TYPE_FIELD).stringValue();
+    }
+
+    public static long getTimestamp(BMap<String, BValue> event) {
+        return ((BInteger) event.get(TIMESTAMP_FIELD)).intValue();
+    }
+
+    public static long getIntField(BMap<String, BValue> struct, String fieldName) {
+        return ((BInteger) struct.get(fieldName)).intValue();
+    }
+
+    public static double getFloatField(BMap<String, BValue> struct, String fieldName) {
+        return ((BFloat) struct.get(fieldName)).floatValue();
+    }
+
+    /**
+     * Returns 1 for events which add to an aggregate, -1 for events which remove from it and 0 otherwise.
+     *
+     * @param eventType type of the event
+     * @return the sign of the contribution of the event
+     */
+    public static int getSign(String eventType) {
+        if (StreamsNativeImplConstants.CURRENT.equals(eventType)) {
+            return 1;
+        } else if (StreamsNativeImplConstants.EXPIRED.equals(eventType)) {
+            return -1;
+        }
+        return 0;
+    }
+
+    /**
+     * Creates a copy of the given event with the given event type and timestamp.
+     *
+     * @param event     event to copy
+     * @param eventType event type of the copy
+     * @param timestamp timestamp of the copy
+     * @return the new event
+     */
+    public static BMap<String, BValue> copyEvent(BMap<String, BValue> event, String eventType, long timestamp) {
+        BMap<String, BValue> copy = new BMap<>(event.getType());
+        copy.put(EVENT_TYPE_FIELD, new BString(eventType));
+        copy.put(EVENT_OBJECT_FIELD, event.get(EVENT_OBJECT_FIELD));
+        copy.put(TIMESTAMP_FIELD, BInteger.valueOf(timestamp));
+        return copy;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static BMap<String, BValue> getEvent(BRefValueArray events, int index) {
+        return (BMap<String, BValue>) events.get(index);
+    }
+
+    public static BRefValueArray toArray(List<? extends BRefType> events, BType arrayType) {
+        return new BRefValueArray(events.toArray(new BRefType<?>[events.size()]), arrayType);
+    }
+
+    public static BRefValueArray toArrayOfArrays(List<BRefValueArray> chunks, BType arrayType) {
+        return new BRefValueArray(chunks.toArray(new BRefType<?>[chunks.size()]), new BArrayType(arrayType));
+    }
+
+    /**
+     * Returns the native state of a streams object, creating it on first use.
+     *
+     * @param struct  the streams object
+     * @param factory creates the initial state
+     * @param <T>     type of the state
+     * @return the native state of the object
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T getNativeState(BMap<String, BValue> struct, Supplier<T> factory) {
+        Object state = struct.getNativeData(NATIVE_STATE_KEY);
+        if (state == null) {
+            synchronized (struct) {
+                state = struct.getNativeData(NATIVE_STATE_KEY);
+                if (state == null) {
+                    state = factory.get();
+                    struct.addNativeData(NATIVE_STATE_KEY, state);
+                }
+            }
+        }
+        return (T) state;
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.stdlib.streams.nativeimpl;
+
+/**
+ * Constants used in Ballerina Streams package.
+ *
+ * @since 0.981.2
+ */
+public final class StreamsNativeImplConstants {
+
+    private StreamsNativeImplConstants() {
+    }
+
+    public static final String STREAMS_PACKAGE_PATH = "ballerina/streams";
+    public static final String LENGTH_WINDOW = "LengthWindow";
+    public static final String TIME_WINDOW = "TimeWindow";
+    public static final String LENGTH_BATCH_WINDOW = "LengthBatchWindow";
+    public static final String TIME_BATCH_WINDOW = "TimeBatchWindow";
+    public static final String GROUP_BY = "GroupBy";
+    public static final String SUM = "Sum";
+    public static final String AVERAGE = "Average";
+    public static final String COUNT = "Count";
+    public static final String DISTINCT_COUNT = "DistinctCount";
+    public static final String STREAM_EVENT = "StreamEvent";
+    public static final String NATIVE_STATE_KEY = "__streams_native_state__";
+
+    public static final String EVENT_TYPE_FIELD = "eventType";
+    public static final String EVENT_OBJECT_FIELD = "eventObject";
+    public static final String TIMESTAMP_FIELD = "timestamp";
+    public static final String SIZE_FIELD = "size";
+    public static final String LENGTH_FIELD = "length";
+    public static final String TIME_IN_MILLIS_FIELD = "timeInMillis";
+    public static final String GROUP_BY_FIELDS_FIELD = "groupByFields";
+    public static final String GROUPED_STREAM_EVENTS_FIELD = "groupedStreamEvents";
+    public static final String I_SUM_FIELD = "iSum";
+    public static final String F_SUM_FIELD = "fSum";
+    public static final String SUM_FIELD = "sum";
+    public static final String COUNT_FIELD = "count";
+    public static final String DISTINCT_VALUES_FIELD = "distinctValues";
+    public static final String RESET_EVENT_FIELD = "resetEvent";
+
+    public static final String CURRENT = "CURRENT";
+    public static final String EXPIRED = "EXPIRED";
+    public static final String RESET = "RESET";
+}
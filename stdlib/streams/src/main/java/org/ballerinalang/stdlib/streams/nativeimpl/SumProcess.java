@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.stdlib.streams.nativeimpl;
+
+import org.ballerinalang.bre.Context;
+import org.ballerinalang.bre.bvm.BLangVMErrors;
+import org.ballerinalang.bre.bvm.BlockingNativeCallableUnit;
+import org.ballerinalang.model.types.TypeKind;
+import org.ballerinalang.model.values.BFloat;
+import org.ballerinalang.model.values.BInteger;
+import org.ballerinalang.model.values.BMap;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.natives.annotations.Argument;
+import org.ballerinalang.natives.annotations.BallerinaFunction;
+import org.ballerinalang.natives.annotations.Receiver;
+import org.ballerinalang.natives.annotations.ReturnType;
+
+import static org.ballerinalang.stdlib.streams.nativeimpl.StreamEventUtils.getFloatField;
+import static org.ballerinalang.stdlib.streams.nativeimpl.StreamEventUtils.getIntField;
+import static org.ballerinalang.stdlib.streams.nativeimpl.StreamEventUtils.getSign;
+
+/**
+ * Native process function of the Sum aggregator, which updates the running int or float sum of the aggregator.
+ *
+ * @since 0.981.2
+ */
+@BallerinaFunction(
+        orgName = "ballerina",
+        packageName = "streams",
+        functionName = "process",
+        receiver = @Receiver(type = TypeKind.OBJECT, structType = StreamsNativeImplConstants.SUM,
+                structPackage = StreamsNativeImplConstants.STREAMS_PACKAGE_PATH),
+        args = {
+                @Argument(name = "value", type = TypeKind.ANY),
+                @Argument(name = "eventType", type = TypeKind.FINITE)
+        },
+        returnType = {@ReturnType(type = TypeKind.ANY)},
+        isPublic = true
+)
+public class SumProcess extends BlockingNativeCallableUnit {
+
+    @Override
+    public void execute(Context context) {
+        BMap<String, BValue> aggregator = (BMap<String, BValue>) context.getRefArgument(0);
+        BValue value = context.getRefArgument(1);
+        String eventType = context.getRefArgument(2).stringValue();
+        synchronized (aggregator) {
+            if (value instanceof BInteger) {
+                BInteger iSum = BInteger.valueOf(StreamsNativeImplConstants.RESET.equals(eventType) ? 0
+                        : getIntField(aggregator, StreamsNativeImplConstants.I_SUM_FIELD)
+                        + getSign(eventType) * ((BInteger) value).intValue());
+                aggregator.put(StreamsNativeImplConstants.I_SUM_FIELD, iSum);
+                context.setReturnValues(iSum);
+            } else if (value instanceof BFloat) {
+                BFloat fSum = new BFloat(StreamsNativeImplConstants.RESET.equals(eventType) ? 0.0
+                        : getFloatField(aggregator, StreamsNativeImplConstants.F_SUM_FIELD)
+                        + getSign(eventType) * ((BFloat) value).floatValue());
+                aggregator.put(StreamsNativeImplConstants.F_SUM_FIELD, fSum);
+                context.setReturnValues(fSum);
+            } else {
+                context.setReturnValues(BLangVMErrors.createError(context, "Unsupported attribute type found"));
+            }
+        }
+    }
+}
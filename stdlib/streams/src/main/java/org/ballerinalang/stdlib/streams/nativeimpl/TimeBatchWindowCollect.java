@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.stdlib.streams.nativeimpl;
+
+import org.ballerinalang.bre.Context;
+import org.ballerinalang.bre.bvm.BlockingNativeCallableUnit;
+import org.ballerinalang.model.types.TypeKind;
+import org.ballerinalang.model.values.BMap;
+import org.ballerinalang.model.values.BRefValueArray;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.natives.annotations.Argument;
+import org.ballerinalang.natives.annotations.BallerinaFunction;
+import org.ballerinalang.natives.annotations.Receiver;
+import org.ballerinalang.natives.annotations.ReturnType;
+import org.ballerinalang.stdlib.streams.nativeimpl.LengthBatchWindowCollect.BatchWindowState;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.ballerinalang.stdlib.streams.nativeimpl.StreamEventUtils.getEvent;
+import static org.ballerinalang.stdlib.streams.nativeimpl.StreamEventUtils.getEventType;
+import static org.ballerinalang.stdlib.streams.nativeimpl.StreamEventUtils.getNativeState;
+import static org.ballerinalang.stdlib.streams.nativeimpl.StreamEventUtils.toArray;
+
+/**
+ * Native collect function of the TimeBatchWindow object. Current events are collected in a ring buffer until the
+ * window decides to send them, when they are released as a batch, preceded by the reset event of the previous batch.
+ *
+ * @since 0.981.2
+ */
+@BallerinaFunction(
+        orgName = "ballerina",
+        packageName = "streams",
+        functionName = "collect",
+        receiver = @Receiver(type = TypeKind.OBJECT, structType = StreamsNativeImplConstants.TIME_BATCH_WINDOW,
+                structPackage = StreamsNativeImplConstants.STREAMS_PACKAGE_PATH),
+        args = {
+                @Argument(name = "streamEvents", type = TypeKind.ARRAY, elementType = TypeKind.RECORD,
+                        structType = StreamsNativeImplConstants.STREAM_EVENT,
+                        structPackage = StreamsNativeImplConstants.STREAMS_PACKAGE_PATH),
+                @Argument(name = "sendEvents", type = TypeKind.BOOLEAN)
+        },
+        returnType = {@ReturnType(type = TypeKind.ARRAY, elementType = TypeKind.RECORD,
+                structType = StreamsNativeImplConstants.STREAM_EVENT,
+                structPackage = StreamsNativeImplConstants.STREAMS_PACKAGE_PATH)}
+)
+public class TimeBatchWindowCollect extends BlockingNativeCallableUnit {
+
+    @Override
+    public void execute(Context context) {
+        BMap<String, BValue> timeBatchWindow = (BMap<String, BValue>) context.getRefArgument(0);
+        BRefValueArray streamEvents = (BRefValueArray) context.getRefArgument(1);
+        boolean sendEvents = context.getBooleanArgument(0);
+        BatchWindowState window = getNativeState(timeBatchWindow,
+                () -> new BatchWindowState(new StreamEventQueue(16, false)));
+
+        List<BMap<String, BValue>> outputEvents = Collections.emptyList();
+        synchronized (window) {
+            for (int i = 0; i < streamEvents.size(); i++) {
+                BMap<String, BValue> event = getEvent(streamEvents, i);
+                if (StreamsNativeImplConstants.CURRENT.equals(getEventType(event))) {
+                    window.currentEvents.addLast(event);
+                }
+            }
+            if (sendEvents && !window.currentEvents.isEmpty()) {
+                outputEvents = window.emit();
+                window.putResetEvent(timeBatchWindow);
+            }
+        }
+        context.setReturnValues(toArray(outputEvents, streamEvents.getType()));
+    }
+}
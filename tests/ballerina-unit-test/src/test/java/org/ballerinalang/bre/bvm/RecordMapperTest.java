@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.bre.bvm;
+
+import org.ballerinalang.model.types.BField;
+import org.ballerinalang.model.types.BRecordType;
+import org.ballerinalang.model.types.BTypes;
+import org.ballerinalang.model.values.BBoolean;
+import org.ballerinalang.model.values.BFloat;
+import org.ballerinalang.model.values.BInteger;
+import org.ballerinalang.model.values.BMap;
+import org.ballerinalang.model.values.BValue;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+/**
+ * Test cases for the conversion of Siddhi events into records.
+ */
+public class RecordMapperTest {
+
+    private BRecordType employeeType;
+
+    @BeforeClass
+    public void setup() {
+        employeeType = new BRecordType(null, "Employee", ".", 0);
+        employeeType.setFields(new BField[]{
+                new BField(BTypes.typeInt, "id", 0),
+                new BField(BTypes.typeString, "name", 0),
+                new BField(BTypes.typeFloat, "salary", 0),
+                new BField(BTypes.typeBoolean, "active", 0),
+                new BField(BTypes.typeAny, "tag", 0)
+        });
+    }
+
+    @Test(description = "Test conversion of each field from the type of the record field")
+    public void testFieldConversion() {
+        StreamingRuntimeManager.RecordMapper mapper = new StreamingRuntimeManager.RecordMapper(employeeType);
+        BMap<String, BValue> record = mapper.map(new Object[]{5L, "Anne", 1500.5, true, "lead"});
+
+        Assert.assertSame(record.getType(), employeeType);
+        Assert.assertEquals(((BInteger) record.get("id")).intValue(), 5);
+        Assert.assertEquals(record.get("name").stringValue(), "Anne");
+        Assert.assertEquals(((BFloat) record.get("salary")).floatValue(), 1500.5);
+        Assert.assertTrue(((BBoolean) record.get("active")).booleanValue());
+        Assert.assertEquals(record.get("tag").stringValue(), "lead");
+    }
+
+    @Test(description = "Test conversion of numbers of a narrower type than the record field")
+    public void testNarrowerNumberConversion() {
+        StreamingRuntimeManager.RecordMapper mapper = new StreamingRuntimeManager.RecordMapper(employeeType);
+        BMap<String, BValue> record = mapper.map(new Object[]{7, "Bob", 12.25f, false, 3});
+
+        Assert.assertEquals(((BInteger) record.get("id")).intValue(), 7);
+        Assert.assertEquals(((BFloat) record.get("salary")).floatValue(), 12.25);
+        Assert.assertFalse(((BBoolean) record.get("active")).booleanValue());
+        // A field without a simple type is converted from the type of the value
+        Assert.assertEquals(((BInteger) record.get("tag")).intValue(), 3);
+    }
+
+    @Test(description = "Test that null values and missing values leave the record fields unset")
+    public void testMissingValues() {
+        StreamingRuntimeManager.RecordMapper mapper = new StreamingRuntimeManager.RecordMapper(employeeType);
+        BMap<String, BValue> record = mapper.map(new Object[]{9L, null});
+
+        Assert.assertEquals(((BInteger) record.get("id")).intValue(), 9);
+        Assert.assertFalse(record.hasKey("name"));
+        Assert.assertFalse(record.hasKey("salary"));
+        Assert.assertFalse(record.hasKey("active"));
+        Assert.assertFalse(record.hasKey("tag"));
+    }
+
+    @Test(description = "Test that a value of an unsupported type leaves a field without a simple type unset")
+    public void testUnsupportedValue() {
+        StreamingRuntimeManager.RecordMapper mapper = new StreamingRuntimeManager.RecordMapper(employeeType);
+        BMap<String, BValue> record = mapper.map(new Object[]{1L, "Carl", 10.0, true, new Object()});
+
+        Assert.assertEquals(record.size(), 4);
+        Assert.assertFalse(record.hasKey("tag"));
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.bre.bvm;
+
+import org.ballerinalang.config.ConfigRegistry;
+import org.ballerinalang.observe.metrics.extension.defaultimpl.DefaultMetricProvider;
+import org.ballerinalang.siddhi.core.SiddhiAppRuntime;
+import org.ballerinalang.siddhi.core.event.Event;
+import org.ballerinalang.siddhi.core.stream.StreamJunction;
+import org.ballerinalang.siddhi.core.stream.input.InputHandler;
+import org.ballerinalang.siddhi.core.stream.output.StreamCallback;
+import org.ballerinalang.util.metrics.DefaultMetricRegistry;
+import org.ballerinalang.util.metrics.Metric;
+import org.ballerinalang.util.metrics.MetricRegistry;
+import org.ballerinalang.util.metrics.PolledGauge;
+import org.ballerinalang.util.metrics.Tag;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Test cases for the asynchronous input streams of streaming queries.
+ */
+public class StreamingRuntimeManagerTest {
+
+    private static final String[] CONFIG_KEYS = {
+            "b7a.streams.async.enabled", "b7a.streams.async.buffer.size", "b7a.streams.async.workers",
+            "b7a.streams.async.orders.enabled", "b7a.streams.async.orders.buffer.size",
+            "b7a.streams.async.orders.workers"
+    };
+
+    @BeforeClass
+    public void setup() {
+        if (DefaultMetricRegistry.getInstance() == null) {
+            DefaultMetricProvider metricProvider = new DefaultMetricProvider();
+            metricProvider.init();
+            DefaultMetricRegistry.setInstance(new MetricRegistry(metricProvider));
+        }
+    }
+
+    @AfterMethod
+    public void cleanup() {
+        ConfigRegistry configRegistry = ConfigRegistry.getInstance();
+        for (String key : CONFIG_KEYS) {
+            configRegistry.removeConfiguration(key);
+        }
+    }
+
+    @Test(description = "Test that input streams are synchronous unless async is enabled")
+    public void testSynchronousByDefault() {
+        Assert.assertEquals(StreamingRuntimeManager.getInstance().getStreamAnnotation("orders"), "");
+
+        ConfigRegistry.getInstance().addConfiguration("b7a.streams.async.buffer.size", 64L);
+        Assert.assertEquals(StreamingRuntimeManager.getInstance().getStreamAnnotation("orders"), "");
+    }
+
+    @Test(description = "Test the async settings of all the input streams")
+    public void testAsyncConfiguration() {
+        ConfigRegistry configRegistry = ConfigRegistry.getInstance();
+        configRegistry.addConfiguration("b7a.streams.async.enabled", Boolean.TRUE);
+        Assert.assertEquals(StreamingRuntimeManager.getInstance().getStreamAnnotation("orders"),
+                "@Async(buffer.size='1024', workers='1') ");
+
+        configRegistry.addConfiguration("b7a.streams.async.buffer.size", 256L);
+        configRegistry.addConfiguration("b7a.streams.async.workers", 0L);
+        Assert.assertEquals(StreamingRuntimeManager.getInstance().getStreamAnnotation("orders"),
+                "@Async(buffer.size='256', workers='1') ");
+    }
+
+    @Test(description = "Test that the async settings of a stream override the ones of all the streams")
+    public void testStreamAsyncConfiguration() {
+        ConfigRegistry configRegistry = ConfigRegistry.getInstance();
+        configRegistry.addConfiguration("b7a.streams.async.enabled", Boolean.TRUE);
+        configRegistry.addConfiguration("b7a.streams.async.buffer.size", 256L);
+        configRegistry.addConfiguration("b7a.streams.async.orders.buffer.size", 32L);
+        configRegistry.addConfiguration("b7a.streams.async.orders.workers", 4L);
+        Assert.assertEquals(StreamingRuntimeManager.getInstance().getStreamAnnotation("orders"),
+                "@Async(buffer.size='32', workers='4') ");
+        Assert.assertEquals(StreamingRuntimeManager.getInstance().getStreamAnnotation("payments"),
+                "@Async(buffer.size='256', workers='1') ");
+
+        configRegistry.addConfiguration("b7a.streams.async.orders.enabled", Boolean.FALSE);
+        Assert.assertEquals(StreamingRuntimeManager.getInstance().getStreamAnnotation("orders"), "");
+        Assert.assertEquals(StreamingRuntimeManager.getInstance().getStreamAnnotation("payments"),
+                "@Async(buffer.size='256', workers='1') ");
+
+        configRegistry.addConfiguration("b7a.streams.async.enabled", Boolean.FALSE);
+        configRegistry.addConfiguration("b7a.streams.async.orders.enabled", Boolean.TRUE);
+        Assert.assertEquals(StreamingRuntimeManager.getInstance().getStreamAnnotation("orders"),
+                "@Async(buffer.size='32', workers='4') ");
+        Assert.assertEquals(StreamingRuntimeManager.getInstance().getStreamAnnotation("payments"), "");
+    }
+
+    @Test(description = "Test that the buffer size is rounded up to a power of two")
+    public void testBufferSizeRounding() {
+        ConfigRegistry configRegistry = ConfigRegistry.getInstance();
+        configRegistry.addConfiguration("b7a.streams.async.enabled", Boolean.TRUE);
+        long[][] sizes = {{0, 2}, {1, 2}, {2, 2}, {3, 4}, {1000, 1024}, {1024, 1024}, {1025, 2048}};
+        for (long[] size : sizes) {
+            configRegistry.addConfiguration("b7a.streams.async.buffer.size", size[0]);
+            Assert.assertEquals(StreamingRuntimeManager.getInstance().getStreamAnnotation("orders"),
+                    "@Async(buffer.size='" + size[1] + "', workers='1') ", "buffer size " + size[0]);
+        }
+    }
+
+    @Test(description = "Test the gauges registered for the ring buffer of an async stream")
+    public void testJunctionGauges() throws InterruptedException {
+        SiddhiAppRuntime siddhiAppRuntime = StreamingRuntimeManager.getInstance().createSiddhiAppRuntime(
+                "@Async(buffer.size='16', workers='1') define stream gaugeStream (v long); " +
+                        "define stream syncStream (v long); " +
+                        "from gaugeStream select v insert into gaugeOut; " +
+                        "from syncStream select v insert into syncOut;");
+        try {
+            siddhiAppRuntime.getInputHandler("gaugeStream").send(new Object[]{1L});
+
+            // The event may still be waiting in the ring buffer
+            double bufferedEvents = getGauge(siddhiAppRuntime, "gaugeStream", "buffered_events").getValue();
+            double remainingCapacity = getGauge(siddhiAppRuntime, "gaugeStream", "remaining_capacity").getValue();
+            Assert.assertTrue(bufferedEvents <= 1.0);
+            Assert.assertTrue(remainingCapacity >= 15.0);
+            Assert.assertEquals(getGauge(siddhiAppRuntime, "gaugeStream", "blocked_publishes").getValue(), 0.0);
+            Assert.assertNull(findGauge(siddhiAppRuntime, "syncStream", "buffered_events"));
+        } finally {
+            siddhiAppRuntime.shutdown();
+        }
+    }
+
+    @Test(description = "Test that a query is locked when several workers consume its input stream")
+    public void testConcurrentWorkers() throws InterruptedException {
+        SiddhiAppRuntime siddhiAppRuntime = StreamingRuntimeManager.getInstance().createSiddhiAppRuntime(
+                "@Async(buffer.size='64', workers='4') define stream workerStream (v long); " +
+                        "from workerStream select sum(v) as total insert into workerTotals;");
+        try {
+            StreamJunction junction = siddhiAppRuntime.getStreamJunctions().stream()
+                    .filter(streamJunction -> "workerStream".equals(streamJunction.getStreamId()))
+                    .findFirst().orElseThrow(AssertionError::new);
+            Assert.assertTrue(junction.isAsync());
+            Assert.assertEquals(junction.getWorkers(), 4);
+
+            // The workers do not preserve the order of events, so only the largest total is final
+            AtomicLong total = new AtomicLong();
+            siddhiAppRuntime.addCallback("workerTotals", new StreamCallback() {
+                @Override
+                public void receive(Event[] events) {
+                    for (Event event : events) {
+                        total.accumulateAndGet((Long) event.getData(0), Math::max);
+                    }
+                }
+            });
+            InputHandler inputHandler = siddhiAppRuntime.getInputHandler("workerStream");
+            for (long i = 1; i <= 1000; i++) {
+                inputHandler.send(new Object[]{i});
+            }
+            long deadline = System.currentTimeMillis() + 10000;
+            while (total.get() != 500500 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            Assert.assertEquals(total.get(), 500500);
+        } finally {
+            siddhiAppRuntime.shutdown();
+        }
+    }
+
+    private PolledGauge getGauge(SiddhiAppRuntime siddhiAppRuntime, String streamId, String name) {
+        PolledGauge gauge = findGauge(siddhiAppRuntime, streamId, name);
+        Assert.assertNotNull(gauge, name + " gauge of " + streamId);
+        return gauge;
+    }
+
+    private PolledGauge findGauge(SiddhiAppRuntime siddhiAppRuntime, String streamId, String name) {
+        for (Metric metric : DefaultMetricRegistry.getInstance().getAllMetrics()) {
+            if (metric instanceof PolledGauge
+                    && metric.getId().getName().equals("ballerina_streams_junction_" + name)
+                    && metric.getId().getTags().contains(new Tag("app", siddhiAppRuntime.getName()))
+                    && metric.getId().getTags().contains(new Tag("stream", streamId))) {
+                return (PolledGauge) metric;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.net.http.nativeimpl.resiliency;
+
+import org.ballerinalang.model.values.BBoolean;
+import org.ballerinalang.model.values.BFloat;
+import org.ballerinalang.model.values.BInteger;
+import org.ballerinalang.model.values.BMap;
+import org.ballerinalang.model.values.BRefValueArray;
+import org.ballerinalang.model.values.BString;
+import org.ballerinalang.model.values.BValue;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Test cases for the native health statistics of the Circuit Breaker.
+ */
+public class CircuitHealthMonitorTest {
+
+    private static final long RESET_TIME_MILLIS = 60000;
+
+    @Test
+    public void testCircuitTripsOnFailureThreshold() {
+        CircuitHealthMonitor monitor = createMonitor(RESET_TIME_MILLIS);
+        Assert.assertEquals(monitor.updateCircuitState(CircuitHealthMonitor.CLOSED), CircuitHealthMonitor.CLOSED);
+        monitor.recordResult(true);
+        Assert.assertEquals(monitor.updateCircuitState(CircuitHealthMonitor.CLOSED), CircuitHealthMonitor.CLOSED);
+        monitor.recordResult(false);
+        Assert.assertEquals(monitor.updateCircuitState(CircuitHealthMonitor.CLOSED), CircuitHealthMonitor.OPEN);
+        Assert.assertTrue(monitor.recordRejectedRequest() > 0, "Circuit should wait for the reset time.");
+        Assert.assertEquals(monitor.updateCircuitState(CircuitHealthMonitor.OPEN), CircuitHealthMonitor.OPEN);
+    }
+
+    @Test
+    public void testRequestVolumeThreshold() {
+        CircuitHealthMonitor monitor = createMonitor(RESET_TIME_MILLIS);
+        Assert.assertEquals(monitor.updateCircuitState(CircuitHealthMonitor.CLOSED), CircuitHealthMonitor.CLOSED);
+        monitor.recordResult(false);
+        // A single failed request is below the request volume threshold
+        Assert.assertEquals(monitor.updateCircuitState(CircuitHealthMonitor.CLOSED), CircuitHealthMonitor.CLOSED);
+    }
+
+    @Test
+    public void testTrialRunAfterResetTime() throws InterruptedException {
+        CircuitHealthMonitor monitor = createMonitor(0);
+        monitor.updateCircuitState(CircuitHealthMonitor.CLOSED);
+        monitor.recordResult(false);
+        monitor.updateCircuitState(CircuitHealthMonitor.CLOSED);
+        monitor.recordResult(false);
+        Thread.sleep(5);
+        Assert.assertEquals(monitor.updateCircuitState(CircuitHealthMonitor.OPEN), CircuitHealthMonitor.HALF_OPEN);
+        monitor.recordResult(true);
+        Assert.assertEquals(monitor.updateCircuitState(CircuitHealthMonitor.HALF_OPEN), CircuitHealthMonitor.CLOSED);
+    }
+
+    @Test
+    public void testFailedTrialRun() throws InterruptedException {
+        CircuitHealthMonitor monitor = createMonitor(0);
+        monitor.updateCircuitState(CircuitHealthMonitor.CLOSED);
+        monitor.recordResult(false);
+        monitor.updateCircuitState(CircuitHealthMonitor.CLOSED);
+        monitor.recordResult(false);
+        Thread.sleep(5);
+        Assert.assertEquals(monitor.updateCircuitState(CircuitHealthMonitor.OPEN), CircuitHealthMonitor.HALF_OPEN);
+        monitor.recordResult(false);
+        Assert.assertEquals(monitor.updateCircuitState(CircuitHealthMonitor.HALF_OPEN), CircuitHealthMonitor.OPEN);
+    }
+
+    @Test
+    public void testForcedOpenWaitsForResetTime() {
+        CircuitHealthMonitor monitor = createMonitor(RESET_TIME_MILLIS);
+        monitor.recordForcedOpen();
+        Assert.assertEquals(monitor.updateCircuitState(CircuitHealthMonitor.OPEN), CircuitHealthMonitor.OPEN);
+        Assert.assertTrue(monitor.recordRejectedRequest() > 0, "Circuit should wait for the reset time.");
+    }
+
+    @Test
+    public void testResetClearsHealth() {
+        CircuitHealthMonitor monitor = createMonitor(RESET_TIME_MILLIS);
+        monitor.updateCircuitState(CircuitHealthMonitor.CLOSED);
+        monitor.recordResult(false);
+        monitor.updateCircuitState(CircuitHealthMonitor.CLOSED);
+        monitor.recordResult(false);
+        Assert.assertEquals(monitor.updateCircuitState(CircuitHealthMonitor.CLOSED), CircuitHealthMonitor.OPEN);
+
+        monitor.reset();
+        // The failures before the circuit was forced closed should not trip it again
+        Assert.assertEquals(monitor.updateCircuitState(CircuitHealthMonitor.CLOSED), CircuitHealthMonitor.CLOSED);
+        monitor.recordResult(true);
+        Assert.assertEquals(monitor.updateCircuitState(CircuitHealthMonitor.CLOSED), CircuitHealthMonitor.CLOSED);
+        Assert.assertTrue(monitor.recordRejectedRequest() <= 0, "Reset should clear the last error time.");
+    }
+
+    @Test
+    public void testMonitorIsKeptAgainstCircuitHealth() {
+        BMap<String, BValue> circuitHealth = new BMap<>();
+        BMap<String, BValue> config = createConfig(RESET_TIME_MILLIS);
+        Assert.assertSame(CircuitHealthMonitor.getMonitor(circuitHealth, config),
+                CircuitHealthMonitor.getMonitor(circuitHealth, config));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testHealthRecordIsUpdated() {
+        long startMillis = System.currentTimeMillis();
+        BMap<String, BValue> zone = new BMap<>();
+        zone.put("zoneId", new BString("UTC"));
+        BMap<String, BValue> startTime = new BMap<>();
+        startTime.put("time", new BInteger(startMillis));
+        startTime.put("zone", zone);
+        BRefValueArray buckets = new BRefValueArray();
+        for (int i = 0; i < 6; i++) {
+            buckets.add(i, new BMap<>());
+        }
+        BMap<String, BValue> circuitHealth = new BMap<>();
+        circuitHealth.put("startTime", startTime);
+        circuitHealth.put("totalBuckets", buckets);
+
+        CircuitHealthMonitor monitor = CircuitHealthMonitor.getMonitor(circuitHealth,
+                createConfig(RESET_TIME_MILLIS));
+        monitor.updateCircuitState(CircuitHealthMonitor.CLOSED);
+        monitor.recordResult(true);
+        monitor.updateCircuitState(CircuitHealthMonitor.CLOSED);
+        monitor.recordResult(false);
+        monitor.updateHealthRecord(circuitHealth);
+
+        Assert.assertEquals(circuitHealth.get("lastRequestSuccess"), BBoolean.FALSE);
+        Assert.assertEquals(((BInteger) circuitHealth.get("totalRequestCount")).intValue(), 2);
+        Assert.assertEquals(((BInteger) circuitHealth.get("lastUsedBucketId")).intValue(), 0);
+        BMap<String, BValue> lastErrorTime = (BMap<String, BValue>) circuitHealth.get("lastErrorTime");
+        Assert.assertTrue(((BInteger) lastErrorTime.get("time")).intValue() >= startMillis);
+        Assert.assertSame(lastErrorTime.get("zone"), zone);
+        Assert.assertNotNull(circuitHealth.get("lastRequestTime"));
+
+        BMap<String, BValue> bucket = (BMap<String, BValue>) buckets.get(0);
+        Assert.assertEquals(((BInteger) bucket.get("totalCount")).intValue(), 2);
+        Assert.assertEquals(((BInteger) bucket.get("failureCount")).intValue(), 1);
+        Assert.assertEquals(((BInteger) bucket.get("rejectedCount")).intValue(), 0);
+        Assert.assertNotNull(bucket.get("lastUpdatedTime"));
+        Assert.assertEquals(((BInteger) ((BMap<String, BValue>) buckets.get(1)).get("totalCount")).intValue(), 0);
+
+        monitor.reset();
+        monitor.updateHealthRecord(circuitHealth);
+        Assert.assertEquals(((BInteger) circuitHealth.get("totalRequestCount")).intValue(), 0);
+        Assert.assertEquals(((BInteger) bucket.get("totalCount")).intValue(), 0);
+    }
+
+    private static CircuitHealthMonitor createMonitor(long resetTimeMillis) {
+        return CircuitHealthMonitor.getMonitor(new BMap<>(), createConfig(resetTimeMillis));
+    }
+
+    private static BMap<String, BValue> createConfig(long resetTimeMillis) {
+        BMap<String, BValue> rollingWindow = new BMap<>();
+        rollingWindow.put("timeWindowMillis", new BInteger(600000));
+        rollingWindow.put("bucketSizeMillis", new BInteger(100000));
+        rollingWindow.put("requestVolumeThreshold", new BInteger(2));
+        BMap<String, BValue> config = new BMap<>();
+        config.put("rollingWindow", rollingWindow);
+        config.put("noOfBuckets", new BInteger(6));
+        config.put("failureThreshold", new BFloat(0.3));
+        config.put("resetTimeMillis", new BInteger(resetTimeMillis));
+        return config;
+    }
+}
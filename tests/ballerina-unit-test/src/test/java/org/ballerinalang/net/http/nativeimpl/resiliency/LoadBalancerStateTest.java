@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.net.http.nativeimpl.resiliency;
+
+import org.ballerinalang.model.values.BIntArray;
+import org.ballerinalang.model.values.BInteger;
+import org.ballerinalang.model.values.BMap;
+import org.ballerinalang.model.values.BRefValueArray;
+import org.ballerinalang.model.values.BString;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.util.exceptions.BallerinaException;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Test cases for the native client selection of the Load Balancer.
+ */
+public class LoadBalancerStateTest {
+
+    @Test
+    public void testRoundRobin() {
+        LoadBalancerState state = createState(LoadBalancerState.ROUND_ROBIN, 3, null);
+        int[] selected = new int[6];
+        for (int i = 0; i < selected.length; i++) {
+            selected[i] = state.select(-1);
+            state.release(selected[i]);
+        }
+        Assert.assertEquals(selected, new int[]{0, 1, 2, 0, 1, 2});
+    }
+
+    @Test
+    public void testLeastOutstandingRequests() {
+        LoadBalancerState state = createState(LoadBalancerState.LEAST_OUTSTANDING_REQUESTS, 3, null);
+        // Each client gets a request in flight before any client gets a second one
+        Assert.assertEquals(state.select(-1), 0);
+        Assert.assertEquals(state.select(-1), 1);
+        Assert.assertEquals(state.select(-1), 2);
+
+        state.release(1);
+        Assert.assertEquals(state.select(-1), 1, "Client with the least requests in flight should be selected.");
+        state.release(2);
+        Assert.assertEquals(state.select(-1), 2, "Client with the least requests in flight should be selected.");
+    }
+
+    @Test
+    public void testLeastOutstandingRequestsFailover() {
+        LoadBalancerState state = createState(LoadBalancerState.LEAST_OUTSTANDING_REQUESTS, 3, null);
+        int first = state.select(-1);
+        state.release(first);
+        Assert.assertEquals(state.select(first), (first + 1) % 3, "Failover should move to the next client.");
+    }
+
+    @Test
+    public void testWeightedRoundRobin() {
+        LoadBalancerState state = createState(LoadBalancerState.WEIGHTED_ROUND_ROBIN, 2, new long[]{3, 1});
+        int[] selected = new int[8];
+        for (int i = 0; i < selected.length; i++) {
+            selected[i] = state.select(-1);
+            state.release(selected[i]);
+        }
+        // The lighter client is spread over the round rather than selected at the end of it
+        Assert.assertEquals(selected, new int[]{0, 0, 1, 0, 0, 0, 1, 0});
+    }
+
+    @Test
+    public void testWeightedRoundRobinReducesWeights() {
+        LoadBalancerState state = createState(LoadBalancerState.WEIGHTED_ROUND_ROBIN, 3, new long[]{20, 10, 10});
+        int[] counts = new int[3];
+        for (int i = 0; i < 8; i++) {
+            counts[state.select(-1)]++;
+        }
+        Assert.assertEquals(counts, new int[]{4, 2, 2});
+    }
+
+    @Test(expectedExceptions = BallerinaException.class,
+          expectedExceptionsMessageRegExp = "invalid load balancer weight 0.*")
+    public void testInvalidWeight() {
+        createState(LoadBalancerState.WEIGHTED_ROUND_ROBIN, 2, new long[]{1, 0});
+    }
+
+    @Test(expectedExceptions = BallerinaException.class,
+          expectedExceptionsMessageRegExp = "no clients to load balance")
+    public void testNoClients() {
+        createState(LoadBalancerState.ROUND_ROBIN, 0, null);
+    }
+
+    @Test
+    public void testStateIsKeptAgainstLoadBalancer() {
+        BMap<String, BValue> loadBalancer = createLoadBalancer(LoadBalancerState.ROUND_ROBIN, 2, null);
+        Assert.assertSame(LoadBalancerState.getState(loadBalancer), LoadBalancerState.getState(loadBalancer));
+    }
+
+    @Test
+    public void testNextIndexIsUpdated() {
+        BMap<String, BValue> loadBalancer = createLoadBalancer(LoadBalancerState.ROUND_ROBIN, 3, null);
+        LoadBalancerState state = LoadBalancerState.getState(loadBalancer);
+        Assert.assertEquals(state.select(-1), 0);
+        state.updateNextIndex(loadBalancer);
+        Assert.assertEquals(((BInteger) loadBalancer.get("nextIndex")).intValue(), 1);
+        Assert.assertEquals(state.nextRoundRobinIndex(), 1);
+        state.updateNextIndex(loadBalancer);
+        Assert.assertEquals(((BInteger) loadBalancer.get("nextIndex")).intValue(), 2);
+    }
+
+    private static LoadBalancerState createState(String algorithm, int noOfClients, long[] weights) {
+        return LoadBalancerState.getState(createLoadBalancer(algorithm, noOfClients, weights));
+    }
+
+    private static BMap<String, BValue> createLoadBalancer(String algorithm, int noOfClients, long[] weights) {
+        BRefValueArray clients = new BRefValueArray();
+        for (int i = 0; i < noOfClients; i++) {
+            clients.add(i, new BMap<>());
+        }
+        BMap<String, BValue> loadBalancer = new BMap<>();
+        loadBalancer.put("loadBalanceClientsArray", clients);
+        loadBalancer.put("algorithm", new BString(algorithm));
+        loadBalancer.put("nextIndex", new BInteger(0));
+        if (weights != null) {
+            loadBalancer.put("weights", new BIntArray(weights));
+        }
+        return loadBalancer;
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.net.http.session;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+/**
+ * Test cases for expiring sessions with the {@link SessionExpiryWheel}, turned with a synthetic clock.
+ */
+public class SessionExpiryWheelTest {
+
+    private SessionManager sessionManager;
+
+    @BeforeClass
+    public void setup() {
+        sessionManager = new SessionManager(new InMemorySessionStore(), 10, false);
+    }
+
+    @Test(description = "Test expiring a session which cascades from the upper levels of the wheel.")
+    public void testExpiryCascadesThroughLevels() {
+        HTTPSession session = createSession(60);
+        long startTime = session.getLastAccessedTime();
+        // 6000 ticks of 10 milliseconds is in the third level of the wheel
+        SessionExpiryWheel wheel = new SessionExpiryWheel(startTime, 10);
+        wheel.schedule(session);
+
+        wheel.advance(startTime + 30_000);
+        Assert.assertTrue(session.isValid());
+        wheel.advance(startTime + 59_990);
+        Assert.assertTrue(session.isValid(), "Session should not expire before its max inactive interval.");
+        wheel.advance(startTime + 60_000);
+        Assert.assertFalse(session.isValid(), "Session should expire at its max inactive interval.");
+    }
+
+    @Test(description = "Test rescheduling a session which is accessed after its expiry is scheduled.")
+    public void testAccessedSessionIsRescheduled() throws InterruptedException {
+        HTTPSession session = createSession(1);
+        long startTime = session.getLastAccessedTime();
+        SessionExpiryWheel wheel = new SessionExpiryWheel(startTime, 1);
+        wheel.schedule(session);
+        wheel.advance(startTime);
+
+        Thread.sleep(5);
+        session.setAccessed();
+        session.setAccessed();
+        long lastAccessedTime = session.getLastAccessedTime();
+        Assert.assertTrue(lastAccessedTime > startTime);
+
+        wheel.advance(startTime + 1000);
+        Assert.assertTrue(session.isValid(), "Accessed session should be scheduled again.");
+        wheel.advance(lastAccessedTime + 999);
+        Assert.assertTrue(session.isValid());
+        wheel.advance(lastAccessedTime + 1000);
+        Assert.assertFalse(session.isValid(), "Session should expire after the interval since its last access.");
+    }
+
+    @Test(description = "Test expiring a session whose max inactive interval is beyond the span of the wheel.")
+    public void testTimeoutBeyondWheelSpan() {
+        // 20,000,000 ticks of a millisecond is beyond the 64^4 ticks spanned by the wheel
+        HTTPSession session = createSession(20_000);
+        long startTime = session.getLastAccessedTime();
+        SessionExpiryWheel wheel = new SessionExpiryWheel(startTime, 1);
+        wheel.schedule(session);
+
+        wheel.advance(startTime + (1L << 24));
+        Assert.assertTrue(session.isValid(), "Session should not expire at the end of the span of the wheel.");
+        wheel.advance(startTime + 19_999_999);
+        Assert.assertTrue(session.isValid());
+        wheel.advance(startTime + 20_000_000);
+        Assert.assertFalse(session.isValid(), "Session should expire at its max inactive interval.");
+    }
+
+    @Test(description = "Test that a session which does not expire is not expired by the wheel.")
+    public void testSessionWithoutExpiry() {
+        HTTPSession session = createSession(-1);
+        long startTime = session.getLastAccessedTime();
+        SessionExpiryWheel wheel = new SessionExpiryWheel(startTime, 1000);
+        wheel.schedule(session);
+        wheel.advance(startTime + 3_600_000);
+        Assert.assertTrue(session.isValid());
+    }
+
+    @AfterClass
+    public void tearDown() {
+        sessionManager.stop();
+    }
+
+    private HTTPSession createSession(int maxInactiveInterval) {
+        HTTPSession session = new HTTPSession("session", maxInactiveInterval, "/");
+        session.setManager(sessionManager);
+        return session;
+    }
+}
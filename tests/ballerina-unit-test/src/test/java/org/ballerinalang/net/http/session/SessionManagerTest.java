@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.net.http.session;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Test cases for evicting the least recently used sessions.
+ */
+public class SessionManagerTest {
+
+    @Test(description = "Test finding the least recently used session among the shards of the session store.")
+    public void testLeastRecentlyUsedAcrossShards() throws InterruptedException {
+        InMemorySessionStore store = new InMemorySessionStore();
+        // session0 and session1 fall in shards of their own, while session6 and session10 share a shard
+        HTTPSession session0 = createSession(store, "session0");
+        HTTPSession session1 = createSession(store, "session1");
+        HTTPSession session6 = createSession(store, "session6");
+        HTTPSession session10 = createSession(store, "session10");
+        Assert.assertEquals(store.size(), 4);
+        Assert.assertSame(store.getLeastRecentlyUsed(), session0);
+
+        access(store, session0);
+        Assert.assertSame(store.getLeastRecentlyUsed(), session1);
+
+        store.remove(session1);
+        Assert.assertEquals(store.size(), 3);
+        Assert.assertSame(store.getLeastRecentlyUsed(), session6);
+
+        access(store, session6);
+        Assert.assertSame(store.getLeastRecentlyUsed(), session10);
+    }
+
+    @Test(description = "Test evicting the least recently used session when the max active sessions are reached.")
+    public void testEvictLeastRecentlyUsed() throws InterruptedException {
+        InMemorySessionStore store = new InMemorySessionStore();
+        SessionManager sessionManager = new SessionManager(store, 3, true);
+        try {
+            HTTPSession first = createSession(sessionManager);
+            HTTPSession second = createSession(sessionManager);
+            HTTPSession third = createSession(sessionManager);
+            access(store, first);
+
+            HTTPSession fourth = createSession(sessionManager);
+            Assert.assertFalse(second.isValid(), "Least recently used session should be evicted.");
+            Assert.assertNull(sessionManager.getHTTPSession(second.getId()));
+            Assert.assertTrue(first.isValid());
+            Assert.assertEquals(store.size(), 3);
+
+            createSession(sessionManager);
+            Assert.assertFalse(third.isValid(), "Least recently used session should be evicted.");
+            Assert.assertTrue(first.isValid());
+            Assert.assertTrue(fourth.isValid());
+            Assert.assertEquals(store.size(), 3);
+        } finally {
+            sessionManager.stop();
+        }
+    }
+
+    @Test(description = "Test rejecting a new session when the max active sessions are reached without eviction.",
+          expectedExceptions = IllegalStateException.class,
+          expectedExceptionsMessageRegExp = ".*Too many active sessions")
+    public void testMaxActiveSessions() {
+        SessionManager sessionManager = new SessionManager(new InMemorySessionStore(), 2, false);
+        try {
+            sessionManager.createHTTPSession("/");
+            sessionManager.createHTTPSession("/");
+            sessionManager.createHTTPSession("/");
+        } finally {
+            sessionManager.stop();
+        }
+    }
+
+    private static HTTPSession createSession(InMemorySessionStore store, String id) throws InterruptedException {
+        // Keep the creation times of the sessions apart
+        Thread.sleep(2);
+        HTTPSession session = new HTTPSession(id, 900, "/");
+        store.put(session);
+        return session;
+    }
+
+    private static HTTPSession createSession(SessionManager sessionManager) throws InterruptedException {
+        Thread.sleep(2);
+        return (HTTPSession) sessionManager.createHTTPSession("/");
+    }
+
+    private static void access(InMemorySessionStore store, HTTPSession session) throws InterruptedException {
+        Thread.sleep(2);
+        // The last accessed time of a session is the time of the access before the current one
+        session.setAccessed();
+        session.setAccessed();
+        store.get(session.getId());
+    }
+}
@@ -17,9 +17,14 @@
 
 package org.ballerinalang.test.channels;
 
+import org.ballerinalang.channels.ChannelStore;
+import org.ballerinalang.channels.InMemoryChannelStore;
 import org.ballerinalang.launcher.util.BCompileUtil;
 import org.ballerinalang.launcher.util.BRunUtil;
 import org.ballerinalang.launcher.util.CompileResult;
+import org.ballerinalang.model.types.BTypes;
+import org.ballerinalang.model.values.BInteger;
+import org.ballerinalang.model.values.BString;
 import org.ballerinalang.model.values.BValue;
 import org.testng.Assert;
 import org.testng.annotations.BeforeClass;
@@ -96,4 +101,26 @@ public class BasicChannelsTest {
         Assert.assertEquals(returns.length, 1, "Basic channel test, simple types channels test failed");
         Assert.assertEquals(returns[0].stringValue(), "true", "Incorrect msg returned from channel");
     }
+
+    @Test(description = "Test message ordering and keys of the in-memory channel store", groups = CHANNEL_TEST)
+    public void testInMemoryChannelStore() {
+
+        ChannelStore store = new InMemoryChannelStore();
+        BString key = new BString("order");
+        store.addMessage("chn", key, BTypes.typeString, new BInteger(1), BTypes.typeInt);
+        store.addMessage("chn", key, BTypes.typeString, new BInteger(2), BTypes.typeInt);
+        store.addMessage("chn", null, null, new BInteger(3), BTypes.typeInt);
+        store.addMessage("chn2", key, BTypes.typeString, new BInteger(4), BTypes.typeInt);
+
+        Assert.assertEquals(store.getMessage("chn", new BString("order"), BTypes.typeString, BTypes.typeInt)
+                .stringValue(), "1", "Messages of a key should be received in order");
+        Assert.assertEquals(store.getMessage("chn", null, null, BTypes.typeInt).stringValue(), "3",
+                "Incorrect msg returned for null key");
+        Assert.assertNull(store.getMessage("chn", null, null, BTypes.typeInt), "Message received twice");
+        Assert.assertEquals(store.getMessage("chn", key, BTypes.typeString, BTypes.typeInt).stringValue(), "2",
+                "Messages of a key should be received in order");
+        Assert.assertNull(store.getMessage("chn", key, BTypes.typeString, BTypes.typeInt), "Message received twice");
+        Assert.assertEquals(store.getMessage("chn2", key, BTypes.typeString, BTypes.typeInt).stringValue(), "4",
+                "Incorrect msg returned from second channel");
+    }
 }
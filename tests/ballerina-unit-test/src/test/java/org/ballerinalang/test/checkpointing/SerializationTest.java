@@ -33,9 +33,17 @@ import org.ballerinalang.persistence.serializable.SerializableState;
 import org.ballerinalang.persistence.serializable.reftypes.SerializableRefType;
 import org.ballerinalang.persistence.serializable.reftypes.impl.SerializableBMap;
 import org.ballerinalang.persistence.states.State;
+import org.ballerinalang.persistence.store.CheckpointStorageProvider;
 import org.ballerinalang.persistence.store.PersistenceStore;
 import org.ballerinalang.persistence.store.StorageProvider;
+import org.ballerinalang.persistence.store.StreamSnapshotStore;
+import org.ballerinalang.persistence.store.impl.AppendLogStorageProvider;
+import org.ballerinalang.persistence.store.impl.FileStorageProvider;
 import org.ballerinalang.runtime.Constants;
+import org.ballerinalang.siddhi.core.SiddhiAppRuntime;
+import org.ballerinalang.siddhi.core.SiddhiManager;
+import org.ballerinalang.siddhi.core.event.Event;
+import org.ballerinalang.siddhi.core.stream.output.StreamCallback;
 import org.ballerinalang.stdlib.io.channels.base.Channel;
 import org.ballerinalang.stdlib.io.channels.base.CharacterChannel;
 import org.ballerinalang.test.nativeimpl.functions.io.MockByteChannel;
@@ -43,6 +51,7 @@ import org.ballerinalang.test.nativeimpl.functions.io.socket.ServerSocketTest;
 import org.ballerinalang.test.nativeimpl.functions.io.util.TestUtil;
 import org.ballerinalang.test.serializer.json.JsonSerializerTest;
 import org.ballerinalang.test.utils.debug.TestDebugger;
+import org.ballerinalang.util.exceptions.BallerinaException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.testng.Assert;
@@ -56,10 +65,19 @@ import java.math.BigDecimal;
 import java.net.URISyntaxException;
 import java.nio.channels.ByteChannel;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Serialization and Deserialization test case.
@@ -195,6 +213,274 @@ public class SerializationTest {
         Assert.assertSame(gProp1, bstring);
     }
 
+    @SuppressWarnings("unchecked")
+    @Test(description = "Test binary serialization of SerializableState entries")
+    public void testSerializableStateEntries() throws NoSuchFieldException, IllegalAccessException {
+        WorkerExecutionContext weContext = new WorkerExecutionContext(compileResult.getProgFile());
+        SerializableState serializableState = new SerializableState(weContext, 0);
+        serializableState.setId(INSTANCE_ID);
+        mock(serializableState);
+
+        SerializableState state = SerializableState.deserializeEntries(serializableState.serializeEntries());
+        Assert.assertEquals(state.getId(), INSTANCE_ID);
+
+        List list = (List) state.globalProps.get(PROP_KEY_2);
+        Assert.assertEquals(list.get(2), VALUE_ITEM_3);
+        Assert.assertEquals(state.globalProps.get(DEC_KEY), BIG_DECIMAL);
+
+        SerializableRefType bmapKey1 = getSRefTypesMap(state).get(BMAP_KEY);
+        BMap<String, BValue> bmap =
+                (BMap) bmapKey1.getBRefType(compileResult.getProgFile(), state, new Deserializer());
+        Assert.assertEquals(((BString) bmap.get(KEY_STR)).value(), BSRING_CONTENT);
+    }
+
+    @Test(description = "Test incremental checkpoints with the append log storage provider")
+    public void testAppendLogStorageProvider() throws IOException {
+        Path logPath = Files.createTempDirectory("ballerina-states").resolve(AppendLogStorageProvider.LOG_FILE_NAME);
+        try {
+            PersistenceStore.setStorageProvider(new AppendLogStorageProvider(logPath));
+            WorkerExecutionContext weContext = new WorkerExecutionContext(compileResult.getProgFile());
+            String key = "Prop1";
+            weContext.globalProps.put(key, new BString("B-Prop1"));
+            State state = new State(weContext, INSTANCE_ID);
+            PersistenceStore.persistState(state);
+            long fullCheckpointSize = Files.size(logPath);
+
+            weContext.globalProps.put(key, new BString("B-Prop2"));
+            PersistenceStore.persistState(state);
+            long deltaCheckpointSize = Files.size(logPath) - fullCheckpointSize;
+            Assert.assertTrue(deltaCheckpointSize < fullCheckpointSize, "Unchanged entries should not be written");
+
+            // recover with a new provider, as done after a restart
+            PersistenceStore.setStorageProvider(new AppendLogStorageProvider(logPath));
+            List<State> states = PersistenceStore.getStates(compileResult.getProgFile());
+            Assert.assertEquals(states.size(), 1);
+            BString prop = (BString) states.get(0).getContext().globalProps.get(key);
+            Assert.assertEquals(prop.stringValue(), "B-Prop2");
+
+            PersistenceStore.removeStates(INSTANCE_ID);
+            Assert.assertEquals(Files.size(logPath), 0, "Log should be truncated when there are no active states");
+        } finally {
+            PersistenceStore.setStorageProvider(storageProvider);
+            Files.deleteIfExists(logPath);
+            Files.deleteIfExists(logPath.getParent());
+        }
+    }
+
+    @Test(description = "Test that the append log drops the records replaced by later full checkpoints")
+    public void testAppendLogCompaction() throws IOException {
+        Path logPath = Files.createTempDirectory("ballerina-states").resolve(AppendLogStorageProvider.LOG_FILE_NAME);
+        try {
+            AppendLogStorageProvider provider = new AppendLogStorageProvider(logPath, 0);
+            byte[] checkpoint = new byte[100];
+            // length, checksum, type, state id length, state id and checkpoint
+            long recordSize = 4 + 4 + 1 + 2 + INSTANCE_ID.length() + checkpoint.length;
+            for (int i = 0; i < 3; i++) {
+                Arrays.fill(checkpoint, (byte) i);
+                provider.persistCheckpoint(INSTANCE_ID, checkpoint, true);
+                Assert.assertTrue(Files.size(logPath) <= 2 * recordSize, "Replaced checkpoints should be dropped");
+            }
+            provider.persistCheckpoint(INSTANCE_ID, new byte[]{9}, false);
+            provider.close();
+
+            provider = new AppendLogStorageProvider(logPath, 0);
+            Iterator<List<byte[]>> iterator = provider.getActiveCheckpoints();
+            Assert.assertTrue(iterator.hasNext());
+            List<byte[]> checkpoints = iterator.next();
+            Assert.assertEquals(checkpoints.size(), 2);
+            Assert.assertEquals(checkpoints.get(0), checkpoint);
+            Assert.assertEquals(checkpoints.get(1), new byte[]{9});
+            Assert.assertFalse(iterator.hasNext());
+            provider.close();
+        } finally {
+            Files.deleteIfExists(logPath);
+            Files.deleteIfExists(logPath.getParent());
+        }
+    }
+
+    @Test(description = "Test that a checkpoint which failed to persist is followed by a full checkpoint")
+    public void testFailedCheckpointFollowedByFullCheckpoint() {
+        FailingCheckpointStorageProvider provider = new FailingCheckpointStorageProvider();
+        try {
+            PersistenceStore.setStorageProvider(provider);
+            WorkerExecutionContext weContext = new WorkerExecutionContext(compileResult.getProgFile());
+            String key = "Prop1";
+            weContext.globalProps.put(key, new BString("C-Prop1"));
+            State state = new State(weContext, INSTANCE_ID);
+            PersistenceStore.persistState(state);
+
+            provider.failing = true;
+            weContext.globalProps.put(key, new BString("C-Prop2"));
+            PersistenceStore.persistState(state);
+
+            provider.failing = false;
+            weContext.globalProps.put(key, new BString("C-Prop3"));
+            PersistenceStore.persistState(state);
+            weContext.globalProps.put(key, new BString("C-Prop4"));
+            PersistenceStore.persistState(state);
+            Assert.assertEquals(provider.fullCheckpoints, Arrays.asList(true, false, true, false));
+        } finally {
+            PersistenceStore.setStorageProvider(storageProvider);
+        }
+        Assert.assertTrue(provider.closed, "Replaced storage provider should be closed");
+    }
+
+    @Test(description = "Test incremental snapshots of streaming query runtimes")
+    public void testStreamSnapshotStore() throws IOException {
+        Path dirPath = Files.createTempDirectory("ballerina-stream-states");
+        Path basePath = dirPath.resolve("query-base.json");
+        Path deltaPath = dirPath.resolve("query-delta.json");
+        try {
+            StreamSnapshotStore store = new StreamSnapshotStore(new FileStorageProvider(dirPath.toString()));
+            Map<String, byte[]> elements = new HashMap<>();
+            elements.put("window", new byte[100]);
+            elements.put("sum", new byte[]{1});
+            store.persist("query", elements);
+            Assert.assertTrue(Files.exists(basePath));
+            Assert.assertFalse(Files.exists(deltaPath), "Base should not be followed by an empty delta");
+
+            elements.put("sum", new byte[]{2});
+            store.persist("query", elements);
+            long baseSize = Files.size(basePath);
+            Assert.assertTrue(Files.size(deltaPath) < baseSize, "Unchanged elements should not be written");
+
+            // recover with a new store, as done after a restart
+            store = new StreamSnapshotStore(new FileStorageProvider(dirPath.toString()));
+            Map<String, byte[]> recovered = store.recover("query");
+            Assert.assertEquals(recovered.get("window"), new byte[100]);
+            Assert.assertEquals(recovered.get("sum"), new byte[]{2});
+            Assert.assertNull(store.recover("query"));
+
+            // a delta larger than half of the base replaces the base
+            byte[] window = new byte[300];
+            Arrays.fill(window, (byte) 3);
+            elements.put("window", window);
+            store.persist("query", elements);
+            Assert.assertNotEquals(Files.size(basePath), baseSize);
+            Assert.assertFalse(Files.exists(deltaPath), "Delta should be removed when the base is rewritten");
+        } finally {
+            Files.deleteIfExists(basePath);
+            Files.deleteIfExists(deltaPath);
+            Files.deleteIfExists(dirPath);
+        }
+    }
+
+    @Test(description = "Test that snapshot records which cannot be decoded are skipped on recovery")
+    public void testStreamSnapshotStoreCorruptRecords() throws IOException {
+        Path dirPath = Files.createTempDirectory("ballerina-stream-states");
+        try {
+            StreamSnapshotStore store = new StreamSnapshotStore(new FileStorageProvider(dirPath.toString()));
+            Map<String, byte[]> elements = new HashMap<>();
+            elements.put("sum", new byte[]{1, 2, 3});
+            store.persist("query", elements);
+
+            String base = new String(Files.readAllBytes(dirPath.resolve("query-base.json")), StandardCharsets.UTF_8);
+            byte[] baseBytes = Base64.getDecoder().decode(base);
+            Files.write(dirPath.resolve("truncated-base.json"), Base64.getEncoder()
+                    .encode(Arrays.copyOf(baseBytes, baseBytes.length - 2)));
+            Files.write(dirPath.resolve("foreign.json"), "{\"id\": \"state\"}".getBytes(StandardCharsets.UTF_8));
+
+            store = new StreamSnapshotStore(new FileStorageProvider(dirPath.toString()));
+            Map<String, byte[]> recovered = store.recover("query");
+            Assert.assertNotNull(recovered);
+            Assert.assertEquals(recovered.get("sum"), new byte[]{1, 2, 3});
+        } finally {
+            deleteDirectory(dirPath);
+        }
+    }
+
+    @Test(description = "Test that a snapshot is not taken as the base when the storage failed to persist it")
+    public void testStreamSnapshotStoreFailedBase() {
+        List<String> persistedIds = new ArrayList<>();
+        StorageProvider provider = new StorageProvider() {
+            private boolean failed;
+
+            @Override
+            public void persistState(String stateId, String stateString) {
+                if (!failed) {
+                    failed = true;
+                    throw new BallerinaException("disk full");
+                }
+                persistedIds.add(stateId);
+            }
+
+            @Override
+            public void removeActiveState(String stateId) {
+                // no op
+            }
+
+            @Override
+            public List<String> getAllSerializedStates() {
+                return Collections.emptyList();
+            }
+        };
+        StreamSnapshotStore store = new StreamSnapshotStore(provider);
+        Map<String, byte[]> elements = new HashMap<>();
+        elements.put("window", new byte[100]);
+        elements.put("sum", new byte[]{1});
+        try {
+            store.persist("query", elements);
+            Assert.fail("Failure of the storage should be reported");
+        } catch (BallerinaException e) {
+            Assert.assertEquals(e.getMessage(), "disk full");
+        }
+
+        // only the sum changed, but the storage has no base for a delta to build on
+        elements.put("sum", new byte[]{2});
+        store.persist("query", elements);
+        Assert.assertEquals(persistedIds, Collections.singletonList("query-base"));
+    }
+
+    @Test(description = "Test snapshot and restore of a streaming query runtime through the snapshot store")
+    public void testStreamSnapshotStoreWithSiddhiAppRuntime() throws Exception {
+        String siddhiApp = "@app:name('snapshotTest') define stream inputStream (v long); " +
+                "@info(name = 'query1') from inputStream select sum(v) as total insert into outputStream;";
+        Path dirPath = Files.createTempDirectory("ballerina-stream-states");
+        SiddhiManager siddhiManager = new SiddhiManager();
+        try {
+            SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(siddhiApp);
+            siddhiAppRuntime.start();
+            for (long i = 1; i <= 3; i++) {
+                siddhiAppRuntime.getInputHandler("inputStream").send(new Object[]{i});
+            }
+            StreamSnapshotStore store = new StreamSnapshotStore(new FileStorageProvider(dirPath.toString()));
+            store.persist(siddhiAppRuntime.getName(), siddhiAppRuntime.snapshotElements());
+            siddhiAppRuntime.shutdown();
+
+            // restore into a new runtime of the same query, as done after a restart
+            siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(siddhiApp);
+            List<Long> totals = new ArrayList<>();
+            siddhiAppRuntime.addCallback("outputStream", new StreamCallback() {
+                @Override
+                public void receive(Event[] events) {
+                    for (Event event : events) {
+                        totals.add((Long) event.getData(0));
+                    }
+                }
+            });
+            siddhiAppRuntime.start();
+            store = new StreamSnapshotStore(new FileStorageProvider(dirPath.toString()));
+            Map<String, byte[]> recovered = store.recover(siddhiAppRuntime.getName());
+            Assert.assertNotNull(recovered);
+            siddhiAppRuntime.restoreElements(recovered);
+            siddhiAppRuntime.getInputHandler("inputStream").send(new Object[]{4L});
+            siddhiAppRuntime.shutdown();
+            Assert.assertEquals(totals, Collections.singletonList(10L));
+        } finally {
+            siddhiManager.shutdown();
+            deleteDirectory(dirPath);
+        }
+    }
+
+    private static void deleteDirectory(Path dirPath) throws IOException {
+        try (Stream<Path> paths = Files.list(dirPath)) {
+            for (Path path : paths.collect(Collectors.toList())) {
+                Files.delete(path);
+            }
+        }
+        Files.delete(dirPath);
+    }
+
     @SuppressWarnings("unchecked")
     private Map<String, SerializableRefType> getSRefTypesMap(SerializableState state) throws
             NoSuchFieldException, IllegalAccessException {
@@ -231,6 +517,39 @@ public class SerializationTest {
         getSRefTypesMap(serializableState).put(BMAP_KEY, value);
     }
 
+    /**
+     * Class implements @{@link CheckpointStorageProvider} which records the checkpoints and fails on demand.
+     */
+    private static class FailingCheckpointStorageProvider implements CheckpointStorageProvider {
+
+        private final List<Boolean> fullCheckpoints = new ArrayList<>();
+        private boolean failing;
+        private boolean closed;
+
+        @Override
+        public void persistCheckpoint(String stateId, byte[] checkpoint, boolean full) throws IOException {
+            fullCheckpoints.add(full);
+            if (failing) {
+                throw new IOException("disk full");
+            }
+        }
+
+        @Override
+        public void removeActiveState(String stateId) {
+            // nothing to do
+        }
+
+        @Override
+        public Iterator<List<byte[]>> getActiveCheckpoints() {
+            return Collections.emptyIterator();
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+
     /**
      * Class implements @{@link StorageProvider} use as storage provider for test cases.
      */
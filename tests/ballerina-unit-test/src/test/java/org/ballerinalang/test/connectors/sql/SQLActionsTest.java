@@ -19,6 +19,8 @@ package org.ballerinalang.test.connectors.sql;
 import org.ballerinalang.launcher.util.BCompileUtil;
 import org.ballerinalang.launcher.util.BRunUtil;
 import org.ballerinalang.launcher.util.CompileResult;
+import org.ballerinalang.model.TableJSONDataSource;
+import org.ballerinalang.model.util.JsonGenerator;
 import org.ballerinalang.model.values.BBoolean;
 import org.ballerinalang.model.values.BBooleanArray;
 import org.ballerinalang.model.values.BByteArray;
@@ -28,6 +30,7 @@ import org.ballerinalang.model.values.BIntArray;
 import org.ballerinalang.model.values.BInteger;
 import org.ballerinalang.model.values.BString;
 import org.ballerinalang.model.values.BStringArray;
+import org.ballerinalang.model.values.BTable;
 import org.ballerinalang.model.values.BValue;
 import org.ballerinalang.test.utils.SQLDBUtils;
 import org.ballerinalang.test.utils.SQLDBUtils.ContainerizedTestDatabase;
@@ -45,7 +48,9 @@ import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Calendar;
+import java.util.Locale;
 
 import static org.ballerinalang.test.utils.SQLDBUtils.DBType.H2;
 import static org.ballerinalang.test.utils.SQLDBUtils.DBType.HSQLDB;
@@ -778,6 +783,35 @@ public class SQLActionsTest {
                 + "[{FIRSTNAME:\"Peter\", LASTNAME:\"Stuart\"}, {FIRSTNAME:\"John\", LASTNAME:\"Watson\"}])");
     }
 
+    @Test(groups = CONNECTOR_TEST, description = "Test converting a table loaded to memory to json multiple times")
+    public void testLoadToMemoryToJson() {
+        BValue[] returns = BRunUtil.invoke(result, "testLoadToMemoryToJson", connectionArgs);
+        Assert.assertEquals(returns.length, 2);
+        final String expected = "[{\"ROW_ID\":1, \"INT_TYPE\":10, \"BOOLEAN_TYPE\":TRUE, \"STRING_TYPE\":\"HELLO\", "
+                + "\"DECIMAL_TYPE\":1234.567}, {\"ROW_ID\":2, \"INT_TYPE\":0, \"BOOLEAN_TYPE\":FALSE, "
+                + "\"STRING_TYPE\":NULL, \"DECIMAL_TYPE\":0.0}]";
+        // Column names are in lower case in some databases
+        Assert.assertEquals(returns[0].stringValue().toUpperCase(Locale.ENGLISH), expected);
+        Assert.assertEquals(returns[1].stringValue().toUpperCase(Locale.ENGLISH), expected);
+    }
+
+    @Test(groups = CONNECTOR_TEST, description = "Test serializing a table loaded to memory as a JSON stream")
+    public void testLoadToMemorySerializeJson() throws IOException {
+        BValue[] returns = BRunUtil.invoke(result, "testLoadToMemoryTable", connectionArgs);
+        // The endpoint is stopped, so the rows can only come from the table loaded to memory
+        BTable table = (BTable) returns[0];
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonGenerator gen = new JsonGenerator(out);
+        new TableJSONDataSource(table, false).serialize(gen);
+        gen.flush();
+        final String expected = "[{\"ROW_ID\":1,\"INT_TYPE\":10,\"BOOLEAN_TYPE\":TRUE,\"STRING_TYPE\":\"HELLO\","
+                + "\"DECIMAL_TYPE\":1234.567},{\"ROW_ID\":2,\"INT_TYPE\":0,\"BOOLEAN_TYPE\":FALSE,"
+                + "\"STRING_TYPE\":NULL,\"DECIMAL_TYPE\":0.0}]";
+        // Column names are in lower case in some databases
+        Assert.assertEquals(new String(out.toByteArray(), StandardCharsets.UTF_8).toUpperCase(Locale.ENGLISH),
+                expected);
+    }
+
     @Test(groups = CONNECTOR_TEST, description = "Test iterating data of a table loaded to memory after closing")
     public void testLoadToMemorySelectAfterTableClose() throws Exception {
         BValue[] returns = BRunUtil.invokeFunction(result, "testLoadToMemorySelectAfterTableClose", connectionArgs);
@@ -19,6 +19,7 @@ package org.ballerinalang.test.connectors.sql;
 import org.ballerinalang.launcher.util.BCompileUtil;
 import org.ballerinalang.launcher.util.BRunUtil;
 import org.ballerinalang.launcher.util.CompileResult;
+import org.ballerinalang.model.values.BIntArray;
 import org.ballerinalang.model.values.BValue;
 import org.ballerinalang.test.utils.SQLDBUtils;
 import org.ballerinalang.util.exceptions.BLangRuntimeException;
@@ -114,6 +115,25 @@ public class SQLConnectorInitTest {
         Assert.assertEquals(returns[0].stringValue(), expected);
     }
 
+    @Test
+    public void testStatementCache() {
+        BValue[] returns = BRunUtil.invokeFunction(result, "testStatementCache");
+        final String expected = "[[{\"FIRSTNAME\":\"Peter\"}], [{\"FIRSTNAME\":\"Peter\"}], "
+                + "[{\"FIRSTNAME\":\"Peter\"}], [{\"FIRSTNAME\":\"Peter\"}]]";
+        Assert.assertEquals(returns[0].stringValue(), expected);
+    }
+
+    @Test
+    public void testUpdateBatching() {
+        BValue[] returns = BRunUtil.invokeFunction(result, "testUpdateBatching");
+        BIntArray counts = (BIntArray) returns[0];
+        Assert.assertEquals(counts.size(), 4);
+        Assert.assertEquals(counts.get(0), 1);
+        Assert.assertEquals(counts.get(1), 1);
+        Assert.assertEquals(counts.get(2), 1);
+        Assert.assertEquals(counts.get(3), 3);
+    }
+
     @Test(expectedExceptions = BLangRuntimeException.class,
           expectedExceptionsMessageRegExp = ".*error in sql connector configuration:Failed to initialize pool: "
                   + "Database does not exists: ./target/tempdb/NON_EXISTING_DB.*")
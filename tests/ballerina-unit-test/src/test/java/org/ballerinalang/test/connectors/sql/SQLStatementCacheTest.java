@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.test.connectors.sql;
+
+import org.ballerinalang.database.sql.SQLStatementCache;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Test hits, misses and eviction of {@link SQLStatementCache}.
+ */
+public class SQLStatementCacheTest {
+
+    private static final String SELECT_QUERY = "SELECT * FROM Customers WHERE id IN (?)";
+    private static final String UPDATE_QUERY = "UPDATE Customers SET name = ? WHERE id = ?";
+    private static final String DELETE_QUERY = "DELETE FROM Customers WHERE id = ?";
+
+    private final List<String> processedQueries = new ArrayList<>();
+
+    private final Function<String, String> queryProcessor = query -> {
+        processedQueries.add(query);
+        return query + " -- processed " + processedQueries.size();
+    };
+
+    @Test(description = "Test that a query of the same parameter shape is processed only once")
+    public void testHitAndMiss() {
+        processedQueries.clear();
+        SQLStatementCache cache = new SQLStatementCache(10);
+
+        String first = cache.getProcessedQuery(SELECT_QUERY, new int[]{3}, queryProcessor);
+        Assert.assertEquals(cache.getMissCount(), 1);
+        Assert.assertEquals(cache.getHitCount(), 0);
+
+        String second = cache.getProcessedQuery(SELECT_QUERY, new int[]{3}, queryProcessor);
+        Assert.assertSame(second, first);
+        Assert.assertEquals(cache.getMissCount(), 1);
+        Assert.assertEquals(cache.getHitCount(), 1);
+
+        // an array parameter of another length expands into a different processed query
+        String otherShape = cache.getProcessedQuery(SELECT_QUERY, new int[]{2}, queryProcessor);
+        Assert.assertNotEquals(otherShape, first);
+        Assert.assertEquals(cache.getMissCount(), 2);
+        Assert.assertEquals(cache.getHitCount(), 1);
+        Assert.assertEquals(processedQueries.size(), 2);
+    }
+
+    @Test(description = "Test that the least recently used query is evicted when the cache is full")
+    public void testEviction() {
+        processedQueries.clear();
+        SQLStatementCache cache = new SQLStatementCache(2);
+        cache.getProcessedQuery(SELECT_QUERY, new int[]{1}, queryProcessor);
+        cache.getProcessedQuery(UPDATE_QUERY, new int[]{1, 1}, queryProcessor);
+        // makes the update query the least recently used one
+        cache.getProcessedQuery(SELECT_QUERY, new int[]{1}, queryProcessor);
+        cache.getProcessedQuery(DELETE_QUERY, new int[]{1}, queryProcessor);
+        Assert.assertEquals(cache.getMissCount(), 3);
+        Assert.assertEquals(cache.getHitCount(), 1);
+
+        cache.getProcessedQuery(SELECT_QUERY, new int[]{1}, queryProcessor);
+        cache.getProcessedQuery(DELETE_QUERY, new int[]{1}, queryProcessor);
+        Assert.assertEquals(cache.getMissCount(), 3);
+        Assert.assertEquals(cache.getHitCount(), 3);
+
+        cache.getProcessedQuery(UPDATE_QUERY, new int[]{1, 1}, queryProcessor);
+        Assert.assertEquals(cache.getMissCount(), 4);
+        Assert.assertEquals(processedQueries.size(), 4);
+    }
+}
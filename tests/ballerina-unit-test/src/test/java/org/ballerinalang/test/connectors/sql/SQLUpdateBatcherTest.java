@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.test.connectors.sql;
+
+import org.ballerinalang.database.sql.SQLDatasource;
+import org.ballerinalang.database.sql.SQLUpdateBatcher;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Test coalescing of concurrent updates by {@link SQLUpdateBatcher}.
+ */
+public class SQLUpdateBatcherTest {
+
+    private static final String DB_URL = "jdbc:hsqldb:mem:UPDATE_BATCHER_TEST";
+    private static final String INSERT_QUERY = "INSERT INTO Items (id, name) VALUES (?, ?)";
+
+    private final AtomicInteger executeBatchCalls = new AtomicInteger();
+    private final AtomicInteger executeUpdateCalls = new AtomicInteger();
+    private ExecutorService executor;
+
+    @BeforeMethod
+    public void setup() throws SQLException {
+        executeBatchCalls.set(0);
+        executeUpdateCalls.set(0);
+        executor = Executors.newFixedThreadPool(3);
+        try (Connection conn = DriverManager.getConnection(DB_URL, "SA", "");
+             Statement stmt = conn.createStatement()) {
+            stmt.execute("DROP TABLE Items IF EXISTS");
+            stmt.execute("CREATE TABLE Items (id INTEGER PRIMARY KEY, name VARCHAR(20))");
+        }
+    }
+
+    @AfterMethod
+    public void cleanup() {
+        executor.shutdownNow();
+    }
+
+    @Test(description = "Test that concurrent updates of a statement are executed as one batch")
+    public void testConcurrentUpdatesCoalesced() throws Exception {
+        SQLUpdateBatcher batcher = new SQLUpdateBatcher(new CountingDatasource(), 3, 10000);
+        List<Future<Integer>> results = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            results.add(submitInsert(batcher, i, "item" + i));
+        }
+        for (Future<Integer> result : results) {
+            Assert.assertEquals(result.get().intValue(), 1);
+        }
+        Assert.assertEquals(executeBatchCalls.get(), 1);
+        Assert.assertEquals(executeUpdateCalls.get(), 0);
+        Assert.assertEquals(countRows(), 3);
+    }
+
+    @Test(description = "Test that a failed batch is executed one update at a time")
+    public void testFailedBatchExecutedOneByOne() throws Exception {
+        SQLUpdateBatcher batcher = new SQLUpdateBatcher(new CountingDatasource(), 3, 10000);
+        List<Future<Integer>> results = new ArrayList<>();
+        results.add(submitInsert(batcher, 1, "first"));
+        results.add(submitInsert(batcher, 1, "duplicate"));
+        results.add(submitInsert(batcher, 2, "second"));
+        int succeeded = 0;
+        int failed = 0;
+        for (Future<Integer> result : results) {
+            try {
+                Assert.assertEquals(result.get().intValue(), 1);
+                succeeded++;
+            } catch (ExecutionException e) {
+                Assert.assertTrue(e.getCause() instanceof SQLException);
+                failed++;
+            }
+        }
+        Assert.assertEquals(succeeded, 2);
+        Assert.assertEquals(failed, 1);
+        Assert.assertEquals(executeBatchCalls.get(), 1);
+        Assert.assertEquals(executeUpdateCalls.get(), 3);
+        Assert.assertEquals(countRows(), 2);
+    }
+
+    @Test(description = "Test that an update is executed alone when no other update joins the window")
+    public void testSingleUpdateNotBatched() throws Exception {
+        SQLUpdateBatcher batcher = new SQLUpdateBatcher(new CountingDatasource(), 3, 10);
+        Assert.assertEquals(submitInsert(batcher, 1, "alone").get().intValue(), 1);
+        Assert.assertEquals(executeBatchCalls.get(), 0);
+        Assert.assertEquals(executeUpdateCalls.get(), 1);
+    }
+
+    private Future<Integer> submitInsert(SQLUpdateBatcher batcher, int id, String name) {
+        return executor.submit(() -> batcher.executeUpdate(INSERT_QUERY, (conn, stmt) -> {
+            stmt.setInt(1, id);
+            stmt.setString(2, name);
+        }));
+    }
+
+    private int countRows() throws SQLException {
+        try (Connection conn = DriverManager.getConnection(DB_URL, "SA", "");
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT count(*) FROM Items")) {
+            rs.next();
+            return rs.getInt(1);
+        }
+    }
+
+    /**
+     * Datasource which counts how the prepared statements of its connections are executed.
+     */
+    private class CountingDatasource extends SQLDatasource {
+
+        @Override
+        public Connection getSQLConnection() {
+            try {
+                Connection conn = DriverManager.getConnection(DB_URL, "SA", "");
+                return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(),
+                        new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+                            Object result = invoke(conn, method, args);
+                            if (result instanceof PreparedStatement) {
+                                return countingStatement((PreparedStatement) result);
+                            }
+                            return result;
+                        });
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        private PreparedStatement countingStatement(PreparedStatement stmt) {
+            return (PreparedStatement) Proxy.newProxyInstance(getClass().getClassLoader(),
+                    new Class<?>[]{PreparedStatement.class}, (proxy, method, args) -> {
+                        if (method.getName().equals("executeBatch")) {
+                            executeBatchCalls.incrementAndGet();
+                        } else if (method.getName().equals("executeUpdate")) {
+                            executeUpdateCalls.incrementAndGet();
+                        }
+                        return invoke(stmt, method, args);
+                    });
+        }
+
+        private Object invoke(Object target, Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
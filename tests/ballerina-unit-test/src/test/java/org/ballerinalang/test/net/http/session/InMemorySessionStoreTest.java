@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.test.net.http.session;
+
+import org.ballerinalang.net.http.session.HTTPSession;
+import org.ballerinalang.net.http.session.InMemorySessionStore;
+import org.ballerinalang.net.http.session.Session;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Test class for the sharded in memory session store.
+ */
+public class InMemorySessionStoreTest {
+
+    @Test(description = "Test adding, getting and removing sessions")
+    public void testAddAndRemoveSessions() {
+        InMemorySessionStore store = new InMemorySessionStore();
+        for (int i = 0; i < 100; i++) {
+            store.put(new HTTPSession("session" + i, 900, "/"));
+        }
+        Assert.assertEquals(store.size(), 100);
+
+        Session session = store.get("session42");
+        Assert.assertNotNull(session);
+        Assert.assertEquals(session.getId(), "session42");
+
+        store.remove(session);
+        Assert.assertEquals(store.size(), 99);
+        Assert.assertNull(store.get("session42"));
+
+        // Removing a session which is no longer in the store does not change the count
+        store.remove(session);
+        Assert.assertEquals(store.size(), 99);
+    }
+
+    @Test(description = "Test finding the least recently used session")
+    public void testLeastRecentlyUsedSession() {
+        InMemorySessionStore store = new InMemorySessionStore();
+        Assert.assertNull(store.getLeastRecentlyUsed());
+
+        Session session = new HTTPSession("session", 900, "/");
+        store.put(session);
+        Assert.assertSame(store.getLeastRecentlyUsed(), session);
+
+        store.remove(session);
+        Assert.assertNull(store.getLeastRecentlyUsed());
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.test.observe;
+
+import org.ballerinalang.util.metrics.Tag;
+import org.ballerinalang.util.metrics.Tags;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Test to verify the interning of metric tags.
+ *
+ * @since 0.981.2
+ */
+public class TagsTest {
+
+    @Test
+    public void testInternTags() {
+        Set<Tag> tags = new HashSet<>();
+        Tags.tags(tags, "service", "hello", "resource", "sayHello");
+        Set<Tag> sameTags = new HashSet<>();
+        Tags.tags(sameTags, "resource", "sayHello", "service", "hello");
+        Set<Tag> interned = Tags.intern(tags);
+        Assert.assertEquals(interned, tags);
+        Assert.assertSame(Tags.intern(sameTags), interned, "Equal sets of tags should have the same instance");
+        Set<Tag> otherTags = new HashSet<>();
+        Tags.tags(otherTags, "service", "hello", "resource", "sayBye");
+        Assert.assertNotSame(Tags.intern(otherTags), interned);
+        // The interned set must not change with the set it was created from
+        tags.clear();
+        Assert.assertEquals(interned.size(), 2);
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.test.runtime;
+
+import org.ballerinalang.bre.Context;
+import org.ballerinalang.bre.bvm.BLangScheduler;
+import org.ballerinalang.bre.bvm.BlockingNativeCallableUnit;
+import org.ballerinalang.bre.bvm.CallableUnitCallback;
+import org.ballerinalang.model.values.BMap;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.runtime.threadpool.ThreadPoolFactory;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test submitting worker tasks to the work-stealing and fixed worker pools, and blocking native calls to the
+ * blocking pool.
+ */
+public class WorkerSchedulerTest {
+
+    @Test(description = "Test a task submitted from a carrier thread continuing on the same thread")
+    public void testSameThreadResume() throws Exception {
+        // a single carrier thread, so that the resumed task cannot be stolen
+        ForkJoinPool pool = ThreadPoolFactory.createWorkStealingExecutor(1);
+        try {
+            CompletableFuture<Thread> resumedThread = new CompletableFuture<>();
+            CompletableFuture<Thread> callerThread = new CompletableFuture<>();
+            CompletableFuture<Long> queuedTasks = new CompletableFuture<>();
+            ThreadPoolFactory.submitTask(pool, () -> {
+                callerThread.complete(Thread.currentThread());
+                ThreadPoolFactory.submitTask(pool, () -> resumedThread.complete(Thread.currentThread()));
+                // the resumed task is on the caller's own deque, not on the shared submission queue
+                queuedTasks.complete(pool.getQueuedTaskCount() - pool.getQueuedSubmissionCount());
+            });
+            Assert.assertTrue(callerThread.get(5, TimeUnit.SECONDS).getName().startsWith("worker-thread-pool-"));
+            Assert.assertEquals(queuedTasks.get(5, TimeUnit.SECONDS).longValue(), 1L);
+            Assert.assertSame(resumedThread.get(5, TimeUnit.SECONDS), callerThread.get());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test(description = "Test a task submitted from outside the pool going through the submission queue")
+    public void testExternalSubmission() throws Exception {
+        ForkJoinPool pool = ThreadPoolFactory.createWorkStealingExecutor(1);
+        try {
+            CompletableFuture<Thread> thread = new CompletableFuture<>();
+            ThreadPoolFactory.submitTask(pool, () -> thread.complete(Thread.currentThread()));
+            Assert.assertNotEquals(thread.get(5, TimeUnit.SECONDS), Thread.currentThread());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test(description = "Test submitting to a fixed worker pool")
+    public void testFixedPoolSubmission() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(1);
+        try {
+            CompletableFuture<Integer> result = new CompletableFuture<>();
+            ThreadPoolFactory.submitTask(pool, () -> ThreadPoolFactory.submitTask(pool, () -> result.complete(1)));
+            Assert.assertEquals(result.get(5, TimeUnit.SECONDS).intValue(), 1);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test(description = "Test a blocking native call not holding the worker thread of its caller")
+    public void testBlockingNativeReleasesWorkerThread() throws Exception {
+        // a single worker thread, so that another task can only run if the blocking call released it
+        ExecutorService workerPool = Executors.newFixedThreadPool(1);
+        ThreadPoolExecutor blockingPool = ThreadPoolFactory.createBlockingExecutor(2);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            CompletableFuture<Thread> nativeThread = new CompletableFuture<>();
+            CompletableFuture<Thread> callbackThread = new CompletableFuture<>();
+            BlockingNativeCallableUnit nativeCallable = new BlockingNativeCallableUnit() {
+                @Override
+                public void execute(Context context) {
+                    nativeThread.complete(Thread.currentThread());
+                    try {
+                        release.await();
+                    } catch (InterruptedException ignore) { /* ignore */ }
+                }
+            };
+            CallableUnitCallback callback = new CallableUnitCallback() {
+                @Override
+                public void notifySuccess() {
+                    callbackThread.complete(Thread.currentThread());
+                }
+
+                @Override
+                public void notifyFailure(BMap<String, BValue> error) {
+                    callbackThread.completeExceptionally(new AssertionError("blocking call failed"));
+                }
+            };
+            workerPool.submit(() -> BLangScheduler.executeBlockingNative(blockingPool, nativeCallable, null,
+                    callback));
+            Assert.assertTrue(nativeThread.get(5, TimeUnit.SECONDS).getName().startsWith("blocking-thread-pool-"));
+
+            CompletableFuture<Boolean> otherTask = new CompletableFuture<>();
+            workerPool.submit(() -> otherTask.complete(true));
+            Assert.assertTrue(otherTask.get(5, TimeUnit.SECONDS), "worker thread should not be held by the call");
+            Assert.assertFalse(callbackThread.isDone());
+
+            release.countDown();
+            Assert.assertSame(callbackThread.get(5, TimeUnit.SECONDS), nativeThread.get());
+        } finally {
+            release.countDown();
+            workerPool.shutdownNow();
+            blockingPool.shutdownNow();
+        }
+    }
+
+    @Test(description = "Test the blocking pool handing off calls to elastic threads")
+    public void testBlockingPoolIsElastic() throws Exception {
+        ThreadPoolExecutor blockingPool = ThreadPoolFactory.createBlockingExecutor(8);
+        try {
+            Assert.assertTrue(blockingPool.getCorePoolSize() < blockingPool.getMaximumPoolSize());
+            Assert.assertEquals(blockingPool.getMaximumPoolSize(), 8);
+            Assert.assertTrue(blockingPool.getQueue() instanceof SynchronousQueue);
+            Assert.assertTrue(blockingPool.allowsCoreThreadTimeOut());
+        } finally {
+            blockingPool.shutdownNow();
+        }
+    }
+
+    @Test(description = "Test a blocking call running on the caller when all the threads of the blocking pool are busy")
+    public void testSaturatedBlockingPool() throws Exception {
+        ThreadPoolExecutor blockingPool = ThreadPoolFactory.createBlockingExecutor(1);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            CompletableFuture<Boolean> started = new CompletableFuture<>();
+            blockingPool.submit(() -> {
+                started.complete(true);
+                release.await();
+                return null;
+            });
+            Assert.assertTrue(started.get(5, TimeUnit.SECONDS));
+            CompletableFuture<Thread> thread = new CompletableFuture<>();
+            blockingPool.submit(() -> thread.complete(Thread.currentThread()));
+            Assert.assertSame(thread.get(5, TimeUnit.SECONDS), Thread.currentThread());
+        } finally {
+            release.countDown();
+            blockingPool.shutdownNow();
+        }
+    }
+}
@@ -20,6 +20,7 @@ package org.ballerinalang.test.services.dispatching;
 
 import io.netty.handler.codec.http.HttpHeaderNames;
 
+import org.ballerinalang.config.ConfigRegistry;
 import org.ballerinalang.connector.api.BallerinaConnectorException;
 import org.ballerinalang.launcher.util.BServiceUtil;
 import org.ballerinalang.launcher.util.CompileResult;
@@ -190,6 +191,20 @@ public class DataBindingTest {
         BValue bJson = JsonParser.parse(new HttpMessageDataStreamer(responseMsg).getInputStream());
     }
 
+    @Test(description = "Test direct data binding of a record without a payload",
+            expectedExceptions = BallerinaConnectorException.class,
+            expectedExceptionsMessageRegExp = ".*Error in reading payload : cannot convert payload to struct type: " +
+                    "Person.*")
+    public void testDirectDataBindingWithoutPayload() {
+        ConfigRegistry.getInstance().addConfiguration("b7a.http.databinding.direct", Boolean.TRUE);
+        try {
+            HTTPTestRequest requestMsg = MessageUtils.generateHTTPMessage("/echo/body6", "POST");
+            Services.invokeNew(compileResult, TEST_EP, requestMsg);
+        } finally {
+            ConfigRegistry.getInstance().removeConfiguration("b7a.http.databinding.direct");
+        }
+    }
+
     @Test(expectedExceptions = BallerinaConnectorException.class,
             expectedExceptionsMessageRegExp = ".*data binding failed: Error in reading payload : " +
                     "ParseError at .*")
@@ -555,4 +555,22 @@ public class UriTemplateBestMatchTest {
         Assert.assertEquals(((BMap<String, BValue>) bJson).get("value").stringValue(), "capitalized"
                 , "Request dispatched to wrong resource");
     }
+
+    @Test(description = "Test whether requests of the same path get dispatched by method on every request.")
+    public void testRepeatedDispatchOfSamePathWithDifferentMethods() {
+        String path = "/uri/456";
+        String[] methods = {"POST", "GET", "POST"};
+        String[] messages = {"Path Params Resource is invoked.", "Wildcard Params Resource is invoked.",
+                "Path Params Resource is invoked."};
+        for (int i = 0; i < methods.length; i++) {
+            HTTPTestRequest cMsg = MessageUtils.generateHTTPMessage(path, methods[i]);
+            HttpCarbonMessage response = Services.invokeNew(application, TEST_EP, cMsg);
+
+            Assert.assertNotNull(response, "Response message not found.");
+            BValue bJson = JsonParser.parse(new HttpMessageDataStreamer(response).getInputStream());
+
+            Assert.assertEquals(((BMap<String, BValue>) bJson).get("message").stringValue(), messages[i],
+                    "Request dispatched to wrong resource");
+        }
+    }
 }
@@ -104,4 +104,16 @@ public class UriTemplateDefaultDispatcherTest {
         Assert.assertEquals(((BMap<String, BValue>) bJson).get("echo").stringValue(), "dispatched to a proxy service"
                 , "Resource dispatched to wrong template");
     }
+
+    @Test(description = "Test dispatching when the request path starts with a base path but not at a segment")
+    public void testDispatchingToDefaultWithBasePathPrefix() {
+        String path = "/serviceNameSuffix/test1";
+        HTTPTestRequest cMsg = MessageUtils.generateHTTPMessage(path, "GET");
+        HttpCarbonMessage response = Services.invokeNew(application, TEST_EP, cMsg);
+
+        Assert.assertNotNull(response, "Response message not found");
+        BValue bJson = JsonParser.parse(new HttpMessageDataStreamer(response).getInputStream());
+        Assert.assertEquals(((BMap<String, BValue>) bJson).get("echo").stringValue(), "dispatched to a proxy service"
+                , "Resource dispatched to wrong template");
+    }
 }
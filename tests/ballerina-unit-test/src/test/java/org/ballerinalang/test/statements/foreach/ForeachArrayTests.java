@@ -20,6 +20,7 @@ package org.ballerinalang.test.statements.foreach;
 import org.ballerinalang.launcher.util.BCompileUtil;
 import org.ballerinalang.launcher.util.BRunUtil;
 import org.ballerinalang.launcher.util.CompileResult;
+import org.ballerinalang.model.values.BFloat;
 import org.ballerinalang.model.values.BInteger;
 import org.ballerinalang.model.values.BValue;
 import org.testng.Assert;
@@ -111,6 +112,41 @@ public class ForeachArrayTests {
         Assert.assertEquals(returns[0].stringValue(), sb.toString());
     }
 
+    @Test
+    public void testFloatArraySum() {
+        BValue[] returns = BRunUtil.invoke(program, "testFloatArraySum");
+        Assert.assertEquals(returns.length, 1);
+        Assert.assertEquals(((BFloat) returns[0]).floatValue(), 14.0);
+    }
+
+    @Test
+    public void testByteArrayWithArityOne() {
+        BValue[] returns = BRunUtil.invoke(program, "testByteArrayWithArityOne");
+        Assert.assertEquals(returns.length, 1);
+        Assert.assertEquals(((BInteger) returns[0]).intValue(), 431);
+    }
+
+    @Test
+    public void testByteArrayWithArityTwo() {
+        BValue[] returns = BRunUtil.invoke(program, "testByteArrayWithArityTwo");
+        Assert.assertEquals(returns.length, 1);
+        Assert.assertEquals(returns[0].stringValue(), "0:1 1:27 2:34 3:145 4:224 ");
+    }
+
+    @Test
+    public void testIntArrayInsertInForeach() {
+        BValue[] returns = BRunUtil.invoke(program, "testIntArrayInsertInForeach");
+        Assert.assertEquals(returns.length, 1);
+        Assert.assertEquals(returns[0].stringValue(), "0:1 1:-3 2:5 ");
+    }
+
+    @Test
+    public void testIntRangeWithArityTwo() {
+        BValue[] returns = BRunUtil.invoke(program, "testIntRangeWithArityTwo");
+        Assert.assertEquals(returns.length, 1);
+        Assert.assertEquals(returns[0].stringValue(), "0:3 1:4 2:5 3:6 4:7 25");
+    }
+
     @Test
     public void testStringArrayWithArityOne() {
         StringBuilder sb = new StringBuilder();
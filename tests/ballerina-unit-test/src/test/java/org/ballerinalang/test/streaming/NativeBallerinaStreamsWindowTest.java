@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.test.streaming;
+
+import org.ballerinalang.launcher.util.BCompileUtil;
+import org.ballerinalang.launcher.util.BRunUtil;
+import org.ballerinalang.launcher.util.CompileResult;
+import org.ballerinalang.model.values.BBoolean;
+import org.ballerinalang.model.values.BFloat;
+import org.ballerinalang.model.values.BInteger;
+import org.ballerinalang.model.values.BStringArray;
+import org.ballerinalang.model.values.BValue;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+/**
+ * This contains methods to test the native windows, group by and aggregators of Ballerina Streaming V2.
+ *
+ * @since 0.981.2
+ */
+public class NativeBallerinaStreamsWindowTest {
+
+    private CompileResult result;
+
+    @BeforeClass
+    public void setup() {
+        result = BCompileUtil.compile("test-src/streaming/native/streamingv2-window-and-groupby-test.bal");
+    }
+
+    @Test(description = "Test length window expiring the oldest event of a full window.")
+    public void testLengthWindow() {
+        BValue[] returns = BRunUtil.invoke(result, "testLengthWindow");
+        BStringArray chunks = (BStringArray) returns[0];
+        Assert.assertEquals(chunks.size(), 3);
+        Assert.assertEquals(chunks.get(0), "CURRENT:A1");
+        Assert.assertEquals(chunks.get(1), "CURRENT:A2");
+        Assert.assertEquals(chunks.get(2), "EXPIRED:A1,CURRENT:A3");
+    }
+
+    @Test(description = "Test length batch window emitting full batches preceded by reset events.")
+    public void testLengthBatchWindow() {
+        BValue[] returns = BRunUtil.invoke(result, "testLengthBatchWindow");
+        BStringArray chunks = (BStringArray) returns[0];
+        Assert.assertEquals(chunks.size(), 2);
+        Assert.assertEquals(chunks.get(0), "CURRENT:A1,CURRENT:A2");
+        Assert.assertEquals(chunks.get(1), "RESET:A1,CURRENT:A3,CURRENT:A4");
+        Assert.assertEquals(((BInteger) returns[1]).intValue(), 1);
+        Assert.assertEquals(returns[2].stringValue(), "RESET:A3");
+    }
+
+    @Test(description = "Test grouping events by the values of the group by fields.")
+    public void testGroupBy() {
+        BValue[] returns = BRunUtil.invoke(result, "testGroupBy");
+        BStringArray chunks = (BStringArray) returns[0];
+        Assert.assertEquals(chunks.size(), 2);
+        Assert.assertEquals(chunks.get(0), "CURRENT:A1,CURRENT:A3");
+        Assert.assertEquals(chunks.get(1), "CURRENT:B2");
+    }
+
+    @Test(description = "Test time window expiring events older than the window.")
+    public void testTimeWindow() {
+        BValue[] returns = BRunUtil.invoke(result, "testTimeWindow");
+        Assert.assertEquals(returns[0].stringValue(), "CURRENT:A1,EXPIRED:A1,CURRENT:A2");
+    }
+
+    @Test(description = "Test time batch window holding events until the batch time elapses.")
+    public void testTimeBatchWindow() {
+        BValue[] returns = BRunUtil.invoke(result, "testTimeBatchWindow");
+        BStringArray chunks = (BStringArray) returns[0];
+        Assert.assertEquals(chunks.size(), 2);
+        Assert.assertEquals(chunks.get(0), "CURRENT:A1,CURRENT:A2");
+        Assert.assertEquals(chunks.get(1), "emittedBeforeTimer:0");
+    }
+
+    @Test(description = "Test group by emitting the events of all groups seen so far with every call.")
+    public void testGroupByAcrossCalls() {
+        BValue[] returns = BRunUtil.invoke(result, "testGroupByAcrossCalls");
+        BStringArray chunks = (BStringArray) returns[0];
+        Assert.assertEquals(chunks.size(), 4);
+        Assert.assertEquals(chunks.get(0), "CURRENT:A1");
+        Assert.assertEquals(chunks.get(1), "CURRENT:B2");
+        Assert.assertEquals(chunks.get(2), "CURRENT:A1,CURRENT:A3");
+        Assert.assertEquals(chunks.get(3), "CURRENT:B2");
+        Assert.assertEquals(((BInteger) returns[1]).intValue(), 2);
+    }
+
+    @Test(description = "Test sum aggregator keeping the int and float sums in its fields.")
+    public void testSumAggregator() {
+        BValue[] returns = BRunUtil.invoke(result, "testSumAggregator");
+        Assert.assertEquals(((BInteger) returns[0]).intValue(), 3);
+        Assert.assertEquals(((BInteger) returns[1]).intValue(), 3);
+        Assert.assertEquals(((BFloat) returns[2]).floatValue(), 2.5);
+        Assert.assertEquals(((BInteger) returns[3]).intValue(), 0);
+        Assert.assertEquals(((BFloat) returns[4]).floatValue(), 2.5);
+        Assert.assertEquals(((BInteger) returns[5]).intValue(), 0);
+    }
+
+    @Test(description = "Test sum aggregator returning an error for an unsupported value.")
+    public void testSumAggregatorWithUnsupportedType() {
+        BValue[] returns = BRunUtil.invoke(result, "testSumAggregatorWithUnsupportedType");
+        Assert.assertTrue(((BBoolean) returns[0]).booleanValue());
+    }
+
+    @Test(description = "Test average aggregator keeping the sum and the count in its fields.")
+    public void testAverageAggregator() {
+        BValue[] returns = BRunUtil.invoke(result, "testAverageAggregator");
+        Assert.assertEquals(((BFloat) returns[0]).floatValue(), 3.0);
+        Assert.assertEquals(((BFloat) returns[1]).floatValue(), 4.0);
+        Assert.assertEquals(((BInteger) returns[2]).intValue(), 1);
+        Assert.assertEquals(((BFloat) returns[3]).floatValue(), 4.0);
+        Assert.assertEquals(((BFloat) returns[4]).floatValue(), 0.0);
+    }
+
+    @Test(description = "Test count aggregator keeping the count in its field.")
+    public void testCountAggregator() {
+        BValue[] returns = BRunUtil.invoke(result, "testCountAggregator");
+        Assert.assertEquals(((BInteger) returns[0]).intValue(), 2);
+        Assert.assertEquals(((BInteger) returns[1]).intValue(), 2);
+        Assert.assertEquals(((BInteger) returns[2]).intValue(), 0);
+    }
+
+    @Test(description = "Test distinct count aggregator keeping the occurrences of each value in its field.")
+    public void testDistinctCountAggregator() {
+        BValue[] returns = BRunUtil.invoke(result, "testDistinctCountAggregator");
+        Assert.assertEquals(((BInteger) returns[0]).intValue(), 2);
+        Assert.assertEquals(((BInteger) returns[1]).intValue(), 2);
+        Assert.assertEquals(((BInteger) returns[2]).intValue(), 1);
+        BStringArray distinctValues = (BStringArray) returns[3];
+        Assert.assertEquals(distinctValues.size(), 1);
+        Assert.assertEquals(distinctValues.get(0), "B");
+        Assert.assertEquals(((BInteger) returns[4]).intValue(), 0);
+    }
+}
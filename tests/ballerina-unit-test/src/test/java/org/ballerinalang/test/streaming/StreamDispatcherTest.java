@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.test.streaming;
+
+import org.ballerinalang.bre.bvm.StreamDispatcher;
+import org.ballerinalang.model.values.BInteger;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test cases for the in process delivery of stream events.
+ */
+public class StreamDispatcherTest {
+
+    private static final long TIMEOUT_SECONDS = 10;
+
+    @Test(description = "Test that subscribers receive the events in the order they were published")
+    public void testDeliveryOrder() throws InterruptedException {
+        StreamDispatcher dispatcher = new StreamDispatcher("orderStream");
+        CollectingSubscriber first = new CollectingSubscriber(10000);
+        CollectingSubscriber second = new CollectingSubscriber(10000);
+        dispatcher.subscribe(first);
+        dispatcher.subscribe(second);
+        publish(dispatcher, 0, 10000);
+
+        Assert.assertTrue(first.await(), "Events were not delivered to the first subscriber");
+        Assert.assertTrue(second.await(), "Events were not delivered to the second subscriber");
+        Assert.assertEquals(first.getEvents(), range(0, 10000));
+        Assert.assertEquals(second.getEvents(), range(0, 10000));
+    }
+
+    @Test(description = "Test that a subscriber only receives the events published after it subscribed")
+    public void testSubscribeMidStream() throws InterruptedException {
+        StreamDispatcher dispatcher = new StreamDispatcher("midStream");
+        CollectingSubscriber early = new CollectingSubscriber(200);
+        CollectingSubscriber late = new CollectingSubscriber(100);
+        publish(dispatcher, -10, 0);
+        dispatcher.subscribe(early);
+        publish(dispatcher, 0, 100);
+        dispatcher.subscribe(late);
+        publish(dispatcher, 100, 200);
+
+        Assert.assertTrue(early.await(), "Events were not delivered to the early subscriber");
+        Assert.assertTrue(late.await(), "Events were not delivered to the late subscriber");
+        Assert.assertEquals(early.getEvents(), range(0, 200));
+        Assert.assertEquals(late.getEvents(), range(100, 200));
+    }
+
+    @Test(description = "Test that a failing subscriber does not stop the delivery of events")
+    public void testFailingSubscriber() throws InterruptedException {
+        StreamDispatcher dispatcher = new StreamDispatcher("failingStream");
+        CollectingSubscriber failing = new CollectingSubscriber(10) {
+            @Override
+            public void deliver(List<StreamDispatcher.PublishedEvent> events) {
+                for (StreamDispatcher.PublishedEvent event : events) {
+                    if (((BInteger) event.getData()).intValue() == 5) {
+                        throw new IllegalStateException("subscriber failure");
+                    }
+                }
+                super.deliver(events);
+            }
+        };
+        CollectingSubscriber healthy = new CollectingSubscriber(20);
+        dispatcher.subscribe(failing);
+        dispatcher.subscribe(healthy);
+        publish(dispatcher, 0, 10);
+        publish(dispatcher, 10, 20);
+
+        Assert.assertTrue(healthy.await(), "Events were not delivered to the healthy subscriber");
+        Assert.assertEquals(healthy.getEvents(), range(0, 20));
+
+        CollectingSubscriber after = new CollectingSubscriber(10);
+        dispatcher.subscribe(after);
+        publish(dispatcher, 20, 30);
+        Assert.assertTrue(after.await(), "Events were not delivered after the subscriber failure");
+        List<Long> received = failing.getEvents();
+        Assert.assertFalse(received.contains(5L));
+        Assert.assertTrue(received.containsAll(range(20, 30)),
+                "Failing subscriber did not receive the events published after the failure");
+    }
+
+    private static void publish(StreamDispatcher dispatcher, int from, int to) {
+        for (int i = from; i < to; i++) {
+            dispatcher.publish(new BInteger(i));
+        }
+    }
+
+    private static List<Long> range(int from, int to) {
+        List<Long> values = new ArrayList<>();
+        for (long i = from; i < to; i++) {
+            values.add(i);
+        }
+        return values;
+    }
+
+    private static class CollectingSubscriber implements StreamDispatcher.Subscriber {
+
+        private final List<Long> events = Collections.synchronizedList(new ArrayList<>());
+        private final CountDownLatch latch;
+
+        CollectingSubscriber(int expectedEvents) {
+            this.latch = new CountDownLatch(expectedEvents);
+        }
+
+        @Override
+        public void deliver(List<StreamDispatcher.PublishedEvent> publishedEvents) {
+            for (StreamDispatcher.PublishedEvent event : publishedEvents) {
+                events.add(((BInteger) event.getData()).intValue());
+                latch.countDown();
+            }
+        }
+
+        boolean await() throws InterruptedException {
+            return latch.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        }
+
+        List<Long> getEvents() {
+            synchronized (events) {
+                return new ArrayList<>(events);
+            }
+        }
+    }
+}
@@ -17,6 +17,7 @@
  */
 package org.ballerinalang.test.types.json;
 
+import org.ballerinalang.config.ConfigRegistry;
 import org.ballerinalang.model.util.JsonGenerator;
 import org.ballerinalang.model.util.JsonParser;
 import org.ballerinalang.model.values.BBoolean;
@@ -32,6 +33,7 @@ import org.testng.annotations.Test;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 
 /**
  * The following tests will verify Ballerina's custom JSON parser and generator
@@ -335,4 +337,44 @@ public class JSONLibraryTest {
         BValue node = JsonParser.parse(json);
         Assert.assertEquals(node.toString(), "{\"fruits\":[\"apple\", \"orange\", \"grapes\"]}");
     }
+
+    @Test
+    public void testParsedValuesShared() {
+        BMap<String, BValue> first = (BMap<String, BValue>) JsonParser.parse("{\"a\":1,\"b\":true,\"c\":5000}");
+        BMap<String, BValue> second = (BMap<String, BValue>) JsonParser.parse("{\"a\":1,\"b\":true,\"c\":5000}");
+        Assert.assertSame(first.get("a"), second.get("a"));
+        Assert.assertSame(first.get("b"), BBoolean.TRUE);
+        Assert.assertNotSame(first.get("c"), second.get("c"));
+        Assert.assertEquals(first.get("c"), second.get("c"));
+    }
+
+    @Test
+    public void testInternedFieldNames() {
+        ConfigRegistry.getInstance().addConfiguration("b7a.runtime.vm.internkeys", Boolean.TRUE);
+        try {
+            BMap<String, BValue> first = (BMap<String, BValue>) JsonParser.parse("{\"name\":\"a\"}");
+            BRefValueArray array = (BRefValueArray) JsonParser.parse("[{\"name\":\"b\"}]");
+            BMap<String, BValue> second = (BMap<String, BValue>) array.getValues()[0];
+            Assert.assertSame(first.keys()[0], second.keys()[0]);
+            Assert.assertEquals(second.get("name").stringValue(), "b");
+        } finally {
+            ConfigRegistry.getInstance().removeConfiguration("b7a.runtime.vm.internkeys");
+        }
+    }
+
+    @Test
+    public void testUtf8Serialization() throws IOException {
+        StringBuilder longValue = new StringBuilder();
+        for (int i = 0; i < 3000; i++) {
+            longValue.append("a\u00e9\u0dc3\ud83d\ude00");
+        }
+        String json = "{\"k\u00e9y\":\"\u0dc3\u0dd2\u0d82\u0dc4\u0dbd \ud83d\ude00\", \"long\":\"" + longValue
+                + "\", \"n\":[-9223372036854775808, 1.5]}";
+        BValue node = JsonParser.parse(json);
+        ByteArrayOutputStream byteOut = new ByteArrayOutputStream();
+        JsonGenerator gen = new JsonGenerator(byteOut, StandardCharsets.UTF_8);
+        gen.serialize(node);
+        gen.flush();
+        Assert.assertEquals(byteOut.toByteArray(), json.getBytes(StandardCharsets.UTF_8));
+    }
 }
@@ -0,0 +1,85 @@
+/*
+ *  Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.test.types.json;
+
+import org.ballerinalang.launcher.util.BCompileUtil;
+import org.ballerinalang.launcher.util.CompileResult;
+import org.ballerinalang.model.types.BStructureType;
+import org.ballerinalang.model.util.JSONUtils;
+import org.ballerinalang.model.util.JsonParser;
+import org.ballerinalang.model.values.BMap;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.util.exceptions.BallerinaException;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.StringReader;
+
+/**
+ * Tests binding JSON content straight into structure values.
+ */
+public class JSONStructBindingTest {
+
+    private BStructureType personType;
+
+    @BeforeClass
+    public void setup() {
+        CompileResult result = BCompileUtil.compile("test-src/types/jsontype/json-struct-binding.bal");
+        Assert.assertEquals(result.getErrorCount(), 0);
+        this.personType = result.getProgFile().getEntryPackage().getStructInfo("Person").getType();
+    }
+
+    @Test
+    public void testBindingSameAsConversion() {
+        String json = "{\"name\":\"John\", \"age\":30, \"weight\":70.5, \"married\":true, \"unknown\":{\"a\":[1, "
+                + "\"}\"]}, \"address\":{\"city\":\"Colombo\", \"zip\":10000}, \"previous\":[{\"city\":\"Kandy\"}], "
+                + "\"tags\":[\"a\", \"b\\\"c\"], \"info\":{\"x\":[1, 2.5, null, false]}}";
+        assertBinding(json);
+    }
+
+    @Test
+    public void testBindingWithMissingFields() {
+        assertBinding("{\"name\":\"Jane\"}");
+        assertBinding("{}");
+    }
+
+    @Test
+    public void testBindingWithEscapedFieldNames() {
+        BMap<String, BValue> person = JsonParser.parse(new StringReader("{\"n\\u0061me\":\"Jane\"}"), personType);
+        Assert.assertEquals(person.get("name").stringValue(), "Jane");
+    }
+
+    @Test(expectedExceptions = { BallerinaException.class },
+            expectedExceptionsMessageRegExp = "error while mapping 'age': .*")
+    public void testBindingIncompatibleField() {
+        JsonParser.parse(new StringReader("{\"age\":\"thirty\"}"), personType);
+    }
+
+    @Test(expectedExceptions = { BallerinaException.class },
+            expectedExceptionsMessageRegExp = "expected , or } at line: 1 column: 16")
+    public void testBindingInvalidDocument() {
+        JsonParser.parse(new StringReader("{\"name\":\"Jane\" \"age\":3}"), personType);
+    }
+
+    private void assertBinding(String json) {
+        BMap<String, BValue> converted = JSONUtils.convertJSONToStruct(JsonParser.parse(json), personType);
+        BMap<String, BValue> bound = JsonParser.parse(new StringReader(json), personType);
+        Assert.assertEquals(bound.stringValue(), converted.stringValue());
+    }
+}
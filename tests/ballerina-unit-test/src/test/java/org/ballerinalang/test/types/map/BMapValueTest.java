@@ -21,6 +21,7 @@ import org.ballerinalang.launcher.util.BCompileUtil;
 import org.ballerinalang.launcher.util.BRunUtil;
 import org.ballerinalang.launcher.util.CompileResult;
 import org.ballerinalang.model.values.BInteger;
+import org.ballerinalang.model.values.BIterator;
 import org.ballerinalang.model.values.BMap;
 import org.ballerinalang.model.values.BRefType;
 import org.ballerinalang.model.values.BString;
@@ -241,4 +242,34 @@ public class BMapValueTest {
         BValue[] returnVals = BRunUtil.invoke(programFile, "testMapSynchronization", new BValue[0]);
         Assert.assertEquals(((BInteger) returnVals[0]).intValue(), 2000);
     }
+
+    @Test
+    public void testBMapIteratorSnapshot() {
+        BMap<String, BValue> map = new BMap<>();
+        map.put("a", new BInteger(1));
+        map.put("b", new BInteger(2));
+        BIterator iterator = map.newIterator();
+
+        // modifications done after creating an iterator are not visible to it
+        map.put("c", new BInteger(3));
+        map.put("a", new BInteger(10));
+        Assert.assertEquals(((BInteger) iterator.getNext(1)[0]).intValue(), 1);
+        Assert.assertEquals(((BInteger) iterator.getNext(1)[0]).intValue(), 2);
+        Assert.assertFalse(iterator.hasNext());
+
+        BIterator newIterator = map.newIterator();
+        BValue[] entry = newIterator.getNext(2);
+        Assert.assertEquals(entry[0].stringValue(), "a");
+        Assert.assertEquals(((BInteger) entry[1]).intValue(), 10);
+        Assert.assertEquals(newIterator.getNext(2)[0].stringValue(), "b");
+        Assert.assertEquals(newIterator.getNext(2)[0].stringValue(), "c");
+        Assert.assertFalse(newIterator.hasNext());
+
+        map.remove("b");
+        int count = 0;
+        for (BIterator it = map.newIterator(); it.hasNext(); it.getNext(1)) {
+            count++;
+        }
+        Assert.assertEquals(count, 2);
+    }
 }
@@ -78,6 +78,14 @@ public class BStreamValueTest {
         BRunUtil.invoke(result, "testInvalidRecordPublishingToStream");
     }
 
+    @Test(description = "Test publishing an array of records to a stream of records",
+            expectedExceptions = { BLangRuntimeException.class },
+            expectedExceptionsMessageRegExp = ".*message: incompatible types: value of type:Employee\\[\\] cannot be "
+                    + "added to a stream of type:Employee.*")
+    public void testRecordArrayPublishingToStream() {
+        BRunUtil.invoke(result, "testRecordArrayPublishingToStream");
+    }
+
     @Test(description = "Test subscribing with a function accepting a different kind of record",
             expectedExceptions = { BLangRuntimeException.class },
             expectedExceptionsMessageRegExp = ".*message: incompatible function: subscription function needs to be a "
@@ -181,6 +189,18 @@ public class BStreamValueTest {
         }
     }
 
+    @Test(description = "Test that a subscription function failing for an event does not drop other events")
+    public void testStreamSubscriberFailureForOneEvent() {
+        BValue[] returns = BRunUtil.invoke(result, "testStreamSubscriberFailureForOneEvent");
+        BIntArray receivedIntegerEvents = (BIntArray) returns[1];
+
+        Assert.assertEquals(receivedIntegerEvents.size(), 3, "Number of Integer Events received does not match "
+                + "the number of events the subscription function accepts");
+        Assert.assertEquals(receivedIntegerEvents.get(0), 11);
+        Assert.assertEquals(receivedIntegerEvents.get(1), 24857);
+        Assert.assertEquals(receivedIntegerEvents.get(2), 999);
+    }
+
     @Test(description = "Test receipt of multiple integer events with correct subscription and publishing")
     public void testStreamPublishingAndSubscriptionForMultipleIntegerEvents() {
         BValue[] returns = BRunUtil.invoke(result, "testStreamPublishingAndSubscriptionForIntegerStream");
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.test.vm;
+
+import org.ballerinalang.config.ConfigRegistry;
+import org.ballerinalang.launcher.util.BCompileUtil;
+import org.ballerinalang.launcher.util.BRunUtil;
+import org.ballerinalang.launcher.util.CompileResult;
+import org.ballerinalang.model.values.BInteger;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.util.codegen.Instruction;
+import org.ballerinalang.util.codegen.InstructionCodes;
+import org.ballerinalang.util.codegen.PackageInfo;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+
+/**
+ * Tests execution of pre-decoded instructions with superinstructions.
+ */
+public class InstructionPreDecoderTest {
+
+    private static final String PRE_DECODE_CONFIG_PROP = "b7a.runtime.vm.predecode";
+
+    private CompileResult result;
+
+    @BeforeClass
+    public void setup() {
+        ConfigRegistry.getInstance().addConfiguration(PRE_DECODE_CONFIG_PROP, Boolean.TRUE);
+        this.result = BCompileUtil.compile("test-src/vm/pre-decode-test.bal");
+        Assert.assertEquals(result.getErrorCount(), 0);
+    }
+
+    @Test
+    public void testSuperinstructionsCreated() {
+        PackageInfo packageInfo = result.getProgFile().getEntryPackage();
+        Instruction[] original = packageInfo.getInstructions();
+        Instruction[] executable = packageInfo.getExecutableInstructions();
+        Assert.assertEquals(executable.length, original.length);
+        Assert.assertTrue(Arrays.stream(executable).anyMatch(ins -> ins.getOpcode() == InstructionCodes.ICMP_BR));
+        Assert.assertTrue(Arrays.stream(executable).anyMatch(ins -> ins.getOpcode() == InstructionCodes.IADD_IMM));
+        Assert.assertTrue(Arrays.stream(executable).anyMatch(ins -> ins.getOpcode() == InstructionCodes.ISUB_IMM));
+        Assert.assertTrue(Arrays.stream(original).noneMatch(ins -> ins.getOpcode() > InstructionCodes.TNE));
+    }
+
+    @Test
+    public void testLoopWithSuperinstructions() {
+        BValue[] vals = BRunUtil.invoke(result, "countUp", new BValue[] { new BInteger(1000) });
+        Assert.assertEquals(((BInteger) vals[0]).intValue(), 2000);
+
+        vals = BRunUtil.invoke(result, "countDown", new BValue[] { new BInteger(1000) });
+        Assert.assertEquals(((BInteger) vals[0]).intValue(), -3000);
+    }
+
+    @Test
+    public void testComparisonsWithSuperinstructions() {
+        BValue[] vals = BRunUtil.invoke(result, "compareAll", new BValue[] { new BInteger(5), new BInteger(5) });
+        Assert.assertEquals(((BInteger) vals[0]).intValue(), 101001);
+
+        vals = BRunUtil.invoke(result, "compareAll", new BValue[] { new BInteger(4), new BInteger(5) });
+        Assert.assertEquals(((BInteger) vals[0]).intValue(), 1110);
+
+        vals = BRunUtil.invoke(result, "compareAll", new BValue[] { new BInteger(6), new BInteger(5) });
+        Assert.assertEquals(((BInteger) vals[0]).intValue(), 110010);
+    }
+
+    @Test
+    public void testLargeConstantWithSuperinstructions() {
+        BValue[] vals = BRunUtil.invoke(result, "addLargeConstant", new BValue[] { new BInteger(7) });
+        Assert.assertEquals(((BInteger) vals[0]).intValue(), 6);
+    }
+
+    @AfterClass
+    public void tearDown() {
+        ConfigRegistry.getInstance().removeConfiguration(PRE_DECODE_CONFIG_PROP);
+    }
+}
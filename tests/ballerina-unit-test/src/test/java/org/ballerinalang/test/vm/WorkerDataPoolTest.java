@@ -0,0 +1,97 @@
+/*
+ *  Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.test.vm;
+
+import org.ballerinalang.bre.bvm.WorkerData;
+import org.ballerinalang.bre.bvm.WorkerDataPool;
+import org.ballerinalang.config.ConfigRegistry;
+import org.ballerinalang.launcher.util.BCompileUtil;
+import org.ballerinalang.launcher.util.BRunUtil;
+import org.ballerinalang.launcher.util.CompileResult;
+import org.ballerinalang.model.values.BInteger;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.util.codegen.FunctionInfo;
+import org.ballerinalang.util.codegen.attributes.CodeAttributeInfo;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+/**
+ * Tests execution of functions with pooled worker data frames.
+ */
+public class WorkerDataPoolTest {
+
+    private static final String FRAME_POOL_CONFIG_PROP = "b7a.runtime.vm.framepool";
+
+    private CompileResult result;
+
+    @BeforeClass
+    public void setup() {
+        ConfigRegistry.getInstance().addConfiguration(FRAME_POOL_CONFIG_PROP, Boolean.TRUE);
+        this.result = BCompileUtil.compile("test-src/vm/frame-pool-test.bal");
+        Assert.assertEquals(result.getErrorCount(), 0);
+    }
+
+    @Test
+    public void testPoolsAttached() {
+        FunctionInfo functionInfo = result.getProgFile().getEntryPackage().getFunctionInfo("fibonacci");
+        Assert.assertNotNull(functionInfo.getDefaultWorkerInfo().getWorkerDataPool());
+    }
+
+    @Test
+    public void testReleasedFrameCleared() {
+        CodeAttributeInfo codeAttributeInfo = new CodeAttributeInfo();
+        codeAttributeInfo.maxLongRegs = 2;
+        codeAttributeInfo.maxStringRegs = 1;
+        WorkerDataPool pool = new WorkerDataPool(codeAttributeInfo);
+        WorkerData frame = pool.acquire();
+        frame.longRegs[1] = 5;
+        frame.stringRegs[0] = "value";
+        pool.release(frame);
+
+        WorkerData reused = pool.acquire();
+        Assert.assertSame(reused, frame);
+        Assert.assertEquals(reused.longRegs[1], 0);
+        Assert.assertNull(reused.stringRegs[0]);
+        Assert.assertNotSame(pool.acquire(), frame);
+    }
+
+    @Test
+    public void testRecursiveCalls() {
+        BValue[] vals = BRunUtil.invoke(result, "fibonacci", new BValue[] { new BInteger(20) });
+        Assert.assertEquals(((BInteger) vals[0]).intValue(), 6765);
+    }
+
+    @Test
+    public void testRepeatedCalls() {
+        BValue[] vals = BRunUtil.invoke(result, "describeAll", new BValue[] { new BInteger(3) });
+        Assert.assertEquals(vals[0].stringValue(), "p0:0:1.5:active,p1:1:1.5:inactive,p2:2:1.5:active,");
+    }
+
+    @Test
+    public void testReturnedValuesNotShared() {
+        BValue[] vals = BRunUtil.invoke(result, "collectTwice");
+        Assert.assertEquals(((BInteger) vals[0]).intValue(), 7);
+    }
+
+    @AfterClass
+    public void tearDown() {
+        ConfigRegistry.getInstance().removeConfiguration(FRAME_POOL_CONFIG_PROP);
+    }
+}
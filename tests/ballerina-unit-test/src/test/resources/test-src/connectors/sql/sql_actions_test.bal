@@ -1552,6 +1552,39 @@ function testLoadToMemorySelectAfterTableClose(string jdbcUrl, string userName,
     return (fullNameArray1, fullNameArray2, e);
 }
 
+function testLoadToMemoryToJson(string jdbcUrl, string userName, string password) returns (string, string) {
+    endpoint jdbc:Client testDB {
+        url: jdbcUrl,
+        username: userName,
+        password: password,
+        poolOptions: { maximumPoolSize: 1 }
+    };
+
+    table dt = check testDB->select("SELECT row_id, int_type, boolean_type, string_type, decimal_type from
+        DataTypeTable where row_id < 3 order by row_id", (), loadToMemory = true);
+
+    json j1 = check <json>dt;
+    string s1 = io:sprintf("%s", j1);
+    json j2 = check <json>dt;
+    string s2 = io:sprintf("%s", j2);
+    testDB.stop();
+    return (s1, s2);
+}
+
+function testLoadToMemoryTable(string jdbcUrl, string userName, string password) returns table {
+    endpoint jdbc:Client testDB {
+        url: jdbcUrl,
+        username: userName,
+        password: password,
+        poolOptions: { maximumPoolSize: 1 }
+    };
+
+    table dt = check testDB->select("SELECT row_id, int_type, boolean_type, string_type, decimal_type from
+        DataTypeTable where row_id < 3 order by row_id", (), loadToMemory = true);
+    testDB.stop();
+    return dt;
+}
+
 function testCloseConnectionPool(string jdbcUrl, string userName, string password, string connectionCountQuery)
              returns (int) {
     endpoint jdbc:Client testDB {
@@ -1,6 +1,10 @@
 import ballerina/sql;
 import ballerina/jdbc;
 
+type ResultCount record {
+    int COUNTVAL,
+};
+
 sql:PoolOptions properties = { maximumPoolSize: 1,
     idleTimeout: 600000, connectionTimeout: 30000, autoCommit: true, maxLifetime: 1800000,
     minimumIdle: 1, validationTimeout: 5000,
@@ -176,6 +180,66 @@ function testPropertiesGetUsedOnlyIfDataSourceGiven() returns (json) {
     return j;
 }
 
+function testStatementCache() returns (json) {
+    endpoint jdbc:Client testDB {
+        url: "jdbc:hsqldb:file:./target/tempdb/TEST_SQL_CONNECTOR_INIT",
+        username: "SA",
+        password: "",
+        poolOptions: { maximumPoolSize: 1, statementCacheSize: 1 }
+    };
+
+    int[][] idArrays = [[1], [5, 1], [1], [1, 6, 7]];
+    json results = [];
+    int i = 0;
+    foreach ids in idArrays {
+        sql:Parameter para = { sqlType: sql:TYPE_INTEGER, value: ids };
+        table dt = check testDB->select("SELECT  FirstName from Customers where registrationID in (?)", (), para);
+        results[i] = check <json>dt;
+        i = i + 1;
+    }
+    testDB.stop();
+    return results;
+}
+
+function testUpdateBatching() returns (int[]) {
+    endpoint jdbc:Client testDB {
+        url: "jdbc:hsqldb:file:./target/tempdb/TEST_SQL_CONNECTOR_INIT",
+        username: "SA",
+        password: "",
+        poolOptions: { maximumPoolSize: 2, updateBatchSize: 3, updateBatchWindow: 100 }
+    };
+
+    string insertQuery = "insert into Customers (firstName, lastName, registrationID, creditLimit, country)
+                         values (?, 'Batch', 200, 100.0, 'USA')";
+    int[] counts = [];
+    fork {
+        worker w1 {
+            int c = check testDB->update(insertQuery, "Alice");
+            c -> fork;
+        }
+        worker w2 {
+            int c = check testDB->update(insertQuery, "Bob");
+            c -> fork;
+        }
+        worker w3 {
+            int c = check testDB->update(insertQuery, "Carol");
+            c -> fork;
+        }
+    } join (all) (map results) {
+        counts[0] = check <int>results.w1;
+        counts[1] = check <int>results.w2;
+        counts[2] = check <int>results.w3;
+    }
+
+    table dt = check testDB->select("SELECT count(*) as countVal from Customers where registrationID = 200", ());
+    while (dt.hasNext()) {
+        var rs = check <ResultCount>dt.getNext();
+        counts[3] = rs.COUNTVAL;
+    }
+    testDB.stop();
+    return counts;
+}
+
 function testConnectionFailure() {
     endpoint jdbc:Client testDB {
         url: "jdbc:hsqldb:file:./target/tempdb/NON_EXISTING_DB",
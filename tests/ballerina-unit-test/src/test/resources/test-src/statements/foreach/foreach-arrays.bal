@@ -98,6 +98,54 @@ function testFloatArrayWithArityTwo() returns (string){
     return output;
 }
 
+function testFloatArraySum() returns (float){
+    float[] fdata = [1.5, -3.25, 5.0, 10.75];
+    float total = 0.0;
+    foreach v in fdata {
+        total = total + v;
+    }
+    return total;
+}
+
+function testByteArrayWithArityOne() returns (int){
+    byte[] bdata = [1, 27, 34, 145, 224];
+    int total = 0;
+    foreach v in bdata {
+        total = total + <int>v;
+    }
+    return total;
+}
+
+function testByteArrayWithArityTwo() returns (string){
+    byte[] bdata = [1, 27, 34, 145, 224];
+    output = "";
+    foreach i, v in bdata {
+        concatInt(i, <int>v);
+    }
+    return output;
+}
+
+function testIntArrayInsertInForeach () returns (string) {
+    int[] ldata = [1, -3, 5];
+    output = "";
+    foreach i, v in ldata {
+        int j = i + 5;
+        ldata[j] = j;
+        concatInt(i, v);
+    }
+    return output;
+}
+
+function testIntRangeWithArityTwo () returns (string) {
+    output = "";
+    sum = 0;
+    foreach i, v in 3 ... 7 {
+        concatInt(i, v);
+        add(v);
+    }
+    return output + sum;
+}
+
 function testStringArrayWithArityOne() returns (string){
     string[] sdata = ["foo", "bar", "bax" , "baz"];
     output = "";
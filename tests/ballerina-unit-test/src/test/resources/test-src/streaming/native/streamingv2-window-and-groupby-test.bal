@@ -0,0 +1,182 @@
+// Copyright (c) 2018 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/runtime;
+import ballerina/streams;
+
+type Reading record {
+    string sensor;
+    int value;
+};
+
+string[] outputChunks = [];
+string[] timeWindowChunks = [];
+string[] timeBatchWindowChunks = [];
+
+function testLengthWindow() returns (string[]) {
+    outputChunks = [];
+    streams:LengthWindow window = streams:lengthWindow(addToOutputChunks, 2);
+    window.process(streams:buildStreamEvent(createReading("A", 1)));
+    window.process(streams:buildStreamEvent(createReading("A", 2)));
+    window.process(streams:buildStreamEvent(createReading("A", 3)));
+    return outputChunks;
+}
+
+function testLengthBatchWindow() returns (string[], int, string) {
+    outputChunks = [];
+    streams:LengthBatchWindow window = streams:lengthBatchWindow(addToOutputChunks, 2);
+    window.process(buildStreamEvents([createReading("A", 1), createReading("A", 2), createReading("A", 3),
+        createReading("A", 4), createReading("A", 5)]));
+    string resetEvent = "";
+    match window.resetEvent {
+        streams:StreamEvent event => resetEvent = toChunk([event]);
+        () => {}
+    }
+    return (outputChunks, window.count, resetEvent);
+}
+
+function testGroupBy() returns (string[]) {
+    outputChunks = [];
+    streams:GroupBy groupBy = streams:createGroupBy(addToOutputChunks, ["sensor"]);
+    groupBy.performGrouping(buildStreamEvents([createReading("A", 1), createReading("B", 2),
+        createReading("A", 3)]));
+    return outputChunks;
+}
+
+function testTimeWindow() returns string {
+    timeWindowChunks = [];
+    streams:TimeWindow window = streams:timeWindow(addToTimeWindowChunks, 100);
+    window.process(streams:buildStreamEvent(createReading("A", 1)));
+    runtime:sleep(500);
+    window.process(streams:buildStreamEvent(createReading("A", 2)));
+    // The expired event is emitted either by the timer or along with the next current event
+    string events = "";
+    foreach chunk in timeWindowChunks {
+        events = events == "" ? chunk : events + "," + chunk;
+    }
+    return events;
+}
+
+function testTimeBatchWindow() returns (string[]) {
+    timeBatchWindowChunks = [];
+    streams:TimeBatchWindow window = streams:timeBatchWindow(addToTimeBatchWindowChunks, 200);
+    window.process(buildStreamEvents([createReading("A", 1), createReading("A", 2)]));
+    int emittedBeforeTimer = lengthof timeBatchWindowChunks;
+    runtime:sleep(500);
+    timeBatchWindowChunks[lengthof timeBatchWindowChunks] = "emittedBeforeTimer:" + emittedBeforeTimer;
+    return timeBatchWindowChunks;
+}
+
+function testGroupByAcrossCalls() returns (string[], int) {
+    outputChunks = [];
+    streams:GroupBy groupBy = streams:createGroupBy(addToOutputChunks, ["sensor"]);
+    groupBy.performGrouping(buildStreamEvents([createReading("A", 1), createReading("B", 2)]));
+    groupBy.performGrouping(buildStreamEvents([createReading("A", 3)]));
+    return (outputChunks, lengthof groupBy.groupedStreamEvents);
+}
+
+function testSumAggregator() returns (int, int, float, int, float, int) {
+    streams:Sum sumAggregator = new();
+    _ = sumAggregator.process(5, "CURRENT");
+    _ = sumAggregator.process(3, "CURRENT");
+    int iSum = check <int>sumAggregator.process(5, "EXPIRED");
+    float fSum = check <float>sumAggregator.process(2.5, "CURRENT");
+    int iSumField = sumAggregator.iSum;
+    float fSumField = sumAggregator.fSum;
+    int resetSum = check <int>sumAggregator.process(1, "RESET");
+    return (iSum, iSumField, fSum, sumAggregator.iSum, fSumField, resetSum);
+}
+
+function testSumAggregatorWithUnsupportedType() returns boolean {
+    streams:Sum sumAggregator = new();
+    match sumAggregator.process("A", "CURRENT") {
+        error e => return true;
+        any a => return false;
+    }
+}
+
+function testAverageAggregator() returns (float, float, int, float, float) {
+    streams:Average avgAggregator = new();
+    _ = avgAggregator.process(2, "CURRENT");
+    float average = check <float>avgAggregator.process(4.0, "CURRENT");
+    float averageAfterExpiry = check <float>avgAggregator.process(2, "EXPIRED");
+    int countField = avgAggregator.count;
+    float sumField = avgAggregator.sum;
+    float resetAverage = check <float>avgAggregator.process(1, "RESET");
+    return (average, averageAfterExpiry, countField, sumField, resetAverage);
+}
+
+function testCountAggregator() returns (int, int, int) {
+    streams:Count countAggregator = new();
+    _ = countAggregator.process((), "CURRENT");
+    _ = countAggregator.process((), "CURRENT");
+    _ = countAggregator.process((), "CURRENT");
+    int count = check <int>countAggregator.process((), "EXPIRED");
+    int countField = countAggregator.count;
+    int resetCount = check <int>countAggregator.process((), "RESET");
+    return (count, countField, resetCount);
+}
+
+function testDistinctCountAggregator() returns (int, int, int, string[], int) {
+    streams:DistinctCount distinctCountAggregator = new();
+    _ = distinctCountAggregator.process("A", "CURRENT");
+    _ = distinctCountAggregator.process("B", "CURRENT");
+    int distinctCount = check <int>distinctCountAggregator.process("A", "CURRENT");
+    int countAfterFirstExpiry = check <int>distinctCountAggregator.process("A", "EXPIRED");
+    int countAfterSecondExpiry = check <int>distinctCountAggregator.process("A", "EXPIRED");
+    string[] distinctValues = distinctCountAggregator.distinctValues.keys();
+    int resetCount = check <int>distinctCountAggregator.process("B", "RESET");
+    return (distinctCount, countAfterFirstExpiry, countAfterSecondExpiry, distinctValues, resetCount);
+}
+
+function createReading(string sensor, int value) returns Reading {
+    Reading reading = { sensor: sensor, value: value };
+    return reading;
+}
+
+function buildStreamEvents(Reading[] readings) returns streams:StreamEvent[] {
+    streams:StreamEvent[] events = [];
+    foreach reading in readings {
+        streams:StreamEvent[] readingEvents = streams:buildStreamEvent(reading);
+        events[lengthof events] = readingEvents[0];
+    }
+    return events;
+}
+
+function addToOutputChunks(streams:StreamEvent[] events) {
+    outputChunks[lengthof outputChunks] = toChunk(events);
+}
+
+function addToTimeWindowChunks(streams:StreamEvent[] events) {
+    timeWindowChunks[lengthof timeWindowChunks] = toChunk(events);
+}
+
+function addToTimeBatchWindowChunks(streams:StreamEvent[] events) {
+    timeBatchWindowChunks[lengthof timeBatchWindowChunks] = toChunk(events);
+}
+
+function toChunk(streams:StreamEvent[] events) returns string {
+    string chunk = "";
+    foreach event in events {
+        Reading reading = check <Reading>event.eventObject;
+        string eventType = event.eventType;
+        if (chunk != "") {
+            chunk = chunk + ",";
+        }
+        chunk = chunk + eventType + ":" + reading.sensor + reading.value;
+    }
+    return chunk;
+}
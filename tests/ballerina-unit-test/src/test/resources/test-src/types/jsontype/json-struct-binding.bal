@@ -0,0 +1,15 @@
+type Address record {
+    string city;
+    int zip;
+};
+
+type Person record {
+    string name;
+    int age;
+    float weight;
+    boolean married;
+    Address address;
+    Address[] previous;
+    string[] tags;
+    json info;
+};
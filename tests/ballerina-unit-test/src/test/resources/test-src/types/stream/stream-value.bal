@@ -57,6 +57,13 @@ function testInvalidRecordPublishingToStream() {
     s1.publish(j1);
 }
 
+function testRecordArrayPublishingToStream() {
+    stream<Employee> s1;
+    Employee e1 = { id:1234, name:"Maryam" };
+    Employee[] employees = [e1];
+    s1.publish(employees);
+}
+
 function testSubscriptionFunctionWithIncorrectRecordParameter() {
     stream<Employee> s1;
     s1.subscribe(printJobDescription);
@@ -148,6 +155,22 @@ function testStreamPublishingAndSubscriptionForIntegerStream() returns (int[], i
     return (publishedIntegerEvents, globalIntegerArray);
 }
 
+int[] globalNonNegativeIntegerArray = [];
+
+function testStreamSubscriberFailureForOneEvent() returns (int[], int[]) {
+    stream<int> intStream;
+    intStream.subscribe(addNonNegativeToGlobalIntegerArray);
+    int[] publishedIntegerEvents = [11, -1, 24857, -2, 999];
+    foreach intEvent in publishedIntegerEvents {
+        intStream.publish(intEvent);
+    }
+    int startTime = time:currentTime().time;
+    while (lengthof globalNonNegativeIntegerArray < 3 && time:currentTime().time - startTime < 5000) {
+        //allow for value update
+    }
+    return (publishedIntegerEvents, globalNonNegativeIntegerArray);
+}
+
 boolean[] globalBooleanArray = [];
 
 function testStreamPublishingAndSubscriptionForBooleanStream() returns (boolean[], boolean[]) {
@@ -325,6 +348,14 @@ function addPersonToGlobalEmployeeArray(Person p) {
     arrayIndex = arrayIndex + 1;
 }
 
+function addNonNegativeToGlobalIntegerArray (int i) {
+    if (i < 0) {
+        error err = { message: "negative event: " + i };
+        throw err;
+    }
+    globalNonNegativeIntegerArray[lengthof globalNonNegativeIntegerArray] = i;
+}
+
 function addToGlobalEmployeeArray (Employee e) {
     globalEmployeeArray[arrayIndex] = e;
     arrayIndex = arrayIndex + 1;
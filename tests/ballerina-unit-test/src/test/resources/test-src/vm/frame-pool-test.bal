@@ -0,0 +1,43 @@
+type Person record {
+    string name;
+    int age;
+};
+
+function fibonacci(int n) returns (int) {
+    if (n < 2) {
+        return n;
+    }
+    return fibonacci(n - 1) + fibonacci(n - 2);
+}
+
+function describe(string name, int age, float weight, boolean active) returns (string) {
+    Person p = { name: name, age: age };
+    string state = active ? "active" : "inactive";
+    return p.name + ":" + p.age + ":" + weight + ":" + state;
+}
+
+function describeAll(int count) returns (string) {
+    string result = "";
+    int i = 0;
+    while (i < count) {
+        result = result + describe("p" + i, i, 1.5, i % 2 == 0) + ",";
+        i = i + 1;
+    }
+    return result;
+}
+
+function collect(int n) returns (int[]) {
+    int[] values = [];
+    int i = 0;
+    while (i < n) {
+        values[i] = i;
+        i = i + 1;
+    }
+    return values;
+}
+
+function collectTwice() returns (int) {
+    int[] first = collect(5);
+    int[] second = collect(2);
+    return lengthof first + lengthof second;
+}
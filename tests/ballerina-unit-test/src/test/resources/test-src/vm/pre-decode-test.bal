@@ -0,0 +1,46 @@
+function countUp(int count) returns (int) {
+    int i = 0;
+    int x = 0;
+    while (i < count) {
+        x = x + 2;
+        i = i + 1;
+    }
+    return x;
+}
+
+function countDown(int count) returns (int) {
+    int i = count;
+    int x = 0;
+    while (i > 0) {
+        x = x - 3;
+        i = i - 1;
+    }
+    return x;
+}
+
+function compareAll(int a, int b) returns (int) {
+    int result = 0;
+    if (a == b) {
+        result = result + 1;
+    }
+    if (a != b) {
+        result = result + 10;
+    }
+    if (a < b) {
+        result = result + 100;
+    }
+    if (a <= b) {
+        result = result + 1000;
+    }
+    if (a > b) {
+        result = result + 10000;
+    }
+    if (a >= b) {
+        result = result + 100000;
+    }
+    return result;
+}
+
+function addLargeConstant(int a) returns (int) {
+    return 1000000 + a - 1000001;
+}